@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.benchmarks;
+
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.nad.NadParameters;
+import com.powsybl.nad.build.iidm.NetworkGraphBuilder;
+import com.powsybl.nad.build.iidm.VoltageLevelFilter;
+import com.powsybl.nad.layout.Atlas2ForceLayout;
+import com.powsybl.nad.layout.BasicForceLayout;
+import com.powsybl.nad.layout.LayoutParameters;
+import com.powsybl.nad.model.Graph;
+import com.powsybl.nad.svg.LabelProvider;
+import com.powsybl.nad.svg.SvgWriter;
+import org.apache.commons.io.output.NullWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the network area diagram pipeline stages on the IEEE test cases, from 14 to 300 buses. Each stage is
+ * measured on its own: the input of a stage is prepared outside the measured code.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NadBenchmark {
+
+    @Param({"IEEE_14", "IEEE_30", "IEEE_57", "IEEE_118", "IEEE_300"})
+    private String networkName;
+
+    private Network network;
+    private NadParameters nadParameters;
+    private LayoutParameters layoutParameters;
+    private LabelProvider labelProvider;
+
+    /** Graph built, laid out and styled once, for the SVG writing benchmark */
+    private Graph laidOutGraph;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        network = createNetwork(networkName);
+        nadParameters = new NadParameters();
+        layoutParameters = nadParameters.getLayoutParameters();
+        labelProvider = nadParameters.createLabelProvider(network);
+        laidOutGraph = buildGraph();
+        nadParameters.getLayoutFactory().create().run(laidOutGraph, layoutParameters);
+        NetworkGraphBuilder.applyStyle(laidOutGraph, nadParameters.getStyleProviderFactory().create(network));
+    }
+
+    /**
+     * Graph built, but not laid out, before each invocation of the layout benchmarks. This is a separate state, so that
+     * the other benchmarks do not build a graph before each invocation.
+     */
+    @State(Scope.Thread)
+    public static class GraphToLayout {
+
+        private Graph graph;
+
+        @Setup(Level.Invocation)
+        public void setUp(NadBenchmark benchmark) {
+            // The layout sets the node positions in the graph, hence a new graph is needed for each invocation
+            graph = benchmark.buildGraph();
+        }
+    }
+
+    private static Network createNetwork(String networkName) {
+        return switch (networkName) {
+            case "IEEE_14" -> IeeeCdfNetworkFactory.create14();
+            case "IEEE_30" -> IeeeCdfNetworkFactory.create30();
+            case "IEEE_57" -> IeeeCdfNetworkFactory.create57();
+            case "IEEE_118" -> IeeeCdfNetworkFactory.create118();
+            case "IEEE_300" -> IeeeCdfNetworkFactory.create300();
+            default -> throw new IllegalArgumentException("Unknown network " + networkName);
+        };
+    }
+
+    @Benchmark
+    public Graph graphBuild() {
+        return buildGraph();
+    }
+
+    @Benchmark
+    public Graph basicForceLayout(GraphToLayout graphToLayout) {
+        new BasicForceLayout().run(graphToLayout.graph, layoutParameters);
+        return graphToLayout.graph;
+    }
+
+    @Benchmark
+    public Graph atlas2ForceLayout(GraphToLayout graphToLayout) {
+        new Atlas2ForceLayout().run(graphToLayout.graph, layoutParameters);
+        return graphToLayout.graph;
+    }
+
+    @Benchmark
+    public void svgWriting() {
+        new SvgWriter(nadParameters.getSvgParameters(), nadParameters.getComponentLibrary(), nadParameters.getEdgeRouting())
+            .writeSvg(laidOutGraph, NullWriter.INSTANCE);
+    }
+
+    private Graph buildGraph() {
+        return new NetworkGraphBuilder(network, VoltageLevelFilter.NO_FILTER, labelProvider, layoutParameters,
+            nadParameters.getIdProviderFactory().create()).buildGraph();
+    }
+}
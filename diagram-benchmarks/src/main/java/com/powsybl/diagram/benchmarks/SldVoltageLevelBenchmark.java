@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.benchmarks;
+
+import com.powsybl.diagram.test.Networks;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.sld.SldParameters;
+import com.powsybl.sld.builders.NetworkGraphBuilder;
+import com.powsybl.sld.layout.LayoutParameters;
+import com.powsybl.sld.layout.PositionVoltageLevelLayoutFactory;
+import com.powsybl.sld.model.graphs.VoltageLevelGraph;
+import com.powsybl.sld.svg.DefaultSVGWriter;
+import com.powsybl.sld.svg.GraphMetadata;
+import com.powsybl.sld.svg.LabelProvider;
+import com.powsybl.sld.svg.SVGLegendWriter;
+import com.powsybl.sld.svg.styles.StyleProvider;
+import org.apache.commons.io.output.NullWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the single-line diagram pipeline stages on a voltage level with a parametric number of feeders, see
+ * {@link Networks#createNetworkWithManyFeeders(int)}. Each stage is measured on its own: the input of a stage is
+ * prepared outside the measured code.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SldVoltageLevelBenchmark {
+
+    private static final String VOLTAGE_LEVEL_ID = "vl";
+
+    @Param({"50", "200", "800"})
+    private int feederCount;
+
+    private Network network;
+    private SldParameters sldParameters;
+    private LayoutParameters layoutParameters;
+    private LabelProvider labelProvider;
+    private StyleProvider styleProvider;
+    private SVGLegendWriter legendWriter;
+
+    /** Graph built and laid out once, for the SVG writing benchmark */
+    private VoltageLevelGraph laidOutGraph;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        network = Networks.createNetworkWithManyFeeders(feederCount);
+        sldParameters = new SldParameters();
+        layoutParameters = sldParameters.getLayoutParameters();
+        labelProvider = sldParameters.createLabelProvider(network);
+        styleProvider = sldParameters.getStyleProviderFactory().create(network, sldParameters.getSvgParameters());
+        legendWriter = sldParameters.createLegendWriter(network);
+        laidOutGraph = buildGraph();
+        new PositionVoltageLevelLayoutFactory().create(laidOutGraph).run(layoutParameters);
+    }
+
+    /**
+     * Graph built, but not laid out, before each invocation of the layout benchmark. This is a separate state, so that
+     * the other benchmarks do not build a graph before each invocation.
+     */
+    @State(Scope.Thread)
+    public static class GraphToLayout {
+
+        private VoltageLevelGraph graph;
+
+        @Setup(Level.Invocation)
+        public void setUp(SldVoltageLevelBenchmark benchmark) {
+            // The layout modifies the graph, hence a new graph is needed for each invocation. The layout taking
+            // milliseconds, the overhead of an invocation-level setup is negligible.
+            graph = benchmark.buildGraph();
+        }
+    }
+
+    /**
+     * Graph building, which also measures the node and edge operations of {@link VoltageLevelGraph}: node additions,
+     * substitutions and removals while building the graph and extending the topology.
+     */
+    @Benchmark
+    public VoltageLevelGraph graphBuild() {
+        return buildGraph();
+    }
+
+    @Benchmark
+    public VoltageLevelGraph positionLayout(GraphToLayout graphToLayout) {
+        new PositionVoltageLevelLayoutFactory().create(graphToLayout.graph).run(layoutParameters);
+        return graphToLayout.graph;
+    }
+
+    @Benchmark
+    public GraphMetadata svgWriting() {
+        DefaultSVGWriter svgWriter = new DefaultSVGWriter(sldParameters.getComponentLibrary(), layoutParameters, sldParameters.getSvgParameters());
+        return svgWriter.write(laidOutGraph, labelProvider, styleProvider, legendWriter, NullWriter.INSTANCE);
+    }
+
+    private VoltageLevelGraph buildGraph() {
+        return new NetworkGraphBuilder(network, layoutParameters).buildVoltageLevelGraph(VOLTAGE_LEVEL_ID);
+    }
+}
@@ -0,0 +1,4 @@
+package com.powsybl.diagram.benchmarks.jmh_generated;
+public class NadBenchmark_GraphToLayout_jmhType extends NadBenchmark_GraphToLayout_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.powsybl.diagram.benchmarks.jmh_generated;
+public class NadBenchmark_jmhType extends NadBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.powsybl.diagram.benchmarks.jmh_generated;
+public class SldVoltageLevelBenchmark_GraphToLayout_jmhType extends SldVoltageLevelBenchmark_GraphToLayout_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.powsybl.diagram.benchmarks.jmh_generated;
+public class SldVoltageLevelBenchmark_jmhType extends SldVoltageLevelBenchmark_jmhType_B3 {
+}
+
@@ -1847,6 +1847,40 @@ public final class Networks {
         return network;
     }
 
+    /**
+     * Node-breaker voltage level made of two busbars sections, coupled by a breaker, with the given number of loads, each
+     * load being connected through a breaker and a disconnector to each busbar section. Used to check graphs at scale.
+     * <PRE>
+     *        l0       l1      ...
+     *        |        |
+     *        b0       b1
+     *      __|__    __|__
+     *     |     |  |     |
+     * ---d0_1---d1_1-----------  bbs1
+     * ---------d0_2-----d1_2---  bbs2
+     * </PRE>
+     */
+    public static Network createNetworkWithManyFeeders(int loadCount) {
+        Network network = Network.create("test", "test");
+        Substation substation = createSubstation(network, "s", "s", Country.FR);
+        VoltageLevel vl = createVoltageLevel(substation, "vl", "vl", TopologyKind.NODE_BREAKER, 225);
+        createBusBarSection(vl, "bbs1", "bbs1", 0, 1, 1);
+        createBusBarSection(vl, "bbs2", "bbs2", 1, 2, 1);
+        createSwitch(vl, "dc1", SwitchKind.DISCONNECTOR, false, false, false, 0, 2);
+        createSwitch(vl, "bc", SwitchKind.BREAKER, false, false, false, 2, 3);
+        createSwitch(vl, "dc2", SwitchKind.DISCONNECTOR, false, false, false, 3, 1);
+        for (int i = 0; i < loadCount; i++) {
+            int loadNode = 4 + 2 * i;
+            int forkNode = loadNode + 1;
+            ConnectablePosition.Direction direction = i % 2 == 0 ? ConnectablePosition.Direction.TOP : ConnectablePosition.Direction.BOTTOM;
+            createLoad(vl, "l" + i, i, direction, loadNode, 10, 10);
+            createSwitch(vl, "b" + i, SwitchKind.BREAKER, false, false, false, loadNode, forkNode);
+            createSwitch(vl, "d" + i + "_1", SwitchKind.DISCONNECTOR, false, i % 2 != 0, false, 0, forkNode);
+            createSwitch(vl, "d" + i + "_2", SwitchKind.DISCONNECTOR, false, i % 2 == 0, false, 1, forkNode);
+        }
+        return network;
+    }
+
     public static Substation createSubstation(Network n, String id, String name, Country country) {
         return n.newSubstation()
                 .setId(id)
@@ -10,9 +10,11 @@ package com.powsybl.diagram.components;
 import org.w3c.dom.Element;
 
 import java.net.URL;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * @author Florian Dupuy {@literal <florian.dupuy at rte-france.com>}
@@ -23,6 +25,20 @@ public interface ComponentLibrary {
 
     Map<String, List<Element>> getSvgElements(String type);
 
+    /**
+     * Returns the compiled templates of the SVG elements of the given component, by sub-component name.
+     * The default implementation compiles the elements on each call, libraries should rather compile them once when loaded.
+     */
+    default Map<String, List<SvgTemplate>> getSvgTemplates(String type) {
+        Map<String, List<Element>> svgElements = getSvgElements(type);
+        if (svgElements == null) {
+            return null;
+        }
+        return svgElements.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().stream().map(SvgTemplate::of).toList(),
+                    (t1, t2) -> t1, LinkedHashMap::new));
+    }
+
     ComponentSize getSize(String type);
 
     Map<String, ComponentSize> getComponentsSize();
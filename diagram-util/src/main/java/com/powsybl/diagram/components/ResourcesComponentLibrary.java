@@ -35,6 +35,8 @@ public class ResourcesComponentLibrary<C extends Component> implements Component
 
     private final Map<String, Map<String, List<Element>>> svgDocuments = new HashMap<>();
 
+    private final Map<String, Map<String, List<SvgTemplate>>> svgTemplates = new HashMap<>();
+
     private final Map<String, C> components = new HashMap<>();
 
     private final List<String> cssFilenames = new ArrayList<>();
@@ -74,30 +76,37 @@ public class ResourcesComponentLibrary<C extends Component> implements Component
 
         // preload SVG documents
         DocumentBuilder db = DomUtil.getDocumentBuilder();
-        new ComponentsLoader<>(componentClass).load(directory).forEach(c -> {
-            String componentType = c.getType();
-            if (c.getSubComponents().isEmpty()) {
-                svgDocuments.computeIfAbsent(componentType, k -> new LinkedHashMap<>());
-            }
-            c.getSubComponents().forEach(s -> {
-                String resourceName = directory + "/" + s.fileName();
-                LOGGER.debug("Reading subComponent {}", resourceName);
-                try {
-                    Document doc = db.parse(getClass().getResourceAsStream(resourceName));
-                    svgDocuments.computeIfAbsent(componentType, k -> new LinkedHashMap<>()).put(s.name(), getElements(doc));
-                } catch (SAXException e) {
-                    throw new UncheckedSaxException(e);
-                } catch (IOException e) {
-                    throw new UncheckedIOException(e);
-                }
-            });
-            components.put(componentType, c);
-        });
+        new ComponentsLoader<>(componentClass).load(directory).forEach(c -> loadComponent(c, directory, db));
 
         cssFilenames.add(FilenameUtils.getName(directory) + "_components.css");
         cssUrls.add(getClass().getResource(directory + "/components.css"));
     }
 
+    private void loadComponent(C c, String directory, DocumentBuilder db) {
+        String componentType = c.getType();
+        if (c.getSubComponents().isEmpty()) {
+            svgDocuments.computeIfAbsent(componentType, k -> new LinkedHashMap<>());
+            svgTemplates.computeIfAbsent(componentType, k -> new LinkedHashMap<>());
+        }
+        c.getSubComponents().forEach(s -> {
+            String resourceName = directory + "/" + s.fileName();
+            LOGGER.debug("Reading subComponent {}", resourceName);
+            try {
+                Document doc = db.parse(getClass().getResourceAsStream(resourceName));
+                List<Element> elements = getElements(doc);
+                svgDocuments.computeIfAbsent(componentType, k -> new LinkedHashMap<>()).put(s.name(), elements);
+                // templates are compiled once, so that writers do not need to clone the elements
+                svgTemplates.computeIfAbsent(componentType, k -> new LinkedHashMap<>())
+                        .put(s.name(), elements.stream().map(SvgTemplate::of).toList());
+            } catch (SAXException e) {
+                throw new UncheckedSaxException(e);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        components.put(componentType, c);
+    }
+
     protected List<Element> getElements(Document doc) {
         // Getting the node corresponding to the svg tag
         Node svgNode = doc.getChildNodes().item(0);
@@ -124,6 +133,16 @@ public class ResourcesComponentLibrary<C extends Component> implements Component
         return result;
     }
 
+    @Override
+    public Map<String, List<SvgTemplate>> getSvgTemplates(String type) {
+        Objects.requireNonNull(type);
+        Map<String, List<SvgTemplate>> result = svgTemplates.get(type);
+        if (result == null && !noComponentTypes.contains(type)) {
+            result = svgTemplates.get(ComponentTypeName.UNKNOWN_COMPONENT);
+        }
+        return result;
+    }
+
     @Override
     public ComponentSize getSize(String type) {
         Objects.requireNonNull(type);
@@ -0,0 +1,286 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.components;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.w3c.dom.Text;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Compiled form of an SVG element of a component, built once from the DOM element read in the component library.
+ * The element is pre-rendered to UTF-8 bytes, except for its <code>id</code>, <code>class</code>, <code>transform</code>
+ * and <code>style</code> attributes, which are slots given when writing the template. A template can therefore be
+ * written straight into an output stream, or to an {@link XMLStreamWriter}, without cloning any DOM node.
+ * Templates are immutable, hence can be shared by several threads.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class SvgTemplate {
+
+    private static final String SVG_NAMESPACE = "http://www.w3.org/2000/svg";
+    private static final String XMLNS = "xmlns";
+    private static final String ID = "id";
+    private static final String CLASS = "class";
+    private static final String TRANSFORM = "transform";
+    private static final String STYLE = "style";
+
+    private final String name;
+    private final String namespace;
+    private final String[] attributeNames;
+    private final String[] attributeValues;
+    private final List<Child> children;
+
+    private final byte[] startTagBytes;
+    private final String id;
+    private final String styleClass;
+    private final String transform;
+    private final String style;
+    private final byte[] endBytes;
+
+    /**
+     * A child of the element, either an element or a text
+     */
+    private record Child(SvgTemplate element, String text) {
+    }
+
+    private SvgTemplate(String name, String namespace, String[] attributeNames, String[] attributeValues, List<Child> children) {
+        this.name = name;
+        this.namespace = namespace;
+        this.attributeNames = attributeNames;
+        this.attributeValues = attributeValues;
+        this.children = children;
+
+        String idValue = null;
+        String classValue = null;
+        String transformValue = null;
+        String styleValue = null;
+        StringBuilder startTag = new StringBuilder("<").append(name);
+        if (namespace != null) {
+            appendAttribute(startTag, XMLNS, namespace);
+        }
+        for (int i = 0; i < attributeNames.length; i++) {
+            switch (attributeNames[i]) {
+                case ID -> idValue = attributeValues[i];
+                case CLASS -> classValue = attributeValues[i];
+                case TRANSFORM -> transformValue = attributeValues[i];
+                case STYLE -> styleValue = attributeValues[i];
+                default -> appendAttribute(startTag, attributeNames[i], attributeValues[i]);
+            }
+        }
+        this.startTagBytes = startTag.toString().getBytes(StandardCharsets.UTF_8);
+        this.id = idValue;
+        this.styleClass = classValue;
+        this.transform = transformValue;
+        this.style = styleValue;
+
+        if (children.isEmpty()) {
+            this.endBytes = "/>".getBytes(StandardCharsets.UTF_8);
+        } else {
+            ByteArrayOutputStream end = new ByteArrayOutputStream();
+            end.writeBytes(">".getBytes(StandardCharsets.UTF_8));
+            for (Child child : children) {
+                if (child.element() != null) {
+                    end.writeBytes(child.element().toString().getBytes(StandardCharsets.UTF_8));
+                } else {
+                    end.writeBytes(escape(child.text(), false).getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            end.writeBytes(("</" + name + ">").getBytes(StandardCharsets.UTF_8));
+            this.endBytes = end.toByteArray();
+        }
+    }
+
+    /**
+     * Compile the given element and all its descendants. The comments are dropped, and the namespace of the elements is only
+     * declared when it differs from the namespace of its parent, the SVG namespace being the one of the element given.
+     * @param element the DOM element to compile, which is only read
+     * @return the template of the element
+     */
+    public static SvgTemplate of(Element element) {
+        return of(Objects.requireNonNull(element), SVG_NAMESPACE);
+    }
+
+    private static SvgTemplate of(Element element, String parentNamespace) {
+        NamedNodeMap attributes = element.getAttributes();
+        List<String> names = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            Attr attribute = (Attr) attributes.item(i);
+            // namespace declarations are written from the namespace of the element
+            if (!attribute.getName().equals(XMLNS) && !attribute.getName().startsWith(XMLNS + ":")) {
+                names.add(attribute.getName());
+                values.add(attribute.getValue());
+            }
+        }
+
+        String elementNamespace = element.getNamespaceURI() != null ? element.getNamespaceURI() : parentNamespace;
+        List<Child> children = new ArrayList<>();
+        NodeList childNodes = element.getChildNodes();
+        for (int i = 0; i < childNodes.getLength(); i++) {
+            Node child = childNodes.item(i);
+            if (child instanceof Element childElement) {
+                children.add(new Child(of(childElement, elementNamespace), null));
+            } else if (child instanceof Text text) {
+                children.add(new Child(null, text.getData()));
+            }
+        }
+
+        return new SvgTemplate(element.getTagName(),
+                elementNamespace.equals(parentNamespace) ? null : elementNamespace,
+                names.toArray(String[]::new), values.toArray(String[]::new),
+                List.copyOf(children));
+    }
+
+    /**
+     * Write the element as it was in the component library
+     * @param os the output stream to write the UTF-8 encoded element to
+     */
+    public void write(OutputStream os) throws IOException {
+        write(os, null, null, null, null);
+    }
+
+    /**
+     * Write the element with the given slot values
+     * @param os the output stream to write the UTF-8 encoded element to
+     * @param idPrefix prefix of the id of the element, if the element has an id, null to keep the id unchanged
+     * @param styleClass the class of the element, null to keep the class of the element if any
+     * @param transform the transform of the element, null to keep the transform of the element if any
+     * @param style the style of the element, null to keep the style of the element if any
+     */
+    public void write(OutputStream os, String idPrefix, String styleClass, String transform, String style) throws IOException {
+        os.write(startTagBytes);
+        if (id != null) {
+            writeAttribute(os, ID, idPrefix != null ? idPrefix + id : id);
+        }
+        writeAttribute(os, CLASS, styleClass != null ? styleClass : this.styleClass);
+        writeAttribute(os, TRANSFORM, transform != null ? transform : this.transform);
+        writeAttribute(os, STYLE, style != null ? style : this.style);
+        os.write(endBytes);
+    }
+
+    /**
+     * Write the element as it was in the component library
+     * @param writer the XML stream writer to write the element to
+     */
+    public void write(XMLStreamWriter writer) throws XMLStreamException {
+        write(writer, null, null, null, null);
+    }
+
+    /**
+     * Write the element with the given slot values. The attributes are written in the order of the library element, the slot
+     * values which are not in the library element being written last. Each element is written with a start and an end tag,
+     * as it would have been written by a SAX transformation of the library element.
+     * @param writer the XML stream writer to write the element to
+     * @param idPrefix prefix of the id of the element, if the element has an id, null to keep the id unchanged
+     * @param styleClass the class of the element, null to keep the class of the element if any
+     * @param transform the transform of the element, null to keep the transform of the element if any
+     * @param style the style of the element, null to keep the style of the element if any
+     */
+    public void write(XMLStreamWriter writer, String idPrefix, String styleClass, String transform, String style) throws XMLStreamException {
+        writer.writeStartElement(name);
+        if (namespace != null) {
+            writer.writeDefaultNamespace(namespace);
+        }
+        for (int i = 0; i < attributeNames.length; i++) {
+            String value = switch (attributeNames[i]) {
+                case ID -> idPrefix != null ? idPrefix + attributeValues[i] : attributeValues[i];
+                case CLASS -> styleClass != null ? styleClass : attributeValues[i];
+                case TRANSFORM -> transform != null ? transform : attributeValues[i];
+                case STYLE -> style != null ? style : attributeValues[i];
+                default -> attributeValues[i];
+            };
+            writer.writeAttribute(attributeNames[i], value);
+        }
+        if (this.styleClass == null && styleClass != null) {
+            writer.writeAttribute(CLASS, styleClass);
+        }
+        if (this.transform == null && transform != null) {
+            writer.writeAttribute(TRANSFORM, transform);
+        }
+        if (this.style == null && style != null) {
+            writer.writeAttribute(STYLE, style);
+        }
+        for (Child child : children) {
+            if (child.element() != null) {
+                child.element().write(writer);
+            } else {
+                writer.writeCharacters(child.text());
+            }
+        }
+        writer.writeEndElement();
+    }
+
+    /**
+     * @return the id of the element in the component library, or null if the element has no id
+     */
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        try {
+            write(os);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return os.toString(StandardCharsets.UTF_8);
+    }
+
+    private static void writeAttribute(OutputStream os, String attributeName, String value) throws IOException {
+        if (value != null) {
+            StringBuilder attribute = new StringBuilder();
+            appendAttribute(attribute, attributeName, value);
+            os.write(attribute.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void appendAttribute(StringBuilder sb, String attributeName, String value) {
+        sb.append(' ').append(attributeName).append("=\"").append(escape(value, true)).append('"');
+    }
+
+    private static String escape(String value, boolean attribute) {
+        StringBuilder escaped = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String replacement = switch (c) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> attribute ? "&quot;" : null;
+                default -> null;
+            };
+            if (replacement != null && escaped == null) {
+                escaped = new StringBuilder(value.length() + 16).append(value, 0, i);
+            }
+            if (escaped != null) {
+                if (replacement != null) {
+                    escaped.append(replacement);
+                } else {
+                    escaped.append(c);
+                }
+            }
+        }
+        return escaped != null ? escaped.toString() : value;
+    }
+}
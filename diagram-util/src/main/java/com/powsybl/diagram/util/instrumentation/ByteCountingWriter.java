@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.instrumentation;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writer counting the number of bytes of the characters written, once encoded in UTF-8
+ * @author agent {@literal <agent at local>}
+ */
+public class ByteCountingWriter extends FilterWriter {
+
+    private long byteCount;
+
+    public ByteCountingWriter(Writer out) {
+        super(out);
+    }
+
+    public long getByteCount() {
+        return byteCount;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        super.write(c);
+        byteCount += getUtf8Length((char) c);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        super.write(cbuf, off, len);
+        for (int i = off; i < off + len; i++) {
+            byteCount += getUtf8Length(cbuf[i]);
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        super.write(str, off, len);
+        for (int i = off; i < off + len; i++) {
+            byteCount += getUtf8Length(str.charAt(i));
+        }
+    }
+
+    private static int getUtf8Length(char c) {
+        if (c < 0x80) {
+            return 1;
+        } else if (c < 0x800 || Character.isSurrogate(c)) {
+            // a supplementary character is encoded in 4 bytes, that is 2 bytes for each of its surrogates
+            return 2;
+        }
+        return 3;
+    }
+}
@@ -0,0 +1,25 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.instrumentation;
+
+/**
+ * Counters of a diagram generation reported to a {@link DiagramInstrumentation}
+ * @author agent {@literal <agent at local>}
+ */
+public enum DiagramCounter {
+    /** Number of nodes of the graph built */
+    NODES,
+    /** Number of edges of the graph built */
+    EDGES,
+    /** Number of steps done by a force layout algorithm */
+    ITERATIONS,
+    /** Number of times the quadtree of a Barnes-Hut force layout algorithm is rebuilt */
+    QUADTREE_REBUILDS,
+    /** Number of bytes of the SVG written, in UTF-8 */
+    BYTES_WRITTEN
+}
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.instrumentation;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Listener of the stages and counters of a diagram generation, to get the duration of each stage in traces or metrics.
+ * All the methods do nothing by default, so that an implementation only needs to override the ones it is interested in.
+ * The methods are called from the thread generating the diagram, an implementation shared between several diagram
+ * generations running concurrently has to be thread-safe.
+ * @author agent {@literal <agent at local>}
+ */
+public interface DiagramInstrumentation {
+
+    /**
+     * Called when a stage starts
+     * @param stage the stage starting
+     */
+    default void stageStarted(DiagramStage stage) {
+    }
+
+    /**
+     * Called when a stage ends, including when it ends with an exception
+     * @param stage the stage finished
+     * @param durationNanos the duration of the stage, in nanoseconds
+     */
+    default void stageFinished(DiagramStage stage, long durationNanos) {
+    }
+
+    /**
+     * Called when a counter is increased
+     * @param counter the counter
+     * @param amount the amount to add to the counter
+     */
+    default void count(DiagramCounter counter, long amount) {
+    }
+
+    /**
+     * Whether this instrumentation records anything. When it does not, the work only needed to compute the counters,
+     * such as counting the bytes written or the nodes of a graph, is skipped.
+     * @return <code>true</code> by default
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    static DiagramInstrumentation noOp() {
+        return NoOpDiagramInstrumentation.INSTANCE;
+    }
+
+    /**
+     * Run the given stage and report its start and duration
+     * @param stage the stage
+     * @param runnable the code of the stage
+     */
+    default void time(DiagramStage stage, Runnable runnable) {
+        Objects.requireNonNull(runnable);
+        time(stage, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * Run the given stage and report its start and duration
+     * @param stage the stage
+     * @param supplier the code of the stage
+     * @return the result of the stage
+     */
+    default <T> T time(DiagramStage stage, Supplier<T> supplier) {
+        Objects.requireNonNull(stage);
+        Objects.requireNonNull(supplier);
+        stageStarted(stage);
+        long start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            stageFinished(stage, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.instrumentation;
+
+/**
+ * Stages of a diagram generation reported to a {@link DiagramInstrumentation}
+ * @author agent {@literal <agent at local>}
+ */
+public enum DiagramStage {
+    /** Selection of the voltage levels to display, including the traversal of the network for a depth filter */
+    FILTER_TRAVERSAL,
+    /** Building of the graph from the network */
+    GRAPH_BUILD,
+    /** Whole layout of the graph, including the stages below for a force layout */
+    LAYOUT,
+    /** Setup of a force layout, giving the initial positions of the points */
+    LAYOUT_SETUP,
+    /** Iterations of a force layout algorithm */
+    LAYOUT_ITERATIONS,
+    /** Post-processing of a force layout */
+    POST_PROCESSING,
+    /** Computation of the edge coordinates */
+    EDGE_ROUTING,
+    /** Writing of the SVG, not including the edge routing */
+    SVG_WRITE,
+    /** Writing of the JSON metadata */
+    METADATA_WRITE
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.instrumentation;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Instrumentation recording the stage durations as timers and the counters as counters of a meter registry, following
+ * the Micrometer naming conventions. The registry is reached through a {@link MeterRecorder}, so that no metrics
+ * library is needed; with a Micrometer <code>MeterRegistry</code>, the recorder is:
+ * <pre>{@code
+ * new MeterInstrumentation.MeterRecorder() {
+ *     public void recordTimer(String name, long durationNanos, String... tags) {
+ *         registry.timer(name, tags).record(durationNanos, TimeUnit.NANOSECONDS);
+ *     }
+ *
+ *     public void incrementCounter(String name, double amount, String... tags) {
+ *         registry.counter(name, tags).increment(amount);
+ *     }
+ * }
+ * }</pre>
+ * The stage durations are recorded in the {@value #STAGE_TIMER_NAME} timer, tagged with the stage, for instance
+ * <code>stage=layout.iterations</code>. The counters are named after the counter, for instance
+ * <code>powsybl.diagram.quadtree.rebuilds</code>.
+ * @author agent {@literal <agent at local>}
+ */
+public class MeterInstrumentation implements DiagramInstrumentation {
+
+    public static final String STAGE_TIMER_NAME = "powsybl.diagram.stage";
+    public static final String STAGE_TAG = "stage";
+    public static final String COUNTER_NAME_PREFIX = "powsybl.diagram.";
+
+    /**
+     * Bridge to a meter registry
+     */
+    public interface MeterRecorder {
+        /**
+         * Record a duration in the given timer
+         * @param name the name of the timer
+         * @param durationNanos the duration, in nanoseconds
+         * @param tags the tags of the timer, as key-value pairs
+         */
+        void recordTimer(String name, long durationNanos, String... tags);
+
+        /**
+         * Increment the given counter
+         * @param name the name of the counter
+         * @param amount the amount to add to the counter
+         * @param tags the tags of the counter, as key-value pairs
+         */
+        void incrementCounter(String name, double amount, String... tags);
+    }
+
+    private final MeterRecorder recorder;
+    private final String[] commonTags;
+
+    /**
+     * @param recorder the bridge to the meter registry
+     * @param commonTags the tags added to all the meters, as key-value pairs, for instance <code>"diagram", "nad"</code>
+     */
+    public MeterInstrumentation(MeterRecorder recorder, String... commonTags) {
+        this.recorder = Objects.requireNonNull(recorder);
+        Objects.requireNonNull(commonTags);
+        if (commonTags.length % 2 != 0) {
+            throw new IllegalArgumentException("Tags must be given as key-value pairs, got an odd number of strings");
+        }
+        this.commonTags = commonTags.clone();
+    }
+
+    @Override
+    public void stageFinished(DiagramStage stage, long durationNanos) {
+        String[] tags = Arrays.copyOf(commonTags, commonTags.length + 2);
+        tags[commonTags.length] = STAGE_TAG;
+        tags[commonTags.length + 1] = getMeterName(stage);
+        recorder.recordTimer(STAGE_TIMER_NAME, durationNanos, tags);
+    }
+
+    @Override
+    public void count(DiagramCounter counter, long amount) {
+        recorder.incrementCounter(COUNTER_NAME_PREFIX + getMeterName(counter), amount, commonTags.clone());
+    }
+
+    static String getMeterName(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT).replace('_', '.');
+    }
+}
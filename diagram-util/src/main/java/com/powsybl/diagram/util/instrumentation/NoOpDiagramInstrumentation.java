@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.instrumentation;
+
+import java.util.function.Supplier;
+
+/**
+ * Instrumentation ignoring all the events, used by default. The stages are run without measuring their duration.
+ * @author agent {@literal <agent at local>}
+ */
+final class NoOpDiagramInstrumentation implements DiagramInstrumentation {
+
+    static final NoOpDiagramInstrumentation INSTANCE = new NoOpDiagramInstrumentation();
+
+    private NoOpDiagramInstrumentation() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void time(DiagramStage stage, Runnable runnable) {
+        runnable.run();
+    }
+
+    @Override
+    public <T> T time(DiagramStage stage, Supplier<T> supplier) {
+        return supplier.get();
+    }
+}
@@ -7,14 +7,22 @@
  */
 package com.powsybl.diagram.util.layout;
 
+import com.powsybl.diagram.util.instrumentation.DiagramInstrumentation;
+import com.powsybl.diagram.util.instrumentation.DiagramStage;
 import com.powsybl.diagram.util.layout.algorithms.Atlas2ForceLayoutAlgorithm;
 import com.powsybl.diagram.util.layout.algorithms.BasicForceLayoutAlgorithm;
+import com.powsybl.diagram.util.layout.algorithms.IncrementalForceLayoutAlgorithm;
+import com.powsybl.diagram.util.layout.algorithms.IndexedAtlas2ForceLayoutAlgorithm;
 import com.powsybl.diagram.util.layout.algorithms.LayoutAlgorithm;
+import com.powsybl.diagram.util.layout.algorithms.MultilevelForceLayoutAlgorithm;
 import com.powsybl.diagram.util.layout.algorithms.parameters.Atlas2Parameters;
 import com.powsybl.diagram.util.layout.algorithms.parameters.BasicForceLayoutParameters;
+import com.powsybl.diagram.util.layout.algorithms.parameters.IncrementalParameters;
+import com.powsybl.diagram.util.layout.algorithms.parameters.MultilevelParameters;
 import com.powsybl.diagram.util.layout.geometry.LayoutContext;
 import com.powsybl.diagram.util.layout.postprocessing.OverlapPreventionPostProcessing;
 import com.powsybl.diagram.util.layout.postprocessing.PostProcessing;
+import com.powsybl.diagram.util.layout.setup.NeighbourBarycenterSetup;
 import com.powsybl.diagram.util.layout.setup.Setup;
 import com.powsybl.diagram.util.layout.setup.SquareRandomBarycenterSetup;
 import com.powsybl.diagram.util.layout.setup.SquareRandomSetup;
@@ -79,19 +87,67 @@ public class Layout<V, E> {
     }
 
     /**
-     * Run the setup and the algorithm of layout on the provided layoutContext
+     * Get the default Atlas2 algorithm working on primitive arrays, with setup {@link SquareRandomSetup}, algorithm {@link IndexedAtlas2ForceLayoutAlgorithm}
+     * and post-processing {@link OverlapPreventionPostProcessing}. This gives the same result as {@link #createAtlas2ForceLayout()}, but faster on big graphs
+     * @return a ready to run atlas2 algorithm, with default parameters
+     */
+    public static <V, E> Layout<V, E> createIndexedAtlas2ForceLayout() {
+        return new Layout<>(
+                new SquareRandomSetup<>(),
+                new IndexedAtlas2ForceLayoutAlgorithm<>(
+                        new Atlas2Parameters.Builder().build()
+                ),
+                new OverlapPreventionPostProcessing<>()
+        );
+    }
+
+    /**
+     * Get the default multilevel algorithm, with setup {@link SquareRandomSetup}, algorithm {@link MultilevelForceLayoutAlgorithm}
+     * and post-processing {@link OverlapPreventionPostProcessing}. This is meant for very big graphs, where running Atlas2 from a random start takes too long
+     * @return a ready to run multilevel algorithm, with default parameters
+     */
+    public static <V, E> Layout<V, E> createMultilevelForceLayout() {
+        return new Layout<>(
+                new SquareRandomSetup<>(),
+                new MultilevelForceLayoutAlgorithm<>(
+                        new MultilevelParameters.Builder().build()
+                ),
+                new OverlapPreventionPostProcessing<>()
+        );
+    }
+
+    /**
+     * Get the default incremental algorithm, with setup {@link NeighbourBarycenterSetup}, algorithm {@link IncrementalForceLayoutAlgorithm}
+     * and no post-processing, so that the points far from the new ones do not move. This is meant for adding a few points to a graph whose
+     * other points already have an initial position
+     * @return a ready to run incremental algorithm, with default parameters
+     */
+    public static <V, E> Layout<V, E> createIncrementalForceLayout() {
+        return new Layout<>(
+                new NeighbourBarycenterSetup<>(),
+                new IncrementalForceLayoutAlgorithm<>(
+                        new IncrementalParameters.Builder().build()
+                ),
+                PostProcessing.noOp()
+        );
+    }
+
+    /**
+     * Run the setup and the algorithm of layout on the provided layoutContext. The duration of each phase is reported to the
+     * instrumentation of the layout context.
      * @param layoutContext the context of the layout, containing the graph and the position of the points
      */
     public void run(LayoutContext<V, E> layoutContext) {
         Objects.requireNonNull(layoutContext);
-        runAndLogElapsedTime("Setup", () -> setup.run(layoutContext));
-        runAndLogElapsedTime("Layout calculations", () -> layoutAlgorithm.run(layoutContext));
-        runAndLogElapsedTime("Post-processing", () -> postProcessing.run(layoutContext));
+        DiagramInstrumentation instrumentation = layoutContext.getInstrumentation();
+        runAndLogElapsedTime("Setup", DiagramStage.LAYOUT_SETUP, instrumentation, () -> setup.run(layoutContext));
+        runAndLogElapsedTime("Layout calculations", DiagramStage.LAYOUT_ITERATIONS, instrumentation, () -> layoutAlgorithm.run(layoutContext));
+        runAndLogElapsedTime("Post-processing", DiagramStage.POST_PROCESSING, instrumentation, () -> postProcessing.run(layoutContext));
     }
 
-    private void runAndLogElapsedTime(String phaseName, Runnable phase) {
+    private void runAndLogElapsedTime(String phaseName, DiagramStage stage, DiagramInstrumentation instrumentation, Runnable phase) {
         long start = System.nanoTime();
-        phase.run();
+        instrumentation.time(stage, phase);
         long end = System.nanoTime();
         LOGGER.info("{} took {} s", phaseName, (end - start) / 1e9);
     }
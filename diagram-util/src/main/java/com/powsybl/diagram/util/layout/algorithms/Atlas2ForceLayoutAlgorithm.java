@@ -7,13 +7,14 @@
  */
 package com.powsybl.diagram.util.layout.algorithms;
 
-import com.powsybl.commons.ref.RefObj;
+import com.powsybl.diagram.util.instrumentation.DiagramCounter;
 import com.powsybl.diagram.util.layout.algorithms.parameters.Atlas2Parameters;
-import com.powsybl.diagram.util.layout.algorithms.quadtreeupdateschedule.ConstantSchedule;
+import com.powsybl.diagram.util.layout.algorithms.quadtreeupdateschedule.QuadtreeUpdateSchedule;
 import com.powsybl.diagram.util.layout.forces.*;
+import com.powsybl.diagram.util.layout.geometry.FlatQuadtree;
 import com.powsybl.diagram.util.layout.geometry.LayoutContext;
 import com.powsybl.diagram.util.layout.geometry.Point;
-import com.powsybl.diagram.util.layout.geometry.Quadtree;
+import com.powsybl.diagram.util.layout.geometry.QuadtreePointArrays;
 import com.powsybl.diagram.util.layout.geometry.Vector2D;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,7 +42,7 @@ public class Atlas2ForceLayoutAlgorithm<V, E> implements LayoutAlgorithm<V, E> {
     private final Atlas2Parameters layoutParameters;
     private final List<Force<V, E>> forces = new ArrayList<>();
     private static final Logger LOGGER = LoggerFactory.getLogger(Atlas2ForceLayoutAlgorithm.class);
-    private final RefObj<Quadtree> quadtreeContainer = new RefObj<>(null);
+    private final FlatQuadtree quadtree = new FlatQuadtree();
 
     // The magic numbers
     // totally empirical, and not present in the original Atlas2 paper
@@ -52,17 +53,17 @@ public class Atlas2ForceLayoutAlgorithm<V, E> implements LayoutAlgorithm<V, E> {
     // The speed is globally decreasing (even though it goes up sometimes). On all the tests that were ran, the global speed
     // reaches this stopping value for the first time when it is stable (meaning it doesn't become stable when it reaches it for the 2nd, 3rd try)
     // meaning we can be confident to stop once we reach this value for the first time
-    private static final double NORMALIZED_STOPPING_VALUE = 1.06944;
-    private static final double NORMALIZATION_POWER = -0.107886;
+    static final double NORMALIZED_STOPPING_VALUE = 1.06944;
+    static final double NORMALIZATION_POWER = -0.107886;
     // This is not part of Atlas2's paper, used to control the global graph speed decrease and start value
     /**
      * The ratio of the global speed at which to start compared to the number of nodes of the graph. The starting speed is this ratio times the number of nodes
      */
-    private static final double STARTING_SPEED_RATIO = 1;
+    static final double STARTING_SPEED_RATIO = 1;
     /**
      * How much can the global speed decrease between each time step
      */
-    private static final double MAX_SPEED_DECREASE_RATIO = 0.7;
+    static final double MAX_SPEED_DECREASE_RATIO = 0.7;
 
     public Atlas2ForceLayoutAlgorithm(Atlas2Parameters layoutParameters) {
         this.layoutParameters = layoutParameters;
@@ -89,8 +90,13 @@ public class Atlas2ForceLayoutAlgorithm<V, E> implements LayoutAlgorithm<V, E> {
         Objects.requireNonNull(layoutContext);
         forces.forEach(f -> f.init(layoutContext));
 
-        Map<Point, Vector2D> previousForces = new HashMap<>();
-        Map<Point, Double> swingMap = new HashMap<>();
+        // the moving points are given an index, so that the values of each point can be stored in arrays and filled in any order
+        List<Map.Entry<V, Point>> movingPoints = new ArrayList<>(layoutContext.getMovingPoints().entrySet());
+        StepValues stepValues = new StepValues(movingPoints.size());
+        for (int pointIndex = 0; pointIndex < movingPoints.size(); ++pointIndex) {
+            stepValues.previousForces[pointIndex] = new Vector2D();
+            stepValues.weights[pointIndex] = layoutContext.getSimpleGraph().degreeOf(movingPoints.get(pointIndex).getKey()) + 1;
+        }
         int graphSize = layoutContext.getSimpleGraph().vertexSet().size();
         // starting speed proportional to the size of the network, not part of Atlas2's paper
         double previousGraphSpeed = STARTING_SPEED_RATIO * graphSize;
@@ -100,20 +106,32 @@ public class Atlas2ForceLayoutAlgorithm<V, E> implements LayoutAlgorithm<V, E> {
         // this is not part of Atlas2's paper
         final double stoppingGlobalGraphSpeed = NORMALIZED_STOPPING_VALUE * Math.pow(graphSize, NORMALIZATION_POWER);
 
-        for (Point point : layoutContext.getMovingPoints().values()) {
-            previousForces.put(point, new Vector2D());
-        }
         int i = 0;
         int stoppingStep = layoutParameters.getMaxSteps();
         boolean graphSwingIsZero = false;
 
-        ConstantSchedule quadtreeUpdateSchedule = new ConstantSchedule(layoutParameters.getQuadtreeCalculationIncrement());
+        // the forces separating the points at the same position do not depend on the order of the calculation of the points,
+        // the result does not depend on the thread scheduling
+        boolean parallelForces = layoutParameters.isParallelismEnabled();
+
+        QuadtreeUpdateSchedule quadtreeUpdateSchedule = layoutParameters.createQuadtreeUpdateSchedule();
+        FlatQuadtreeUpdateContext quadtreeUpdateContext = new FlatQuadtreeUpdateContext(quadtree);
+        QuadtreePointArrays<V> quadtreePoints = layoutParameters.isBarnesHutEnabled()
+            ? new QuadtreePointArrays<>(layoutContext.getAllPoints(), point -> point.getPointVertexDegree() + 1)
+            : null;
+        int quadtreeRebuildCount = 0;
 
         while (i < stoppingStep && !graphSwingIsZero) {
-            if (layoutParameters.isBarnesHutEnabled() && quadtreeUpdateSchedule.isTimeToUpdate(i)) {
-                this.quadtreeContainer.set(new Quadtree(layoutContext.getAllPoints().values(), (Point point) -> point.getPointVertexDegree() + 1));
+            if (quadtreePoints != null) {
+                quadtreePoints.updatePositions();
+                quadtreeUpdateContext.setGraphSpeed(previousGraphSpeed);
+                if (quadtreeUpdateSchedule.isTimeToUpdate(i, quadtreeUpdateContext) || !quadtreePoints.isBuilt()) {
+                    if (quadtreePoints.update(quadtree, layoutParameters.isQuadtreeRefitEnabled())) {
+                        ++quadtreeRebuildCount;
+                    }
+                }
             }
-            GraphDataValues graphDataValues = calculateForces(layoutContext, previousForces, swingMap);
+            GraphDataValues graphDataValues = calculateForces(layoutContext, movingPoints, stepValues, parallelForces);
             graphSwingIsZero = graphDataValues.graphSwing() == 0;
             // calculate s(G) the global speed of the graph
             // this speed should not be less than a certain amount of the previous graph speed
@@ -129,7 +147,7 @@ public class Atlas2ForceLayoutAlgorithm<V, E> implements LayoutAlgorithm<V, E> {
                 // store the forces on each node into the map of forces
                 // calculate D(n) the displacement of each node n
                 // reset forces on all points (we create a new vector2D so it won't affect forces in the map of forces)
-                updateAllPositions(layoutContext, newGraphSpeed, swingMap, previousForces);
+                updateAllPositions(movingPoints, newGraphSpeed, stepValues);
                 if (isStable(newGraphSpeed, stoppingGlobalGraphSpeed)) {
                     break;
                 }
@@ -138,40 +156,80 @@ public class Atlas2ForceLayoutAlgorithm<V, E> implements LayoutAlgorithm<V, E> {
             }
         }
         LOGGER.info("Finished in {} steps", i);
+        layoutContext.getInstrumentation().count(DiagramCounter.ITERATIONS, i);
+        layoutContext.getInstrumentation().count(DiagramCounter.QUADTREE_REBUILDS, quadtreeRebuildCount);
     }
 
     /**
-     * Calculate the forces and updates the swingMap with the calculated values. Returns the graphSwing and the graphTraction
+     * Calculate the forces and fills the swing of each point in <code>stepValues</code>. Returns the graphSwing and the graphTraction.
+     * If the parallelism is enabled, the points are split across several tasks. The swing and traction of the graph are always summed
+     * in the order of the points afterward, so that the result does not depend on the parallelism.
      * @param layoutContext the information about the graph and the positon of the points
-     * @param previousForces the forces used on the previous iteration turn. Used to calculate the swing of each point (and the graph swing as well as the graph traction)
-     * @param swingMap a map containing the swing of each point. Note that we don't have the same for the traction, as we only need the graph traction later on, not the traction of each point
-     * @return the swing of the graph and the traction of the graph, also updates <code>previousForces</code> and <code>swingMap</code> as a side effect
+     * @param movingPoints the moving points of the layout context, in a fixed order
+     * @param stepValues the values of each point, the previous forces are used to calculate the swing of each point (and the graph swing as well as the graph traction)
+     * @param parallelForces true if the points can be split across several tasks
+     * @return the swing of the graph and the traction of the graph, also updates the swings and tractions of <code>stepValues</code> as a side effect
      */
-    private Atlas2ForceLayoutAlgorithm.GraphDataValues calculateForces(LayoutContext<V, E> layoutContext, Map<Point, Vector2D> previousForces, Map<Point, Double> swingMap) {
+    private Atlas2ForceLayoutAlgorithm.GraphDataValues calculateForces(LayoutContext<V, E> layoutContext, List<Map.Entry<V, Point>> movingPoints, StepValues stepValues,
+                                                                        boolean parallelForces) {
+        ParallelForceEvaluation.RangeTask rangeTask = (from, to) -> {
+            for (int pointIndex = from; pointIndex < to; ++pointIndex) {
+                calculatePointForces(layoutContext, movingPoints.get(pointIndex), pointIndex, stepValues);
+            }
+        };
+        if (parallelForces) {
+            ParallelForceEvaluation.runInRanges(movingPoints.size(), layoutParameters.getParallelism(), layoutParameters.getExecutor(), rangeTask);
+        } else {
+            rangeTask.run(0, movingPoints.size());
+        }
         double graphSwing = 0;
         double graphTraction = 0;
-        for (Map.Entry<V, Point> entry : layoutContext.getMovingPoints().entrySet()) {
-            Point point = entry.getValue();
-            for (Force<V, E> force : forces) {
-                Vector2D resultingForce = force.apply(entry.getKey(), point, layoutContext);
-                point.applyForce(resultingForce);
-            }
-            // calculate swg(n) for each node the swing of the node
-            // at the same time calculate tra(n) the traction of the node
-            // we can also calculate swg(G) and tra(G) the swing and traction of the graph
-            int weight = layoutContext.getSimpleGraph().degreeOf(entry.getKey()) + 1;
-            Vector2D previousPointForce = previousForces.get(point);
-            double pointSwing = calculatePointSwing(point, previousPointForce);
-            swingMap.put(point, pointSwing);
-            graphSwing += pointSwing * weight;
-            graphTraction += calculatePointTraction(point, previousPointForce) * weight;
+        for (int pointIndex = 0; pointIndex < movingPoints.size(); ++pointIndex) {
+            graphSwing += stepValues.swings[pointIndex] * stepValues.weights[pointIndex];
+            graphTraction += stepValues.tractions[pointIndex] * stepValues.weights[pointIndex];
         }
         return new GraphDataValues(graphSwing, graphTraction);
     }
 
+    /**
+     * Apply all the forces to a single point, and store its swing and traction in <code>stepValues</code>.
+     * Only the values of the given point are modified, this can be called concurrently for different points
+     */
+    private void calculatePointForces(LayoutContext<V, E> layoutContext, Map.Entry<V, Point> entry, int pointIndex, StepValues stepValues) {
+        Point point = entry.getValue();
+        for (Force<V, E> force : forces) {
+            Vector2D resultingForce = force.apply(entry.getKey(), point, layoutContext);
+            point.applyForce(resultingForce);
+        }
+        // calculate swg(n) for each node the swing of the node
+        // at the same time calculate tra(n) the traction of the node
+        // the swing and traction of the graph are calculated afterward, from those values
+        Vector2D previousPointForce = stepValues.previousForces[pointIndex];
+        stepValues.swings[pointIndex] = calculatePointSwing(point, previousPointForce);
+        stepValues.tractions[pointIndex] = calculatePointTraction(point, previousPointForce);
+    }
+
     private record GraphDataValues(double graphSwing, double graphTraction) {
     }
 
+    /**
+     * The values of each moving point that are kept between the calculation of the forces and the update of the positions,
+     * stored by index of the point
+     */
+    private static final class StepValues {
+        private final Vector2D[] previousForces;
+        private final int[] weights;
+        private final double[] swings;
+        private final double[] tractions;
+
+        private StepValues(int pointCount) {
+            this.previousForces = new Vector2D[pointCount];
+            this.weights = new int[pointCount];
+            this.swings = new double[pointCount];
+            this.tractions = new double[pointCount];
+        }
+    }
+
     /**
      * Choose whether to add a repulsion force using barnes-hut or not
      */
@@ -180,7 +238,7 @@ public class Atlas2ForceLayoutAlgorithm<V, E> implements LayoutAlgorithm<V, E> {
             this.forces.add(new RepulsionForceDegreeBasedLinearBarnesHut<>(
                     parameters.getRepulsionIntensity(),
                     parameters.getBarnesHutTheta(),
-                    this.quadtreeContainer
+                    this.quadtree
             ));
         } else {
             this.forces.add(new RepulsionForceDegreeBasedLinear<>(
@@ -216,16 +274,17 @@ public class Atlas2ForceLayoutAlgorithm<V, E> implements LayoutAlgorithm<V, E> {
 
     /**
      * Update the position of all the points of the layout
-     * @param layoutContext the context of the layout (points, graph of the points)
+     * @param movingPoints the moving points of the layout, in the same order as the values of <code>stepValues</code>
      * @param graphSpeed the global speed of the entire graph
-     * @param swingMap the stored swing of each point, we already calculated it earlier so we store it to not repeat calculations
-     * @param previousForces the map that keeps track of the force applied to each point on the previous time step of the simulation
+     * @param stepValues the stored swing of each point, we already calculated it earlier so we store it to not repeat calculations,
+     *                   and the force applied to each point on the previous time step of the simulation
      */
-    private void updateAllPositions(LayoutContext<V, E> layoutContext, double graphSpeed, Map<Point, Double> swingMap, Map<Point, Vector2D> previousForces) {
-        for (Point point : layoutContext.getMovingPoints().values()) {
+    private void updateAllPositions(List<Map.Entry<V, Point>> movingPoints, double graphSpeed, StepValues stepValues) {
+        for (int pointIndex = 0; pointIndex < movingPoints.size(); ++pointIndex) {
+            Point point = movingPoints.get(pointIndex).getValue();
             double speedFactor = layoutParameters.getSpeedFactor()
                     * graphSpeed
-                    / (1 + graphSpeed * Math.sqrt(swingMap.get(point)));
+                    / (1 + graphSpeed * Math.sqrt(stepValues.swings[pointIndex]));
             Vector2D pointForceDisplacement = new Vector2D(point.getForces());
             double forceMagnitude = pointForceDisplacement.magnitude();
             if (forceMagnitude != 0) {
@@ -235,7 +294,7 @@ public class Atlas2ForceLayoutAlgorithm<V, E> implements LayoutAlgorithm<V, E> {
             pointForceDisplacement.multiplyBy(speedFactor);
             point.getPosition().add(pointForceDisplacement);
             // store the force in this loop for the next iteration
-            previousForces.put(point, point.getForces());
+            stepValues.previousForces[pointIndex] = point.getForces();
             point.resetForces();
         }
     }
@@ -8,13 +8,13 @@
 
 package com.powsybl.diagram.util.layout.algorithms;
 
+import com.powsybl.diagram.util.instrumentation.DiagramCounter;
 import com.powsybl.diagram.util.layout.algorithms.parameters.BasicForceLayoutParameters;
-import com.powsybl.diagram.util.layout.forces.AttractToCenterForceLinear;
-import com.powsybl.diagram.util.layout.forces.CoulombForce;
-import com.powsybl.diagram.util.layout.forces.Force;
-import com.powsybl.diagram.util.layout.forces.SpringForce;
+import com.powsybl.diagram.util.layout.forces.*;
+import com.powsybl.diagram.util.layout.geometry.FlatQuadtree;
 import com.powsybl.diagram.util.layout.geometry.LayoutContext;
 import com.powsybl.diagram.util.layout.geometry.Point;
+import com.powsybl.diagram.util.layout.geometry.QuadtreePointArrays;
 import com.powsybl.diagram.util.layout.geometry.Vector2D;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,14 +35,23 @@ public class BasicForceLayoutAlgorithm<V, E> implements LayoutAlgorithm<V, E> {
 
     private final BasicForceLayoutParameters layoutParameters;
     private final List<Force<V, E>> forces = new ArrayList<>();
+    private final FlatQuadtree quadtree = new FlatQuadtree();
 
     public BasicForceLayoutAlgorithm(BasicForceLayoutParameters layoutParameters) {
         Objects.requireNonNull(layoutParameters);
         this.forces.add(new SpringForce<>());
-        this.forces.add(new CoulombForce<>(
-            layoutParameters.getRepulsionIntensity(),
-            layoutParameters.isRepulsionFromFixedPointsEnabled()
-        ));
+        if (layoutParameters.isBarnesHutEnabled()) {
+            this.forces.add(new CoulombForceBarnesHut<>(
+                layoutParameters.getRepulsionIntensity(),
+                layoutParameters.getBarnesHutTheta(),
+                this.quadtree
+            ));
+        } else {
+            this.forces.add(new CoulombForce<>(
+                layoutParameters.getRepulsionIntensity(),
+                layoutParameters.isRepulsionFromFixedPointsEnabled()
+            ));
+        }
         if (layoutParameters.isAttractToCenterEnabled()) {
             this.forces.add(new AttractToCenterForceLinear<>(layoutParameters.getRepulsionIntensity() / 200));
         }
@@ -56,8 +65,19 @@ public class BasicForceLayoutAlgorithm<V, E> implements LayoutAlgorithm<V, E> {
 
         // do the loop on the nodes and forces
         int i;
+        int quadtreeRebuildCount = 0;
+        QuadtreePointArrays<V> quadtreePoints = layoutParameters.isBarnesHutEnabled()
+            ? createQuadtreePoints(layoutContext, layoutParameters.isRepulsionFromFixedPointsEnabled())
+            : null;
         long t0 = System.currentTimeMillis();
         for (i = 0; i < layoutParameters.getMaxSteps(); ++i) {
+            if (quadtreePoints != null) {
+                // all the positions change at each step, the quadtree needs to be refitted or built again
+                quadtreePoints.updatePositions();
+                if (quadtreePoints.update(quadtree, layoutParameters.isQuadtreeRefitEnabled())) {
+                    ++quadtreeRebuildCount;
+                }
+            }
             for (Map.Entry<V, Point> entry : layoutContext.getMovingPoints().entrySet()) {
                 Point point = entry.getValue();
                 for (Force<V, E> force : forces) {
@@ -73,6 +93,21 @@ public class BasicForceLayoutAlgorithm<V, E> implements LayoutAlgorithm<V, E> {
             }
         }
         LOGGER.info("Layout calculated in {} steps", i);
+        layoutContext.getInstrumentation().count(DiagramCounter.ITERATIONS, i);
+        layoutContext.getInstrumentation().count(DiagramCounter.QUADTREE_REBUILDS, quadtreeRebuildCount);
+    }
+
+    /**
+     * Create the arrays the quadtree used by the Barnes-Hut repulsion is built on, each point has a mass of 1
+     * @param layoutContext the context of the layout
+     * @param repulsionFromFixedPointsEnabled whether the fixed points are put in the quadtree, to have an effect on the moving points
+     * @return the arrays of the points that have a repulsion effect
+     */
+    private static <V> QuadtreePointArrays<V> createQuadtreePoints(LayoutContext<V, ?> layoutContext, boolean repulsionFromFixedPointsEnabled) {
+        return new QuadtreePointArrays<>(
+            repulsionFromFixedPointsEnabled ? layoutContext.getAllPoints() : layoutContext.getMovingPoints(),
+            (Point point) -> 1
+        );
     }
 
     private boolean isOverDurationLimit(long t0) {
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.algorithms;
+
+import com.powsybl.diagram.util.layout.algorithms.quadtreeupdateschedule.QuadtreeUpdateContext;
+import com.powsybl.diagram.util.layout.geometry.FlatQuadtree;
+
+/**
+ * The state of an Atlas2 layout given to its quadtree update schedule, the displacements are the ones of the points of the {@link FlatQuadtree}
+ * @author agent {@literal <agent at local>}
+ */
+final class FlatQuadtreeUpdateContext implements QuadtreeUpdateContext {
+    private final FlatQuadtree quadtree;
+    private double graphSpeed;
+
+    FlatQuadtreeUpdateContext(FlatQuadtree quadtree) {
+        this.quadtree = quadtree;
+    }
+
+    void setGraphSpeed(double graphSpeed) {
+        this.graphSpeed = graphSpeed;
+    }
+
+    @Override
+    public double getGraphSpeed() {
+        return graphSpeed;
+    }
+
+    @Override
+    public double getRootWidth() {
+        return quadtree.getRootWidth();
+    }
+
+    @Override
+    public double getMaxDisplacement() {
+        return quadtree.getMaxDisplacement();
+    }
+
+    @Override
+    public double getAverageDisplacement() {
+        return quadtree.getAverageDisplacement();
+    }
+}
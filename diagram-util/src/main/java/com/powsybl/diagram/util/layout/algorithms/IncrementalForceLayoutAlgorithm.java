@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.algorithms;
+
+import com.powsybl.diagram.util.layout.algorithms.parameters.IncrementalParameters;
+import com.powsybl.diagram.util.layout.geometry.LayoutContext;
+import com.powsybl.diagram.util.layout.geometry.Point;
+import com.powsybl.diagram.util.layout.geometry.Vector2D;
+import com.powsybl.diagram.util.layout.setup.NeighbourBarycenterSetup;
+import org.jgrapht.Graph;
+import org.jgrapht.Graphs;
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.SimpleGraph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * Layout of a graph of which most points already have a position, for instance a diagram that has been expanded with a few new vertices.
+ * The new points are the moving points without an initial position. Only the new points and the points at most
+ * {@link IncrementalParameters#getRelaxationDepth()} edges away from them are moved, by an Atlas2 layout run on this neighbourhood and on the
+ * points directly connected to it, which are kept fixed. The cost of the layout therefore depends on the size of the neighbourhood, not
+ * on the size of the graph, and the points far from the new ones do not move at all.
+ * <p>The points outside the neighbourhood are not seen by the layout: they do not repel the new points. It is meant to be used with
+ * {@link NeighbourBarycenterSetup}, which puts the new points close to their neighbours. A post-processing moving all the points, such as
+ * {@link com.powsybl.diagram.util.layout.postprocessing.OverlapPreventionPostProcessing}, would defeat the purpose of this layout.</p>
+ * <p>If no point has an initial position, the whole graph is laid out with {@link IncrementalParameters#getFullLayoutParameters()}.</p>
+ * @author agent {@literal <agent at local>}
+ */
+public class IncrementalForceLayoutAlgorithm<V, E> implements LayoutAlgorithm<V, E> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalForceLayoutAlgorithm.class);
+
+    private final IncrementalParameters parameters;
+
+    public IncrementalForceLayoutAlgorithm(IncrementalParameters parameters) {
+        this.parameters = Objects.requireNonNull(parameters);
+    }
+
+    /**
+     * Use the incremental layout with default parameters
+     */
+    public IncrementalForceLayoutAlgorithm() {
+        this(new IncrementalParameters.Builder().build());
+    }
+
+    @Override
+    public void run(LayoutContext<V, E> layoutContext) {
+        Objects.requireNonNull(layoutContext);
+        Set<V> newVertices = new LinkedHashSet<>();
+        for (V vertex : layoutContext.getMovingPoints().keySet()) {
+            if (!layoutContext.getInitialPoints().containsKey(vertex)) {
+                newVertices.add(vertex);
+            }
+        }
+        if (newVertices.isEmpty()) {
+            LOGGER.info("No new point, the positions are kept");
+            return;
+        }
+        if (layoutContext.getInitialPoints().isEmpty()) {
+            new IndexedAtlas2ForceLayoutAlgorithm<V, E>(parameters.getFullLayoutParameters()).run(layoutContext);
+            return;
+        }
+
+        Set<V> movingVertices = getMovingVertices(layoutContext, newVertices);
+        Set<V> boundaryVertices = new LinkedHashSet<>();
+        for (V vertex : movingVertices) {
+            for (V neighbour : Graphs.neighborListOf(layoutContext.getSimpleGraph(), vertex)) {
+                if (!movingVertices.contains(neighbour)) {
+                    boundaryVertices.add(neighbour);
+                }
+            }
+        }
+        LOGGER.info("{} new points, {} moving points and {} fixed points in the local layout", newVertices.size(), movingVertices.size(), boundaryVertices.size());
+
+        Set<V> localVertices = new LinkedHashSet<>(movingVertices);
+        localVertices.addAll(boundaryVertices);
+        LayoutContext<V, DefaultEdge> localContext = new LayoutContext<>(getLocalGraph(layoutContext, localVertices, boundaryVertices));
+        localContext.setInstrumentation(layoutContext.getInstrumentation());
+        // the local context gets its own points, the points of the layout context are only updated at the end
+        for (V vertex : localVertices) {
+            Vector2D position = layoutContext.getAllPoints().get(vertex).getPosition();
+            Point point = new Point(position.getX(), position.getY());
+            if (boundaryVertices.contains(vertex)) {
+                localContext.getFixedPoints().put(vertex, point);
+            } else {
+                localContext.getMovingPoints().put(vertex, point);
+            }
+        }
+        localContext.getAllPoints().putAll(localContext.getMovingPoints());
+        localContext.getAllPoints().putAll(localContext.getFixedPoints());
+        localContext.setCenter(layoutContext.getCenter());
+
+        new IndexedAtlas2ForceLayoutAlgorithm<V, DefaultEdge>(parameters.getLocalLayoutParameters()).run(localContext);
+
+        for (Map.Entry<V, Point> entry : localContext.getMovingPoints().entrySet()) {
+            layoutContext.getMovingPoints().get(entry.getKey()).getPosition().set(
+                    entry.getValue().getPosition().getX(),
+                    entry.getValue().getPosition().getY()
+            );
+        }
+    }
+
+    /**
+     * Build the graph induced by <code>localVertices</code>, without the edges between two boundary vertices as both of them are fixed.
+     * This only goes through the edges of the local vertices, not through all the edges of the graph
+     */
+    private static <V, E> Graph<V, DefaultEdge> getLocalGraph(LayoutContext<V, E> layoutContext, Set<V> localVertices, Set<V> boundaryVertices) {
+        SimpleGraph<V, DefaultEdge> localGraph = new SimpleGraph<>(DefaultEdge.class);
+        localVertices.forEach(localGraph::addVertex);
+        for (V vertex : localVertices) {
+            if (!boundaryVertices.contains(vertex)) {
+                for (V neighbour : Graphs.neighborListOf(layoutContext.getSimpleGraph(), vertex)) {
+                    localGraph.addEdge(vertex, neighbour);
+                }
+            }
+        }
+        return localGraph;
+    }
+
+    /**
+     * @return the new vertices, and the moving vertices at most {@link IncrementalParameters#getRelaxationDepth()} edges away from a new vertex
+     */
+    private Set<V> getMovingVertices(LayoutContext<V, E> layoutContext, Set<V> newVertices) {
+        Set<V> movingVertices = new LinkedHashSet<>(newVertices);
+        Set<V> layer = newVertices;
+        for (int depth = 0; depth < parameters.getRelaxationDepth() && !layer.isEmpty(); ++depth) {
+            Set<V> nextLayer = new LinkedHashSet<>();
+            for (V vertex : layer) {
+                for (V neighbour : Graphs.neighborListOf(layoutContext.getSimpleGraph(), vertex)) {
+                    if (layoutContext.getMovingPoints().containsKey(neighbour) && movingVertices.add(neighbour)) {
+                        nextLayer.add(neighbour);
+                    }
+                }
+            }
+            layer = nextLayer;
+        }
+        return movingVertices;
+    }
+}
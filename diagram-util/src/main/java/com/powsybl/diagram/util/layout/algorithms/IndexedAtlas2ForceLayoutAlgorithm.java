@@ -0,0 +1,214 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.algorithms;
+
+import com.powsybl.diagram.util.instrumentation.DiagramCounter;
+import com.powsybl.diagram.util.instrumentation.DiagramInstrumentation;
+import com.powsybl.diagram.util.layout.algorithms.parameters.Atlas2Parameters;
+import com.powsybl.diagram.util.layout.algorithms.quadtreeupdateschedule.QuadtreeUpdateSchedule;
+import com.powsybl.diagram.util.layout.forces.*;
+import com.powsybl.diagram.util.layout.geometry.FlatQuadtree;
+import com.powsybl.diagram.util.layout.geometry.IndexedLayoutContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.powsybl.diagram.util.layout.algorithms.Atlas2ForceLayoutAlgorithm.*;
+
+/**
+ * Same algorithm as {@link Atlas2ForceLayoutAlgorithm}, working on the primitive arrays of an {@link IndexedLayoutContext} instead of the maps
+ * of points. For a given layout context, both algorithms give the same positions.
+ * @author agent {@literal <agent at local>}
+ */
+public class IndexedAtlas2ForceLayoutAlgorithm<V, E> implements IndexedLayoutAlgorithm<V, E> {
+    private final Atlas2Parameters layoutParameters;
+    private final List<IndexedForce<V, E>> forces = new ArrayList<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(IndexedAtlas2ForceLayoutAlgorithm.class);
+    private final FlatQuadtree quadtree = new FlatQuadtree();
+
+    public IndexedAtlas2ForceLayoutAlgorithm(Atlas2Parameters layoutParameters) {
+        this.layoutParameters = Objects.requireNonNull(layoutParameters);
+        if (layoutParameters.isBarnesHutEnabled()) {
+            this.forces.add(new RepulsionForceDegreeBasedLinearBarnesHut<>(
+                    layoutParameters.getRepulsionIntensity(),
+                    layoutParameters.getBarnesHutTheta(),
+                    this.quadtree
+            ));
+        } else {
+            this.forces.add(new RepulsionForceDegreeBasedLinear<>(
+                    layoutParameters.getRepulsionIntensity(),
+                    true
+            ));
+        }
+        this.forces.add(new EdgeAttractionForceLinear<>(layoutParameters.getEdgeAttractionIntensity()));
+        if (layoutParameters.isAttractToCenterEnabled()) {
+            this.forces.add(new AttractToCenterForceDegreeBasedLinear<>(layoutParameters.getAttractToCenterIntensity()));
+        }
+    }
+
+    /**
+     * Use Atlas2 layout with default parameters
+     */
+    public IndexedAtlas2ForceLayoutAlgorithm() {
+        this(new Atlas2Parameters.Builder().build());
+    }
+
+    @Override
+    public void run(IndexedLayoutContext<V, E> layoutContext) {
+        Objects.requireNonNull(layoutContext);
+        forces.forEach(f -> f.init(layoutContext));
+
+        int movingPointCount = layoutContext.getMovingPointCount();
+        double[] swings = new double[movingPointCount];
+        double[] tractions = new double[movingPointCount];
+        int graphSize = layoutContext.getPointCount();
+        // see Atlas2ForceLayoutAlgorithm for an explanation of the starting speed and of the stopping condition
+        double previousGraphSpeed = STARTING_SPEED_RATIO * graphSize;
+        final double stoppingGlobalGraphSpeed = NORMALIZED_STOPPING_VALUE * Math.pow(graphSize, NORMALIZATION_POWER);
+
+        // no force was applied before the first step, both the current and the previous forces start at 0
+        layoutContext.resetForces();
+        layoutContext.shiftForces();
+        int i = 0;
+        int stoppingStep = layoutParameters.getMaxSteps();
+        boolean graphSwingIsZero = false;
+
+        boolean parallelForces = layoutParameters.isParallelismEnabled();
+
+        QuadtreeUpdateSchedule quadtreeUpdateSchedule = layoutParameters.createQuadtreeUpdateSchedule();
+        FlatQuadtreeUpdateContext quadtreeUpdateContext = new FlatQuadtreeUpdateContext(quadtree);
+        // the quadtree is built directly on the arrays of the layout context, its leaves follow the points
+        double[] quadtreeMass = new double[layoutContext.getPointCount()];
+        int[] quadtreePoints = getQuadtreePoints(layoutContext, quadtreeMass);
+        boolean quadtreeBuilt = false;
+        int quadtreeRebuildCount = 0;
+
+        while (i < stoppingStep && !graphSwingIsZero) {
+            if (layoutParameters.isBarnesHutEnabled()) {
+                quadtreeUpdateContext.setGraphSpeed(previousGraphSpeed);
+                if ((quadtreeUpdateSchedule.isTimeToUpdate(i, quadtreeUpdateContext) || !quadtreeBuilt)
+                        && (!quadtreeBuilt || !layoutParameters.isQuadtreeRefitEnabled() || !quadtree.refit())) {
+                    quadtree.build(layoutContext.getPositionX(), layoutContext.getPositionY(), quadtreeMass, quadtreePoints, quadtreePoints.length);
+                    quadtreeBuilt = true;
+                    ++quadtreeRebuildCount;
+                }
+            }
+            GraphDataValues graphDataValues = calculateForces(layoutContext, swings, tractions, parallelForces);
+            graphSwingIsZero = graphDataValues.graphSwing() == 0;
+            if (!graphSwingIsZero) {
+                double newGraphSpeed = Math.clamp(
+                        layoutParameters.getSwingTolerance() * graphDataValues.graphTraction() / graphDataValues.graphSwing(),
+                        MAX_SPEED_DECREASE_RATIO * previousGraphSpeed,
+                        layoutParameters.getMaxGlobalSpeedIncreaseRatio() * previousGraphSpeed
+                );
+                updateAllPositions(layoutContext, newGraphSpeed, swings);
+                if (newGraphSpeed <= stoppingGlobalGraphSpeed) {
+                    break;
+                }
+                previousGraphSpeed = newGraphSpeed;
+                ++i;
+            }
+        }
+        LOGGER.info("Finished in {} steps", i);
+        DiagramInstrumentation instrumentation = layoutContext.getLayoutContext().getInstrumentation();
+        instrumentation.count(DiagramCounter.ITERATIONS, i);
+        instrumentation.count(DiagramCounter.QUADTREE_REBUILDS, quadtreeRebuildCount);
+    }
+
+    /**
+     * Fill <code>mass</code> with the mass of each point for the quadtree, and return the indexes of the points to put in the quadtree.
+     * The points are in the same order as in {@link com.powsybl.diagram.util.layout.geometry.LayoutContext#getAllPoints()}, so that the quadtree
+     * is the same as the one of {@link Atlas2ForceLayoutAlgorithm}
+     */
+    private int[] getQuadtreePoints(IndexedLayoutContext<V, E> layoutContext, double[] mass) {
+        int[] points = new int[layoutContext.getPointCount()];
+        int i = 0;
+        for (V vertex : layoutContext.getLayoutContext().getAllPoints().keySet()) {
+            int pointIndex = layoutContext.getIndex(vertex);
+            mass[pointIndex] = layoutContext.getDegreeMass()[pointIndex];
+            points[i++] = pointIndex;
+        }
+        return points;
+    }
+
+    /**
+     * Calculate the forces applied to all the moving points, and fill <code>swings</code> and <code>tractions</code> with the swing and traction of each moving point.
+     * As in {@link Atlas2ForceLayoutAlgorithm}, the points can be split across several tasks, the values of the graph are then summed in the order of the points
+     * @param parallelForces true if the points can be split across several tasks
+     * @return the swing of the graph and the traction of the graph
+     */
+    private GraphDataValues calculateForces(IndexedLayoutContext<V, E> layoutContext, double[] swings, double[] tractions, boolean parallelForces) {
+        ParallelForceEvaluation.RangeTask rangeTask = (from, to) -> calculatePointForces(layoutContext, from, to, swings, tractions);
+        int movingPointCount = layoutContext.getMovingPointCount();
+        if (parallelForces) {
+            ParallelForceEvaluation.runInRanges(movingPointCount, layoutParameters.getParallelism(), layoutParameters.getExecutor(), rangeTask);
+        } else {
+            rangeTask.run(0, movingPointCount);
+        }
+        double[] degreeMass = layoutContext.getDegreeMass();
+        double graphSwing = 0;
+        double graphTraction = 0;
+        for (int pointIndex = 0; pointIndex < movingPointCount; ++pointIndex) {
+            double weight = degreeMass[pointIndex];
+            graphSwing += swings[pointIndex] * weight;
+            graphTraction += tractions[pointIndex] * weight;
+        }
+        return new GraphDataValues(graphSwing, graphTraction);
+    }
+
+    /**
+     * Apply all the forces to the points of index [from, to), and store their swing and traction.
+     * Only the values of those points are modified, this can be called concurrently for distinct ranges
+     */
+    private void calculatePointForces(IndexedLayoutContext<V, E> layoutContext, int from, int to, double[] swings, double[] tractions) {
+        double[] forceX = layoutContext.getForceX();
+        double[] forceY = layoutContext.getForceY();
+        double[] previousForceX = layoutContext.getPreviousForceX();
+        double[] previousForceY = layoutContext.getPreviousForceY();
+        for (int pointIndex = from; pointIndex < to; ++pointIndex) {
+            for (IndexedForce<V, E> force : forces) {
+                force.apply(pointIndex, layoutContext);
+            }
+            double swingX = forceX[pointIndex] - previousForceX[pointIndex];
+            double swingY = forceY[pointIndex] - previousForceY[pointIndex];
+            swings[pointIndex] = Math.sqrt(swingX * swingX + swingY * swingY);
+            double tractionX = forceX[pointIndex] + previousForceX[pointIndex];
+            double tractionY = forceY[pointIndex] + previousForceY[pointIndex];
+            tractions[pointIndex] = Math.sqrt(tractionX * tractionX + tractionY * tractionY) / 2.;
+        }
+    }
+
+    private record GraphDataValues(double graphSwing, double graphTraction) {
+    }
+
+    /**
+     * Move all the moving points given their forces, then keep the forces as the previous forces for the next step
+     */
+    private void updateAllPositions(IndexedLayoutContext<V, E> layoutContext, double graphSpeed, double[] swings) {
+        double[] positionX = layoutContext.getPositionX();
+        double[] positionY = layoutContext.getPositionY();
+        double[] forceX = layoutContext.getForceX();
+        double[] forceY = layoutContext.getForceY();
+        for (int pointIndex = 0; pointIndex < layoutContext.getMovingPointCount(); ++pointIndex) {
+            double speedFactor = layoutParameters.getSpeedFactor()
+                    * graphSpeed
+                    / (1 + graphSpeed * Math.sqrt(swings[pointIndex]));
+            double forceMagnitude = Math.sqrt(forceX[pointIndex] * forceX[pointIndex] + forceY[pointIndex] * forceY[pointIndex]);
+            if (forceMagnitude != 0) {
+                speedFactor = Math.min(speedFactor, layoutParameters.getMaxSpeedFactor() / forceMagnitude);
+            }
+            // Displacement = speed * force (this is not physically correct but this is what Atlas2 does)
+            positionX[pointIndex] += forceX[pointIndex] * speedFactor;
+            positionY[pointIndex] += forceY[pointIndex] * speedFactor;
+        }
+        layoutContext.shiftForces();
+    }
+}
@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.algorithms;
+
+import com.powsybl.diagram.util.instrumentation.DiagramCounter;
+import com.powsybl.diagram.util.layout.algorithms.parameters.BasicForceLayoutParameters;
+import com.powsybl.diagram.util.layout.forces.*;
+import com.powsybl.diagram.util.layout.geometry.FlatQuadtree;
+import com.powsybl.diagram.util.layout.geometry.IndexedLayoutContext;
+import com.powsybl.diagram.util.layout.geometry.LayoutContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Same algorithm as {@link BasicForceLayoutAlgorithm}, working on the primitive arrays of an {@link IndexedLayoutContext} instead of the maps
+ * of points. For a given layout context, both algorithms give the same positions.
+ * @author agent {@literal <agent at local>}
+ */
+public class IndexedBasicForceLayoutAlgorithm<V, E> implements IndexedLayoutAlgorithm<V, E> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(IndexedBasicForceLayoutAlgorithm.class);
+
+    private final BasicForceLayoutParameters layoutParameters;
+    private final List<IndexedForce<V, E>> forces = new ArrayList<>();
+    private final FlatQuadtree quadtree = new FlatQuadtree();
+
+    public IndexedBasicForceLayoutAlgorithm(BasicForceLayoutParameters layoutParameters) {
+        Objects.requireNonNull(layoutParameters);
+        this.forces.add(new SpringForce<>());
+        if (layoutParameters.isBarnesHutEnabled()) {
+            this.forces.add(new CoulombForceBarnesHut<>(
+                layoutParameters.getRepulsionIntensity(),
+                layoutParameters.getBarnesHutTheta(),
+                this.quadtree
+            ));
+        } else {
+            this.forces.add(new CoulombForce<>(
+                layoutParameters.getRepulsionIntensity(),
+                layoutParameters.isRepulsionFromFixedPointsEnabled()
+            ));
+        }
+        if (layoutParameters.isAttractToCenterEnabled()) {
+            this.forces.add(new AttractToCenterForceLinear<>(layoutParameters.getRepulsionIntensity() / 200));
+        }
+        this.layoutParameters = layoutParameters;
+    }
+
+    @Override
+    public void run(IndexedLayoutContext<V, E> layoutContext) {
+        Objects.requireNonNull(layoutContext);
+        forces.forEach(f -> f.init(layoutContext));
+        layoutContext.resetForces();
+
+        int i;
+        int quadtreeRebuildCount = 0;
+        // the quadtree is built directly on the arrays of the layout context, its leaves follow the points
+        double[] quadtreeMass = new double[layoutContext.getPointCount()];
+        int[] quadtreePoints = getQuadtreePoints(layoutContext, quadtreeMass);
+        boolean quadtreeBuilt = false;
+        long t0 = System.currentTimeMillis();
+        for (i = 0; i < layoutParameters.getMaxSteps(); ++i) {
+            if (layoutParameters.isBarnesHutEnabled()
+                    && (!quadtreeBuilt || !layoutParameters.isQuadtreeRefitEnabled() || !quadtree.refit())) {
+                quadtree.build(layoutContext.getPositionX(), layoutContext.getPositionY(), quadtreeMass, quadtreePoints, quadtreePoints.length);
+                quadtreeBuilt = true;
+                ++quadtreeRebuildCount;
+            }
+            for (int pointIndex = 0; pointIndex < layoutContext.getMovingPointCount(); ++pointIndex) {
+                for (IndexedForce<V, E> force : forces) {
+                    force.apply(pointIndex, layoutContext);
+                }
+            }
+            updateVelocity(layoutContext);
+            updatePosition(layoutContext);
+
+            if (isStable(layoutContext) || isOverDurationLimit(t0)) {
+                break;
+            }
+        }
+        LOGGER.info("Layout calculated in {} steps", i);
+        layoutContext.getLayoutContext().getInstrumentation().count(DiagramCounter.ITERATIONS, i);
+        layoutContext.getLayoutContext().getInstrumentation().count(DiagramCounter.QUADTREE_REBUILDS, quadtreeRebuildCount);
+    }
+
+    @Override
+    public void run(LayoutContext<V, E> layoutContext) {
+        Objects.requireNonNull(layoutContext);
+        IndexedLayoutContext<V, E> indexedLayoutContext = new IndexedLayoutContext<>(layoutContext);
+        run(indexedLayoutContext);
+        indexedLayoutContext.writePointPositions();
+        indexedLayoutContext.writePointVelocities();
+    }
+
+    /**
+     * Fill <code>mass</code> with a mass of 1 for each point of the quadtree, and return the indexes of the points to put in the quadtree.
+     * The points are in the same order as the points of the quadtree of {@link BasicForceLayoutAlgorithm}, so that both quadtrees are the same
+     */
+    private int[] getQuadtreePoints(IndexedLayoutContext<V, E> layoutContext, double[] mass) {
+        LayoutContext<V, E> mapLayoutContext = layoutContext.getLayoutContext();
+        Set<V> vertices = layoutParameters.isRepulsionFromFixedPointsEnabled()
+            ? mapLayoutContext.getAllPoints().keySet()
+            : mapLayoutContext.getMovingPoints().keySet();
+        int[] points = new int[vertices.size()];
+        int i = 0;
+        for (V vertex : vertices) {
+            int pointIndex = layoutContext.getIndex(vertex);
+            mass[pointIndex] = 1;
+            points[i++] = pointIndex;
+        }
+        return points;
+    }
+
+    private boolean isOverDurationLimit(long t0) {
+        long layoutTimeSpent = System.currentTimeMillis() - t0;
+        boolean over = layoutTimeSpent > 1000 * layoutParameters.getTimeoutSeconds();
+        if (over) {
+            LOGGER.info("Layout calculation timeout {}s, stopping the iteration", layoutTimeSpent / 1000.);
+        }
+        return over;
+    }
+
+    private void updateVelocity(IndexedLayoutContext<V, E> layoutContext) {
+        double[] forceX = layoutContext.getForceX();
+        double[] forceY = layoutContext.getForceY();
+        double[] velocityX = layoutContext.getVelocityX();
+        double[] velocityY = layoutContext.getVelocityY();
+        double[] mass = layoutContext.getMass();
+        for (int pointIndex = 0; pointIndex < layoutContext.getMovingPointCount(); ++pointIndex) {
+            double velocityFactor = (1 - Math.exp(-layoutParameters.getDeltaTime() * layoutParameters.getFrictionIntensity() / mass[pointIndex])) / layoutParameters.getFrictionIntensity();
+            double newVelocityX = forceX[pointIndex] * velocityFactor;
+            double newVelocityY = forceY[pointIndex] * velocityFactor;
+            double velocityMagnitude = Math.sqrt(newVelocityX * newVelocityX + newVelocityY * newVelocityY);
+            if (velocityMagnitude > layoutParameters.getMaxSpeed()) {
+                newVelocityX = newVelocityX / velocityMagnitude * layoutParameters.getMaxSpeed();
+                newVelocityY = newVelocityY / velocityMagnitude * layoutParameters.getMaxSpeed();
+            }
+            velocityX[pointIndex] = newVelocityX;
+            velocityY[pointIndex] = newVelocityY;
+        }
+        layoutContext.resetForces();
+    }
+
+    private void updatePosition(IndexedLayoutContext<V, E> layoutContext) {
+        // Here we only update the position for the nodes that do not have fixed positions
+        double[] velocityX = layoutContext.getVelocityX();
+        double[] velocityY = layoutContext.getVelocityY();
+        for (int pointIndex = 0; pointIndex < layoutContext.getMovingPointCount(); ++pointIndex) {
+            layoutContext.getPositionX()[pointIndex] += velocityX[pointIndex] * layoutParameters.getDeltaTime();
+            layoutContext.getPositionY()[pointIndex] += velocityY[pointIndex] * layoutParameters.getDeltaTime();
+        }
+    }
+
+    private boolean isStable(IndexedLayoutContext<V, E> layoutContext) {
+        double[] velocityX = layoutContext.getVelocityX();
+        double[] velocityY = layoutContext.getVelocityY();
+        double[] mass = layoutContext.getMass();
+        for (int pointIndex = 0; pointIndex < layoutContext.getMovingPointCount(); ++pointIndex) {
+            double energy = 0.5 * mass[pointIndex] * (velocityX[pointIndex] * velocityX[pointIndex] + velocityY[pointIndex] * velocityY[pointIndex]);
+            // written this way so that a NaN energy is not considered stable
+            if (!(energy < layoutParameters.getMinEnergyThreshold())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
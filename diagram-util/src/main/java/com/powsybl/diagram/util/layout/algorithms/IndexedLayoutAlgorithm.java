@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.algorithms;
+
+import com.powsybl.diagram.util.layout.geometry.IndexedLayoutContext;
+import com.powsybl.diagram.util.layout.geometry.LayoutContext;
+
+import java.util.Objects;
+
+/**
+ * A layout algorithm working on the primitive arrays of an {@link IndexedLayoutContext}. It can be used wherever a {@link LayoutAlgorithm} is expected:
+ * the indexed context is then built from the map-based layout context, and the resulting positions are written back to its points.
+ * @author agent {@literal <agent at local>}
+ */
+public interface IndexedLayoutAlgorithm<V, E> extends LayoutAlgorithm<V, E> {
+    /**
+     * Place the moving points of <code>layoutContext</code>, see {@link LayoutAlgorithm#run(LayoutContext)}.
+     * The positions are only updated in the arrays of <code>layoutContext</code>
+     * @param layoutContext the indexed context of the layout, the graph and the position of points
+     */
+    void run(IndexedLayoutContext<V, E> layoutContext);
+
+    @Override
+    default void run(LayoutContext<V, E> layoutContext) {
+        Objects.requireNonNull(layoutContext);
+        IndexedLayoutContext<V, E> indexedLayoutContext = new IndexedLayoutContext<>(layoutContext);
+        run(indexedLayoutContext);
+        indexedLayoutContext.writePointPositions();
+    }
+}
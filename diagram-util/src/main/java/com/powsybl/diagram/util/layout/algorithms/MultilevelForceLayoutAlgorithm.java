@@ -0,0 +1,395 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.algorithms;
+
+import com.powsybl.diagram.util.instrumentation.DiagramInstrumentation;
+import com.powsybl.diagram.util.layout.algorithms.parameters.Atlas2Parameters;
+import com.powsybl.diagram.util.layout.algorithms.parameters.MultilevelParameters;
+import com.powsybl.diagram.util.layout.geometry.IndexedLayoutContext;
+import com.powsybl.diagram.util.layout.geometry.LayoutContext;
+import com.powsybl.diagram.util.layout.geometry.Point;
+import com.powsybl.diagram.util.layout.geometry.Vector2D;
+import org.jgrapht.Graphs;
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.SimpleGraph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * A multilevel layout: the graph is coarsened into smaller and smaller graphs by merging vertices, the coarsest graph is laid out
+ * with Atlas2, then the positions are brought back level by level to the original graph, with a few Atlas2 steps at each level to refine them.
+ * <p>The first coarsening merges the vertices having the same grouping key (for example the voltage levels of a same substation), the
+ * following ones merge each vertex with the neighbour it has the heaviest edge with (heavy edge matching). Fixed points are never merged.</p>
+ * <p>This is much faster than running Atlas2 on the original graph from a random start, as most of the untangling is done on small graphs.</p>
+ * @author agent {@literal <agent at local>}
+ */
+public class MultilevelForceLayoutAlgorithm<V, E> implements LayoutAlgorithm<V, E> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MultilevelForceLayoutAlgorithm.class);
+    /**
+     * The seed used for the offset of merged vertices when going to a finer level
+     */
+    private static final long PROLONGATION_SEED = 3L;
+    private static final int NO_VERTEX = -1;
+
+    private final MultilevelParameters parameters;
+    private final Function<? super V, ?> groupingKey;
+
+    /**
+     * @param parameters the parameters of the multilevel layout
+     * @param groupingKey gives the key of each vertex for the first coarsening, vertices with the same key are merged together.
+     *                    A null key means the vertex is not merged during the first coarsening
+     */
+    public MultilevelForceLayoutAlgorithm(MultilevelParameters parameters, Function<? super V, ?> groupingKey) {
+        this.parameters = Objects.requireNonNull(parameters);
+        this.groupingKey = Objects.requireNonNull(groupingKey);
+    }
+
+    /**
+     * Use the multilevel layout without grouping the vertices for the first coarsening
+     */
+    public MultilevelForceLayoutAlgorithm(MultilevelParameters parameters) {
+        this(parameters, vertex -> null);
+    }
+
+    /**
+     * Use the multilevel layout with default parameters
+     */
+    public MultilevelForceLayoutAlgorithm() {
+        this(new MultilevelParameters.Builder().build());
+    }
+
+    @Override
+    public void run(LayoutContext<V, E> layoutContext) {
+        Objects.requireNonNull(layoutContext);
+        List<V> vertices = new ArrayList<>(layoutContext.getSimpleGraph().vertexSet());
+        List<Level> levels = coarsen(Level.of(layoutContext, vertices), vertices);
+        if (levels.size() == 1) {
+            // the graph is small enough, or cannot be coarsened
+            new IndexedAtlas2ForceLayoutAlgorithm<V, E>(parameters.getCoarsestLayoutParameters()).run(layoutContext);
+            return;
+        }
+        LOGGER.info("{} levels, from {} to {} vertices", levels.size(), vertices.size(), levels.getLast().size);
+
+        for (int i = 1; i < levels.size(); ++i) {
+            levels.get(i - 1).restrictPositions(levels.get(i));
+        }
+        Vector2D center = layoutContext.getCenter();
+        levels.getLast().layout(parameters.getCoarsestLayoutParameters(), center, layoutContext.getInstrumentation());
+        Random random = new Random(PROLONGATION_SEED);
+        for (int i = levels.size() - 2; i >= 0; --i) {
+            levels.get(i).prolongPositions(levels.get(i + 1), parameters.getProlongationJitter(), random);
+            if (i > 0) {
+                levels.get(i).layout(parameters.getRefinementLayoutParameters(), center, layoutContext.getInstrumentation());
+            }
+        }
+
+        Level finest = levels.getFirst();
+        for (int i = 0; i < vertices.size(); ++i) {
+            Point point = layoutContext.getMovingPoints().get(vertices.get(i));
+            if (point != null) {
+                point.getPosition().set(finest.positionX[i], finest.positionY[i]);
+            }
+        }
+        new IndexedAtlas2ForceLayoutAlgorithm<V, E>(parameters.getRefinementLayoutParameters()).run(layoutContext);
+    }
+
+    /**
+     * Build the coarser levels of the graph, until the coarsest graph is small enough or the coarsening does not reduce the graph enough
+     * @return all the levels, starting with the given finest level
+     */
+    private List<Level> coarsen(Level finest, List<V> vertices) {
+        List<Level> levels = new ArrayList<>();
+        levels.add(finest);
+        Level current = finest;
+        if (current.size > parameters.getCoarsestGraphSize() && parameters.getMaxLevels() > 0) {
+            Coarsening grouping = groupVertices(current, vertices);
+            if (grouping.coarseSize() < current.size) {
+                current = current.coarsen(grouping);
+                levels.add(current);
+            }
+        }
+        while (current.size > parameters.getCoarsestGraphSize() && levels.size() <= parameters.getMaxLevels()) {
+            Coarsening matching = current.heavyEdgeMatching();
+            if (matching.coarseSize() > parameters.getMaxCoarseningRatio() * current.size) {
+                break;
+            }
+            current = current.coarsen(matching);
+            levels.add(current);
+        }
+        return levels;
+    }
+
+    private Coarsening groupVertices(Level level, List<V> vertices) {
+        int[] coarseVertex = new int[level.size];
+        Map<Object, Integer> groups = new HashMap<>();
+        int coarseSize = 0;
+        for (int i = 0; i < level.size; ++i) {
+            Object key = level.fixed[i] ? null : groupingKey.apply(vertices.get(i));
+            if (key == null) {
+                coarseVertex[i] = coarseSize++;
+            } else {
+                Integer group = groups.get(key);
+                if (group == null) {
+                    group = coarseSize++;
+                    groups.put(key, group);
+                }
+                coarseVertex[i] = group;
+            }
+        }
+        return new Coarsening(coarseVertex, coarseSize);
+    }
+
+    /**
+     * The vertex each vertex of a level is merged into, in the coarser level
+     */
+    private record Coarsening(int[] coarseVertex, int coarseSize) {
+    }
+
+    /**
+     * A level of the multilevel layout, the vertices are identified by their index. The weight of a vertex is the number of vertices of the original
+     * graph it contains, the weight of an edge is the number of edges of the original graph it contains
+     */
+    private static final class Level {
+        private final int size;
+        private final double[] vertexWeight;
+        private final boolean[] fixed;
+        private int[][] neighbours;
+        private double[][] edgeWeights;
+        private final double[] positionX;
+        private final double[] positionY;
+        /**
+         * The vertex of the coarser level each vertex is merged into
+         */
+        private int[] coarseVertex;
+
+        private Level(int size) {
+            this.size = size;
+            this.vertexWeight = new double[size];
+            this.fixed = new boolean[size];
+            this.positionX = new double[size];
+            this.positionY = new double[size];
+        }
+
+        private static <V> Level of(LayoutContext<V, ?> layoutContext, List<V> vertices) {
+            Level level = new Level(vertices.size());
+            Map<V, Integer> indexes = new HashMap<>();
+            for (int i = 0; i < vertices.size(); ++i) {
+                indexes.put(vertices.get(i), i);
+            }
+            level.neighbours = new int[level.size][];
+            level.edgeWeights = new double[level.size][];
+            SimpleGraph<V, DefaultEdge> graph = layoutContext.getSimpleGraph();
+            for (int i = 0; i < vertices.size(); ++i) {
+                V vertex = vertices.get(i);
+                level.vertexWeight[i] = 1;
+                level.fixed[i] = layoutContext.getFixedPoints().containsKey(vertex);
+                Vector2D position = layoutContext.getAllPoints().get(vertex).getPosition();
+                level.positionX[i] = position.getX();
+                level.positionY[i] = position.getY();
+                Set<DefaultEdge> edges = graph.edgesOf(vertex);
+                level.neighbours[i] = new int[edges.size()];
+                level.edgeWeights[i] = new double[edges.size()];
+                int k = 0;
+                for (DefaultEdge edge : edges) {
+                    level.neighbours[i][k] = indexes.get(Graphs.getOppositeVertex(graph, edge, vertex));
+                    level.edgeWeights[i][k] = 1;
+                    ++k;
+                }
+            }
+            return level;
+        }
+
+        /**
+         * Merge each vertex with its unmatched neighbour having the heaviest edge relative to the weights of both vertices. The lightest vertices
+         * are matched first, so that the weights of the vertices of the coarser level stay balanced
+         */
+        private Coarsening heavyEdgeMatching() {
+            int[] matchedVertex = new int[size];
+            Arrays.fill(matchedVertex, NO_VERTEX);
+            int[] order = IntStream.range(0, size)
+                    .boxed()
+                    .sorted(Comparator.comparingDouble(i -> vertexWeight[i]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            int coarseSize = 0;
+            for (int vertex : order) {
+                if (matchedVertex[vertex] != NO_VERTEX) {
+                    continue;
+                }
+                int bestNeighbour = NO_VERTEX;
+                double bestScore = 0;
+                for (int k = 0; !fixed[vertex] && k < neighbours[vertex].length; ++k) {
+                    int neighbour = neighbours[vertex][k];
+                    if (matchedVertex[neighbour] == NO_VERTEX && !fixed[neighbour]) {
+                        double score = edgeWeights[vertex][k] / (vertexWeight[vertex] * vertexWeight[neighbour]);
+                        if (score > bestScore) {
+                            bestScore = score;
+                            bestNeighbour = neighbour;
+                        }
+                    }
+                }
+                matchedVertex[vertex] = coarseSize;
+                if (bestNeighbour != NO_VERTEX) {
+                    matchedVertex[bestNeighbour] = coarseSize;
+                }
+                ++coarseSize;
+            }
+            return new Coarsening(matchedVertex, coarseSize);
+        }
+
+        /**
+         * @return the coarser level where the vertices are merged following <code>coarsening</code>, the edges between merged vertices are summed
+         */
+        private Level coarsen(Coarsening coarsening) {
+            this.coarseVertex = coarsening.coarseVertex();
+            Level coarse = new Level(coarsening.coarseSize());
+            List<Map<Integer, Double>> coarseEdges = new ArrayList<>(coarse.size);
+            for (int i = 0; i < coarse.size; ++i) {
+                coarseEdges.add(new LinkedHashMap<>());
+            }
+            for (int vertex = 0; vertex < size; ++vertex) {
+                int coarseIndex = coarseVertex[vertex];
+                coarse.vertexWeight[coarseIndex] += vertexWeight[vertex];
+                coarse.fixed[coarseIndex] |= fixed[vertex];
+                for (int k = 0; k < neighbours[vertex].length; ++k) {
+                    int coarseNeighbour = coarseVertex[neighbours[vertex][k]];
+                    if (coarseNeighbour != coarseIndex) {
+                        coarseEdges.get(coarseIndex).merge(coarseNeighbour, edgeWeights[vertex][k], Double::sum);
+                    }
+                }
+            }
+            coarse.neighbours = new int[coarse.size][];
+            coarse.edgeWeights = new double[coarse.size][];
+            for (int i = 0; i < coarse.size; ++i) {
+                Map<Integer, Double> edges = coarseEdges.get(i);
+                coarse.neighbours[i] = edges.keySet().stream().mapToInt(Integer::intValue).toArray();
+                coarse.edgeWeights[i] = edges.values().stream().mapToDouble(Double::doubleValue).toArray();
+            }
+            return coarse;
+        }
+
+        /**
+         * Give to each vertex of the coarser level the position of the first vertex merged into it
+         */
+        private void restrictPositions(Level coarse) {
+            boolean[] positioned = new boolean[coarse.size];
+            for (int vertex = 0; vertex < size; ++vertex) {
+                int coarseIndex = coarseVertex[vertex];
+                if (!positioned[coarseIndex]) {
+                    coarse.positionX[coarseIndex] = positionX[vertex];
+                    coarse.positionY[coarseIndex] = positionY[vertex];
+                    positioned[coarseIndex] = true;
+                }
+            }
+        }
+
+        /**
+         * Give to each vertex the position of the vertex it is merged into in the coarser level, with a random offset if several vertices are merged
+         * into it. Fixed vertices are never merged and keep their position
+         */
+        private void prolongPositions(Level coarse, double prolongationJitter, Random random) {
+            double averageEdgeLength = coarse.getAverageEdgeLength();
+            double jitter = prolongationJitter * (averageEdgeLength > 0 ? averageEdgeLength : 1);
+            for (int vertex = 0; vertex < size; ++vertex) {
+                if (fixed[vertex]) {
+                    continue;
+                }
+                int coarseIndex = coarseVertex[vertex];
+                positionX[vertex] = coarse.positionX[coarseIndex];
+                positionY[vertex] = coarse.positionY[coarseIndex];
+                if (coarse.vertexWeight[coarseIndex] > vertexWeight[vertex]) {
+                    positionX[vertex] += jitter * (2 * random.nextDouble() - 1);
+                    positionY[vertex] += jitter * (2 * random.nextDouble() - 1);
+                }
+            }
+        }
+
+        private double getAverageEdgeLength() {
+            double totalLength = 0;
+            int edgeCount = 0;
+            for (int vertex = 0; vertex < size; ++vertex) {
+                for (int neighbour : neighbours[vertex]) {
+                    if (vertex < neighbour) {
+                        totalLength += Math.hypot(positionX[vertex] - positionX[neighbour], positionY[vertex] - positionY[neighbour]);
+                        ++edgeCount;
+                    }
+                }
+            }
+            return edgeCount > 0 ? totalLength / edgeCount : 0;
+        }
+
+        /**
+         * Run Atlas2 on the graph of this level, starting from the current positions, with the weights of the vertices and edges
+         */
+        private void layout(Atlas2Parameters layoutParameters, Vector2D center, DiagramInstrumentation instrumentation) {
+            SimpleGraph<Integer, DefaultEdge> graph = new SimpleGraph<>(DefaultEdge.class);
+            for (int vertex = 0; vertex < size; ++vertex) {
+                graph.addVertex(vertex);
+            }
+            for (int vertex = 0; vertex < size; ++vertex) {
+                for (int neighbour : neighbours[vertex]) {
+                    if (vertex < neighbour) {
+                        graph.addEdge(vertex, neighbour);
+                    }
+                }
+            }
+            LayoutContext<Integer, DefaultEdge> layoutContext = new LayoutContext<>(graph);
+            layoutContext.setCenter(new Vector2D(center));
+            layoutContext.setInstrumentation(instrumentation);
+            for (int vertex = 0; vertex < size; ++vertex) {
+                Point point = new Point(positionX[vertex], positionY[vertex]);
+                if (fixed[vertex]) {
+                    layoutContext.getFixedPoints().put(vertex, point);
+                } else {
+                    layoutContext.getMovingPoints().put(vertex, point);
+                }
+            }
+            layoutContext.getAllPoints().putAll(layoutContext.getMovingPoints());
+            layoutContext.getAllPoints().putAll(layoutContext.getFixedPoints());
+
+            IndexedLayoutContext<Integer, DefaultEdge> indexedLayoutContext = new IndexedLayoutContext<>(layoutContext);
+            setWeights(indexedLayoutContext);
+            new IndexedAtlas2ForceLayoutAlgorithm<Integer, DefaultEdge>(layoutParameters).run(indexedLayoutContext);
+
+            for (int vertex = 0; vertex < size; ++vertex) {
+                int index = indexedLayoutContext.getIndex(vertex);
+                positionX[vertex] = indexedLayoutContext.getPositionX()[index];
+                positionY[vertex] = indexedLayoutContext.getPositionY()[index];
+            }
+        }
+
+        /**
+         * Give to the points the weights of the vertices and edges they stand for: the attraction of an edge is multiplied by the number of
+         * original edges it contains, and the degree-based mass of a vertex is the number of original vertices it contains plus the number
+         * of original edges leaving it, which is <code>degree + 1</code> for a vertex that was not merged
+         */
+        private void setWeights(IndexedLayoutContext<Integer, DefaultEdge> indexedLayoutContext) {
+            double[] degreeMass = indexedLayoutContext.getDegreeMass();
+            int[] neighborOffsets = indexedLayoutContext.getNeighborOffsets();
+            int[] neighbors = indexedLayoutContext.getNeighbors();
+            double[] attractionWeights = indexedLayoutContext.getNeighborAttractionWeights();
+            double[] weightToNeighbour = new double[size];
+            for (int vertex = 0; vertex < size; ++vertex) {
+                int index = indexedLayoutContext.getIndex(vertex);
+                double mass = vertexWeight[vertex];
+                for (int k = 0; k < neighbours[vertex].length; ++k) {
+                    weightToNeighbour[neighbours[vertex][k]] = edgeWeights[vertex][k];
+                    mass += edgeWeights[vertex][k];
+                }
+                degreeMass[index] = mass;
+                for (int n = neighborOffsets[index]; n < neighborOffsets[index + 1]; ++n) {
+                    attractionWeights[n] = weightToNeighbour[indexedLayoutContext.getVertex(neighbors[n])];
+                }
+            }
+        }
+    }
+}
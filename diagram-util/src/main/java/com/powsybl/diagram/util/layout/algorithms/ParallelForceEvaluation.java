@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.algorithms;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Helpers to split the per-point force calculation of a time step across several threads.
+ * Each task only writes the values of the points of its own range, the results do not depend on the number of tasks.
+ * @author agent {@literal <agent at local>}
+ */
+final class ParallelForceEvaluation {
+
+    @FunctionalInterface
+    interface RangeTask {
+        /**
+         * @param from the index of the first point of the range, inclusive
+         * @param to the index of the last point of the range, exclusive
+         */
+        void run(int from, int to);
+    }
+
+    private ParallelForceEvaluation() {
+    }
+
+    /**
+     * Split [0, size) in at most <code>parallelism</code> contiguous ranges, run <code>task</code> on each of them using
+     * <code>executor</code>, and wait for all of them to finish
+     */
+    static void runInRanges(int size, int parallelism, Executor executor, RangeTask task) {
+        int rangeCount = Math.min(parallelism, size);
+        if (rangeCount <= 1) {
+            task.run(0, size);
+            return;
+        }
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[rangeCount];
+        for (int range = 0; range < rangeCount; ++range) {
+            int from = (int) ((long) size * range / rangeCount);
+            int to = (int) ((long) size * (range + 1) / rangeCount);
+            futures[range] = CompletableFuture.runAsync(() -> task.run(from, to), executor);
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -7,6 +7,14 @@
  */
 package com.powsybl.diagram.util.layout.algorithms.parameters;
 
+import com.powsybl.diagram.util.layout.algorithms.quadtreeupdateschedule.ConstantSchedule;
+import com.powsybl.diagram.util.layout.algorithms.quadtreeupdateschedule.QuadtreeUpdateSchedule;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
 /**
  * @author Nathan Dissoubray {@literal <nathan.dissoubray at rte-france.com>}
  */
@@ -26,6 +34,8 @@ public final class Atlas2Parameters {
      * By Robert Gove, Two Six Labs, for an explanation
      */
     private static final int DEFAULT_QUADTREE_CALCULATION_INCREMENT = 13;
+    private static final boolean DEFAULT_QUADTREE_REFIT_ENABLED = false;
+    private static final int DEFAULT_PARALLELISM = 1;
 
     private final int maxSteps;
     private final double repulsionIntensity;
@@ -38,6 +48,10 @@ public final class Atlas2Parameters {
     private final boolean attractToCenterEnabled;
     private final double barnesHutTheta;
     private final int quadtreeCalculationIncrement;
+    private final Supplier<? extends QuadtreeUpdateSchedule> quadtreeUpdateScheduleSupplier;
+    private final boolean quadtreeRefitEnabled;
+    private final int parallelism;
+    private final Executor executor;
 
     private Atlas2Parameters(
             int maxSteps,
@@ -50,7 +64,11 @@ public final class Atlas2Parameters {
             double maxGlobalSpeedIncreaseRatio,
             boolean attractToCenterEnabled,
             double barnesHutTheta,
-            int quadtreeCalculationIncrement
+            int quadtreeCalculationIncrement,
+            Supplier<? extends QuadtreeUpdateSchedule> quadtreeUpdateScheduleSupplier,
+            boolean quadtreeRefitEnabled,
+            int parallelism,
+            Executor executor
     ) {
         this.maxSteps = maxSteps;
         this.repulsionIntensity = repulsionIntensity;
@@ -63,6 +81,10 @@ public final class Atlas2Parameters {
         this.attractToCenterEnabled = attractToCenterEnabled;
         this.barnesHutTheta = barnesHutTheta;
         this.quadtreeCalculationIncrement = quadtreeCalculationIncrement;
+        this.quadtreeUpdateScheduleSupplier = quadtreeUpdateScheduleSupplier;
+        this.quadtreeRefitEnabled = quadtreeRefitEnabled;
+        this.parallelism = parallelism;
+        this.executor = executor;
     }
 
     public static class Builder {
@@ -77,6 +99,10 @@ public final class Atlas2Parameters {
         private boolean attractToCenterEnabled = DEFAULT_ATTRACT_TO_CENTER_ENABLED;
         private double barnesHutTheta = DEFAULT_BARNES_HUT_THETA;
         private int quadtreeCalculationIncrement = DEFAULT_QUADTREE_CALCULATION_INCREMENT;
+        private Supplier<? extends QuadtreeUpdateSchedule> quadtreeUpdateScheduleSupplier = null;
+        private boolean quadtreeRefitEnabled = DEFAULT_QUADTREE_REFIT_ENABLED;
+        private int parallelism = DEFAULT_PARALLELISM;
+        private Executor executor = ForkJoinPool.commonPool();
 
         /**
          * Change the maximum number of iteration the algorithm is allowed to run,
@@ -225,6 +251,58 @@ public final class Atlas2Parameters {
             return this;
         }
 
+        /**
+         * Use another schedule than the constant one to decide when the quadtree is calculated again, for example a
+         * {@link com.powsybl.diagram.util.layout.algorithms.quadtreeupdateschedule.DisplacementSchedule DisplacementSchedule} or a
+         * {@link com.powsybl.diagram.util.layout.algorithms.quadtreeupdateschedule.DecayingSchedule DecayingSchedule}.
+         * A schedule has a state, a new one is created for each run of the layout. When set, the `quadtreeCalculationIncrement` is not used.
+         * Default is a {@link ConstantSchedule} using the `quadtreeCalculationIncrement`
+         * @param quadtreeUpdateScheduleSupplier creates the schedule for a run of the layout
+         * @return the instance of this Builder with the `quadtreeUpdateScheduleSupplier` changed
+         */
+        public Builder withQuadtreeUpdateSchedule(Supplier<? extends QuadtreeUpdateSchedule> quadtreeUpdateScheduleSupplier) {
+            this.quadtreeUpdateScheduleSupplier = Objects.requireNonNull(quadtreeUpdateScheduleSupplier);
+            return this;
+        }
+
+        /**
+         * When it's time to calculate the quadtree again, only update the barycenters of its nodes if all the points moved less than the width
+         * of their leaf node since the quadtree was built, instead of building it again. This is faster, but the structure of the quadtree is kept,
+         * which changes the resulting layout compared to building it again. Default is {@value DEFAULT_QUADTREE_REFIT_ENABLED}
+         * @param quadtreeRefitEnabled whether to update the barycenters of the quadtree in place when possible
+         * @return the instance of this Builder with the `quadtreeRefitEnabled` changed
+         */
+        public Builder withQuadtreeRefitEnabled(boolean quadtreeRefitEnabled) {
+            this.quadtreeRefitEnabled = quadtreeRefitEnabled;
+            return this;
+        }
+
+        /**
+         * Number of tasks the calculation of the forces is split into at each step. A value of 1 means the forces are calculated sequentially
+         * on the calling thread. The resulting layout is the same whatever the parallelism, this is only worth it on large graphs.
+         * Default is {@value DEFAULT_PARALLELISM}
+         * @param parallelism how many tasks to split the force calculation into
+         * @return the instance of this Builder with the `parallelism` changed
+         */
+        public Builder withParallelism(int parallelism) {
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException("The parallelism has to be strictly positive");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * The executor running the tasks of the force calculation when the parallelism is greater than 1.
+         * Default is the common {@link ForkJoinPool}
+         * @param executor the executor to use for the parallel force calculation
+         * @return the instance of this Builder with the `executor` changed
+         */
+        public Builder withExecutor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor);
+            return this;
+        }
+
         public Atlas2Parameters build() {
             return new Atlas2Parameters(
                     maxSteps,
@@ -237,7 +315,11 @@ public final class Atlas2Parameters {
                     maxGlobalSpeedIncreaseRatio,
                     attractToCenterEnabled,
                     barnesHutTheta,
-                    quadtreeCalculationIncrement
+                    quadtreeCalculationIncrement,
+                    quadtreeUpdateScheduleSupplier,
+                    quadtreeRefitEnabled,
+                    parallelism,
+                    executor
             );
         }
     }
@@ -289,5 +371,29 @@ public final class Atlas2Parameters {
     public int getQuadtreeCalculationIncrement() {
         return quadtreeCalculationIncrement;
     }
-}
 
+    /**
+     * @return a new schedule deciding when to calculate the quadtree again, for a run of the layout
+     */
+    public QuadtreeUpdateSchedule createQuadtreeUpdateSchedule() {
+        return quadtreeUpdateScheduleSupplier != null
+                ? quadtreeUpdateScheduleSupplier.get()
+                : new ConstantSchedule(quadtreeCalculationIncrement);
+    }
+
+    public boolean isQuadtreeRefitEnabled() {
+        return quadtreeRefitEnabled;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public boolean isParallelismEnabled() {
+        return parallelism > 1;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+}
@@ -21,6 +21,8 @@ public final class BasicForceLayoutParameters {
     private static final double DEFAULT_MAX_SPEED = 100;
     private static final boolean DEFAULT_REPULSION_FROM_FIXED_POINTS_ENABLED = true;
     private static final boolean DEFAULT_ATTRACT_TO_CENTER_ENABLED = true;
+    private static final double DEFAULT_BARNES_HUT_THETA = 0;
+    private static final boolean DEFAULT_QUADTREE_REFIT_ENABLED = false;
 
     private final int maxSteps;
     private final double timeoutSeconds;
@@ -31,6 +33,8 @@ public final class BasicForceLayoutParameters {
     private final double maxSpeed;
     private final boolean repulsionFromFixedPointsEnabled;
     private final boolean attractToCenterEnabled;
+    private final double barnesHutTheta;
+    private final boolean quadtreeRefitEnabled;
 
     private BasicForceLayoutParameters(
             int maxSteps,
@@ -41,7 +45,9 @@ public final class BasicForceLayoutParameters {
             double frictionIntensity,
             double maxSpeed,
             boolean repulsionFromFixedPointsEnabled,
-            boolean attractToCenterEnabled
+            boolean attractToCenterEnabled,
+            double barnesHutTheta,
+            boolean quadtreeRefitEnabled
     ) {
         this.maxSteps = maxSteps;
         this.timeoutSeconds = timeoutSeconds;
@@ -52,6 +58,8 @@ public final class BasicForceLayoutParameters {
         this.maxSpeed = maxSpeed;
         this.repulsionFromFixedPointsEnabled = repulsionFromFixedPointsEnabled;
         this.attractToCenterEnabled = attractToCenterEnabled;
+        this.barnesHutTheta = barnesHutTheta;
+        this.quadtreeRefitEnabled = quadtreeRefitEnabled;
     }
 
     public static class Builder {
@@ -64,6 +72,8 @@ public final class BasicForceLayoutParameters {
         private double maxSpeed = DEFAULT_MAX_SPEED;
         private boolean repulsionFromFixedPointsEnabled = DEFAULT_REPULSION_FROM_FIXED_POINTS_ENABLED;
         private boolean attractToCenterEnabled = DEFAULT_ATTRACT_TO_CENTER_ENABLED;
+        private double barnesHutTheta = DEFAULT_BARNES_HUT_THETA;
+        private boolean quadtreeRefitEnabled = DEFAULT_QUADTREE_REFIT_ENABLED;
 
         /**
          * Change the maximum number of iteration the algorithm is allowed to run,
@@ -159,6 +169,42 @@ public final class BasicForceLayoutParameters {
             return this;
         }
 
+        /**
+         * The theta parameter used in the Barnes-Hut approximation of the repulsion between points. The bigger the theta, the more aggressive
+         * the optimization will be, but that might lead to less visual quality. A theta of 0 means the repulsion is calculated exactly between
+         * all the points, which is quadratic with the number of points. Default is {@value DEFAULT_BARNES_HUT_THETA}
+         * @param barnesHutTheta the theta for the barnes-hut optimization
+         * @return the instance of this Builder with the `barnesHutTheta` changed
+         */
+        public Builder withBarnesHutTheta(double barnesHutTheta) {
+            if (barnesHutTheta < 0) {
+                throw new IllegalArgumentException("The theta of the Barnes Hut optimization cannot be a negative value");
+            }
+            this.barnesHutTheta = barnesHutTheta;
+            return this;
+        }
+
+        /**
+         * Used to deactivate the Barnes-Hut optimization, the repulsion is then calculated exactly between all the points
+         * @return the instance of this Builder with the `barnesHutTheta` set to 0
+         */
+        public Builder withBarnesHutDisabled() {
+            this.barnesHutTheta = 0;
+            return this;
+        }
+
+        /**
+         * At each step, only update the barycenters of the nodes of the quadtree if all the points moved less than the width of their leaf node
+         * since the quadtree was built, instead of building it again. This is faster, but the structure of the quadtree is kept,
+         * which changes the resulting layout compared to building it again. Default is {@value DEFAULT_QUADTREE_REFIT_ENABLED}
+         * @param quadtreeRefitEnabled whether to update the barycenters of the quadtree in place when possible
+         * @return the instance of this Builder with the `quadtreeRefitEnabled` changed
+         */
+        public Builder withQuadtreeRefitEnabled(boolean quadtreeRefitEnabled) {
+            this.quadtreeRefitEnabled = quadtreeRefitEnabled;
+            return this;
+        }
+
         public BasicForceLayoutParameters build() {
             return new BasicForceLayoutParameters(
                     maxSteps,
@@ -169,7 +215,9 @@ public final class BasicForceLayoutParameters {
                     frictionIntensity,
                     maxSpeed,
                     repulsionFromFixedPointsEnabled,
-                    attractToCenterEnabled
+                    attractToCenterEnabled,
+                    barnesHutTheta,
+                    quadtreeRefitEnabled
             );
         }
     }
@@ -210,4 +258,16 @@ public final class BasicForceLayoutParameters {
         return attractToCenterEnabled;
     }
 
+    public double getBarnesHutTheta() {
+        return barnesHutTheta;
+    }
+
+    public boolean isBarnesHutEnabled() {
+        return barnesHutTheta > 0;
+    }
+
+    public boolean isQuadtreeRefitEnabled() {
+        return quadtreeRefitEnabled;
+    }
+
 }
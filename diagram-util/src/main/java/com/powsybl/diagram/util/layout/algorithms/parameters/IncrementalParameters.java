@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.algorithms.parameters;
+
+import java.util.Objects;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+public final class IncrementalParameters {
+    private static final int DEFAULT_RELAXATION_DEPTH = 1;
+    private static final int DEFAULT_LOCAL_STEPS = 100;
+
+    private final int relaxationDepth;
+    private final Atlas2Parameters localLayoutParameters;
+    private final Atlas2Parameters fullLayoutParameters;
+
+    private IncrementalParameters(int relaxationDepth, Atlas2Parameters localLayoutParameters, Atlas2Parameters fullLayoutParameters) {
+        this.relaxationDepth = relaxationDepth;
+        this.localLayoutParameters = localLayoutParameters;
+        this.fullLayoutParameters = fullLayoutParameters;
+    }
+
+    public static class Builder {
+        private int relaxationDepth = DEFAULT_RELAXATION_DEPTH;
+        private Atlas2Parameters localLayoutParameters = new Atlas2Parameters.Builder().withMaxSteps(DEFAULT_LOCAL_STEPS).build();
+        private Atlas2Parameters fullLayoutParameters = new Atlas2Parameters.Builder().build();
+
+        /**
+         * The points that already had a position and that are at most this number of edges away from a new point are moved by the layout,
+         * so that they make room for the new points. The points further away keep their position. Use 0 to keep all the points that already
+         * had a position where they are. Default is {@value DEFAULT_RELAXATION_DEPTH}
+         * @param relaxationDepth the maximum number of edges between a new point and a point that already had a position that can be moved
+         * @return the instance of this Builder with the `relaxationDepth` changed
+         */
+        public Builder withRelaxationDepth(int relaxationDepth) {
+            if (relaxationDepth < 0) {
+                throw new IllegalArgumentException("The relaxation depth cannot be negative");
+            }
+            this.relaxationDepth = relaxationDepth;
+            return this;
+        }
+
+        /**
+         * The parameters of the Atlas2 layout run on the neighbourhood of the new points. As the points start close to their final position,
+         * a few steps are enough, default are the default {@link Atlas2Parameters} with {@value DEFAULT_LOCAL_STEPS} max steps
+         * @param localLayoutParameters the parameters of the layout of the neighbourhood of the new points
+         * @return the instance of this Builder with the `localLayoutParameters` changed
+         */
+        public Builder withLocalLayoutParameters(Atlas2Parameters localLayoutParameters) {
+            this.localLayoutParameters = Objects.requireNonNull(localLayoutParameters);
+            return this;
+        }
+
+        /**
+         * The parameters of the Atlas2 layout run on the whole graph when no point had a position before, default are the default {@link Atlas2Parameters}
+         * @param fullLayoutParameters the parameters of the layout of the whole graph
+         * @return the instance of this Builder with the `fullLayoutParameters` changed
+         */
+        public Builder withFullLayoutParameters(Atlas2Parameters fullLayoutParameters) {
+            this.fullLayoutParameters = Objects.requireNonNull(fullLayoutParameters);
+            return this;
+        }
+
+        public IncrementalParameters build() {
+            return new IncrementalParameters(relaxationDepth, localLayoutParameters, fullLayoutParameters);
+        }
+    }
+
+    public int getRelaxationDepth() {
+        return relaxationDepth;
+    }
+
+    public Atlas2Parameters getLocalLayoutParameters() {
+        return localLayoutParameters;
+    }
+
+    public Atlas2Parameters getFullLayoutParameters() {
+        return fullLayoutParameters;
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.algorithms.parameters;
+
+import java.util.Objects;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+public final class MultilevelParameters {
+    private static final int DEFAULT_COARSEST_GRAPH_SIZE = 50;
+    private static final double DEFAULT_MAX_COARSENING_RATIO = 0.8;
+    private static final int DEFAULT_MAX_LEVELS = 30;
+    private static final double DEFAULT_PROLONGATION_JITTER = 0.1;
+    private static final int DEFAULT_REFINEMENT_STEPS = 50;
+
+    private final int coarsestGraphSize;
+    private final double maxCoarseningRatio;
+    private final int maxLevels;
+    private final double prolongationJitter;
+    private final Atlas2Parameters coarsestLayoutParameters;
+    private final Atlas2Parameters refinementLayoutParameters;
+
+    private MultilevelParameters(
+            int coarsestGraphSize,
+            double maxCoarseningRatio,
+            int maxLevels,
+            double prolongationJitter,
+            Atlas2Parameters coarsestLayoutParameters,
+            Atlas2Parameters refinementLayoutParameters
+    ) {
+        this.coarsestGraphSize = coarsestGraphSize;
+        this.maxCoarseningRatio = maxCoarseningRatio;
+        this.maxLevels = maxLevels;
+        this.prolongationJitter = prolongationJitter;
+        this.coarsestLayoutParameters = coarsestLayoutParameters;
+        this.refinementLayoutParameters = refinementLayoutParameters;
+    }
+
+    public static class Builder {
+        private int coarsestGraphSize = DEFAULT_COARSEST_GRAPH_SIZE;
+        private double maxCoarseningRatio = DEFAULT_MAX_COARSENING_RATIO;
+        private int maxLevels = DEFAULT_MAX_LEVELS;
+        private double prolongationJitter = DEFAULT_PROLONGATION_JITTER;
+        private Atlas2Parameters coarsestLayoutParameters = new Atlas2Parameters.Builder().build();
+        private Atlas2Parameters refinementLayoutParameters = new Atlas2Parameters.Builder().withMaxSteps(DEFAULT_REFINEMENT_STEPS).build();
+
+        /**
+         * The graph is not coarsened any more once it has at most this number of vertices. A graph that is already this small
+         * is directly laid out, without any coarsening. Default is {@value DEFAULT_COARSEST_GRAPH_SIZE}
+         * @param coarsestGraphSize the number of vertices under which the graph is not coarsened
+         * @return the instance of this Builder with the `coarsestGraphSize` changed
+         */
+        public Builder withCoarsestGraphSize(int coarsestGraphSize) {
+            if (coarsestGraphSize <= 0) {
+                throw new IllegalArgumentException("The size of the coarsest graph has to be strictly positive");
+            }
+            this.coarsestGraphSize = coarsestGraphSize;
+            return this;
+        }
+
+        /**
+         * Stop coarsening when a coarsening step keeps more than this ratio of the vertices of the previous level, as another level
+         * would cost more refinement steps than it saves. Default is {@value DEFAULT_MAX_COARSENING_RATIO}
+         * @param maxCoarseningRatio the maximum ratio between the number of vertices of a level and of the previous one
+         * @return the instance of this Builder with the `maxCoarseningRatio` changed
+         */
+        public Builder withMaxCoarseningRatio(double maxCoarseningRatio) {
+            if (maxCoarseningRatio <= 0 || maxCoarseningRatio >= 1) {
+                throw new IllegalArgumentException("The max coarsening ratio has to be strictly between 0 and 1");
+            }
+            this.maxCoarseningRatio = maxCoarseningRatio;
+            return this;
+        }
+
+        /**
+         * The maximum number of coarser levels that are built on top of the graph. Default is {@value DEFAULT_MAX_LEVELS}
+         * @param maxLevels the maximum number of coarser levels
+         * @return the instance of this Builder with the `maxLevels` changed
+         */
+        public Builder withMaxLevels(int maxLevels) {
+            if (maxLevels < 0) {
+                throw new IllegalArgumentException("The maximum number of levels cannot be negative");
+            }
+            this.maxLevels = maxLevels;
+            return this;
+        }
+
+        /**
+         * When going from a level to a finer one, the vertices that were merged together start at the position of the merged vertex,
+         * moved by a random offset of at most this ratio of the average edge length of the coarser level, so that they do not overlap.
+         * Default is {@value DEFAULT_PROLONGATION_JITTER}
+         * @param prolongationJitter the maximum offset of the merged vertices, relative to the average edge length
+         * @return the instance of this Builder with the `prolongationJitter` changed
+         */
+        public Builder withProlongationJitter(double prolongationJitter) {
+            if (prolongationJitter <= 0) {
+                throw new IllegalArgumentException("The prolongation jitter has to be strictly positive");
+            }
+            this.prolongationJitter = prolongationJitter;
+            return this;
+        }
+
+        /**
+         * The parameters of the Atlas2 layout of the coarsest graph, default are the default {@link Atlas2Parameters}
+         * @param coarsestLayoutParameters the parameters of the layout of the coarsest graph
+         * @return the instance of this Builder with the `coarsestLayoutParameters` changed
+         */
+        public Builder withCoarsestLayoutParameters(Atlas2Parameters coarsestLayoutParameters) {
+            this.coarsestLayoutParameters = Objects.requireNonNull(coarsestLayoutParameters);
+            return this;
+        }
+
+        /**
+         * The parameters of the Atlas2 layout refining the positions at each level, including the original graph. The positions only need
+         * a few steps to be refined, default are the default {@link Atlas2Parameters} with {@value DEFAULT_REFINEMENT_STEPS} max steps
+         * @param refinementLayoutParameters the parameters of the layout refining each level
+         * @return the instance of this Builder with the `refinementLayoutParameters` changed
+         */
+        public Builder withRefinementLayoutParameters(Atlas2Parameters refinementLayoutParameters) {
+            this.refinementLayoutParameters = Objects.requireNonNull(refinementLayoutParameters);
+            return this;
+        }
+
+        public MultilevelParameters build() {
+            return new MultilevelParameters(
+                    coarsestGraphSize,
+                    maxCoarseningRatio,
+                    maxLevels,
+                    prolongationJitter,
+                    coarsestLayoutParameters,
+                    refinementLayoutParameters
+            );
+        }
+    }
+
+    public int getCoarsestGraphSize() {
+        return coarsestGraphSize;
+    }
+
+    public double getMaxCoarseningRatio() {
+        return maxCoarseningRatio;
+    }
+
+    public int getMaxLevels() {
+        return maxLevels;
+    }
+
+    public double getProlongationJitter() {
+        return prolongationJitter;
+    }
+
+    public Atlas2Parameters getCoarsestLayoutParameters() {
+        return coarsestLayoutParameters;
+    }
+
+    public Atlas2Parameters getRefinementLayoutParameters() {
+        return refinementLayoutParameters;
+    }
+}
@@ -13,7 +13,7 @@ package com.powsybl.diagram.util.layout.algorithms.quadtreeupdateschedule;
  * By Robert Gove, Two Six Labs, for an explanation
  * @author Nathan Dissoubray {@literal <nathan.dissoubray at rte-france.com>}
  */
-public class ConstantSchedule {
+public class ConstantSchedule implements QuadtreeUpdateSchedule {
 
     private final int increment;
     private int nextUpdate = 0;
@@ -43,4 +43,9 @@ public class ConstantSchedule {
             return false;
         }
     }
+
+    @Override
+    public boolean isTimeToUpdate(int index, QuadtreeUpdateContext context) {
+        return isTimeToUpdate(index);
+    }
 }
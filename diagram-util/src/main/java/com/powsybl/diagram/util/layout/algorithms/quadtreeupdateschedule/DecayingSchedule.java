@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.algorithms.quadtreeupdateschedule;
+
+/**
+ * A schedule where the number of steps between each update grows as the global speed of the graph decreases.
+ * The increment is minIncrement as long as the graph is at its fastest, and is multiplied by the ratio between the fastest speed
+ * and the current speed otherwise, without going over maxIncrement
+ * @author agent {@literal <agent at local>}
+ */
+public class DecayingSchedule implements QuadtreeUpdateSchedule {
+
+    private final int minIncrement;
+    private final int maxIncrement;
+    private int nextUpdate = 0;
+    private double maxGraphSpeed = 0;
+
+    /**
+     * Build a decaying update schedule
+     * @param minIncrement the number of steps between each update when the graph is at its fastest
+     * @param maxIncrement the maximum number of steps between each update
+     */
+    public DecayingSchedule(int minIncrement, int maxIncrement) {
+        if (minIncrement <= 0) {
+            throw new IllegalArgumentException("The minimum increment for the decaying schedule has to be strictly positive");
+        }
+        if (maxIncrement < minIncrement) {
+            throw new IllegalArgumentException("The maximum increment for the decaying schedule cannot be smaller than the minimum increment");
+        }
+        this.minIncrement = minIncrement;
+        this.maxIncrement = maxIncrement;
+    }
+
+    @Override
+    public boolean isTimeToUpdate(int index, QuadtreeUpdateContext context) {
+        double graphSpeed = context.getGraphSpeed();
+        maxGraphSpeed = Math.max(maxGraphSpeed, graphSpeed);
+        if (index < nextUpdate) {
+            return false;
+        }
+        // written this way so that a speed of 0 gives the maximum increment
+        int increment = graphSpeed > 0
+                ? Math.clamp(Math.round(minIncrement * maxGraphSpeed / graphSpeed), minIncrement, maxIncrement)
+                : maxIncrement;
+        nextUpdate = index + increment;
+        return true;
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.algorithms.quadtreeupdateschedule;
+
+import java.util.Objects;
+
+/**
+ * A schedule that says it's time to update when the points moved too much since the quadtree was last built or refitted, compared to the width of the quadtree.
+ * The quadtree is calculated often at the start of the layout, where points move a lot, and rarely at the end where the layout barely moves
+ * @author agent {@literal <agent at local>}
+ */
+public class DisplacementSchedule implements QuadtreeUpdateSchedule {
+
+    /**
+     * How to measure the displacement of the points
+     */
+    public enum DisplacementMeasure {
+        /**
+         * The largest displacement of a point
+         */
+        MAX,
+        /**
+         * The average displacement of all the points
+         */
+        AVERAGE
+    }
+
+    private final DisplacementMeasure displacementMeasure;
+    private final double displacementRatio;
+
+    /**
+     * Build a displacement schedule
+     * @param displacementMeasure how to measure the displacement of the points
+     * @param displacementRatio update the quadtree when the displacement is bigger than displacementRatio times the width of the quadtree
+     */
+    public DisplacementSchedule(DisplacementMeasure displacementMeasure, double displacementRatio) {
+        if (displacementRatio <= 0) {
+            throw new IllegalArgumentException("The displacement ratio of the displacement schedule has to be strictly positive");
+        }
+        this.displacementMeasure = Objects.requireNonNull(displacementMeasure);
+        this.displacementRatio = displacementRatio;
+    }
+
+    @Override
+    public boolean isTimeToUpdate(int index, QuadtreeUpdateContext context) {
+        double displacement = switch (displacementMeasure) {
+            case MAX -> context.getMaxDisplacement();
+            case AVERAGE -> context.getAverageDisplacement();
+        };
+        return displacement > displacementRatio * context.getRootWidth();
+    }
+}
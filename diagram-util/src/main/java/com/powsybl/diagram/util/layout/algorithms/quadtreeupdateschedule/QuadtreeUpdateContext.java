@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.algorithms.quadtreeupdateschedule;
+
+/**
+ * The state of a layout at a given step, given to a {@link QuadtreeUpdateSchedule} to decide whether to update the quadtree.
+ * The displacements are only calculated when asked for
+ * @author agent {@literal <agent at local>}
+ */
+public interface QuadtreeUpdateContext {
+    /**
+     * @return the global speed of the graph at the previous step
+     */
+    double getGraphSpeed();
+
+    /**
+     * @return the width of the root node of the quadtree when it was last built
+     */
+    double getRootWidth();
+
+    /**
+     * @return the largest distance between the position of a point and its position when the quadtree was last built or refitted
+     */
+    double getMaxDisplacement();
+
+    /**
+     * @return the average distance between the position of the points and their position when the quadtree was last built or refitted
+     */
+    double getAverageDisplacement();
+}
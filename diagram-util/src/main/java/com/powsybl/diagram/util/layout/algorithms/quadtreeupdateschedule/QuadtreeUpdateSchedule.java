@@ -0,0 +1,25 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.algorithms.quadtreeupdateschedule;
+
+/**
+ * Decides at which steps of a layout the Barnes-Hut quadtree is calculated again. A schedule has a state, a new one is needed for each run of the layout.
+ * See "It Pays to Be Lazy: Reusing Force Approximations to Compute Better Graph Layouts Faster"
+ * By Robert Gove, Two Six Labs, for an explanation
+ * @author agent {@literal <agent at local>}
+ */
+public interface QuadtreeUpdateSchedule {
+    /**
+     * Check if it's time to update. This is called once for each step, starting from step 0. Whatever the answer, the quadtree is always
+     * calculated at the first step
+     * @param index the time step we are at
+     * @param context the state of the layout and of the quadtree at this step
+     * @return true if the quadtree needs to be updated at this step, false otherwise
+     */
+    boolean isTimeToUpdate(int index, QuadtreeUpdateContext context);
+}
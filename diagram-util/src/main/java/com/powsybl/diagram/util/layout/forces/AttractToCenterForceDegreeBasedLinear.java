@@ -8,6 +8,7 @@
 
 package com.powsybl.diagram.util.layout.forces;
 
+import com.powsybl.diagram.util.layout.geometry.IndexedLayoutContext;
 import com.powsybl.diagram.util.layout.geometry.LayoutContext;
 import com.powsybl.diagram.util.layout.geometry.Point;
 import com.powsybl.diagram.util.layout.geometry.Vector2D;
@@ -17,7 +18,7 @@ import com.powsybl.diagram.util.layout.geometry.Vector2D;
  * The force is stronger the further the point is from the center.
  * @author Nathan Dissoubray {@literal <nathan.dissoubray at rte-france.com>}
  */
-public class AttractToCenterForceDegreeBasedLinear<V, E> extends AbstractDegreeBasedForce<V, E> {
+public class AttractToCenterForceDegreeBasedLinear<V, E> extends AbstractDegreeBasedForce<V, E> implements IndexedForce<V, E> {
 
     private final double forceIntensity;
 
@@ -35,4 +36,11 @@ public class AttractToCenterForceDegreeBasedLinear<V, E> extends AbstractDegreeB
         force.multiplyBy(magnitude);
         return force;
     }
+
+    @Override
+    public void apply(int pointIndex, IndexedLayoutContext<V, E> layoutContext) {
+        double magnitude = forceIntensity * layoutContext.getDegreeMass()[pointIndex];
+        layoutContext.getForceX()[pointIndex] += (layoutContext.getCenterX() - layoutContext.getPositionX()[pointIndex]) * magnitude;
+        layoutContext.getForceY()[pointIndex] += (layoutContext.getCenterY() - layoutContext.getPositionY()[pointIndex]) * magnitude;
+    }
 }
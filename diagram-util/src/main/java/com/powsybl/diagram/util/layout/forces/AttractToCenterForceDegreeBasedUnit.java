@@ -8,6 +8,7 @@
 
 package com.powsybl.diagram.util.layout.forces;
 
+import com.powsybl.diagram.util.layout.geometry.IndexedLayoutContext;
 import com.powsybl.diagram.util.layout.geometry.LayoutContext;
 import com.powsybl.diagram.util.layout.geometry.Point;
 import com.powsybl.diagram.util.layout.geometry.Vector2D;
@@ -17,7 +18,7 @@ import com.powsybl.diagram.util.layout.geometry.Vector2D;
  * The force is the same no matter the distance to the center.
  * @author Nathan Dissoubray {@literal <nathan.dissoubray at rte-france.com>}
  */
-public class AttractToCenterForceDegreeBasedUnit<V, E> extends AbstractByEdgeNumberForce<V, E> {
+public class AttractToCenterForceDegreeBasedUnit<V, E> extends AbstractByEdgeNumberForce<V, E> implements IndexedForce<V, E> {
 
     private final double forceIntensity;
 
@@ -35,4 +36,14 @@ public class AttractToCenterForceDegreeBasedUnit<V, E> extends AbstractByEdgeNum
         force.multiplyBy(magnitude);
         return force;
     }
+
+    @Override
+    public void apply(int pointIndex, IndexedLayoutContext<V, E> layoutContext) {
+        double magnitude = forceIntensity * layoutContext.getDegreeMass()[pointIndex];
+        double deltaX = layoutContext.getCenterX() - layoutContext.getPositionX()[pointIndex];
+        double deltaY = layoutContext.getCenterY() - layoutContext.getPositionY()[pointIndex];
+        double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+        layoutContext.getForceX()[pointIndex] += deltaX / distance * magnitude;
+        layoutContext.getForceY()[pointIndex] += deltaY / distance * magnitude;
+    }
 }
@@ -8,6 +8,7 @@
 
 package com.powsybl.diagram.util.layout.forces;
 
+import com.powsybl.diagram.util.layout.geometry.IndexedLayoutContext;
 import com.powsybl.diagram.util.layout.geometry.LayoutContext;
 import com.powsybl.diagram.util.layout.geometry.Point;
 import com.powsybl.diagram.util.layout.geometry.Vector2D;
@@ -17,7 +18,7 @@ import com.powsybl.diagram.util.layout.geometry.Vector2D;
  * The force is stronger the further the point is from the center.
  * @author Nathan Dissoubray {@literal <nathan.dissoubray at rte-france.com>}
  */
-public class AttractToCenterForceLinear<V, E> implements Force<V, E> {
+public class AttractToCenterForceLinear<V, E> implements Force<V, E>, IndexedForce<V, E> {
     private final double forceIntensity;
 
     public AttractToCenterForceLinear(double forceIntensity) {
@@ -33,4 +34,10 @@ public class AttractToCenterForceLinear<V, E> implements Force<V, E> {
         force.multiplyBy(forceIntensity);
         return force;
     }
+
+    @Override
+    public void apply(int pointIndex, IndexedLayoutContext<V, E> layoutContext) {
+        layoutContext.getForceX()[pointIndex] += (layoutContext.getCenterX() - layoutContext.getPositionX()[pointIndex]) * forceIntensity;
+        layoutContext.getForceY()[pointIndex] += (layoutContext.getCenterY() - layoutContext.getPositionY()[pointIndex]) * forceIntensity;
+    }
 }
@@ -7,6 +7,7 @@
  */
 package com.powsybl.diagram.util.layout.forces;
 
+import com.powsybl.diagram.util.layout.geometry.IndexedLayoutContext;
 import com.powsybl.diagram.util.layout.geometry.LayoutContext;
 import com.powsybl.diagram.util.layout.geometry.Point;
 import com.powsybl.diagram.util.layout.geometry.Vector2D;
@@ -16,7 +17,7 @@ import com.powsybl.diagram.util.layout.geometry.Vector2D;
  * The force is the same no matter the distance to the center.
  * @author Nathan Dissoubray {@literal <nathan.dissoubray at rte-france.com>}
  */
-public class AttractToCenterForceUnit<V, E> implements Force<V, E> {
+public class AttractToCenterForceUnit<V, E> implements Force<V, E>, IndexedForce<V, E> {
     private final double forceIntensity;
 
     public AttractToCenterForceUnit(double forceIntensity) {
@@ -29,5 +30,14 @@ public class AttractToCenterForceUnit<V, E> implements Force<V, E> {
         force.multiplyBy(forceIntensity);
         return force;
     }
+
+    @Override
+    public void apply(int pointIndex, IndexedLayoutContext<V, E> layoutContext) {
+        double deltaX = layoutContext.getCenterX() - layoutContext.getPositionX()[pointIndex];
+        double deltaY = layoutContext.getCenterY() - layoutContext.getPositionY()[pointIndex];
+        double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+        layoutContext.getForceX()[pointIndex] += deltaX / distance * forceIntensity;
+        layoutContext.getForceY()[pointIndex] += deltaY / distance * forceIntensity;
+    }
 }
 
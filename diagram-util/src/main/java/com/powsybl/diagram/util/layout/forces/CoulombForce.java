@@ -9,6 +9,7 @@
 package com.powsybl.diagram.util.layout.forces;
 
 import com.powsybl.diagram.util.layout.forces.util.RandomForce;
+import com.powsybl.diagram.util.layout.geometry.IndexedLayoutContext;
 import com.powsybl.diagram.util.layout.geometry.LayoutContext;
 import com.powsybl.diagram.util.layout.geometry.Point;
 import com.powsybl.diagram.util.layout.geometry.Vector2D;
@@ -18,7 +19,7 @@ import com.powsybl.diagram.util.layout.geometry.Vector2D;
  * The force is stronger at close distance and gets smaller as points get further away.
  * @author Nathan Dissoubray {@literal <nathan.dissoubray at rte-france.com>}
  */
-public class CoulombForce<V, E> implements Force<V, E> {
+public class CoulombForce<V, E> implements Force<V, E>, IndexedForce<V, E> {
 
     private final double forceIntensity;
     private final boolean effectFromFixedNodes;
@@ -66,4 +67,35 @@ public class CoulombForce<V, E> implements Force<V, E> {
             resultingForce.add(RandomForce.getRandomForce(layoutContext.getRandomGeneratorForForces()));
         }
     }
+
+    @Override
+    public void apply(int pointIndex, IndexedLayoutContext<V, E> layoutContext) {
+        double[] positionX = layoutContext.getPositionX();
+        double[] positionY = layoutContext.getPositionY();
+        int lastIndex = effectFromFixedNodes ? layoutContext.getPointCount() : layoutContext.getMovingPointCount();
+        double x = positionX[pointIndex];
+        double y = positionY[pointIndex];
+        double resultingForceX = 0;
+        double resultingForceY = 0;
+        for (int otherIndex = 0; otherIndex < lastIndex; ++otherIndex) {
+            if (otherIndex == pointIndex) {
+                continue;
+            }
+            double forceX = x - positionX[otherIndex];
+            double forceY = y - positionY[otherIndex];
+            double magnitude = Math.sqrt(forceX * forceX + forceY * forceY);
+            if (magnitude != 0) {
+                // see coulombBetweenPoints for an explanation of this formula
+                double intensity = forceIntensity / (magnitude * magnitude * magnitude * 0.5 + 0.1 * magnitude);
+                resultingForceX += forceX * intensity;
+                resultingForceY += forceY * intensity;
+            } else {
+                Vector2D randomForce = RandomForce.getRandomForce(layoutContext.getRandomGeneratorForForces());
+                resultingForceX += randomForce.getX();
+                resultingForceY += randomForce.getY();
+            }
+        }
+        layoutContext.getForceX()[pointIndex] += resultingForceX;
+        layoutContext.getForceY()[pointIndex] += resultingForceY;
+    }
 }
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.forces;
+
+import com.powsybl.diagram.util.layout.forces.util.RandomForce;
+import com.powsybl.diagram.util.layout.geometry.*;
+
+import java.util.Random;
+
+/**
+ * The same repulsion as {@link CoulombForce}, but uses a quadtree to speedup calculations by approximating far away points as their barycenters.
+ * The quadtree is expected to give each point a mass of 1, the mass of a barycenter is then the number of points it approximates.
+ * Whether fixed points have an effect on the moving points depends on the points the quadtree is built on.
+ * @author agent {@literal <agent at local>}
+ */
+public class CoulombForceBarnesHut<V, E> implements Force<V, E>, IndexedForce<V, E> {
+
+    private final double forceIntensity;
+    private final double barnesHutTheta;
+    private final FlatQuadtree quadtree;
+
+    /**
+     * @param forceIntensity the intensity of the repulsion
+     * @param barnesHutTheta the theta of the Barnes-Hut approximation
+     * @param quadtree the quadtree of the points, that is reused for the whole layout and kept up to date by the layout algorithm
+     */
+    public CoulombForceBarnesHut(double forceIntensity, double barnesHutTheta, FlatQuadtree quadtree) {
+        this.forceIntensity = forceIntensity;
+        this.barnesHutTheta = barnesHutTheta;
+        this.quadtree = quadtree;
+    }
+
+    @Override
+    public Vector2D apply(V vertex, Point point, LayoutContext<V, E> layoutContext) {
+        double[] resultingForce = new double[2];
+        accumulateCoulomb(point.getPosition().getX(), point.getPosition().getY(), resultingForce, layoutContext.getRandomGeneratorForForces());
+        return new Vector2D(resultingForce[0], resultingForce[1]);
+    }
+
+    @Override
+    public void apply(int pointIndex, IndexedLayoutContext<V, E> layoutContext) {
+        double[] resultingForce = new double[2];
+        accumulateCoulomb(layoutContext.getPositionX()[pointIndex], layoutContext.getPositionY()[pointIndex], resultingForce, layoutContext.getRandomGeneratorForForces());
+        layoutContext.getForceX()[pointIndex] += resultingForce[0];
+        layoutContext.getForceY()[pointIndex] += resultingForce[1];
+    }
+
+    private void accumulateCoulomb(double x, double y, double[] resultingForce, Random random) {
+        int rootIndex = quadtree.getRootIndex();
+        if (rootIndex != FlatQuadtree.NO_CHILDREN) {
+            accumulateCoulomb(rootIndex, x, y, resultingForce, random);
+        }
+    }
+
+    /**
+     * Recursively descend into the nodes of the quadtree, and add the coulomb force of the barycenter of a node if it is far enough
+     * from the point, that is if the width of the node is smaller than barnesHutTheta * the distance between the point and the barycenter
+     */
+    private void accumulateCoulomb(
+            int node,
+            double x,
+            double y,
+            double[] resultingForce,
+            Random random
+    ) {
+        double forceX = x - quadtree.getNodeBarycenterX(node);
+        double forceY = y - quadtree.getNodeBarycenterY(node);
+        double magnitude = Math.sqrt(forceX * forceX + forceY * forceY);
+        if (!quadtree.isLeaf(node) && !(quadtree.getNodeWidth(node) < barnesHutTheta * magnitude)) {
+            for (int childNumber = 0; childNumber < 4; ++childNumber) {
+                int child = quadtree.getChild(node, childNumber);
+                if (child != FlatQuadtree.NO_CHILDREN) {
+                    accumulateCoulomb(child, x, y, resultingForce, random);
+                }
+            }
+        } else if (magnitude != 0) {
+            // see CoulombForce for an explanation of this formula, the barycenter counts for all the points it approximates
+            double intensity = quadtree.getNodeMass(node) * forceIntensity / (magnitude * magnitude * magnitude * 0.5 + 0.1 * magnitude);
+            resultingForce[0] += forceX * intensity;
+            resultingForce[1] += forceY * intensity;
+        } else if (quadtree.getNodeMass(node) > 1) {
+            // a leaf at the same position as the point, that contains other points than the point itself
+            Vector2D randomForce = RandomForce.getRandomForce(random);
+            resultingForce[0] += randomForce.getX();
+            resultingForce[1] += randomForce.getY();
+        }
+    }
+}
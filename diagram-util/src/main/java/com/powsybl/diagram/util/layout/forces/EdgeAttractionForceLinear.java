@@ -7,6 +7,7 @@
  */
 package com.powsybl.diagram.util.layout.forces;
 
+import com.powsybl.diagram.util.layout.geometry.IndexedLayoutContext;
 import com.powsybl.diagram.util.layout.geometry.LayoutContext;
 import com.powsybl.diagram.util.layout.geometry.Point;
 import com.powsybl.diagram.util.layout.geometry.Vector2D;
@@ -17,7 +18,7 @@ import org.jgrapht.Graphs;
  * The force tends towards 0 as points get closer.
  * @author Nathan Dissoubray {@literal <nathan.dissoubray at rte-france.com>}
  */
-public class EdgeAttractionForceLinear<V, E> implements Force<V, E> {
+public class EdgeAttractionForceLinear<V, E> implements Force<V, E>, IndexedForce<V, E> {
     private final double forceIntensity;
 
     public EdgeAttractionForceLinear(double forceIntensity) {
@@ -39,5 +40,24 @@ public class EdgeAttractionForceLinear<V, E> implements Force<V, E> {
         force.multiplyBy(forceIntensity);
         resultingForce.add(force);
     }
+
+    @Override
+    public void apply(int pointIndex, IndexedLayoutContext<V, E> layoutContext) {
+        double[] positionX = layoutContext.getPositionX();
+        double[] positionY = layoutContext.getPositionY();
+        int[] neighbors = layoutContext.getNeighbors();
+        double[] attractionWeights = layoutContext.getNeighborAttractionWeights();
+        int neighborEnd = layoutContext.getNeighborOffsets()[pointIndex + 1];
+        double resultingForceX = 0;
+        double resultingForceY = 0;
+        for (int n = layoutContext.getNeighborOffsets()[pointIndex]; n < neighborEnd; ++n) {
+            int otherIndex = neighbors[n];
+            double intensity = forceIntensity * attractionWeights[n];
+            resultingForceX += (positionX[otherIndex] - positionX[pointIndex]) * intensity;
+            resultingForceY += (positionY[otherIndex] - positionY[pointIndex]) * intensity;
+        }
+        layoutContext.getForceX()[pointIndex] += resultingForceX;
+        layoutContext.getForceY()[pointIndex] += resultingForceY;
+    }
 }
 
@@ -8,6 +8,7 @@
 package com.powsybl.diagram.util.layout.forces;
 
 import com.powsybl.diagram.util.layout.forces.util.NoOverlapPointSize;
+import com.powsybl.diagram.util.layout.geometry.IndexedLayoutContext;
 import com.powsybl.diagram.util.layout.geometry.LayoutContext;
 import com.powsybl.diagram.util.layout.geometry.Point;
 import com.powsybl.diagram.util.layout.geometry.Vector2D;
@@ -17,7 +18,7 @@ import org.jgrapht.Graphs;
  * An attraction force used to prevent overlapping points, given their pointSize
  * @author Nathan Dissoubray {@literal <nathan.dissoubray at rte-france.com>}
  */
-public class EdgeAttractionForceNoOverlapLinear<V, E> implements Force<V, E> {
+public class EdgeAttractionForceNoOverlapLinear<V, E> implements Force<V, E>, IndexedForce<V, E> {
     private final double forceIntensity;
     private final NoOverlapPointSize pointSizeRecord;
 
@@ -27,6 +28,11 @@ public class EdgeAttractionForceNoOverlapLinear<V, E> implements Force<V, E> {
         layoutContext.cacheDegree();
     }
 
+    @Override
+    public void init(IndexedLayoutContext<V, E> layoutContext) {
+        pointSizeRecord.calculatePointSize(layoutContext.getPointCount());
+    }
+
     public EdgeAttractionForceNoOverlapLinear(double forceIntensity, double pointSizeScale, double pointSizeOffset) {
         this.forceIntensity = forceIntensity;
         this.pointSizeRecord = new NoOverlapPointSize(pointSizeScale, pointSizeOffset);
@@ -50,5 +56,28 @@ public class EdgeAttractionForceNoOverlapLinear<V, E> implements Force<V, E> {
             resultingForce.add(force);
         }
     }
+
+    @Override
+    public void apply(int pointIndex, IndexedLayoutContext<V, E> layoutContext) {
+        double[] positionX = layoutContext.getPositionX();
+        double[] positionY = layoutContext.getPositionY();
+        int[] neighbors = layoutContext.getNeighbors();
+        int neighborEnd = layoutContext.getNeighborOffsets()[pointIndex + 1];
+        double noOverlapDistance = 2 * pointSizeRecord.getPointSize();
+        double resultingForceX = 0;
+        double resultingForceY = 0;
+        for (int n = layoutContext.getNeighborOffsets()[pointIndex]; n < neighborEnd; ++n) {
+            int otherIndex = neighbors[n];
+            double forceX = positionX[otherIndex] - positionX[pointIndex];
+            double forceY = positionY[otherIndex] - positionY[pointIndex];
+            // check that there is no overlap between the points
+            if (Math.sqrt(forceX * forceX + forceY * forceY) > noOverlapDistance) {
+                resultingForceX += forceX * forceIntensity;
+                resultingForceY += forceY * forceIntensity;
+            }
+        }
+        layoutContext.getForceX()[pointIndex] += resultingForceX;
+        layoutContext.getForceY()[pointIndex] += resultingForceY;
+    }
 }
 
@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.forces;
+
+import com.powsybl.diagram.util.layout.geometry.IndexedLayoutContext;
+
+/**
+ * A force working on the primitive arrays of an {@link IndexedLayoutContext}, instead of the maps of {@link com.powsybl.diagram.util.layout.geometry.Point Point} of a
+ * {@link com.powsybl.diagram.util.layout.geometry.LayoutContext LayoutContext}. Implementations compute the same force as their {@link Force}
+ * counterpart, without going through the maps and without creating a {@link com.powsybl.diagram.util.layout.geometry.Vector2D Vector2D} for each interaction.
+ * @author agent {@literal <agent at local>}
+ */
+public interface IndexedForce<V, E> {
+    default void init(IndexedLayoutContext<V, E> layoutContext) {
+        // most forces do not need anything to init, default is empty
+    }
+
+    /**
+     * Add to the force arrays of <code>layoutContext</code> the force which is the sum of the influence of all other points of the graph on
+     * the point of index <code>pointIndex</code>. See {@link Force#apply} for more details on the different kinds of forces.
+     * @param pointIndex the index of the point to apply the force to
+     * @param layoutContext the arrays of the layout, the force is added to {@link IndexedLayoutContext#getForceX()} and {@link IndexedLayoutContext#getForceY()}
+     */
+    void apply(int pointIndex, IndexedLayoutContext<V, E> layoutContext);
+}
@@ -8,6 +8,7 @@
 package com.powsybl.diagram.util.layout.forces;
 
 import com.powsybl.diagram.util.layout.forces.util.RandomForce;
+import com.powsybl.diagram.util.layout.geometry.IndexedLayoutContext;
 import com.powsybl.diagram.util.layout.geometry.LayoutContext;
 import com.powsybl.diagram.util.layout.geometry.Point;
 import com.powsybl.diagram.util.layout.geometry.Vector2D;
@@ -19,7 +20,7 @@ import java.util.Map;
  * It depends on the number of edges of the points, it's stronger when points are closer and weaker when points are further away.
  * @author Nathan Dissoubray {@literal <nathan.dissoubray at rte-france.com>}
  */
-public class RepulsionForceDegreeBasedLinear<V, E> extends AbstractDegreeBasedForce<V, E> {
+public class RepulsionForceDegreeBasedLinear<V, E> extends AbstractDegreeBasedForce<V, E> implements IndexedForce<V, E> {
 
     private final double forceIntensity;
     private final boolean effectFromFixedNodes;
@@ -33,6 +34,8 @@ public class RepulsionForceDegreeBasedLinear<V, E> extends AbstractDegreeBasedFo
     public Vector2D apply(V vertex, Point point, LayoutContext<V, E> layoutContext) {
         Vector2D resultingForce = new Vector2D();
         int thisVertexDegree = point.getPointVertexDegree();
+        // the other points are given the same index as in an IndexedLayoutContext: the moving points, then the fixed points
+        int otherIndex = 0;
         for (Map.Entry<V, Point> otherVertexPoint : layoutContext.getMovingPoints().entrySet()) {
             if (otherVertexPoint.getValue() != point) {
                 linearRepulsionBetweenPoints(
@@ -40,9 +43,10 @@ public class RepulsionForceDegreeBasedLinear<V, E> extends AbstractDegreeBasedFo
                         thisVertexDegree,
                         point,
                         otherVertexPoint.getValue(),
-                    layoutContext
+                        otherIndex
                 );
             }
+            ++otherIndex;
         }
         if (effectFromFixedNodes) {
             for (Map.Entry<V, Point> otherVertexPoint : layoutContext.getFixedPoints().entrySet()) {
@@ -51,8 +55,9 @@ public class RepulsionForceDegreeBasedLinear<V, E> extends AbstractDegreeBasedFo
                         thisVertexDegree,
                         point,
                         otherVertexPoint.getValue(),
-                        layoutContext
+                        otherIndex
                 );
+                ++otherIndex;
             }
         }
         return resultingForce;
@@ -63,7 +68,7 @@ public class RepulsionForceDegreeBasedLinear<V, E> extends AbstractDegreeBasedFo
             int vertexDegree,
             Point point,
             Point otherPoint,
-            LayoutContext<V, E> layoutContext
+            int otherIndex
     ) {
         // The force goes from the otherPoint to the point (repulsion)
         Vector2D force = Vector2D.calculateVectorBetweenPoints(otherPoint, point);
@@ -83,8 +88,46 @@ public class RepulsionForceDegreeBasedLinear<V, E> extends AbstractDegreeBasedFo
             force.multiplyBy(intensity);
             resultingForce.add(force);
         } else {
-            resultingForce.add(RandomForce.getRandomForce(layoutContext.getRandomGeneratorForForces()));
+            // the force of the other point does not depend on the order of the calls, the points can be calculated concurrently
+            resultingForce.add(RandomForce.getPointForce(otherIndex));
         }
 
     }
+
+    @Override
+    public void apply(int pointIndex, IndexedLayoutContext<V, E> layoutContext) {
+        double[] positionX = layoutContext.getPositionX();
+        double[] positionY = layoutContext.getPositionY();
+        double[] degreeMass = layoutContext.getDegreeMass();
+        int lastIndex = effectFromFixedNodes ? layoutContext.getPointCount() : layoutContext.getMovingPointCount();
+        double x = positionX[pointIndex];
+        double y = positionY[pointIndex];
+        double thisVertexMass = degreeMass[pointIndex];
+        double resultingForceX = 0;
+        double resultingForceY = 0;
+        for (int otherIndex = 0; otherIndex < lastIndex; ++otherIndex) {
+            if (otherIndex == pointIndex) {
+                continue;
+            }
+            // The force goes from the otherPoint to the point (repulsion)
+            double forceX = x - positionX[otherIndex];
+            double forceY = y - positionY[otherIndex];
+            double magnitudeSquare = forceX * forceX + forceY * forceY;
+            if (magnitudeSquare != 0) {
+                // see linearRepulsionBetweenPoints for an explanation of this formula
+                double intensity = forceIntensity
+                    * thisVertexMass
+                    * degreeMass[otherIndex]
+                    / magnitudeSquare;
+                resultingForceX += forceX * intensity;
+                resultingForceY += forceY * intensity;
+            } else {
+                Vector2D randomForce = RandomForce.getPointForce(otherIndex);
+                resultingForceX += randomForce.getX();
+                resultingForceY += randomForce.getY();
+            }
+        }
+        layoutContext.getForceX()[pointIndex] += resultingForceX;
+        layoutContext.getForceY()[pointIndex] += resultingForceY;
+    }
 }
@@ -15,21 +15,51 @@ import java.util.List;
 
 /**
  * A linear repulsion force dependent on the number of edges of a node (same as {@link RepulsionForceDegreeBasedLinear}), but uses
- * a quadtree to speedup calculations by approximating far away points as their barycenters
+ * a quadtree to speedup calculations by approximating far away points as their barycenters.
+ * The quadtree is either a {@link Quadtree} built again by the layout algorithm, or a {@link FlatQuadtree} reused for the whole layout.
+ * With a {@link FlatQuadtree}, the force is directly accumulated while traversing the quadtree, without any list of interacting points.
  * @author Nathan Dissoubray {@literal <nathan.dissoubray at rte-france.com>}
  */
-public class RepulsionForceDegreeBasedLinearBarnesHut<V, E> extends AbstractByEdgeNumberForce<V, E> {
+public class RepulsionForceDegreeBasedLinearBarnesHut<V, E> extends AbstractByEdgeNumberForce<V, E> implements IndexedForce<V, E> {
     private final double forceIntensity;
     private final double barnesHutTheta;
     private final Ref<Quadtree> quadtreeContainer;
+    private final FlatQuadtree flatQuadtree;
+    /**
+     * The repulsion between a point and a barycenter, the point factor being forceIntensity * (vertex degree + 1) of the point
+     */
+    private static final FlatQuadtree.Interaction LINEAR_REPULSION = (pointFactor, deltaX, deltaY, mass) -> pointFactor * mass / (deltaX * deltaX + deltaY * deltaY);
 
     public RepulsionForceDegreeBasedLinearBarnesHut(double forceIntensity, double barnesHutTheta, Ref<Quadtree> quadtreeContainer) {
         this.forceIntensity = forceIntensity;
         this.barnesHutTheta = barnesHutTheta;
         this.quadtreeContainer = quadtreeContainer;
+        this.flatQuadtree = null;
+    }
+
+    /**
+     * Build the force using a flat quadtree, the quadtree has to be built with a mass of vertex degree + 1 for each point, and kept up to date by the layout algorithm
+     * @param forceIntensity the intensity of the repulsion
+     * @param barnesHutTheta the theta of the Barnes-Hut approximation
+     * @param flatQuadtree the quadtree of the points, that is reused for the whole layout
+     */
+    public RepulsionForceDegreeBasedLinearBarnesHut(double forceIntensity, double barnesHutTheta, FlatQuadtree flatQuadtree) {
+        this.forceIntensity = forceIntensity;
+        this.barnesHutTheta = barnesHutTheta;
+        this.quadtreeContainer = null;
+        this.flatQuadtree = flatQuadtree;
     }
 
     public Vector2D apply(V vertex, Point point, LayoutContext<V, E> layoutContext) {
+        if (flatQuadtree != null) {
+            return flatQuadtree.calculateForce(
+                point.getPosition().getX(),
+                point.getPosition().getY(),
+                forceIntensity * (point.getPointVertexDegree() + 1),
+                barnesHutTheta,
+                LINEAR_REPULSION
+            );
+        }
         Vector2D resultingForce = new Vector2D();
         BoundingBox rootBb = quadtreeContainer.get().getBoundingBox();
         // bounding box might not be square, this will work best for shapes that are not too long
@@ -113,5 +143,75 @@ public class RepulsionForceDegreeBasedLinearBarnesHut<V, E> extends AbstractByEd
             }
         }
     }
+
+    /**
+     * Same as {@link #apply(Object, Point, LayoutContext)}. A {@link Quadtree} is expected to be built on the points of the map-based layout context,
+     * with positions that are up-to-date with the arrays of the indexed layout context, a {@link FlatQuadtree} on the arrays of the indexed layout context
+     */
+    @Override
+    public void apply(int pointIndex, IndexedLayoutContext<V, E> layoutContext) {
+        if (flatQuadtree != null) {
+            flatQuadtree.accumulateForce(
+                layoutContext.getPositionX()[pointIndex],
+                layoutContext.getPositionY()[pointIndex],
+                forceIntensity * layoutContext.getDegreeMass()[pointIndex],
+                barnesHutTheta,
+                LINEAR_REPULSION,
+                layoutContext.getForceX(),
+                layoutContext.getForceY(),
+                pointIndex
+            );
+            return;
+        }
+        Quadtree quadtree = quadtreeContainer.get();
+        BoundingBox rootBb = quadtree.getBoundingBox();
+        double width = Math.max(rootBb.getWidth(), rootBb.getHeight());
+        double[] resultingForce = new double[2];
+        accumulateRepulsion(
+            quadtree,
+            quadtree.getRootIndex(),
+            layoutContext.getPositionX()[pointIndex],
+            layoutContext.getPositionY()[pointIndex],
+            forceIntensity * layoutContext.getDegreeMass()[pointIndex],
+            width,
+            resultingForce
+        );
+        layoutContext.getForceX()[pointIndex] += resultingForce[0];
+        layoutContext.getForceY()[pointIndex] += resultingForce[1];
+    }
+
+    /**
+     * Same traversal as {@link #generatePointInteractionList(int, Point, double, List)}, but the repulsion is directly accumulated
+     * instead of filling a list of points
+     */
+    private void accumulateRepulsion(
+            Quadtree quadtree,
+            int nodeIndex,
+            double x,
+            double y,
+            double pointIntensity,
+            double nodeWidth,
+            double[] resultingForce
+    ) {
+        Quadtree.QuadtreeNode thisNode = quadtree.getNodes()[nodeIndex];
+        Vector2D barycenterPosition = thisNode.getNodeBarycenter().getPosition();
+        double forceX = x - barycenterPosition.getX();
+        double forceY = y - barycenterPosition.getY();
+        int[] realChildrenId = nodeWidth < barnesHutTheta * Math.sqrt(forceX * forceX + forceY * forceY)
+            ? null
+            : thisNode.getRealChildrenNodeIndex();
+        if (realChildrenId != null && realChildrenId.length != 0) {
+            double childNodeWidth = nodeWidth / 2;
+            for (int index : realChildrenId) {
+                accumulateRepulsion(quadtree, index, x, y, pointIntensity, childNodeWidth, resultingForce);
+            }
+        } else if (x != barycenterPosition.getX() || y != barycenterPosition.getY()) {
+            double intensity = pointIntensity
+                * thisNode.getNodeBarycenter().getMass()
+                / (forceX * forceX + forceY * forceY);
+            resultingForce[0] += forceX * intensity;
+            resultingForce[1] += forceY * intensity;
+        }
+    }
 }
 
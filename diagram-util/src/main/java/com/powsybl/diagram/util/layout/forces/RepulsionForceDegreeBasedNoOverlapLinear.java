@@ -9,6 +9,7 @@ package com.powsybl.diagram.util.layout.forces;
 
 import com.powsybl.diagram.util.layout.forces.util.NoOverlapPointSize;
 import com.powsybl.diagram.util.layout.forces.util.RandomForce;
+import com.powsybl.diagram.util.layout.geometry.IndexedLayoutContext;
 import com.powsybl.diagram.util.layout.geometry.LayoutContext;
 import com.powsybl.diagram.util.layout.geometry.Point;
 import com.powsybl.diagram.util.layout.geometry.Vector2D;
@@ -18,7 +19,7 @@ import java.util.Map;
 /**
  * @author Nathan Dissoubray {@literal <nathan.dissoubray at rte-france.com>}
  */
-public class RepulsionForceDegreeBasedNoOverlapLinear<V, E> implements Force<V, E> {
+public class RepulsionForceDegreeBasedNoOverlapLinear<V, E> implements Force<V, E>, IndexedForce<V, E> {
     private final double forceIntensityNoOverlap;
     private final double forceIntensityWithOverlap;
     private final double repulsionZoneRatio;
@@ -50,6 +51,12 @@ public class RepulsionForceDegreeBasedNoOverlapLinear<V, E> implements Force<V,
         this.repulsionZoneRadius = this.repulsionZoneRatio * this.pointSizeRecord.getPointSize();
     }
 
+    @Override
+    public void init(IndexedLayoutContext<V, E> layoutContext) {
+        pointSizeRecord.calculatePointSize(layoutContext.getPointCount());
+        this.repulsionZoneRadius = this.repulsionZoneRatio * this.pointSizeRecord.getPointSize();
+    }
+
     @Override
     public Vector2D apply(V vertex, Point point, LayoutContext<V, E> layoutContext) {
         Vector2D resultingForce = new Vector2D();
@@ -96,5 +103,44 @@ public class RepulsionForceDegreeBasedNoOverlapLinear<V, E> implements Force<V,
             }
         }
     }
+
+    @Override
+    public void apply(int pointIndex, IndexedLayoutContext<V, E> layoutContext) {
+        double[] positionX = layoutContext.getPositionX();
+        double[] positionY = layoutContext.getPositionY();
+        double[] degreeMass = layoutContext.getDegreeMass();
+        double x = positionX[pointIndex];
+        double y = positionY[pointIndex];
+        double thisVertexMass = degreeMass[pointIndex];
+        double overlapDistance = 2 * pointSizeRecord.getPointSize();
+        double resultingForceX = 0;
+        double resultingForceY = 0;
+        for (int otherIndex = 0; otherIndex < layoutContext.getPointCount(); ++otherIndex) {
+            if (otherIndex == pointIndex) {
+                continue;
+            }
+            double forceX = x - positionX[otherIndex];
+            double forceY = y - positionY[otherIndex];
+            double magnitude = Math.sqrt(forceX * forceX + forceY * forceY);
+            if (magnitude < repulsionZoneRadius) {
+                if (magnitude != 0) {
+                    // see linearRepulsionBetweenPoints for an explanation of this formula
+                    double forceIntensity = magnitude <= overlapDistance ? forceIntensityWithOverlap : forceIntensityNoOverlap / magnitude;
+                    double intensity = forceIntensity
+                        * thisVertexMass
+                        * degreeMass[otherIndex]
+                        / magnitude;
+                    resultingForceX += forceX * intensity;
+                    resultingForceY += forceY * intensity;
+                } else {
+                    Vector2D randomForce = RandomForce.getRandomForce(layoutContext.getRandomGeneratorForForces());
+                    resultingForceX += randomForce.getX();
+                    resultingForceY += randomForce.getY();
+                }
+            }
+        }
+        layoutContext.getForceX()[pointIndex] += resultingForceX;
+        layoutContext.getForceY()[pointIndex] += resultingForceY;
+    }
 }
 
@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.forces;
+
+import com.powsybl.diagram.util.layout.forces.util.NoOverlapPointSize;
+import com.powsybl.diagram.util.layout.forces.util.RandomForce;
+import com.powsybl.diagram.util.layout.geometry.*;
+
+/**
+ * The same repulsion as {@link RepulsionForceDegreeBasedNoOverlapLinear}, but uses a quadtree instead of looping over all the points.
+ * The quadtree is expected to be built on all the points, with a mass of vertex degree + 1 for each point.
+ * <ul>
+ *     <li>nodes of the quadtree that are entirely outside the repulsion zone of the point are skipped, the force is 0 there</li>
+ *     <li>nodes that are entirely inside the repulsion zone but outside the overlap distance, and that are far enough given the theta criteria,
+ *     are approximated by their barycenter</li>
+ *     <li>other nodes are opened, the interaction with the points of the leaves is exact</li>
+ * </ul>
+ * The points of a node are within the width of the node times sqrt(2) of its barycenter, three times that if the quadtree was refitted since
+ * it was built. The points might also have moved since the quadtree was built or refitted, by at most <code>maxDisplacement</code>, both
+ * distances are taken as margins when deciding whether to skip or approximate a node.
+ * @author agent {@literal <agent at local>}
+ */
+public class RepulsionForceDegreeBasedNoOverlapLinearBarnesHut<V, E> implements Force<V, E> {
+    private static final double SQRT_2 = Math.sqrt(2);
+    /**
+     * After a refit, each point moved by less than the width of its leaf on each axis since the quadtree was built, the points of a node
+     * are then in a square three times as wide as the node
+     */
+    private static final double REFITTED_WIDTH_RATIO = 3;
+
+    private final double forceIntensityNoOverlap;
+    private final double forceIntensityWithOverlap;
+    private final double repulsionZoneRatio;
+    private double repulsionZoneRadius;
+    private final NoOverlapPointSize pointSizeRecord;
+    private final double barnesHutTheta;
+    private final double maxDisplacementRatio;
+    private final QuadtreePointArrays<V> quadtreePoints;
+    private final FlatQuadtree quadtree;
+
+    /**
+     * Build a repulsion force to prevent overlap of points, see {@link RepulsionForceDegreeBasedNoOverlapLinear#RepulsionForceDegreeBasedNoOverlapLinear}
+     * @param barnesHutTheta the theta used to decide whether a node far enough from the point can be approximated by its barycenter
+     * @param maxDisplacementRatio how much a point can have moved since the quadtree was built or refitted, as a ratio of the point size
+     * @param quadtreePoints the arrays the quadtree is built on, giving the index of each point in the quadtree
+     * @param quadtree the quadtree of all the points, kept up to date by the caller
+     */
+    public RepulsionForceDegreeBasedNoOverlapLinearBarnesHut(
+            double forceIntensityNoOverlap,
+            double forceIntensityWithOverlap,
+            double pointSizeScale,
+            double pointSizeOffset,
+            double repulsionZoneRatio,
+            double barnesHutTheta,
+            double maxDisplacementRatio,
+            QuadtreePointArrays<V> quadtreePoints,
+            FlatQuadtree quadtree
+    ) {
+        this.forceIntensityNoOverlap = forceIntensityNoOverlap;
+        this.forceIntensityWithOverlap = forceIntensityWithOverlap;
+        this.repulsionZoneRatio = repulsionZoneRatio;
+        this.pointSizeRecord = new NoOverlapPointSize(pointSizeScale, pointSizeOffset);
+        this.repulsionZoneRadius = pointSizeRecord.getPointSize() * repulsionZoneRatio;
+        this.barnesHutTheta = barnesHutTheta;
+        this.maxDisplacementRatio = maxDisplacementRatio;
+        this.quadtreePoints = quadtreePoints;
+        this.quadtree = quadtree;
+    }
+
+    @Override
+    public void init(LayoutContext<V, E> layoutContext) {
+        pointSizeRecord.calculatePointSize(layoutContext.getAllPoints().size());
+        layoutContext.cacheDegree();
+        this.repulsionZoneRadius = this.repulsionZoneRatio * this.pointSizeRecord.getPointSize();
+    }
+
+    @Override
+    public Vector2D apply(V vertex, Point point, LayoutContext<V, E> layoutContext) {
+        double[] resultingForce = new double[2];
+        int rootIndex = quadtree.getRootIndex();
+        if (rootIndex != FlatQuadtree.NO_CHILDREN) {
+            double widthRatio = quadtree.isRefitted() ? REFITTED_WIDTH_RATIO : 1;
+            accumulateRepulsion(rootIndex, point, quadtreePoints.getIndex(vertex), widthRatio, resultingForce, layoutContext);
+        }
+        return new Vector2D(resultingForce[0], resultingForce[1]);
+    }
+
+    private void accumulateRepulsion(
+            int node,
+            Point point,
+            int pointIndex,
+            double widthRatio,
+            double[] resultingForce,
+            LayoutContext<V, E> layoutContext
+    ) {
+        double forceX = point.getPosition().getX() - quadtree.getNodeBarycenterX(node);
+        double forceY = point.getPosition().getY() - quadtree.getNodeBarycenterY(node);
+        double magnitude = Math.sqrt(forceX * forceX + forceY * forceY);
+        double pointSize = pointSizeRecord.getPointSize();
+        double nodeWidth = quadtree.getNodeWidth(node);
+        double nodeMass = quadtree.getNodeMass(node);
+        double margin = widthRatio * nodeWidth * SQRT_2 + maxDisplacementRatio * pointSize;
+        if (magnitude - margin >= repulsionZoneRadius) {
+            // all the points of this node are outside the repulsion zone
+            return;
+        }
+        int thisVertexDegree = point.getPointVertexDegree();
+        if (magnitude - margin > 2 * pointSize
+                && magnitude + margin < repulsionZoneRadius
+                && nodeWidth < barnesHutTheta * magnitude) {
+            // all the points of this node are in the part of the zone without overlap, where the force decreases with the distance
+            double intensity = forceIntensityNoOverlap
+                * (thisVertexDegree + 1)
+                * nodeMass
+                / (magnitude * magnitude);
+            resultingForce[0] += forceX * intensity;
+            resultingForce[1] += forceY * intensity;
+            return;
+        }
+        if (!quadtree.isLeaf(node)) {
+            for (int childNumber = 0; childNumber < 4; ++childNumber) {
+                int child = quadtree.getChild(node, childNumber);
+                if (child != FlatQuadtree.NO_CHILDREN) {
+                    accumulateRepulsion(child, point, pointIndex, widthRatio, resultingForce, layoutContext);
+                }
+            }
+        } else if (magnitude < repulsionZoneRadius) {
+            if (magnitude != 0) {
+                // see RepulsionForceDegreeBasedNoOverlapLinear for an explanation of this formula, the mass of a leaf is the vertex degree + 1
+                // of its point (or the sum of those if several points are at the same position)
+                double forceIntensity = magnitude <= 2 * pointSize ? forceIntensityWithOverlap : forceIntensityNoOverlap / magnitude;
+                double intensity = forceIntensity
+                    * (thisVertexDegree + 1)
+                    * nodeMass
+                    / magnitude;
+                resultingForce[0] += forceX * intensity;
+                resultingForce[1] += forceY * intensity;
+            } else if (quadtree.getNodePointCount(node) > 1 || !quadtree.isPointInNode(node, pointIndex)) {
+                // the leaf is not the leaf of the point alone: another point is at the same position as the point
+                Vector2D randomForce = RandomForce.getRandomForce(layoutContext.getRandomGeneratorForForces());
+                resultingForce[0] += randomForce.getX();
+                resultingForce[1] += randomForce.getY();
+            }
+        }
+    }
+}
@@ -9,6 +9,7 @@
 package com.powsybl.diagram.util.layout.forces;
 
 import com.powsybl.diagram.util.layout.forces.parameters.SpringParameter;
+import com.powsybl.diagram.util.layout.geometry.IndexedLayoutContext;
 import com.powsybl.diagram.util.layout.geometry.LayoutContext;
 import com.powsybl.diagram.util.layout.geometry.Point;
 import com.powsybl.diagram.util.layout.geometry.Vector2D;
@@ -25,7 +26,7 @@ import java.util.Objects;
  * but will repulse if points are too close (closer than the equilibrium length)
  * @author Nathan Dissoubray {@literal <nathan.dissoubray at rte-france.com>}
  */
-public class SpringForce<V, E> implements Force<V, E> {
+public class SpringForce<V, E> implements Force<V, E>, IndexedForce<V, E> {
     private final Map<DefaultEdge, SpringParameter> springs;
     private static final double DEFAULT_STIFFNESS = 100.0;
 
@@ -81,4 +82,31 @@ public class SpringForce<V, E> implements Force<V, E> {
         }
         return resultingForce;
     }
+
+    /**
+     * This is Hooke's Law, the length of each spring is the weight of the corresponding edge
+     */
+    @Override
+    public void apply(int pointIndex, IndexedLayoutContext<V, E> layoutContext) {
+        double[] positionX = layoutContext.getPositionX();
+        double[] positionY = layoutContext.getPositionY();
+        int[] neighbors = layoutContext.getNeighbors();
+        double[] springLengths = layoutContext.getNeighborEdgeWeights();
+        int neighborEnd = layoutContext.getNeighborOffsets()[pointIndex + 1];
+        double resultingForceX = 0;
+        double resultingForceY = 0;
+        for (int n = layoutContext.getNeighborOffsets()[pointIndex]; n < neighborEnd; ++n) {
+            int otherIndex = neighbors[n];
+            double forceX = positionX[otherIndex] - positionX[pointIndex];
+            double forceY = positionY[otherIndex] - positionY[pointIndex];
+            double magnitude = Math.sqrt(forceX * forceX + forceY * forceY);
+            double displacement = magnitude - springLengths[n];
+            // multiply by 0.5 because each vertex will move half of the distance, assuming both are free
+            double intensity = DEFAULT_STIFFNESS * displacement * 0.5;
+            resultingForceX += forceX / magnitude * intensity;
+            resultingForceY += forceY / magnitude * intensity;
+        }
+        layoutContext.getForceX()[pointIndex] += resultingForceX;
+        layoutContext.getForceY()[pointIndex] += resultingForceY;
+    }
 }
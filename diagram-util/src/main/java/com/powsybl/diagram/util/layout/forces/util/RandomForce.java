@@ -10,6 +10,7 @@ package com.powsybl.diagram.util.layout.forces.util;
 import com.powsybl.diagram.util.layout.geometry.Vector2D;
 
 import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Util class used to get perfectly overlapping points unstuck by providing a small random force
@@ -17,6 +18,8 @@ import java.util.Random;
  */
 public final class RandomForce {
 
+    private static final long POINT_FORCE_SEED = 45L;
+
     private RandomForce() {
         //util class, no constructor
     }
@@ -28,4 +31,17 @@ public final class RandomForce {
     public static Vector2D getRandomForce(Random random) {
         return new Vector2D(random.nextDouble(1, 2), random.nextDouble(1, 2));
     }
+
+    /**
+     * Use this on points that have equal positions, to get them separated without any shared random generator: each point
+     * has its own small force, always the same, that pushes the points at the same position as this point.
+     * As it does not depend on the order of the calls, this can be called concurrently
+     * @param pointIndex the index of the point at the same position, that pushes the other ones
+     * @return a small force that is different for each point index, and the same for each call with the same index
+     */
+    @SuppressWarnings("java:S2245") // The random generator is not used for cryptographic purposes, so it is safe here
+    public static Vector2D getPointForce(int pointIndex) {
+        SplittableRandom random = new SplittableRandom(POINT_FORCE_SEED + pointIndex);
+        return new Vector2D(random.nextDouble(1, 2), random.nextDouble(1, 2));
+    }
 }
@@ -0,0 +1,501 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.geometry;
+
+import java.util.Arrays;
+
+/**
+ * A quadtree storing its nodes in primitive arrays, built on points given by index in arrays of positions and masses.
+ * The same instance is meant to be reused for the whole layout: building it again only reallocates the arrays when the tree gets bigger,
+ * and {@link #refit()} updates the barycenters in place when the points did not move much since the last build.
+ * <p>For the same points given in the same order, the nodes, the barycenters and the traversal order are the same as the ones of {@link Quadtree}.
+ * Like in {@link Quadtree}, the position of a leaf is always the current position of its (first) point, while the barycenters of the other
+ * nodes are only updated when building or refitting the quadtree.</p>
+ * <p>Once built, the quadtree can be traversed concurrently by several threads with {@link #accumulateForce}.</p>
+ * @author agent {@literal <agent at local>}
+ */
+public class FlatQuadtree {
+
+    /**
+     * The force between a point and a barycenter (or a leaf) of the quadtree, the resulting force is the vector from the barycenter
+     * to the point, multiplied by the returned intensity
+     */
+    @FunctionalInterface
+    public interface Interaction {
+        /**
+         * @param pointFactor a factor depending on the point the force is applied to, given to {@link #accumulateForce}
+         * @param deltaX the x coordinate of the vector from the barycenter to the point
+         * @param deltaY the y coordinate of the vector from the barycenter to the point
+         * @param mass the mass of the barycenter
+         * @return the intensity of the force
+         */
+        double intensity(double pointFactor, double deltaX, double deltaY, double mass);
+    }
+
+    /**
+     * The index corresponding to a node that does not exist
+     */
+    public static final int NO_CHILDREN = -1;
+    private static final int MAX_RECURSION_DEPTH = 64;
+    /**
+     * Each node that is visited pushes at most 4 children, while being removed from the stack, the stack cannot contain more than
+     * 3 nodes for each level of depth, plus the 4 children of the deepest node
+     */
+    private static final int STACK_SIZE = 3 * (MAX_RECURSION_DEPTH + 1) + 4;
+
+    private double[] positionX = new double[0];
+    private double[] positionY = new double[0];
+    private double[] mass = new double[0];
+
+    /**
+     * The indexes of the points of the quadtree, the points of a given node are in a contiguous range
+     */
+    private int[] pointOrder = new int[0];
+    private int pointCount;
+    /**
+     * The position of each point when the quadtree was built, indexed like the positions
+     */
+    private double[] builtPositionX = new double[0];
+    private double[] builtPositionY = new double[0];
+    /**
+     * The position of each point when the quadtree was last built or refitted, used to measure the displacements, indexed like the positions
+     */
+    private double[] updatedPositionX = new double[0];
+    private double[] updatedPositionY = new double[0];
+    /**
+     * The width of the leaf node each point is in, indexed like the positions
+     */
+    private double[] leafWidth = new double[0];
+
+    private int nodeCount;
+    private int rootIndex = NO_CHILDREN;
+    private boolean refitted = false;
+    /**
+     * The 4 children of each node, at index 4 * node to 4 * node + 3, in the order top left, top right, bottom left, bottom right of {@link Quadtree}
+     */
+    private int[] children = new int[0];
+    private int[] nodeFirstPoint = new int[0];
+    private int[] nodeLastPoint = new int[0];
+    private boolean[] leaf = new boolean[0];
+    private double[] nodeWidth = new double[0];
+    private double[] nodeMass = new double[0];
+    private double[] barycenterX = new double[0];
+    private double[] barycenterY = new double[0];
+
+    private double left;
+    private double top;
+    private double right;
+    private double bottom;
+
+    private final ThreadLocal<int[]> traversalStack = ThreadLocal.withInitial(() -> new int[STACK_SIZE]);
+
+    /**
+     * Build the quadtree with the given points. The arrays are kept as is, not copied: the positions of the leaves follow the changes
+     * made to <code>positionX</code> and <code>positionY</code>.
+     * @param positionX the x coordinate of the points
+     * @param positionY the y coordinate of the points
+     * @param mass the mass of the points, used to calculate the barycenters
+     * @param points the indexes of the points to put in the quadtree, the order matters as it gives the order of the nodes
+     * @param pointCount the number of indexes to use in <code>points</code>
+     */
+    public void build(double[] positionX, double[] positionY, double[] mass, int[] points, int pointCount) {
+        this.positionX = positionX;
+        this.positionY = positionY;
+        this.mass = mass;
+        this.pointCount = pointCount;
+        if (pointOrder.length < pointCount) {
+            pointOrder = new int[pointCount];
+        }
+        System.arraycopy(points, 0, pointOrder, 0, pointCount);
+        if (builtPositionX.length < positionX.length) {
+            builtPositionX = new double[positionX.length];
+            builtPositionY = new double[positionX.length];
+            updatedPositionX = new double[positionX.length];
+            updatedPositionY = new double[positionX.length];
+            leafWidth = new double[positionX.length];
+        }
+        computeBoundingBox();
+        nodeCount = 0;
+        refitted = false;
+        rootIndex = buildNode(0, pointCount, left, top, right, bottom, Math.max(right - left, bottom - top), pointCount, MAX_RECURSION_DEPTH);
+    }
+
+    private void computeBoundingBox() {
+        if (pointCount == 0) {
+            // same as BoundingBox.computeBoundingBox
+            left = 0;
+            top = 0;
+            right = 0;
+            bottom = 0;
+            return;
+        }
+        left = Double.POSITIVE_INFINITY;
+        top = Double.POSITIVE_INFINITY;
+        right = Double.NEGATIVE_INFINITY;
+        bottom = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < pointCount; ++i) {
+            int point = pointOrder[i];
+            left = Math.min(left, positionX[point]);
+            right = Math.max(right, positionX[point]);
+            top = Math.min(top, positionY[point]);
+            bottom = Math.max(bottom, positionY[point]);
+        }
+    }
+
+    /**
+     * Recursively build the node containing the points of <code>pointOrder</code> in [first, last), see {@link Quadtree} for the details
+     * @return the index of the node, or {@link #NO_CHILDREN} if there is no point
+     */
+    private int buildNode(int first, int last, double nodeLeft, double nodeTop, double nodeRight, double nodeBottom, double width, int previousSize, int remainingDepth) {
+        int size = last - first;
+        if (size == 0) {
+            return NO_CHILDREN;
+        }
+        int node = addNode(first, last, width);
+        if (size == 1 || remainingDepth == 0 || size == previousSize && checkPointPositionEquality(first, last)) {
+            leaf[node] = true;
+            double totalMass = mass[pointOrder[first]];
+            for (int i = first; i < last; ++i) {
+                int point = pointOrder[i];
+                if (i != first) {
+                    totalMass += mass[point];
+                }
+                builtPositionX[point] = positionX[point];
+                builtPositionY[point] = positionY[point];
+                updatedPositionX[point] = positionX[point];
+                updatedPositionY[point] = positionY[point];
+                leafWidth[point] = width;
+            }
+            nodeMass[node] = totalMass;
+            return node;
+        }
+
+        double centerX = (nodeLeft + nodeRight) / 2;
+        double centerY = (nodeTop + nodeBottom) / 2;
+        // bottom is max Y, top is min Y
+        int ySplitIndex = partitionBottom(first, last, centerY);
+        int xLowerSplitIndex = partitionLeft(first, ySplitIndex, centerX);
+        int xUpperSplitIndex = partitionLeft(ySplitIndex, last, centerX);
+
+        double childWidth = width / 2;
+        // the arrays can be reallocated when building the children, only store the indexes once all of them are built
+        int topLeft = buildNode(first, xLowerSplitIndex, nodeLeft, centerY, centerX, nodeBottom, childWidth, size, remainingDepth - 1);
+        int topRight = buildNode(xLowerSplitIndex, ySplitIndex, centerX, centerY, nodeRight, nodeBottom, childWidth, size, remainingDepth - 1);
+        int bottomLeft = buildNode(ySplitIndex, xUpperSplitIndex, nodeLeft, nodeTop, centerX, centerY, childWidth, size, remainingDepth - 1);
+        int bottomRight = buildNode(xUpperSplitIndex, last, centerX, nodeTop, nodeRight, centerY, childWidth, size, remainingDepth - 1);
+        children[4 * node] = topLeft;
+        children[4 * node + 1] = topRight;
+        children[4 * node + 2] = bottomLeft;
+        children[4 * node + 3] = bottomRight;
+        computeNodeBarycenter(node);
+        return node;
+    }
+
+    private int addNode(int first, int last, double width) {
+        if (nodeCount == leaf.length) {
+            int newCapacity = Math.max(16, 2 * nodeCount);
+            children = Arrays.copyOf(children, 4 * newCapacity);
+            nodeFirstPoint = Arrays.copyOf(nodeFirstPoint, newCapacity);
+            nodeLastPoint = Arrays.copyOf(nodeLastPoint, newCapacity);
+            leaf = Arrays.copyOf(leaf, newCapacity);
+            nodeWidth = Arrays.copyOf(nodeWidth, newCapacity);
+            nodeMass = Arrays.copyOf(nodeMass, newCapacity);
+            barycenterX = Arrays.copyOf(barycenterX, newCapacity);
+            barycenterY = Arrays.copyOf(barycenterY, newCapacity);
+        }
+        int node = nodeCount++;
+        Arrays.fill(children, 4 * node, 4 * node + 4, NO_CHILDREN);
+        nodeFirstPoint[node] = first;
+        nodeLastPoint[node] = last;
+        leaf[node] = false;
+        nodeWidth[node] = width;
+        return node;
+    }
+
+    /**
+     * Same as the barycenter of the nodes of {@link Quadtree}, the weighted sum of the barycenters of the children
+     */
+    private void computeNodeBarycenter(int node) {
+        double x = 0;
+        double y = 0;
+        double totalMass = 0;
+        for (int i = 4 * node; i < 4 * node + 4; ++i) {
+            int child = children[i];
+            if (child != NO_CHILDREN) {
+                double childMass = nodeMass[child];
+                x += getBarycenterX(child) * childMass;
+                y += getBarycenterY(child) * childMass;
+                totalMass += childMass;
+            }
+        }
+        barycenterX[node] = x / totalMass;
+        barycenterY[node] = y / totalMass;
+        nodeMass[node] = totalMass;
+    }
+
+    /**
+     * Same partition algorithm as {@link Quadtree}, so that the points end in the same order
+     * @return the index such that the points in [first, index) have y > centerY and the points in [index, last) do not
+     */
+    private int partitionBottom(int first, int last, double centerY) {
+        int firstFalseIndex = first;
+        while (firstFalseIndex < last && positionY[pointOrder[firstFalseIndex]] > centerY) {
+            ++firstFalseIndex;
+        }
+        for (int i = firstFalseIndex + 1; i < last; ++i) {
+            if (positionY[pointOrder[i]] > centerY) {
+                swapPoints(i, firstFalseIndex);
+                ++firstFalseIndex;
+            }
+        }
+        return firstFalseIndex;
+    }
+
+    /**
+     * @return the index such that the points in [first, index) have x < centerX and the points in [index, last) do not
+     */
+    private int partitionLeft(int first, int last, double centerX) {
+        int firstFalseIndex = first;
+        while (firstFalseIndex < last && positionX[pointOrder[firstFalseIndex]] < centerX) {
+            ++firstFalseIndex;
+        }
+        for (int i = firstFalseIndex + 1; i < last; ++i) {
+            if (positionX[pointOrder[i]] < centerX) {
+                swapPoints(i, firstFalseIndex);
+                ++firstFalseIndex;
+            }
+        }
+        return firstFalseIndex;
+    }
+
+    private void swapPoints(int i, int j) {
+        int point = pointOrder[i];
+        pointOrder[i] = pointOrder[j];
+        pointOrder[j] = point;
+    }
+
+    private boolean checkPointPositionEquality(int first, int last) {
+        int firstPoint = pointOrder[first];
+        for (int i = first + 1; i < last; ++i) {
+            int point = pointOrder[i];
+            if (positionX[point] != positionX[firstPoint] || positionY[point] != positionY[firstPoint]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Update the barycenters of all the nodes with the current positions of the points, without changing the structure of the quadtree.
+     * This is only done if all the points moved less than the width of their leaf node since the quadtree was built, otherwise the
+     * structure would not be representative of the points anymore, and the quadtree needs to be built again.
+     * The displacements are then measured from the refitted positions.
+     * @return true if the barycenters were updated, false if the quadtree needs to be built again
+     */
+    public boolean refit() {
+        for (int i = 0; i < pointCount; ++i) {
+            int point = pointOrder[i];
+            if (!(Math.abs(positionX[point] - builtPositionX[point]) < leafWidth[point]
+                    && Math.abs(positionY[point] - builtPositionY[point]) < leafWidth[point])) {
+                return false;
+            }
+        }
+        // children always have a bigger index than their parent
+        for (int node = nodeCount - 1; node >= 0; --node) {
+            if (!leaf[node]) {
+                computeNodeBarycenter(node);
+            }
+        }
+        for (int i = 0; i < pointCount; ++i) {
+            int point = pointOrder[i];
+            updatedPositionX[point] = positionX[point];
+            updatedPositionY[point] = positionY[point];
+        }
+        refitted = true;
+        return true;
+    }
+
+    /**
+     * @return true if the barycenters were refitted since the quadtree was last built. The points of a node can then be outside of the
+     * square of the node, by less than the width of their leaf on each axis
+     */
+    public boolean isRefitted() {
+        return refitted;
+    }
+
+    /**
+     * @return the largest distance between the current position of a point and its position when the quadtree was last built or refitted
+     */
+    public double getMaxDisplacement() {
+        double maxDisplacementSquare = 0;
+        for (int i = 0; i < pointCount; ++i) {
+            maxDisplacementSquare = Math.max(maxDisplacementSquare, getDisplacementSquare(pointOrder[i]));
+        }
+        return Math.sqrt(maxDisplacementSquare);
+    }
+
+    /**
+     * @return the average distance between the current position of the points and their position when the quadtree was last built or refitted, 0 if there is no point
+     */
+    public double getAverageDisplacement() {
+        if (pointCount == 0) {
+            return 0;
+        }
+        double totalDisplacement = 0;
+        for (int i = 0; i < pointCount; ++i) {
+            totalDisplacement += Math.sqrt(getDisplacementSquare(pointOrder[i]));
+        }
+        return totalDisplacement / pointCount;
+    }
+
+    private double getDisplacementSquare(int point) {
+        double deltaX = positionX[point] - updatedPositionX[point];
+        double deltaY = positionY[point] - updatedPositionY[point];
+        return deltaX * deltaX + deltaY * deltaY;
+    }
+
+    /**
+     * Add to <code>forceX[index]</code> and <code>forceY[index]</code> the force applied by the points of the quadtree on a point at position (x, y).
+     * The nodes are visited depth first, a node is approximated by its barycenter if its width is smaller than theta times the distance between
+     * the point and the barycenter. Barycenters at the exact same position as the point are skipped.
+     * @param x the x coordinate of the point
+     * @param y the y coordinate of the point
+     * @param pointFactor a factor given to the interaction, for example to take into account the mass of the point
+     * @param theta the theta of the Barnes-Hut approximation
+     * @param interaction the force between the point and a barycenter
+     * @param forceX the array to add the x coordinate of the force to
+     * @param forceY the array to add the y coordinate of the force to
+     * @param index the index in the force arrays
+     */
+    public void accumulateForce(double x, double y, double pointFactor, double theta, Interaction interaction, double[] forceX, double[] forceY, int index) {
+        accumulateForce(x, y, pointFactor, theta, interaction, forceX, index, forceY, index);
+    }
+
+    /**
+     * Same as {@link #accumulateForce(double, double, double, double, Interaction, double[], double[], int)}, but returns the force
+     * @return the force applied by the points of the quadtree on a point at position (x, y)
+     */
+    public Vector2D calculateForce(double x, double y, double pointFactor, double theta, Interaction interaction) {
+        double[] resultingForce = new double[2];
+        accumulateForce(x, y, pointFactor, theta, interaction, resultingForce, 0, resultingForce, 1);
+        return new Vector2D(resultingForce[0], resultingForce[1]);
+    }
+
+    private void accumulateForce(double x, double y, double pointFactor, double theta, Interaction interaction, double[] forceX, int indexX, double[] forceY, int indexY) {
+        if (rootIndex == NO_CHILDREN) {
+            return;
+        }
+        int[] stack = traversalStack.get();
+        int stackSize = 0;
+        stack[stackSize++] = rootIndex;
+        double resultingForceX = 0;
+        double resultingForceY = 0;
+        while (stackSize > 0) {
+            int node = stack[--stackSize];
+            double nodeX = getBarycenterX(node);
+            double nodeY = getBarycenterY(node);
+            double deltaX = x - nodeX;
+            double deltaY = y - nodeY;
+            if (!leaf[node] && !(nodeWidth[node] < theta * Math.sqrt(deltaX * deltaX + deltaY * deltaY))) {
+                // children are pushed in reverse order to be visited in the same order as a recursive traversal
+                for (int i = 4 * node + 3; i >= 4 * node; --i) {
+                    if (children[i] != NO_CHILDREN) {
+                        stack[stackSize++] = children[i];
+                    }
+                }
+            } else if (x != nodeX || y != nodeY) {
+                double intensity = interaction.intensity(pointFactor, deltaX, deltaY, nodeMass[node]);
+                resultingForceX += deltaX * intensity;
+                resultingForceY += deltaY * intensity;
+            }
+        }
+        forceX[indexX] += resultingForceX;
+        forceY[indexY] += resultingForceY;
+    }
+
+    private double getBarycenterX(int node) {
+        return leaf[node] ? positionX[pointOrder[nodeFirstPoint[node]]] : barycenterX[node];
+    }
+
+    private double getBarycenterY(int node) {
+        return leaf[node] ? positionY[pointOrder[nodeFirstPoint[node]]] : barycenterY[node];
+    }
+
+    /**
+     * @return the index of the root node, {@link #NO_CHILDREN} if the quadtree has no point
+     */
+    public int getRootIndex() {
+        return rootIndex;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public boolean isLeaf(int node) {
+        return leaf[node];
+    }
+
+    /**
+     * @return the index of the child of <code>node</code>, from 0 to 3 in the order top left, top right, bottom left, bottom right, or {@link #NO_CHILDREN}
+     */
+    public int getChild(int node, int childNumber) {
+        return children[4 * node + childNumber];
+    }
+
+    /**
+     * @return the number of points in the given node and its descendants
+     */
+    public int getNodePointCount(int node) {
+        return nodeLastPoint[node] - nodeFirstPoint[node];
+    }
+
+    /**
+     * @param node the index of the node
+     * @param point the index of the point in the arrays the quadtree is built on
+     * @return true if the point is in the given node or one of its descendants
+     */
+    public boolean isPointInNode(int node, int point) {
+        for (int i = nodeFirstPoint[node]; i < nodeLastPoint[node]; ++i) {
+            if (pointOrder[i] == point) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public double getNodeMass(int node) {
+        return nodeMass[node];
+    }
+
+    public double getNodeBarycenterX(int node) {
+        return getBarycenterX(node);
+    }
+
+    public double getNodeBarycenterY(int node) {
+        return getBarycenterY(node);
+    }
+
+    public double getNodeWidth(int node) {
+        return nodeWidth[node];
+    }
+
+    /**
+     * @return the width of the root node, 0 if the quadtree has no point
+     */
+    public double getRootWidth() {
+        return rootIndex == NO_CHILDREN ? 0 : nodeWidth[rootIndex];
+    }
+
+    /**
+     * @return the bounding box of all the points when the quadtree was built
+     */
+    public BoundingBox getBoundingBox() {
+        return new BoundingBox(left, top, right, bottom);
+    }
+}
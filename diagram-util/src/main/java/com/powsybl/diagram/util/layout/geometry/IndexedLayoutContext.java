@@ -0,0 +1,338 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.geometry;
+
+import org.jgrapht.Graphs;
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.SimpleGraph;
+
+import java.util.*;
+
+/**
+ * A structure-of-arrays view of a {@link LayoutContext}, to be used by the force loops of the layout algorithms.<br>
+ * Each vertex is given an int index: moving points get the indexes <code>[0, movingPointCount)</code>, in the iteration order of
+ * {@link LayoutContext#getMovingPoints()}, and fixed points get the indexes <code>[movingPointCount, pointCount)</code>, in the iteration order of
+ * {@link LayoutContext#getFixedPoints()}. Positions, forces, previous forces, velocities, masses, degrees and degree-based masses are stored in flat primitive arrays,
+ * and the topology of the graph is stored as a CSR (compressed sparse row) adjacency: the neighbors of the point <code>i</code> are
+ * <code>neighbors[neighborOffsets[i]]</code> to <code>neighbors[neighborOffsets[i + 1] - 1]</code>, in the order given by
+ * {@link SimpleGraph#edgesOf(Object)}.<br>
+ * The map-based API of the {@link LayoutContext} stays the reference: this context has to be built once the setup has been run,
+ * and the positions computed on the arrays are only visible on the {@link Point} objects after a call to {@link #writePointPositions()}.
+ * @author agent {@literal <agent at local>}
+ */
+public class IndexedLayoutContext<V, E> {
+    private final LayoutContext<V, E> layoutContext;
+
+    private final List<V> vertices;
+    private final Map<V, Integer> vertexIndexes;
+    private final Point[] points;
+    private final int movingPointCount;
+
+    private final double[] positionX;
+    private final double[] positionY;
+    private double[] forceX;
+    private double[] forceY;
+    private double[] previousForceX;
+    private double[] previousForceY;
+    private final double[] velocityX;
+    private final double[] velocityY;
+    private final double[] mass;
+    private final int[] degree;
+    private final double[] degreeMass;
+
+    private final int[] neighborOffsets;
+    private final int[] neighbors;
+    private final double[] neighborEdgeWeights;
+    private final double[] neighborAttractionWeights;
+
+    private final double centerX;
+    private final double centerY;
+
+    /**
+     * Build the arrays from the points of the given layout context
+     * @param layoutContext the context of the layout, the setup must already have been run on it (ie the moving and fixed points must be filled)
+     */
+    public IndexedLayoutContext(LayoutContext<V, E> layoutContext) {
+        this.layoutContext = Objects.requireNonNull(layoutContext);
+        SimpleGraph<V, DefaultEdge> simpleGraph = layoutContext.getSimpleGraph();
+        int pointCount = layoutContext.getMovingPoints().size() + layoutContext.getFixedPoints().size();
+        if (pointCount != simpleGraph.vertexSet().size()) {
+            throw new IllegalStateException("All the vertices of the graph need a point before indexing the layout context, run the setup first");
+        }
+        // the degree is also stored in the points, for the structures that still rely on them (for instance the quadtree)
+        layoutContext.cacheDegree();
+
+        this.movingPointCount = layoutContext.getMovingPoints().size();
+        this.vertices = new ArrayList<>(pointCount);
+        this.vertexIndexes = new HashMap<>();
+        this.points = new Point[pointCount];
+        addPoints(layoutContext.getMovingPoints());
+        addPoints(layoutContext.getFixedPoints());
+
+        this.positionX = new double[pointCount];
+        this.positionY = new double[pointCount];
+        this.forceX = new double[pointCount];
+        this.forceY = new double[pointCount];
+        this.previousForceX = new double[pointCount];
+        this.previousForceY = new double[pointCount];
+        this.velocityX = new double[pointCount];
+        this.velocityY = new double[pointCount];
+        this.mass = new double[pointCount];
+        this.degree = new int[pointCount];
+        this.degreeMass = new double[pointCount];
+        for (int i = 0; i < pointCount; ++i) {
+            Point point = points[i];
+            positionX[i] = point.getPosition().getX();
+            positionY[i] = point.getPosition().getY();
+            velocityX[i] = point.getVelocity().getX();
+            velocityY[i] = point.getVelocity().getY();
+            mass[i] = point.getMass();
+            degree[i] = simpleGraph.degreeOf(vertices.get(i));
+            degreeMass[i] = degree[i] + 1;
+        }
+
+        this.neighborOffsets = new int[pointCount + 1];
+        int adjacencySize = 0;
+        for (int i = 0; i < pointCount; ++i) {
+            adjacencySize += simpleGraph.edgesOf(vertices.get(i)).size();
+        }
+        this.neighbors = new int[adjacencySize];
+        this.neighborEdgeWeights = new double[adjacencySize];
+        this.neighborAttractionWeights = new double[adjacencySize];
+        Arrays.fill(neighborAttractionWeights, 1);
+        int adjacencyIndex = 0;
+        for (int i = 0; i < pointCount; ++i) {
+            neighborOffsets[i] = adjacencyIndex;
+            V vertex = vertices.get(i);
+            for (DefaultEdge edge : simpleGraph.edgesOf(vertex)) {
+                neighbors[adjacencyIndex] = vertexIndexes.get(Graphs.getOppositeVertex(simpleGraph, edge, vertex));
+                neighborEdgeWeights[adjacencyIndex] = simpleGraph.getEdgeWeight(edge);
+                ++adjacencyIndex;
+            }
+        }
+        neighborOffsets[pointCount] = adjacencyIndex;
+
+        this.centerX = layoutContext.getCenter().getX();
+        this.centerY = layoutContext.getCenter().getY();
+    }
+
+    private void addPoints(Map<V, Point> pointsToAdd) {
+        for (Map.Entry<V, Point> entry : pointsToAdd.entrySet()) {
+            int index = vertices.size();
+            vertices.add(entry.getKey());
+            vertexIndexes.put(entry.getKey(), index);
+            points[index] = entry.getValue();
+        }
+    }
+
+    /**
+     * @return the map-based layout context this indexed context was built from
+     */
+    public LayoutContext<V, E> getLayoutContext() {
+        return layoutContext;
+    }
+
+    /**
+     * @return the total number of points, moving and fixed
+     */
+    public int getPointCount() {
+        return points.length;
+    }
+
+    /**
+     * @return the number of moving points, moving points have the indexes <code>[0, movingPointCount)</code>
+     */
+    public int getMovingPointCount() {
+        return movingPointCount;
+    }
+
+    /**
+     * @param index the index of a point
+     * @return the vertex corresponding to the point with the given index
+     */
+    public V getVertex(int index) {
+        return vertices.get(index);
+    }
+
+    /**
+     * @param vertex a vertex of the graph
+     * @return the index of the point corresponding to the vertex, or -1 if the vertex is not in the graph
+     */
+    public int getIndex(V vertex) {
+        return vertexIndexes.getOrDefault(vertex, -1);
+    }
+
+    /**
+     * @param index the index of a point
+     * @return the point of the map-based layout context corresponding to the given index
+     */
+    public Point getPoint(int index) {
+        return points[index];
+    }
+
+    public double[] getPositionX() {
+        return positionX;
+    }
+
+    public double[] getPositionY() {
+        return positionY;
+    }
+
+    /**
+     * @return the x component of the sum of the forces currently applied to each point
+     */
+    public double[] getForceX() {
+        return forceX;
+    }
+
+    /**
+     * @return the y component of the sum of the forces currently applied to each point
+     */
+    public double[] getForceY() {
+        return forceY;
+    }
+
+    /**
+     * @return the x component of the forces that were applied to each point on the previous step, see {@link #shiftForces()}
+     */
+    public double[] getPreviousForceX() {
+        return previousForceX;
+    }
+
+    /**
+     * @return the y component of the forces that were applied to each point on the previous step, see {@link #shiftForces()}
+     */
+    public double[] getPreviousForceY() {
+        return previousForceY;
+    }
+
+    public double[] getVelocityX() {
+        return velocityX;
+    }
+
+    public double[] getVelocityY() {
+        return velocityY;
+    }
+
+    public double[] getMass() {
+        return mass;
+    }
+
+    /**
+     * @return the degree of the vertex corresponding to each point, ie its number of edges
+     */
+    public int[] getDegree() {
+        return degree;
+    }
+
+    /**
+     * @return the mass of each point for the degree-based forces, <code>degree + 1</code> unless changed before running the layout,
+     * for instance to give a vertex standing for several vertices of a finer graph the mass of all of them
+     */
+    public double[] getDegreeMass() {
+        return degreeMass;
+    }
+
+    /**
+     * @return the offsets of the CSR adjacency, the neighbors of the point <code>i</code> are between <code>neighborOffsets[i]</code> (included)
+     * and <code>neighborOffsets[i + 1]</code> (excluded) in {@link #getNeighbors()}
+     */
+    public int[] getNeighborOffsets() {
+        return neighborOffsets;
+    }
+
+    /**
+     * @return the indexes of the neighbors of all the points, see {@link #getNeighborOffsets()}
+     */
+    public int[] getNeighbors() {
+        return neighbors;
+    }
+
+    /**
+     * @return the weight of the edge leading to each neighbor of {@link #getNeighbors()}
+     */
+    public double[] getNeighborEdgeWeights() {
+        return neighborEdgeWeights;
+    }
+
+    /**
+     * @return the factor applied to the attraction of each neighbor of {@link #getNeighbors()}, 1 unless changed before running the layout,
+     * for instance to give an edge standing for several edges of a finer graph the attraction of all of them
+     */
+    public double[] getNeighborAttractionWeights() {
+        return neighborAttractionWeights;
+    }
+
+    /**
+     * @return the x coordinate of the center of the graph in the 2D space, as it was when this context was built
+     */
+    public double getCenterX() {
+        return centerX;
+    }
+
+    /**
+     * @return the y coordinate of the center of the graph in the 2D space, as it was when this context was built
+     */
+    public double getCenterY() {
+        return centerY;
+    }
+
+    /**
+     * Set the forces applied to all the points to 0
+     */
+    public void resetForces() {
+        Arrays.fill(forceX, 0);
+        Arrays.fill(forceY, 0);
+    }
+
+    /**
+     * Keep the current forces as the previous forces, and set the current forces to 0. This swaps the arrays instead of copying them,
+     * the arrays returned by the force getters before the call should not be used after it
+     */
+    public void shiftForces() {
+        double[] tmpX = previousForceX;
+        double[] tmpY = previousForceY;
+        previousForceX = forceX;
+        previousForceY = forceY;
+        forceX = tmpX;
+        forceY = tmpY;
+        resetForces();
+    }
+
+    /**
+     * Copy the positions of the arrays into the points of the map-based layout context. The position objects of the points are updated in place
+     */
+    public void writePointPositions() {
+        for (int i = 0; i < points.length; ++i) {
+            points[i].getPosition().set(positionX[i], positionY[i]);
+        }
+    }
+
+    /**
+     * Copy the velocities of the arrays into the points of the map-based layout context
+     */
+    public void writePointVelocities() {
+        for (int i = 0; i < points.length; ++i) {
+            points[i].setVelocity(new Vector2D(velocityX[i], velocityY[i]));
+        }
+    }
+
+    /**
+     * Copy the positions of the points of the map-based layout context into the arrays, to be used if the points were moved outside this context
+     */
+    public void readPointPositions() {
+        for (int i = 0; i < points.length; ++i) {
+            positionX[i] = points[i].getPosition().getX();
+            positionY[i] = points[i].getPosition().getY();
+        }
+    }
+
+    public Random getRandomGeneratorForForces() {
+        return layoutContext.getRandomGeneratorForForces();
+    }
+}
@@ -8,6 +8,7 @@
 
 package com.powsybl.diagram.util.layout.geometry;
 
+import com.powsybl.diagram.util.instrumentation.DiagramInstrumentation;
 import com.powsybl.diagram.util.layout.Canvas;
 import org.jgrapht.Graph;
 import org.jgrapht.graph.DefaultEdge;
@@ -56,9 +57,10 @@ public class LayoutContext<V, E> {
     private final Map<V, Point> fixedPoints = new LinkedHashMap<>();
     /**
      * A Map that links each vertex V of the graph to a point. It should verify allPoints = movingPoints + fixedPoints.
-     * It's the responsibility of {@link com.powsybl.diagram.util.layout.setup.Setup} to fill this
+     * It's the responsibility of {@link com.powsybl.diagram.util.layout.setup.Setup} to fill this.
+     * The insertion order is kept, so that the forces summed over all the points do not depend on the hash of the vertices
      */
-    private final Map<V, Point> allPoints = new HashMap<>();
+    private final Map<V, Point> allPoints = new LinkedHashMap<>();
 
     private boolean cachedDegree = false;
 
@@ -76,6 +78,11 @@ public class LayoutContext<V, E> {
      */
     private Random random;
 
+    /**
+     * The listener of the layout stages and counters
+     */
+    private DiagramInstrumentation instrumentation = DiagramInstrumentation.noOp();
+
     public LayoutContext(Graph<V, E> graph) {
         Objects.requireNonNull(graph);
         // Create a simple graph with the given JGraphT graph to only keep essential information, and prevent be sure of the type of edge used
@@ -105,6 +112,14 @@ public class LayoutContext<V, E> {
         }
     }
 
+    public DiagramInstrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
+    public void setInstrumentation(DiagramInstrumentation instrumentation) {
+        this.instrumentation = Objects.requireNonNull(instrumentation);
+    }
+
     /**
      * @return the graph object that represents the topology with the vertex and edges
      */
@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.geometry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * The positions and masses of the points of a map-based layout, in the arrays a {@link FlatQuadtree} is built on.
+ * The positions are copies of the positions of the points: they have to be copied again when the points move, so that the leaves of the
+ * quadtree follow the points.
+ * @author agent {@literal <agent at local>}
+ */
+public final class QuadtreePointArrays<V> {
+    private final List<Point> points;
+    private final Map<V, Integer> indexes;
+    private final double[] positionX;
+    private final double[] positionY;
+    private final double[] mass;
+    private final int[] order;
+    private boolean built = false;
+
+    /**
+     * @param points the points to put in the quadtree, the iteration order gives the index of each point and the order of the nodes
+     * @param massFunction the mass of a point in the quadtree
+     */
+    public QuadtreePointArrays(Map<V, Point> points, ToDoubleFunction<Point> massFunction) {
+        Objects.requireNonNull(points);
+        Objects.requireNonNull(massFunction);
+        this.points = new ArrayList<>(points.size());
+        this.indexes = new HashMap<>();
+        this.positionX = new double[points.size()];
+        this.positionY = new double[points.size()];
+        this.mass = new double[points.size()];
+        this.order = new int[points.size()];
+        for (Map.Entry<V, Point> entry : points.entrySet()) {
+            int i = this.points.size();
+            this.points.add(entry.getValue());
+            indexes.put(entry.getKey(), i);
+            mass[i] = massFunction.applyAsDouble(entry.getValue());
+            order[i] = i;
+        }
+        updatePositions();
+    }
+
+    /**
+     * @return the index of the point of the given vertex in the arrays, -1 if the point is not in the quadtree
+     */
+    public int getIndex(V vertex) {
+        return indexes.getOrDefault(vertex, -1);
+    }
+
+    /**
+     * Copy the current position of all the points
+     */
+    public void updatePositions() {
+        for (int i = 0; i < points.size(); ++i) {
+            updatePosition(i);
+        }
+    }
+
+    /**
+     * Copy the current position of the point at the given index
+     */
+    public void updatePosition(int index) {
+        Vector2D position = points.get(index).getPosition();
+        positionX[index] = position.getX();
+        positionY[index] = position.getY();
+    }
+
+    /**
+     * Refit the quadtree if it is enabled and possible, otherwise build it again on the copied positions
+     * @param quadtree the quadtree to update, always built on the arrays of this instance
+     * @param refitEnabled whether the barycenters can be updated in place instead of building the quadtree again
+     * @return true if the quadtree was built again, false if it was refitted
+     */
+    public boolean update(FlatQuadtree quadtree, boolean refitEnabled) {
+        if (!built || !refitEnabled || !quadtree.refit()) {
+            quadtree.build(positionX, positionY, mass, order, order.length);
+            built = true;
+            return true;
+        }
+        return false;
+    }
+
+    public boolean isBuilt() {
+        return built;
+    }
+}
@@ -39,6 +39,16 @@ public class Vector2D {
         return y;
     }
 
+    /**
+     * Change both coordinates of this vector in place
+     * @param x the new x coordinate
+     * @param y the new y coordinate
+     */
+    public void set(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
     public void add(Vector2D otherVector) {
         this.x += otherVector.x;
         this.y += otherVector.y;
@@ -7,12 +7,11 @@
  */
 package com.powsybl.diagram.util.layout.postprocessing;
 
-import com.powsybl.diagram.util.layout.forces.AttractToCenterForceDegreeBasedLinear;
-import com.powsybl.diagram.util.layout.forces.EdgeAttractionForceNoOverlapLinear;
-import com.powsybl.diagram.util.layout.forces.Force;
-import com.powsybl.diagram.util.layout.forces.RepulsionForceDegreeBasedNoOverlapLinear;
+import com.powsybl.diagram.util.layout.forces.*;
+import com.powsybl.diagram.util.layout.geometry.FlatQuadtree;
 import com.powsybl.diagram.util.layout.geometry.LayoutContext;
 import com.powsybl.diagram.util.layout.geometry.Point;
+import com.powsybl.diagram.util.layout.geometry.QuadtreePointArrays;
 import com.powsybl.diagram.util.layout.geometry.Vector2D;
 import com.powsybl.diagram.util.layout.postprocessing.parameters.OverlapPreventionPostProcessingParameters;
 
@@ -29,8 +28,13 @@ public class OverlapPreventionPostProcessing<V, E> implements PostProcessing<V,
     private static final double STARTING_SPEED_FACTOR = 0.1;
     private static final double SPEED_DECREASE_RATIO = 0.97;
     private static final int ITERATION_NUMBER = 90;
+    /**
+     * A point cannot move by more than this ratio times the point size at each iteration
+     */
+    private static final double MAX_DISPLACEMENT_RATIO = 2;
 
     private double pointSize = 15;
+    private final FlatQuadtree quadtree = new FlatQuadtree();
 
     /**
      * @param parameters the parameters of this post-processing
@@ -52,16 +56,23 @@ public class OverlapPreventionPostProcessing<V, E> implements PostProcessing<V,
     public void run(LayoutContext<V, E> layoutContext) {
         Objects.requireNonNull(layoutContext);
         pointSize = parameters.getPointSizeScale() * layoutContext.getAllPoints().size() + parameters.getPointSizeOffset();
+        layoutContext.cacheDegree();
+        // the quadtree is built on copies of the positions of the points, which are updated each time a point moves
+        QuadtreePointArrays<V> quadtreePoints = parameters.isBarnesHutEnabled()
+            ? new QuadtreePointArrays<>(layoutContext.getAllPoints(), (Point point) -> point.getPointVertexDegree() + 1)
+            : null;
         List<Force<V, E>> forces = List.of(
                 new EdgeAttractionForceNoOverlapLinear<>(parameters.getEdgeAttractionIntensity(), parameters.getPointSizeScale(), parameters.getPointSizeOffset()),
-                new RepulsionForceDegreeBasedNoOverlapLinear<>(parameters.getRepulsionNoOverlapIntensity(), parameters.getRepulsionWithOverlapIntensity(),
-                    parameters.getPointSizeScale(), parameters.getPointSizeOffset(), parameters.getRepulsionZoneRatio()),
+                createRepulsionForce(quadtreePoints),
                 new AttractToCenterForceDegreeBasedLinear<>(parameters.getAttractToCenterIntensity())
         );
 
         forces.forEach(f -> f.init(layoutContext));
         double speedFactor = STARTING_SPEED_FACTOR;
         for (int i = 0; i < ITERATION_NUMBER; ++i) {
+            if (quadtreePoints != null) {
+                quadtreePoints.update(quadtree, parameters.isQuadtreeRefitEnabled());
+            }
             for (Map.Entry<V, Point> entry : layoutContext.getMovingPoints().entrySet()) {
                 Point point = entry.getValue();
                 for (Force<V, E> force : forces) {
@@ -70,17 +81,36 @@ public class OverlapPreventionPostProcessing<V, E> implements PostProcessing<V,
                 }
                 // update points position directly instead of all at the same time
                 updatePointPosition(point, speedFactor);
+                if (quadtreePoints != null) {
+                    // the leaves of the quadtree follow the points
+                    quadtreePoints.updatePosition(quadtreePoints.getIndex(entry.getKey()));
+                }
             }
             speedFactor *= SPEED_DECREASE_RATIO;
         }
     }
 
+    /**
+     * Choose whether to use a repulsion force using barnes-hut or not
+     */
+    private Force<V, E> createRepulsionForce(QuadtreePointArrays<V> quadtreePoints) {
+        if (quadtreePoints != null) {
+            // points are moved one after the other, they can have moved since the quadtree was built or refitted at the start of the iteration
+            return new RepulsionForceDegreeBasedNoOverlapLinearBarnesHut<>(parameters.getRepulsionNoOverlapIntensity(), parameters.getRepulsionWithOverlapIntensity(),
+                parameters.getPointSizeScale(), parameters.getPointSizeOffset(), parameters.getRepulsionZoneRatio(),
+                parameters.getBarnesHutTheta(), MAX_DISPLACEMENT_RATIO, quadtreePoints, quadtree);
+        } else {
+            return new RepulsionForceDegreeBasedNoOverlapLinear<>(parameters.getRepulsionNoOverlapIntensity(), parameters.getRepulsionWithOverlapIntensity(),
+                parameters.getPointSizeScale(), parameters.getPointSizeOffset(), parameters.getRepulsionZoneRatio());
+        }
+    }
+
     private void updatePointPosition(Point point, double speedFactor) {
         point.getForces().multiplyBy(speedFactor);
         double totalMagnitude = point.getForces().magnitude();
         // add protection to not move more than 2 times the point size
-        if (totalMagnitude > 2 * pointSize) {
-            point.getForces().multiplyBy(2 * pointSize / totalMagnitude);
+        if (totalMagnitude > MAX_DISPLACEMENT_RATIO * pointSize) {
+            point.getForces().multiplyBy(MAX_DISPLACEMENT_RATIO * pointSize / totalMagnitude);
         }
 
         point.getPosition().add(point.getForces());
@@ -18,6 +18,8 @@ public final class OverlapPreventionPostProcessingParameters {
     private static final double DEFAULT_REPULSION_WITH_OVERLAP_INTENSITY = 100;
     private static final double DEFAULT_REPULSION_ZONE_RATIO = 10;
     private static final double DEFAULT_ATTRACT_TO_CENTER_INTENSITY = 0.001;
+    private static final double DEFAULT_BARNES_HUT_THETA = 0;
+    private static final boolean DEFAULT_QUADTREE_REFIT_ENABLED = false;
 
     private final double pointSizeScale;
     private final double pointSizeOffset;
@@ -26,6 +28,8 @@ public final class OverlapPreventionPostProcessingParameters {
     private final double repulsionWithOverlapIntensity;
     private final double repulsionZoneRatio;
     private final double attractToCenterIntensity;
+    private final double barnesHutTheta;
+    private final boolean quadtreeRefitEnabled;
 
     /**
      * @param pointSizeScale scaling coefficient for the size of the point given the number of nodes of the graph, get the size of a point via scale * graph size + offset
@@ -35,6 +39,8 @@ public final class OverlapPreventionPostProcessingParameters {
      * @param repulsionWithOverlapIntensity coefficient for the repulsion force when points overlap, should be no less than repulsionWithOverlap * 10 to work correctly
      * @param repulsionZoneRatio ratio for the area in which the repulsion force is calculated around a point, the area is of radius pointSize * repulsionZoneRatio
      * @param attractToCenterIntensity coefficient for the intensity of the force to attract all points to the center
+     * @param barnesHutTheta theta of the Barnes-Hut approximation of the repulsion force, 0 to calculate the repulsion between all points
+     * @param quadtreeRefitEnabled whether to update the barycenters of the quadtree in place when possible instead of building it again
      */
     private OverlapPreventionPostProcessingParameters(
             double pointSizeScale,
@@ -43,7 +49,9 @@ public final class OverlapPreventionPostProcessingParameters {
             double repulsionNoOverlapIntensity,
             double repulsionWithOverlapIntensity,
             double repulsionZoneRatio,
-            double attractToCenterIntensity
+            double attractToCenterIntensity,
+            double barnesHutTheta,
+            boolean quadtreeRefitEnabled
     ) {
         this.pointSizeScale = pointSizeScale;
         this.pointSizeOffset = pointSizeOffset;
@@ -52,6 +60,8 @@ public final class OverlapPreventionPostProcessingParameters {
         this.repulsionWithOverlapIntensity = repulsionWithOverlapIntensity;
         this.repulsionZoneRatio = repulsionZoneRatio;
         this.attractToCenterIntensity = attractToCenterIntensity;
+        this.barnesHutTheta = barnesHutTheta;
+        this.quadtreeRefitEnabled = quadtreeRefitEnabled;
     }
 
     public static class Builder {
@@ -62,6 +72,8 @@ public final class OverlapPreventionPostProcessingParameters {
         private double repulsionWithOverlapIntensity = DEFAULT_REPULSION_WITH_OVERLAP_INTENSITY;
         private double repulsionZoneRatio = DEFAULT_REPULSION_ZONE_RATIO;
         private double attractToCenterIntensity = DEFAULT_ATTRACT_TO_CENTER_INTENSITY;
+        private double barnesHutTheta = DEFAULT_BARNES_HUT_THETA;
+        private boolean quadtreeRefitEnabled = DEFAULT_QUADTREE_REFIT_ENABLED;
 
         /**
          * @param pointSizeScale The scale for the size we want our point to take on the screen (akin to a size in pixel),
@@ -140,6 +152,34 @@ public final class OverlapPreventionPostProcessingParameters {
             return this;
         }
 
+        /**
+         * @param barnesHutTheta the theta used in the Barnes-Hut approximation of the repulsion force. With a strictly positive theta, a quadtree is used:
+         *                       points outside the repulsion zone are skipped, points inside the overlap distance are calculated exactly, and groups of
+         *                       points in between are approximated by their barycenter when they are far enough. A theta of 0 calculates the repulsion
+         *                       between all points, which is quadratic with the number of points<br>
+         *                       Default is {@value DEFAULT_BARNES_HUT_THETA}
+         * @return the instance of this Builder with the barnesHutTheta parameter changed
+         */
+        public Builder withBarnesHutTheta(double barnesHutTheta) {
+            if (barnesHutTheta < 0) {
+                throw new IllegalArgumentException("The theta of the Barnes Hut optimization cannot be a negative value");
+            }
+            this.barnesHutTheta = barnesHutTheta;
+            return this;
+        }
+
+        /**
+         * At each iteration, only update the barycenters of the nodes of the quadtree if all the points moved less than the width of their leaf
+         * node since the quadtree was built, instead of building it again. This is faster, but the structure of the quadtree is kept, which changes
+         * the resulting layout compared to building it again. Only used with a strictly positive theta. Default is {@value DEFAULT_QUADTREE_REFIT_ENABLED}
+         * @param quadtreeRefitEnabled whether to update the barycenters of the quadtree in place when possible
+         * @return the instance of this Builder with the quadtreeRefitEnabled parameter changed
+         */
+        public Builder withQuadtreeRefitEnabled(boolean quadtreeRefitEnabled) {
+            this.quadtreeRefitEnabled = quadtreeRefitEnabled;
+            return this;
+        }
+
         public OverlapPreventionPostProcessingParameters build() {
             return new OverlapPreventionPostProcessingParameters(
                     pointSizeScale,
@@ -148,7 +188,9 @@ public final class OverlapPreventionPostProcessingParameters {
                     repulsionNoOverlapIntensity,
                     repulsionWithOverlapIntensity,
                     repulsionZoneRatio,
-                    attractToCenterIntensity
+                    attractToCenterIntensity,
+                    barnesHutTheta,
+                    quadtreeRefitEnabled
             );
         }
     }
@@ -180,5 +222,16 @@ public final class OverlapPreventionPostProcessingParameters {
     public double getAttractToCenterIntensity() {
         return attractToCenterIntensity;
     }
-}
 
+    public double getBarnesHutTheta() {
+        return barnesHutTheta;
+    }
+
+    public boolean isBarnesHutEnabled() {
+        return barnesHutTheta > 0;
+    }
+
+    public boolean isQuadtreeRefitEnabled() {
+        return quadtreeRefitEnabled;
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.setup;
+
+import com.powsybl.diagram.util.layout.geometry.LayoutContext;
+import com.powsybl.diagram.util.layout.geometry.Point;
+import com.powsybl.diagram.util.layout.geometry.Vector2D;
+import org.jgrapht.Graphs;
+
+import java.util.*;
+
+/**
+ * Setup for a graph of which most points already have a position, for instance a diagram that has been expanded with a few new vertices.
+ * The points with an initial position keep it, each point without an initial position is put at the barycenter of its neighbours that have
+ * a position, moved by a small random offset so that points with the same neighbours do not overlap. The points are placed layer by layer,
+ * starting from the neighbours of the points with an initial position.
+ * <p>The points that are not connected to any point with an initial position are put in a square of side 1 around the barycenter of the
+ * initial positions, like {@link SquareRandomSetup} does.</p>
+ * @author agent {@literal <agent at local>}
+ */
+public class NeighbourBarycenterSetup<V, E> implements Setup<V, E> {
+    private static final long DEFAULT_SEED = 3L;
+    private static final double DEFAULT_JITTER = 0.1;
+
+    private final Random random;
+    private final double jitter;
+
+    /**
+     * @param random the random used for the offset of the placed points and the position of the unconnected points
+     * @param jitter the side of the square in which the random offset of a point placed at the barycenter of its neighbours is drawn
+     */
+    public NeighbourBarycenterSetup(Random random, double jitter) {
+        this.random = Objects.requireNonNull(random);
+        if (jitter <= 0) {
+            throw new IllegalArgumentException("The jitter has to be strictly positive");
+        }
+        this.jitter = jitter;
+    }
+
+    public NeighbourBarycenterSetup() {
+        this(new Random(DEFAULT_SEED), DEFAULT_JITTER);
+    }
+
+    @Override
+    public void run(LayoutContext<V, E> layoutContext) {
+        Objects.requireNonNull(layoutContext);
+        Map<V, Point> positions = new HashMap<>();
+        Vector2D initialPointsCenter = new Vector2D();
+        for (V vertex : layoutContext.getSimpleGraph().vertexSet()) {
+            Point initialPoint = layoutContext.getInitialPoints().get(vertex);
+            if (initialPoint != null) {
+                positions.put(vertex, initialPoint);
+                initialPointsCenter.add(initialPoint.getPosition());
+            }
+        }
+        if (!positions.isEmpty()) {
+            initialPointsCenter.divideBy(positions.size());
+        }
+        layoutContext.setCenter(initialPointsCenter);
+
+        placeAtNeighbourBarycenter(layoutContext, positions);
+
+        for (V vertex : layoutContext.getSimpleGraph().vertexSet()) {
+            Point point = positions.computeIfAbsent(vertex, v -> new Point(
+                    layoutContext.getOrigin().getPosition().getX() + random.nextDouble() - 0.5,
+                    layoutContext.getOrigin().getPosition().getY() + random.nextDouble() - 0.5
+            ));
+            if (layoutContext.getFixedNodes().contains(vertex)) {
+                layoutContext.getFixedPoints().put(vertex, point);
+            } else {
+                layoutContext.getMovingPoints().put(vertex, point);
+            }
+        }
+        layoutContext.getAllPoints().putAll(layoutContext.getMovingPoints());
+        layoutContext.getAllPoints().putAll(layoutContext.getFixedPoints());
+    }
+
+    /**
+     * Give a position to the points connected to a point of <code>positions</code>, layer by layer: the points of a layer are placed
+     * using the positions of the previous layers only, so that the result does not depend on the order of the points inside a layer
+     */
+    private void placeAtNeighbourBarycenter(LayoutContext<V, E> layoutContext, Map<V, Point> positions) {
+        Set<V> layer = new LinkedHashSet<>();
+        for (V vertex : layoutContext.getSimpleGraph().vertexSet()) {
+            if (!positions.containsKey(vertex)
+                    && Graphs.neighborSetOf(layoutContext.getSimpleGraph(), vertex).stream().anyMatch(positions::containsKey)) {
+                layer.add(vertex);
+            }
+        }
+        while (!layer.isEmpty()) {
+            Map<V, Point> layerPositions = new LinkedHashMap<>();
+            for (V vertex : layer) {
+                Vector2D barycenter = new Vector2D();
+                int placedNeighbours = 0;
+                for (V neighbour : Graphs.neighborListOf(layoutContext.getSimpleGraph(), vertex)) {
+                    Point neighbourPoint = positions.get(neighbour);
+                    if (neighbourPoint != null) {
+                        barycenter.add(neighbourPoint.getPosition());
+                        ++placedNeighbours;
+                    }
+                }
+                barycenter.divideBy(placedNeighbours);
+                layerPositions.put(vertex, new Point(
+                        barycenter.getX() + jitter * (random.nextDouble() - 0.5),
+                        barycenter.getY() + jitter * (random.nextDouble() - 0.5)
+                ));
+            }
+            positions.putAll(layerPositions);
+            Set<V> nextLayer = new LinkedHashSet<>();
+            for (V vertex : layer) {
+                for (V neighbour : Graphs.neighborListOf(layoutContext.getSimpleGraph(), vertex)) {
+                    if (!positions.containsKey(neighbour)) {
+                        nextLayer.add(neighbour);
+                    }
+                }
+            }
+            layer = nextLayer;
+        }
+    }
+}
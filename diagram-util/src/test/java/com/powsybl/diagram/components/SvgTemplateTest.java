@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.components;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class SvgTemplateTest {
+
+    private static Element parse(String svg) throws Exception {
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new InputSource(new StringReader(svg)));
+        return document.getDocumentElement();
+    }
+
+    @Test
+    void testBytesWithoutSlotValues() throws Exception {
+        SvgTemplate template = SvgTemplate.of(parse("<g id=\"arrow\" class=\"c\"><path d=\"M0,0 L1&amp;2\"/>a &lt; b</g>"));
+        assertEquals("arrow", template.getId());
+        assertEquals("<g id=\"arrow\" class=\"c\"><path d=\"M0,0 L1&amp;2\"/>a &lt; b</g>", template.toString());
+    }
+
+    @Test
+    void testBytesWithSlotValues() throws Exception {
+        SvgTemplate template = SvgTemplate.of(parse("<circle r=\"5\" id=\"c\" transform=\"rotate(90)\"/>"));
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        template.write(os, "node1_", "a \"b\"", null, "fill:red");
+        assertEquals("<circle r=\"5\" id=\"node1_c\" class=\"a &quot;b&quot;\" transform=\"rotate(90)\" style=\"fill:red\"/>",
+                os.toString(StandardCharsets.UTF_8));
+
+        SvgTemplate noId = SvgTemplate.of(parse("<rect width=\"2\"/>"));
+        assertNull(noId.getId());
+        os.reset();
+        noId.write(os, "node1_", null, "translate(1,2)", null);
+        assertEquals("<rect width=\"2\" transform=\"translate(1,2)\"/>", os.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testXmlStreamWriter() throws Exception {
+        SvgTemplate template = SvgTemplate.of(parse("<g id=\"i\" class=\"c\"><path d=\"M0,0\"/><text>t</text></g>"));
+        StringWriter writer = new StringWriter();
+        XMLStreamWriter xmlWriter = XMLOutputFactory.newInstance().createXMLStreamWriter(writer);
+        template.write(xmlWriter, "p_", "c2", "scale(2)", null);
+        xmlWriter.flush();
+        assertEquals("<g class=\"c2\" id=\"p_i\" transform=\"scale(2)\"><path d=\"M0,0\"></path><text>t</text></g>", writer.toString());
+    }
+
+    @Test
+    void testNamespace() throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        Document document = factory.newDocumentBuilder().newDocument();
+        Element foreignObject = document.createElementNS("http://www.w3.org/2000/svg", "foreignObject");
+        Element div = document.createElementNS("http://www.w3.org/1999/xhtml", "div");
+        div.appendChild(document.createElement("span"));
+        foreignObject.appendChild(div);
+        assertEquals("<foreignObject><div xmlns=\"http://www.w3.org/1999/xhtml\"><span/></div></foreignObject>", SvgTemplate.of(foreignObject).toString());
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.instrumentation;
+
+import com.powsybl.diagram.util.layout.GraphTestData;
+import com.powsybl.diagram.util.layout.Layout;
+import com.powsybl.diagram.util.layout.geometry.LayoutContext;
+import org.jgrapht.graph.DefaultEdge;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class MeterInstrumentationTest {
+
+    /**
+     * Simple in-memory meter registry, with meters identified by their name and tags
+     */
+    private static final class InMemoryMeterRecorder implements MeterInstrumentation.MeterRecorder {
+        private final Map<String, List<Long>> timers = new LinkedHashMap<>();
+        private final Map<String, Double> counters = new LinkedHashMap<>();
+
+        private static String getMeterId(String name, String... tags) {
+            return name + Arrays.toString(tags);
+        }
+
+        @Override
+        public void recordTimer(String name, long durationNanos, String... tags) {
+            timers.computeIfAbsent(getMeterId(name, tags), k -> new ArrayList<>()).add(durationNanos);
+        }
+
+        @Override
+        public void incrementCounter(String name, double amount, String... tags) {
+            counters.merge(getMeterId(name, tags), amount, Double::sum);
+        }
+    }
+
+    @Test
+    void testLayoutStagesAndCounters() {
+        InMemoryMeterRecorder recorder = new InMemoryMeterRecorder();
+        LayoutContext<String, DefaultEdge> layoutContext = GraphTestData.getLayoutContext1();
+        layoutContext.setInstrumentation(new MeterInstrumentation(recorder, "diagram", "test"));
+        Layout.<String, DefaultEdge>createAtlas2ForceLayout().run(layoutContext);
+
+        assertEquals(List.of(
+                "powsybl.diagram.stage[diagram, test, stage, layout.setup]",
+                "powsybl.diagram.stage[diagram, test, stage, layout.iterations]",
+                "powsybl.diagram.stage[diagram, test, stage, post.processing]"),
+                new ArrayList<>(recorder.timers.keySet()));
+        recorder.timers.values().forEach(durations -> {
+            assertEquals(1, durations.size());
+            assertTrue(durations.getFirst() >= 0);
+        });
+        assertTrue(recorder.counters.get("powsybl.diagram.iterations[diagram, test]") > 0);
+        assertTrue(recorder.counters.get("powsybl.diagram.quadtree.rebuilds[diagram, test]") > 0);
+    }
+
+    @Test
+    void testStageFinishedOnException() {
+        List<DiagramStage> finishedStages = new ArrayList<>();
+        DiagramInstrumentation instrumentation = new DiagramInstrumentation() {
+            @Override
+            public void stageFinished(DiagramStage stage, long durationNanos) {
+                finishedStages.add(stage);
+            }
+        };
+        Runnable failingStage = () -> {
+            throw new IllegalStateException("failure");
+        };
+        assertThrows(IllegalStateException.class, () -> instrumentation.time(DiagramStage.SVG_WRITE, failingStage));
+        assertEquals(List.of(DiagramStage.SVG_WRITE), finishedStages);
+        assertEquals("result", DiagramInstrumentation.noOp().time(DiagramStage.GRAPH_BUILD, () -> "result"));
+        assertFalse(DiagramInstrumentation.noOp().isEnabled());
+        assertTrue(instrumentation.isEnabled());
+    }
+
+    @Test
+    void testOddNumberOfTags() {
+        InMemoryMeterRecorder recorder = new InMemoryMeterRecorder();
+        assertThrows(IllegalArgumentException.class, () -> new MeterInstrumentation(recorder, "diagram"));
+    }
+
+    @Test
+    void testByteCountingWriter() throws IOException {
+        String text = "<svg>é€😀</svg>";
+        try (ByteCountingWriter writer = new ByteCountingWriter(new StringWriter())) {
+            writer.write(text, 0, 5);
+            writer.write(text.substring(5).toCharArray());
+            assertEquals(text.getBytes(StandardCharsets.UTF_8).length, writer.getByteCount());
+        }
+    }
+}
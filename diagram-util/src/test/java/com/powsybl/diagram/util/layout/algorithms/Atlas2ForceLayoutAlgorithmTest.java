@@ -11,6 +11,8 @@ import com.powsybl.diagram.util.layout.GraphTestData;
 import com.powsybl.diagram.util.layout.Layout;
 import com.powsybl.diagram.util.layout.ResourceUtils;
 import com.powsybl.diagram.util.layout.algorithms.parameters.Atlas2Parameters;
+import com.powsybl.diagram.util.layout.algorithms.quadtreeupdateschedule.DecayingSchedule;
+import com.powsybl.diagram.util.layout.algorithms.quadtreeupdateschedule.DisplacementSchedule;
 import com.powsybl.diagram.util.layout.geometry.LayoutContext;
 import com.powsybl.diagram.util.layout.geometry.Vector2D;
 import com.powsybl.diagram.util.layout.postprocessing.OverlapPreventionPostProcessing;
@@ -20,6 +22,8 @@ import org.jgrapht.graph.DefaultEdge;
 import org.junit.jupiter.api.Test;
 
 import java.io.StringWriter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -98,4 +102,60 @@ class Atlas2ForceLayoutAlgorithmTest {
         assertEquals(ResourceUtils.toString(resourceName), sw.toString());
     }
 
+    @Test
+    void calculateLayoutParallel() {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            LayoutContext<String, DefaultEdge> layoutContext = GraphTestData.getLayoutContext1();
+            Atlas2Parameters layoutParameters = new Atlas2Parameters.Builder()
+                    .withBarnesHutTheta(1.5)
+                    .withParallelism(3)
+                    .withExecutor(executor)
+                    .build();
+            new Atlas2ForceLayoutAlgorithm<String, DefaultEdge>(layoutParameters).run(layoutContext);
+            StringWriter sw = new StringWriter();
+            layoutContext.toSVG(v -> String.format("Vertex %s", v), sw);
+            assertEquals(ResourceUtils.toString("atlas2_5_nodes_yes_BH.svg"), sw.toString());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void calculateLayoutWithOverlappingPointsParallel() {
+        checkPointOverlap(
+            new Atlas2ForceLayoutAlgorithm<>(new Atlas2Parameters.Builder().withParallelism(4).build()),
+            "atlas2_10_nodes_BH_NoOverlap_force_position_equality.svg");
+        checkPointOverlap(
+            new Atlas2ForceLayoutAlgorithm<>(new Atlas2Parameters.Builder().withBarnesHutDisabled().withParallelism(4).build()),
+            "atlas2_10_nodes_BH_NoOverlap_force_position_equality_no_bh.svg");
+    }
+
+    @Test
+    void calculateLayoutQuadtreeRefit() {
+        checkLayoutValid(new Atlas2Parameters.Builder()
+                .withQuadtreeRefitEnabled(true)
+                .build());
+    }
+
+    @Test
+    void calculateLayoutAdaptiveQuadtreeUpdateSchedule() {
+        checkLayoutValid(new Atlas2Parameters.Builder()
+                .withQuadtreeUpdateSchedule(() -> new DisplacementSchedule(DisplacementSchedule.DisplacementMeasure.AVERAGE, 0.02))
+                .build());
+        checkLayoutValid(new Atlas2Parameters.Builder()
+                .withQuadtreeUpdateSchedule(() -> new DecayingSchedule(1, 50))
+                .withQuadtreeRefitEnabled(true)
+                .build());
+    }
+
+    private void checkLayoutValid(Atlas2Parameters layoutParameters) {
+        LayoutContext<String, DefaultEdge> layoutContext = GraphTestData.getLayoutContext2();
+        new Atlas2ForceLayoutAlgorithm<String, DefaultEdge>(layoutParameters).run(layoutContext);
+        layoutContext.getAllPoints().values().forEach(point -> {
+            assertTrue(Double.isFinite(point.getPosition().getX()));
+            assertTrue(Double.isFinite(point.getPosition().getY()));
+        });
+        GraphTestData.checkPointPositionAllDifferent(layoutContext);
+    }
 }
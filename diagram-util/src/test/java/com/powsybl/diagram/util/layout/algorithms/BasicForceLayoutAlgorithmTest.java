@@ -19,6 +19,7 @@ import java.io.StringWriter;
 import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Dissoubray Nathan {@literal <nathan.dissoubray at rte-france.com>}
@@ -40,4 +41,25 @@ class BasicForceLayoutAlgorithmTest {
         assertEquals(ResourceUtils.toString("basic_5_nodes_force_position_equality.svg"), sw.toString());
     }
 
+    @Test
+    void basicForceBarnesHut() {
+        BasicForceLayoutParameters parameters = new BasicForceLayoutParameters.Builder().withBarnesHutTheta(1.2).build();
+        LayoutContext<String, DefaultEdge> layoutContext = GraphTestData.getLayoutContext2();
+        Vector2D position1 = layoutContext.getMovingPoints().get("1").getPosition();
+        layoutContext.getMovingPoints().get("0").setPosition(new Vector2D(position1.getX(), position1.getY()));
+        new BasicForceLayoutAlgorithm<String, DefaultEdge>(parameters).run(layoutContext);
+        GraphTestData.checkPointPositionAllDifferent(layoutContext);
+
+        // the indexed version gives the same positions
+        LayoutContext<String, DefaultEdge> indexedLayoutContext = GraphTestData.getLayoutContext2();
+        indexedLayoutContext.getMovingPoints().get("0").setPosition(new Vector2D(
+            indexedLayoutContext.getMovingPoints().get("1").getPosition().getX(),
+            indexedLayoutContext.getMovingPoints().get("1").getPosition().getY()
+        ));
+        new IndexedBasicForceLayoutAlgorithm<String, DefaultEdge>(parameters).run(indexedLayoutContext);
+        for (String vertex : layoutContext.getSimpleGraph().vertexSet()) {
+            assertEquals(layoutContext.getAllPoints().get(vertex).getPosition(), indexedLayoutContext.getAllPoints().get(vertex).getPosition());
+        }
+        layoutContext.getMovingPoints().values().forEach(p -> assertTrue(Double.isFinite(p.getPosition().getX()) && Double.isFinite(p.getPosition().getY())));
+    }
 }
@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.algorithms;
+
+import com.powsybl.diagram.util.layout.GraphTestData;
+import com.powsybl.diagram.util.layout.algorithms.parameters.IncrementalParameters;
+import com.powsybl.diagram.util.layout.geometry.LayoutContext;
+import com.powsybl.diagram.util.layout.geometry.Point;
+import com.powsybl.diagram.util.layout.geometry.Vector2D;
+import com.powsybl.diagram.util.layout.setup.NeighbourBarycenterSetup;
+import com.powsybl.diagram.util.layout.setup.SquareRandomSetup;
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.DefaultUndirectedGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class IncrementalForceLayoutAlgorithmTest {
+
+    private static final int GRID_SIZE = 8;
+
+    /**
+     * A grid of GRID_SIZE x GRID_SIZE vertices named "i_j", each one linked to its right and bottom neighbours.
+     * If <code>expanded</code>, two new vertices are added: "n1" linked to "0_0", and "n2" linked to "n1" and "0_1"
+     */
+    private static Graph<String, DefaultEdge> createGraph(boolean expanded) {
+        Graph<String, DefaultEdge> graph = new DefaultUndirectedGraph<>(DefaultEdge.class);
+        for (int i = 0; i < GRID_SIZE; ++i) {
+            for (int j = 0; j < GRID_SIZE; ++j) {
+                graph.addVertex(i + "_" + j);
+            }
+        }
+        for (int i = 0; i < GRID_SIZE; ++i) {
+            for (int j = 0; j < GRID_SIZE; ++j) {
+                if (i + 1 < GRID_SIZE) {
+                    graph.addEdge(i + "_" + j, (i + 1) + "_" + j);
+                }
+                if (j + 1 < GRID_SIZE) {
+                    graph.addEdge(i + "_" + j, i + "_" + (j + 1));
+                }
+            }
+        }
+        if (expanded) {
+            graph.addVertex("n1");
+            graph.addVertex("n2");
+            graph.addEdge("n1", "0_0");
+            graph.addEdge("n2", "n1");
+            graph.addEdge("n2", "0_1");
+        }
+        return graph;
+    }
+
+    private static Map<String, Vector2D> getPreviousPositions() {
+        LayoutContext<String, DefaultEdge> layoutContext = new LayoutContext<>(createGraph(false));
+        new SquareRandomSetup<String, DefaultEdge>().run(layoutContext);
+        new IndexedAtlas2ForceLayoutAlgorithm<String, DefaultEdge>().run(layoutContext);
+        Map<String, Vector2D> positions = new HashMap<>();
+        layoutContext.getAllPoints().forEach((vertex, point) -> positions.put(vertex, new Vector2D(point.getPosition())));
+        return positions;
+    }
+
+    private static LayoutContext<String, DefaultEdge> runIncrementalLayout(boolean expanded, Map<String, Vector2D> previousPositions, IncrementalParameters parameters) {
+        LayoutContext<String, DefaultEdge> layoutContext = new LayoutContext<>(createGraph(expanded));
+        Map<String, Point> initialPoints = new HashMap<>();
+        previousPositions.forEach((vertex, position) -> initialPoints.put(vertex, new Point(position.getX(), position.getY())));
+        layoutContext.setInitialPoints(initialPoints);
+        new NeighbourBarycenterSetup<String, DefaultEdge>().run(layoutContext);
+        new IncrementalForceLayoutAlgorithm<String, DefaultEdge>(parameters).run(layoutContext);
+        return layoutContext;
+    }
+
+    @Test
+    void calculateLayout() {
+        Map<String, Vector2D> previousPositions = getPreviousPositions();
+        LayoutContext<String, DefaultEdge> layoutContext = runIncrementalLayout(true, previousPositions, new IncrementalParameters.Builder().build());
+        GraphTestData.checkPointPositionAllDifferent(layoutContext);
+        // only the new points and their direct neighbours move
+        Set<String> relaxed = Set.of("n1", "n2", "0_0", "0_1");
+        for (String vertex : previousPositions.keySet()) {
+            if (!relaxed.contains(vertex)) {
+                assertEquals(previousPositions.get(vertex), layoutContext.getStablePosition(vertex));
+            }
+        }
+        Vector2D n1 = layoutContext.getStablePosition("n1");
+        assertTrue(Double.isFinite(n1.getX()) && Double.isFinite(n1.getY()));
+        assertNotEquals(previousPositions.get("0_1"), layoutContext.getStablePosition("0_1"));
+    }
+
+    @Test
+    void calculateLayoutPinned() {
+        Map<String, Vector2D> previousPositions = getPreviousPositions();
+        LayoutContext<String, DefaultEdge> layoutContext = runIncrementalLayout(true, previousPositions, new IncrementalParameters.Builder().withRelaxationDepth(0).build());
+        GraphTestData.checkPointPositionAllDifferent(layoutContext);
+        for (String vertex : previousPositions.keySet()) {
+            assertEquals(previousPositions.get(vertex), layoutContext.getStablePosition(vertex));
+        }
+    }
+
+    @Test
+    void calculateLayoutWithoutNewPoint() {
+        Map<String, Vector2D> previousPositions = getPreviousPositions();
+        LayoutContext<String, DefaultEdge> layoutContext = runIncrementalLayout(false, previousPositions, new IncrementalParameters.Builder().build());
+        for (String vertex : previousPositions.keySet()) {
+            assertEquals(previousPositions.get(vertex), layoutContext.getStablePosition(vertex));
+        }
+    }
+
+    @Test
+    void calculateLayoutWithoutPreviousPositions() {
+        // without any initial position, this is a full Atlas2 layout
+        LayoutContext<String, DefaultEdge> layoutContext = runIncrementalLayout(false, Map.of(), new IncrementalParameters.Builder().build());
+        Map<String, Vector2D> expected = getPreviousPositions();
+        for (String vertex : expected.keySet()) {
+            assertEquals(expected.get(vertex), layoutContext.getStablePosition(vertex));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.algorithms;
+
+import com.powsybl.diagram.util.layout.GraphTestData;
+import com.powsybl.diagram.util.layout.Layout;
+import com.powsybl.diagram.util.layout.ResourceUtils;
+import com.powsybl.diagram.util.layout.algorithms.parameters.Atlas2Parameters;
+import com.powsybl.diagram.util.layout.algorithms.quadtreeupdateschedule.DecayingSchedule;
+import com.powsybl.diagram.util.layout.algorithms.quadtreeupdateschedule.DisplacementSchedule;
+import com.powsybl.diagram.util.layout.geometry.LayoutContext;
+import com.powsybl.diagram.util.layout.geometry.Vector2D;
+import com.powsybl.diagram.util.layout.postprocessing.OverlapPreventionPostProcessing;
+import com.powsybl.diagram.util.layout.setup.SquareRandomSetup;
+import org.jgrapht.graph.DefaultEdge;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The indexed algorithm gives the same results as {@link Atlas2ForceLayoutAlgorithm}, the same reference files are used
+ * @author agent {@literal <agent at local>}
+ */
+class IndexedAtlas2ForceLayoutAlgorithmTest {
+
+    @Test
+    void calculateLayoutNoBH() {
+        LayoutContext<String, DefaultEdge> layoutContext = GraphTestData.getLayoutContext1();
+        Atlas2Parameters layoutParameters = new Atlas2Parameters.Builder().withBarnesHutDisabled().build();
+        LayoutAlgorithm<String, DefaultEdge> atlas2 = new IndexedAtlas2ForceLayoutAlgorithm<>(layoutParameters);
+        atlas2.run(layoutContext);
+        StringWriter sw = new StringWriter();
+        layoutContext.toSVG(v -> String.format("Vertex %s", v), sw);
+        assertEquals(ResourceUtils.toString("atlas2_5_nodes_no_BH.svg"), sw.toString());
+    }
+
+    @Test
+    void calculateLayoutNoOverlapNoBH() {
+        LayoutContext<String, DefaultEdge> layoutContext = GraphTestData.getLayoutContext1();
+        Layout<String, DefaultEdge> atlas2 = new Layout<>(
+            new SquareRandomSetup<>(),
+            new IndexedAtlas2ForceLayoutAlgorithm<>(new Atlas2Parameters.Builder()
+                    .withBarnesHutDisabled()
+                    .build()
+            ),
+            new OverlapPreventionPostProcessing<>()
+        );
+        atlas2.run(layoutContext);
+        StringWriter sw = new StringWriter();
+        layoutContext.toSVG(v -> String.format("Vertex %s", v), sw);
+        assertEquals(ResourceUtils.toString("atlas2_5_nodes_noOverlap.svg"), sw.toString());
+    }
+
+    @Test
+    void calculateLayoutYesBH() {
+        LayoutContext<String, DefaultEdge> layoutContext = GraphTestData.getLayoutContext1();
+        Atlas2Parameters layoutParameters = new Atlas2Parameters.Builder().withBarnesHutTheta(1.5).build();
+        LayoutAlgorithm<String, DefaultEdge> atlas2 = new IndexedAtlas2ForceLayoutAlgorithm<>(layoutParameters);
+        atlas2.run(layoutContext);
+        StringWriter sw = new StringWriter();
+        layoutContext.toSVG(v -> String.format("Vertex %s", v), sw);
+        assertEquals(ResourceUtils.toString("atlas2_5_nodes_yes_BH.svg"), sw.toString());
+    }
+
+    @Test
+    void sameAsMapBasedAlgorithm() {
+        checkSameAsMapBased(new Atlas2Parameters.Builder().build());
+        checkSameAsMapBased(new Atlas2Parameters.Builder().withBarnesHutDisabled().build());
+        checkSameAsMapBased(new Atlas2Parameters.Builder().withAttractToCenterEnabled(false).withMaxSteps(20).build());
+        checkSameAsMapBased(new Atlas2Parameters.Builder().withParallelism(3).build());
+        checkSameAsMapBased(new Atlas2Parameters.Builder().withBarnesHutDisabled().withParallelism(4).build());
+        checkSameAsMapBased(new Atlas2Parameters.Builder().withQuadtreeRefitEnabled(true).build());
+        checkSameAsMapBased(new Atlas2Parameters.Builder()
+                .withQuadtreeUpdateSchedule(() -> new DisplacementSchedule(DisplacementSchedule.DisplacementMeasure.MAX, 0.05))
+                .build());
+        checkSameAsMapBased(new Atlas2Parameters.Builder().withQuadtreeUpdateSchedule(() -> new DecayingSchedule(2, 30)).build());
+    }
+
+    private void checkSameAsMapBased(Atlas2Parameters parameters) {
+        LayoutContext<String, DefaultEdge> expected = GraphTestData.getLayoutContext2();
+        new Atlas2ForceLayoutAlgorithm<String, DefaultEdge>(parameters).run(expected);
+        LayoutContext<String, DefaultEdge> actual = GraphTestData.getLayoutContext2();
+        new IndexedAtlas2ForceLayoutAlgorithm<String, DefaultEdge>(parameters).run(actual);
+        for (String vertex : expected.getSimpleGraph().vertexSet()) {
+            Vector2D expectedPosition = expected.getAllPoints().get(vertex).getPosition();
+            Vector2D actualPosition = actual.getAllPoints().get(vertex).getPosition();
+            assertEquals(expectedPosition.getX(), actualPosition.getX());
+            assertEquals(expectedPosition.getY(), actualPosition.getY());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.algorithms;
+
+import com.powsybl.diagram.util.layout.GraphTestData;
+import com.powsybl.diagram.util.layout.algorithms.parameters.Atlas2Parameters;
+import com.powsybl.diagram.util.layout.algorithms.parameters.MultilevelParameters;
+import com.powsybl.diagram.util.layout.geometry.LayoutContext;
+import com.powsybl.diagram.util.layout.geometry.Point;
+import com.powsybl.diagram.util.layout.geometry.Vector2D;
+import com.powsybl.diagram.util.layout.setup.SquareRandomSetup;
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.DefaultUndirectedGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class MultilevelForceLayoutAlgorithmTest {
+
+    private static final int GRID_SIZE = 12;
+
+    /**
+     * A grid of GRID_SIZE x GRID_SIZE vertices named "i_j", each one linked to its right and bottom neighbours
+     */
+    private static LayoutContext<String, DefaultEdge> createGridLayoutContext(Set<String> fixedNodes, Map<String, Point> initialPoints) {
+        Graph<String, DefaultEdge> graph = new DefaultUndirectedGraph<>(DefaultEdge.class);
+        for (int i = 0; i < GRID_SIZE; ++i) {
+            for (int j = 0; j < GRID_SIZE; ++j) {
+                graph.addVertex(i + "_" + j);
+            }
+        }
+        for (int i = 0; i < GRID_SIZE; ++i) {
+            for (int j = 0; j < GRID_SIZE; ++j) {
+                if (i + 1 < GRID_SIZE) {
+                    graph.addEdge(i + "_" + j, (i + 1) + "_" + j);
+                }
+                if (j + 1 < GRID_SIZE) {
+                    graph.addEdge(i + "_" + j, i + "_" + (j + 1));
+                }
+            }
+        }
+        LayoutContext<String, DefaultEdge> layoutContext = new LayoutContext<>(graph);
+        layoutContext.setInitialPoints(initialPoints);
+        layoutContext.setFixedNodes(fixedNodes);
+        new SquareRandomSetup<String, DefaultEdge>().run(layoutContext);
+        return layoutContext;
+    }
+
+    private static MultilevelParameters.Builder createParametersBuilder() {
+        return new MultilevelParameters.Builder()
+                .withCoarsestGraphSize(10)
+                .withCoarsestLayoutParameters(new Atlas2Parameters.Builder().withMaxSteps(300).build());
+    }
+
+    @Test
+    void calculateLayout() {
+        LayoutContext<String, DefaultEdge> layoutContext = createGridLayoutContext(Set.of(), Map.of());
+        new MultilevelForceLayoutAlgorithm<String, DefaultEdge>(createParametersBuilder().build()).run(layoutContext);
+        GraphTestData.checkPointPositionAllDifferent(layoutContext);
+        // the opposite corners of the grid end up far from each other, compared to neighbours
+        double cornerDistance = distance(layoutContext, "0_0", (GRID_SIZE - 1) + "_" + (GRID_SIZE - 1));
+        double neighbourDistance = distance(layoutContext, "0_0", "0_1");
+        assertTrue(cornerDistance > 4 * neighbourDistance);
+    }
+
+    @Test
+    void calculateLayoutDeterministic() {
+        LayoutContext<String, DefaultEdge> layoutContext1 = createGridLayoutContext(Set.of(), Map.of());
+        LayoutContext<String, DefaultEdge> layoutContext2 = createGridLayoutContext(Set.of(), Map.of());
+        LayoutAlgorithm<String, DefaultEdge> algorithm = new MultilevelForceLayoutAlgorithm<>(createParametersBuilder().build());
+        algorithm.run(layoutContext1);
+        algorithm.run(layoutContext2);
+        for (String vertex : layoutContext1.getSimpleGraph().vertexSet()) {
+            assertEquals(layoutContext1.getStablePosition(vertex), layoutContext2.getStablePosition(vertex));
+        }
+    }
+
+    @Test
+    void calculateLayoutWithGroupingAndFixedPoints() {
+        LayoutContext<String, DefaultEdge> layoutContext = createGridLayoutContext(
+                Set.of("0_0"),
+                Map.of("0_0", new Point(3, 4))
+        );
+        // group the vertices of the grid two rows at a time
+        new MultilevelForceLayoutAlgorithm<String, DefaultEdge>(
+                createParametersBuilder().build(),
+                vertex -> Integer.parseInt(vertex.split("_")[0]) / 2 + "_" + vertex.split("_")[1]
+        ).run(layoutContext);
+        GraphTestData.checkPointPositionAllDifferent(layoutContext);
+        assertEquals(new Vector2D(3, 4), layoutContext.getStablePosition("0_0"));
+    }
+
+    @Test
+    void smallGraphSameAsAtlas2() {
+        Atlas2Parameters atlas2Parameters = new Atlas2Parameters.Builder().build();
+        LayoutContext<String, DefaultEdge> expected = GraphTestData.getLayoutContext2();
+        new IndexedAtlas2ForceLayoutAlgorithm<String, DefaultEdge>(atlas2Parameters).run(expected);
+        LayoutContext<String, DefaultEdge> actual = GraphTestData.getLayoutContext2();
+        new MultilevelForceLayoutAlgorithm<String, DefaultEdge>(
+                new MultilevelParameters.Builder().withCoarsestLayoutParameters(atlas2Parameters).build()
+        ).run(actual);
+        for (String vertex : expected.getSimpleGraph().vertexSet()) {
+            assertEquals(expected.getStablePosition(vertex), actual.getStablePosition(vertex));
+        }
+    }
+
+    private static double distance(LayoutContext<String, DefaultEdge> layoutContext, String vertex1, String vertex2) {
+        Vector2D position1 = layoutContext.getStablePosition(vertex1);
+        Vector2D position2 = layoutContext.getStablePosition(vertex2);
+        return Math.hypot(position1.getX() - position2.getX(), position1.getY() - position2.getY());
+    }
+}
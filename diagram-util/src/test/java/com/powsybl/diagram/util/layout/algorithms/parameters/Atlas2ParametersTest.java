@@ -7,8 +7,14 @@
  */
 package com.powsybl.diagram.util.layout.algorithms.parameters;
 
+import com.powsybl.diagram.util.layout.algorithms.quadtreeupdateschedule.ConstantSchedule;
+import com.powsybl.diagram.util.layout.algorithms.quadtreeupdateschedule.DecayingSchedule;
+import com.powsybl.diagram.util.layout.algorithms.quadtreeupdateschedule.QuadtreeUpdateSchedule;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -27,6 +33,9 @@ class Atlas2ParametersTest {
     boolean attractToCenterEnabled = false;
     double barnesHutTheta = 1.43;
     int quadtreeCalculationIncrement = 4;
+    int parallelism = 6;
+    Executor executor = Runnable::run;
+    boolean quadtreeRefitEnabled = true;
 
     @Test
     void checkBuilder() {
@@ -42,6 +51,9 @@ class Atlas2ParametersTest {
                 .withAttractToCenterEnabled(attractToCenterEnabled)
                 .withBarnesHutTheta(barnesHutTheta)
                 .withQuadtreeCalculationIncrement(quadtreeCalculationIncrement)
+                .withParallelism(parallelism)
+                .withExecutor(executor)
+                .withQuadtreeRefitEnabled(quadtreeRefitEnabled)
                 .build();
 
         assertEquals(maxSteps, parameters.getMaxSteps());
@@ -55,5 +67,34 @@ class Atlas2ParametersTest {
         assertEquals(attractToCenterEnabled, parameters.isAttractToCenterEnabled());
         assertEquals(barnesHutTheta, parameters.getBarnesHutTheta());
         assertEquals(quadtreeCalculationIncrement, parameters.getQuadtreeCalculationIncrement());
+        assertEquals(parallelism, parameters.getParallelism());
+        assertTrue(parameters.isParallelismEnabled());
+        assertSame(executor, parameters.getExecutor());
+        assertEquals(quadtreeRefitEnabled, parameters.isQuadtreeRefitEnabled());
+    }
+
+    @Test
+    void checkQuadtreeUpdateSchedule() {
+        Atlas2Parameters parameters = new Atlas2Parameters.Builder().withQuadtreeCalculationIncrement(quadtreeCalculationIncrement).build();
+        assertTrue(parameters.createQuadtreeUpdateSchedule() instanceof ConstantSchedule);
+        parameters = new Atlas2Parameters.Builder()
+                .withQuadtreeUpdateSchedule(() -> new DecayingSchedule(2, 20))
+                .build();
+        QuadtreeUpdateSchedule schedule = parameters.createQuadtreeUpdateSchedule();
+        assertTrue(schedule instanceof DecayingSchedule);
+        // schedules have a state, a new one is created each time
+        assertNotSame(schedule, parameters.createQuadtreeUpdateSchedule());
+        Atlas2Parameters.Builder builder = new Atlas2Parameters.Builder();
+        assertThrows(NullPointerException.class, () -> builder.withQuadtreeUpdateSchedule(null));
+    }
+
+    @Test
+    void checkParallelism() {
+        Atlas2Parameters parameters = new Atlas2Parameters.Builder().build();
+        assertEquals(1, parameters.getParallelism());
+        assertFalse(parameters.isParallelismEnabled());
+        assertSame(ForkJoinPool.commonPool(), parameters.getExecutor());
+        Atlas2Parameters.Builder builder = new Atlas2Parameters.Builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.withParallelism(0));
     }
 }
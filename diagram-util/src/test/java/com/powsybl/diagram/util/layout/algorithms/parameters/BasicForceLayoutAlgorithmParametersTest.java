@@ -27,6 +27,8 @@ class BasicForceLayoutAlgorithmParametersTest {
                 .withMaxSpeed(107)
                 .withRepulsionFromFixedPointsEnabled(false)
                 .withAttractToCenterEnabled(false)
+                .withBarnesHutTheta(1.1)
+                .withQuadtreeRefitEnabled(true)
                 .build();
 
         assertEquals(324, parameters.getMaxSteps());
@@ -37,5 +39,17 @@ class BasicForceLayoutAlgorithmParametersTest {
         assertEquals(107, parameters.getMaxSpeed());
         assertFalse(parameters.isRepulsionFromFixedPointsEnabled());
         assertFalse(parameters.isAttractToCenterEnabled());
+        assertEquals(1.1, parameters.getBarnesHutTheta());
+        assertTrue(parameters.isBarnesHutEnabled());
+        assertTrue(parameters.isQuadtreeRefitEnabled());
+    }
+
+    @Test
+    void testBarnesHut() {
+        assertFalse(new BasicForceLayoutParameters.Builder().build().isBarnesHutEnabled());
+        assertFalse(new BasicForceLayoutParameters.Builder().build().isQuadtreeRefitEnabled());
+        assertFalse(new BasicForceLayoutParameters.Builder().withBarnesHutTheta(1.5).withBarnesHutDisabled().build().isBarnesHutEnabled());
+        BasicForceLayoutParameters.Builder builder = new BasicForceLayoutParameters.Builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.withBarnesHutTheta(-1));
     }
 }
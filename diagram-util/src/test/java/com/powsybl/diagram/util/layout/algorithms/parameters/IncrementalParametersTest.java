@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.algorithms.parameters;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class IncrementalParametersTest {
+
+    int relaxationDepth = 3;
+    Atlas2Parameters localLayoutParameters = new Atlas2Parameters.Builder().withMaxSteps(42).build();
+    Atlas2Parameters fullLayoutParameters = new Atlas2Parameters.Builder().withMaxSteps(1000).build();
+
+    @Test
+    void checkBuilder() {
+        IncrementalParameters parameters = new IncrementalParameters.Builder()
+                .withRelaxationDepth(relaxationDepth)
+                .withLocalLayoutParameters(localLayoutParameters)
+                .withFullLayoutParameters(fullLayoutParameters)
+                .build();
+
+        assertEquals(relaxationDepth, parameters.getRelaxationDepth());
+        assertSame(localLayoutParameters, parameters.getLocalLayoutParameters());
+        assertSame(fullLayoutParameters, parameters.getFullLayoutParameters());
+    }
+
+    @Test
+    void checkInvalidValues() {
+        IncrementalParameters.Builder builder = new IncrementalParameters.Builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.withRelaxationDepth(-1));
+        assertThrows(NullPointerException.class, () -> builder.withLocalLayoutParameters(null));
+        assertThrows(NullPointerException.class, () -> builder.withFullLayoutParameters(null));
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.algorithms.parameters;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class MultilevelParametersTest {
+
+    int coarsestGraphSize = 23;
+    double maxCoarseningRatio = 0.65;
+    int maxLevels = 7;
+    double prolongationJitter = 0.3;
+    Atlas2Parameters coarsestLayoutParameters = new Atlas2Parameters.Builder().withMaxSteps(1000).build();
+    Atlas2Parameters refinementLayoutParameters = new Atlas2Parameters.Builder().withMaxSteps(20).build();
+
+    @Test
+    void checkBuilder() {
+        MultilevelParameters parameters = new MultilevelParameters.Builder()
+                .withCoarsestGraphSize(coarsestGraphSize)
+                .withMaxCoarseningRatio(maxCoarseningRatio)
+                .withMaxLevels(maxLevels)
+                .withProlongationJitter(prolongationJitter)
+                .withCoarsestLayoutParameters(coarsestLayoutParameters)
+                .withRefinementLayoutParameters(refinementLayoutParameters)
+                .build();
+
+        assertEquals(coarsestGraphSize, parameters.getCoarsestGraphSize());
+        assertEquals(maxCoarseningRatio, parameters.getMaxCoarseningRatio());
+        assertEquals(maxLevels, parameters.getMaxLevels());
+        assertEquals(prolongationJitter, parameters.getProlongationJitter());
+        assertSame(coarsestLayoutParameters, parameters.getCoarsestLayoutParameters());
+        assertSame(refinementLayoutParameters, parameters.getRefinementLayoutParameters());
+    }
+
+    @Test
+    void checkInvalidValues() {
+        MultilevelParameters.Builder builder = new MultilevelParameters.Builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.withCoarsestGraphSize(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.withMaxCoarseningRatio(1));
+        assertThrows(IllegalArgumentException.class, () -> builder.withMaxLevels(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder.withProlongationJitter(0));
+        assertThrows(NullPointerException.class, () -> builder.withCoarsestLayoutParameters(null));
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.algorithms.quadtreeupdateschedule;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class QuadtreeUpdateScheduleTest {
+
+    private record Context(double getGraphSpeed, double getRootWidth, double getMaxDisplacement, double getAverageDisplacement) implements QuadtreeUpdateContext {
+    }
+
+    @Test
+    void checkConstantSchedule() {
+        QuadtreeUpdateSchedule schedule = new ConstantSchedule(3);
+        Context context = new Context(1, 1, 0, 0);
+        assertTrue(schedule.isTimeToUpdate(0, context));
+        assertFalse(schedule.isTimeToUpdate(1, context));
+        assertFalse(schedule.isTimeToUpdate(2, context));
+        assertTrue(schedule.isTimeToUpdate(3, context));
+        assertThrows(IllegalArgumentException.class, () -> new ConstantSchedule(0));
+    }
+
+    @Test
+    void checkDisplacementSchedule() {
+        QuadtreeUpdateSchedule maxSchedule = new DisplacementSchedule(DisplacementSchedule.DisplacementMeasure.MAX, 0.1);
+        QuadtreeUpdateSchedule averageSchedule = new DisplacementSchedule(DisplacementSchedule.DisplacementMeasure.AVERAGE, 0.1);
+        Context smallMove = new Context(1, 10, 0.5, 0.1);
+        Context largeMove = new Context(1, 10, 2, 0.5);
+        Context largeAverageMove = new Context(1, 10, 3, 1.5);
+        assertFalse(maxSchedule.isTimeToUpdate(1, smallMove));
+        assertTrue(maxSchedule.isTimeToUpdate(2, largeMove));
+        assertFalse(averageSchedule.isTimeToUpdate(1, largeMove));
+        assertTrue(averageSchedule.isTimeToUpdate(2, largeAverageMove));
+        assertThrows(IllegalArgumentException.class, () -> new DisplacementSchedule(DisplacementSchedule.DisplacementMeasure.MAX, 0));
+    }
+
+    @Test
+    void checkDecayingSchedule() {
+        QuadtreeUpdateSchedule schedule = new DecayingSchedule(2, 10);
+        // as fast as the fastest speed, update every 2 steps
+        assertTrue(schedule.isTimeToUpdate(0, new Context(5, 1, 0, 0)));
+        assertFalse(schedule.isTimeToUpdate(1, new Context(10, 1, 0, 0)));
+        assertTrue(schedule.isTimeToUpdate(2, new Context(10, 1, 0, 0)));
+        // 4 times slower than the fastest speed, update every 8 steps
+        assertTrue(schedule.isTimeToUpdate(4, new Context(2.5, 1, 0, 0)));
+        for (int i = 5; i < 12; ++i) {
+            assertFalse(schedule.isTimeToUpdate(i, new Context(2.5, 1, 0, 0)));
+        }
+        // much slower, the increment is capped
+        assertTrue(schedule.isTimeToUpdate(12, new Context(0.01, 1, 0, 0)));
+        assertFalse(schedule.isTimeToUpdate(21, new Context(0.01, 1, 0, 0)));
+        assertTrue(schedule.isTimeToUpdate(22, new Context(0, 1, 0, 0)));
+        assertThrows(IllegalArgumentException.class, () -> new DecayingSchedule(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new DecayingSchedule(5, 4));
+    }
+}
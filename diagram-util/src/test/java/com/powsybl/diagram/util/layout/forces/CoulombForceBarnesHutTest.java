@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.forces;
+
+import com.powsybl.diagram.util.layout.GraphTestData;
+import com.powsybl.diagram.util.layout.geometry.*;
+import org.jgrapht.graph.DefaultEdge;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class CoulombForceBarnesHutTest {
+
+    @Test
+    void apply() {
+        double delta = 1e-4;
+        LayoutContext<String, DefaultEdge> layoutContext = GraphTestData.getLayoutContext1();
+        FlatQuadtree quadtree = new FlatQuadtree();
+        new QuadtreePointArrays<>(layoutContext.getAllPoints(), (Point point) -> 1).update(quadtree, false);
+        // with a theta of 0, no node is approximated, this is the same as the exact force
+        CoulombForceBarnesHut<String, DefaultEdge> force = new CoulombForceBarnesHut<>(2, 0, quadtree);
+        String[] vertexToTest = {"0"};
+        Vector2D[] resultVector = {
+            new Vector2D(-3.9493, 3.8805)
+        };
+        ForceTestUtil.testForceCalculation(layoutContext, force, vertexToTest, resultVector, delta);
+    }
+
+    @Test
+    void applyApproximation() {
+        LayoutContext<String, DefaultEdge> layoutContext = GraphTestData.getLayoutContext2();
+        FlatQuadtree quadtree = new FlatQuadtree();
+        new QuadtreePointArrays<>(layoutContext.getAllPoints(), (Point point) -> 1).update(quadtree, false);
+        CoulombForce<String, DefaultEdge> exactForce = new CoulombForce<>(800, true);
+        CoulombForceBarnesHut<String, DefaultEdge> force = new CoulombForceBarnesHut<>(800, 0.6, quadtree);
+        IndexedLayoutContext<String, DefaultEdge> indexedLayoutContext = new IndexedLayoutContext<>(layoutContext);
+        for (String vertex : layoutContext.getMovingPoints().keySet()) {
+            Point point = layoutContext.getMovingPoints().get(vertex);
+            Vector2D expected = exactForce.apply(vertex, point, layoutContext);
+            Vector2D result = force.apply(vertex, point, layoutContext);
+            // the approximation stays close to the exact force
+            assertEquals(expected.getX(), result.getX(), 0.1 * expected.magnitude());
+            assertEquals(expected.getY(), result.getY(), 0.1 * expected.magnitude());
+
+            // the indexed version gives the same result
+            int index = indexedLayoutContext.getIndex(vertex);
+            force.apply(index, indexedLayoutContext);
+            assertEquals(result.getX(), indexedLayoutContext.getForceX()[index]);
+            assertEquals(result.getY(), indexedLayoutContext.getForceY()[index]);
+        }
+    }
+}
@@ -8,11 +8,15 @@
 package com.powsybl.diagram.util.layout.forces;
 
 import com.powsybl.diagram.util.layout.GraphTestData;
+import com.powsybl.diagram.util.layout.geometry.IndexedLayoutContext;
 import com.powsybl.diagram.util.layout.geometry.LayoutContext;
 import com.powsybl.diagram.util.layout.geometry.Vector2D;
 import org.jgrapht.graph.DefaultEdge;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
 /**
  * @author Nathan Dissoubray {@literal <nathan.dissoubray at rte-france.com>}
  */
@@ -47,4 +51,28 @@ class RepulsionForceDegreeBasedLinearTest {
 
         ForceTestUtil.testForceCalculation(layoutContext, repulsionForceDegreeBasedLinearNoFixed, vertexToTest, resultVectorNoFixed, delta);
     }
+
+    @Test
+    void calculateForceCoincidentPoints() {
+        LayoutContext<String, DefaultEdge> layoutContext = GraphTestData.getLayoutContext2();
+        Vector2D position1 = layoutContext.getMovingPoints().get("1").getPosition();
+        layoutContext.getMovingPoints().get("0").setPosition(new Vector2D(position1.getX(), position1.getY()));
+        RepulsionForceDegreeBasedLinear<String, DefaultEdge> force = new RepulsionForceDegreeBasedLinear<>(0.34, true);
+        force.init(layoutContext);
+
+        // the force separating the points at the same position does not depend on the previous calls
+        Vector2D force0 = force.apply("0", layoutContext.getMovingPoints().get("0"), layoutContext);
+        Vector2D force1 = force.apply("1", layoutContext.getMovingPoints().get("1"), layoutContext);
+        Vector2D force0Again = force.apply("0", layoutContext.getMovingPoints().get("0"), layoutContext);
+        assertEquals(force0.getX(), force0Again.getX());
+        assertEquals(force0.getY(), force0Again.getY());
+        // and is different for both points, so that they get separated
+        assertNotEquals(force0.getX() + force1.getX(), 2 * force0.getX());
+
+        IndexedLayoutContext<String, DefaultEdge> indexedLayoutContext = new IndexedLayoutContext<>(layoutContext);
+        int index0 = indexedLayoutContext.getIndex("0");
+        force.apply(index0, indexedLayoutContext);
+        assertEquals(force0.getX(), indexedLayoutContext.getForceX()[index0], 1e-9);
+        assertEquals(force0.getY(), indexedLayoutContext.getForceY()[index0], 1e-9);
+    }
 }
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.forces;
+
+import com.powsybl.diagram.util.layout.GraphTestData;
+import com.powsybl.diagram.util.layout.geometry.FlatQuadtree;
+import com.powsybl.diagram.util.layout.geometry.LayoutContext;
+import com.powsybl.diagram.util.layout.geometry.Point;
+import com.powsybl.diagram.util.layout.geometry.QuadtreePointArrays;
+import com.powsybl.diagram.util.layout.geometry.Vector2D;
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.SimpleGraph;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class RepulsionForceDegreeBasedNoOverlapLinearBarnesHutTest {
+
+    @Test
+    void apply() {
+        // a big point size, so that the points are in each other repulsion zone
+        checkAgainstExactForce(0, 1e-9, 2);
+        checkAgainstExactForce(1.2, 0.1, 2);
+        // a small point size, most nodes of the quadtree are outside the repulsion zone
+        checkAgainstExactForce(0, 1e-9, 0.5);
+        checkAgainstExactForce(1.2, 0.1, 0.5);
+    }
+
+    @Test
+    void applyCoincidentPoints() {
+        SimpleGraph<String, DefaultEdge> graph = new SimpleGraph<>(DefaultEdge.class);
+        graph.addVertex("0");
+        graph.addVertex("1");
+        graph.addVertex("2");
+        LayoutContext<String, DefaultEdge> layoutContext = new LayoutContext<>(graph);
+        layoutContext.getMovingPoints().put("0", new Point(1, 1));
+        layoutContext.getMovingPoints().put("1", new Point(1, 1));
+        layoutContext.getMovingPoints().put("2", new Point(3, 1));
+        layoutContext.getAllPoints().putAll(layoutContext.getMovingPoints());
+        layoutContext.cacheDegree();
+        FlatQuadtree quadtree = new FlatQuadtree();
+        QuadtreePointArrays<String> quadtreePoints = new QuadtreePointArrays<>(layoutContext.getAllPoints(), (Point point) -> point.getPointVertexDegree() + 1);
+        quadtreePoints.update(quadtree, false);
+        RepulsionForceDegreeBasedNoOverlapLinearBarnesHut<String, DefaultEdge> force = new RepulsionForceDegreeBasedNoOverlapLinearBarnesHut<>(
+            4, 100, 0, 0.1, 100, 1, 0, quadtreePoints, quadtree
+        );
+        force.init(layoutContext);
+        // a point alone in its leaf is not pushed by itself, only by the two points at (1, 1)
+        Vector2D alone = force.apply("2", layoutContext.getAllPoints().get("2"), layoutContext);
+        assertEquals(0, alone.getY());
+        assertTrue(alone.getX() > 0);
+        // the points at the same position are separated by a random force
+        Vector2D coincident = force.apply("0", layoutContext.getAllPoints().get("0"), layoutContext);
+        assertNotEquals(0, coincident.magnitude());
+    }
+
+    private void checkAgainstExactForce(double theta, double relativeDelta, double pointSizeOffset) {
+        LayoutContext<String, DefaultEdge> layoutContext = GraphTestData.getLayoutContext2();
+        FlatQuadtree quadtree = new FlatQuadtree();
+        QuadtreePointArrays<String> quadtreePoints = new QuadtreePointArrays<>(layoutContext.getAllPoints(), (Point point) -> point.getPointVertexDegree() + 1);
+        quadtreePoints.update(quadtree, false);
+        RepulsionForceDegreeBasedNoOverlapLinear<String, DefaultEdge> exactForce = new RepulsionForceDegreeBasedNoOverlapLinear<>(4, 100, 0.008, pointSizeOffset, 10);
+        RepulsionForceDegreeBasedNoOverlapLinearBarnesHut<String, DefaultEdge> force = new RepulsionForceDegreeBasedNoOverlapLinearBarnesHut<>(
+            4, 100, 0.008, pointSizeOffset, 10, theta, 0, quadtreePoints, quadtree
+        );
+        exactForce.init(layoutContext);
+        force.init(layoutContext);
+        for (String vertex : layoutContext.getMovingPoints().keySet()) {
+            Point point = layoutContext.getMovingPoints().get(vertex);
+            Vector2D expected = exactForce.apply(vertex, point, layoutContext);
+            Vector2D result = force.apply(vertex, point, layoutContext);
+            double delta = relativeDelta * Math.max(expected.magnitude(), 1e-6);
+            assertEquals(expected.getX(), result.getX(), delta);
+            assertEquals(expected.getY(), result.getY(), delta);
+        }
+    }
+}
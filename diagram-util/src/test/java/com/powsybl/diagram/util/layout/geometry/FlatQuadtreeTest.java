@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.geometry;
+
+import com.powsybl.commons.ref.RefObj;
+import com.powsybl.diagram.util.layout.GraphTestData;
+import com.powsybl.diagram.util.layout.forces.RepulsionForceDegreeBasedLinearBarnesHut;
+import org.jgrapht.graph.DefaultEdge;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class FlatQuadtreeTest {
+
+    private record QuadtreePoints(List<Point> points, double[] positionX, double[] positionY, double[] mass, int[] indexes) {
+        static QuadtreePoints of(LayoutContext<String, DefaultEdge> layoutContext) {
+            List<Point> points = new ArrayList<>(layoutContext.getAllPoints().values());
+            QuadtreePoints quadtreePoints = new QuadtreePoints(points, new double[points.size()], new double[points.size()], new double[points.size()], new int[points.size()]);
+            for (int i = 0; i < points.size(); ++i) {
+                quadtreePoints.positionX[i] = points.get(i).getPosition().getX();
+                quadtreePoints.positionY[i] = points.get(i).getPosition().getY();
+                quadtreePoints.mass[i] = points.get(i).getPointVertexDegree() + 1;
+                quadtreePoints.indexes[i] = i;
+            }
+            return quadtreePoints;
+        }
+
+        void build(FlatQuadtree quadtree) {
+            quadtree.build(positionX, positionY, mass, indexes, points.size());
+        }
+    }
+
+    @Test
+    void checkSameAsQuadtree() {
+        LayoutContext<String, DefaultEdge> layoutContext = GraphTestData.getLayoutContext2();
+        QuadtreePoints quadtreePoints = QuadtreePoints.of(layoutContext);
+        FlatQuadtree flatQuadtree = new FlatQuadtree();
+        quadtreePoints.build(flatQuadtree);
+        Quadtree quadtree = new Quadtree(layoutContext.getAllPoints().values(), (Point point) -> point.getPointVertexDegree() + 1);
+
+        assertEquals(quadtree.getNodes().length, flatQuadtree.getNodeCount());
+        assertEquals(quadtree.getRootIndex(), flatQuadtree.getRootIndex());
+        assertEquals(quadtree.getBoundingBox(), flatQuadtree.getBoundingBox());
+        checkSameNode(quadtree, flatQuadtree, quadtree.getRootIndex());
+    }
+
+    private void checkSameNode(Quadtree quadtree, FlatQuadtree flatQuadtree, int node) {
+        Point barycenter = quadtree.getNodes()[node].getNodeBarycenter();
+        assertEquals(barycenter.getPosition().getX(), flatQuadtree.getNodeBarycenterX(node));
+        assertEquals(barycenter.getPosition().getY(), flatQuadtree.getNodeBarycenterY(node));
+        assertEquals(barycenter.getMass(), flatQuadtree.getNodeMass(node));
+        int[] children = quadtree.getNodes()[node].getRealChildrenNodeIndex();
+        assertEquals(children.length == 0, flatQuadtree.isLeaf(node));
+        int childCount = 0;
+        for (int i = 0; i < 4; ++i) {
+            int child = flatQuadtree.getChild(node, i);
+            if (child != FlatQuadtree.NO_CHILDREN) {
+                assertEquals(children[childCount++], child);
+                checkSameNode(quadtree, flatQuadtree, child);
+            }
+        }
+        assertEquals(children.length, childCount);
+    }
+
+    @Test
+    void checkSameForceAsQuadtree() {
+        LayoutContext<String, DefaultEdge> layoutContext = GraphTestData.getLayoutContext2();
+        QuadtreePoints quadtreePoints = QuadtreePoints.of(layoutContext);
+        FlatQuadtree flatQuadtree = new FlatQuadtree();
+        quadtreePoints.build(flatQuadtree);
+        RefObj<Quadtree> quadtreeContainer = new RefObj<>(new Quadtree(layoutContext.getAllPoints().values(), (Point point) -> point.getPointVertexDegree() + 1));
+
+        RepulsionForceDegreeBasedLinearBarnesHut<String, DefaultEdge> quadtreeForce = new RepulsionForceDegreeBasedLinearBarnesHut<>(1.2, 1.5, quadtreeContainer);
+        RepulsionForceDegreeBasedLinearBarnesHut<String, DefaultEdge> flatQuadtreeForce = new RepulsionForceDegreeBasedLinearBarnesHut<>(1.2, 1.5, flatQuadtree);
+        quadtreeForce.init(layoutContext);
+        flatQuadtreeForce.init(layoutContext);
+        for (Map.Entry<String, Point> entry : layoutContext.getMovingPoints().entrySet()) {
+            assertEquals(
+                quadtreeForce.apply(entry.getKey(), entry.getValue(), layoutContext),
+                flatQuadtreeForce.apply(entry.getKey(), entry.getValue(), layoutContext)
+            );
+        }
+    }
+
+    @Test
+    void checkLeavesFollowPoints() {
+        LayoutContext<String, DefaultEdge> layoutContext = GraphTestData.getLayoutContext2();
+        QuadtreePoints quadtreePoints = QuadtreePoints.of(layoutContext);
+        FlatQuadtree flatQuadtree = new FlatQuadtree();
+        quadtreePoints.build(flatQuadtree);
+        int leaf = findLeaf(flatQuadtree, flatQuadtree.getRootIndex());
+        double rootBarycenterX = flatQuadtree.getNodeBarycenterX(flatQuadtree.getRootIndex());
+        double leafX = flatQuadtree.getNodeBarycenterX(leaf);
+        for (int i = 0; i < quadtreePoints.points().size(); ++i) {
+            quadtreePoints.positionX()[i] += 0.01;
+        }
+        assertEquals(leafX + 0.01, flatQuadtree.getNodeBarycenterX(leaf), 1e-12);
+        // barycenters of the other nodes are only updated by a refit
+        assertEquals(rootBarycenterX, flatQuadtree.getNodeBarycenterX(flatQuadtree.getRootIndex()));
+        assertTrue(flatQuadtree.refit());
+        assertEquals(rootBarycenterX + 0.01, flatQuadtree.getNodeBarycenterX(flatQuadtree.getRootIndex()), 1e-12);
+    }
+
+    @Test
+    void checkDisplacementSinceLastUpdate() {
+        LayoutContext<String, DefaultEdge> layoutContext = GraphTestData.getLayoutContext2();
+        QuadtreePoints quadtreePoints = QuadtreePoints.of(layoutContext);
+        FlatQuadtree flatQuadtree = new FlatQuadtree();
+        quadtreePoints.build(flatQuadtree);
+        assertEquals(0, flatQuadtree.getMaxDisplacement());
+        for (int i = 0; i < quadtreePoints.points().size(); ++i) {
+            quadtreePoints.positionX()[i] += 0.01;
+        }
+        assertEquals(0.01, flatQuadtree.getMaxDisplacement(), 1e-12);
+        assertEquals(0.01, flatQuadtree.getAverageDisplacement(), 1e-12);
+        // the displacements are measured from the last refit, not from the build
+        assertTrue(flatQuadtree.refit());
+        assertEquals(0, flatQuadtree.getMaxDisplacement());
+        quadtreePoints.positionX()[0] += 0.01;
+        assertEquals(0.01, flatQuadtree.getMaxDisplacement(), 1e-12);
+    }
+
+    private int findLeaf(FlatQuadtree flatQuadtree, int node) {
+        if (flatQuadtree.isLeaf(node)) {
+            return node;
+        }
+        for (int i = 0; i < 4; ++i) {
+            if (flatQuadtree.getChild(node, i) != FlatQuadtree.NO_CHILDREN) {
+                return findLeaf(flatQuadtree, flatQuadtree.getChild(node, i));
+            }
+        }
+        throw new IllegalStateException("A node that is not a leaf has at least one child");
+    }
+
+    @Test
+    void checkRefitRefusedOnLargeMove() {
+        LayoutContext<String, DefaultEdge> layoutContext = GraphTestData.getLayoutContext2();
+        QuadtreePoints quadtreePoints = QuadtreePoints.of(layoutContext);
+        FlatQuadtree flatQuadtree = new FlatQuadtree();
+        quadtreePoints.build(flatQuadtree);
+        double rootBarycenterY = flatQuadtree.getNodeBarycenterY(flatQuadtree.getRootIndex());
+        quadtreePoints.positionY()[0] += 10;
+        assertFalse(flatQuadtree.refit());
+        assertEquals(rootBarycenterY, flatQuadtree.getNodeBarycenterY(flatQuadtree.getRootIndex()));
+    }
+
+    @Test
+    void checkReuse() {
+        LayoutContext<String, DefaultEdge> layoutContext2 = GraphTestData.getLayoutContext2();
+        LayoutContext<String, DefaultEdge> layoutContext1 = GraphTestData.getLayoutContext1();
+        FlatQuadtree flatQuadtree = new FlatQuadtree();
+        QuadtreePoints.of(layoutContext2).build(flatQuadtree);
+        QuadtreePoints.of(layoutContext1).build(flatQuadtree);
+        Quadtree quadtree = new Quadtree(layoutContext1.getAllPoints().values(), (Point point) -> point.getPointVertexDegree() + 1);
+        assertEquals(quadtree.getNodes().length, flatQuadtree.getNodeCount());
+        checkSameNode(quadtree, flatQuadtree, quadtree.getRootIndex());
+    }
+
+    @Test
+    void checkEmpty() {
+        FlatQuadtree flatQuadtree = new FlatQuadtree();
+        flatQuadtree.build(new double[0], new double[0], new double[0], new int[0], 0);
+        assertEquals(FlatQuadtree.NO_CHILDREN, flatQuadtree.getRootIndex());
+        assertEquals(0, flatQuadtree.getNodeCount());
+        assertEquals(new Vector2D(), flatQuadtree.calculateForce(1, 1, 1, 1.5, (pointFactor, deltaX, deltaY, mass) -> 1));
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.geometry;
+
+import com.powsybl.diagram.util.layout.GraphTestData;
+import org.jgrapht.graph.DefaultEdge;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class IndexedLayoutContextTest {
+
+    @Test
+    void indexes() {
+        LayoutContext<String, DefaultEdge> layoutContext = GraphTestData.getLayoutContext1();
+        IndexedLayoutContext<String, DefaultEdge> indexedLayoutContext = new IndexedLayoutContext<>(layoutContext);
+        assertEquals(5, indexedLayoutContext.getPointCount());
+        assertEquals(4, indexedLayoutContext.getMovingPointCount());
+        // the only fixed point is last
+        assertEquals("1", indexedLayoutContext.getVertex(4));
+        assertEquals(4, indexedLayoutContext.getIndex("1"));
+        assertEquals(-1, indexedLayoutContext.getIndex("unknown"));
+        for (int i = 0; i < indexedLayoutContext.getPointCount(); ++i) {
+            String vertex = indexedLayoutContext.getVertex(i);
+            assertEquals(i, indexedLayoutContext.getIndex(vertex));
+            assertSame(layoutContext.getAllPoints().get(vertex), indexedLayoutContext.getPoint(i));
+            assertEquals(layoutContext.getSimpleGraph().degreeOf(vertex), indexedLayoutContext.getDegree()[i]);
+            assertEquals(layoutContext.getSimpleGraph().degreeOf(vertex) + 1., indexedLayoutContext.getDegreeMass()[i]);
+            assertEquals(indexedLayoutContext.getPoint(i).getPosition().getX(), indexedLayoutContext.getPositionX()[i]);
+            assertEquals(indexedLayoutContext.getPoint(i).getPosition().getY(), indexedLayoutContext.getPositionY()[i]);
+        }
+    }
+
+    @Test
+    void adjacency() {
+        LayoutContext<String, DefaultEdge> layoutContext = GraphTestData.getLayoutContext1();
+        IndexedLayoutContext<String, DefaultEdge> indexedLayoutContext = new IndexedLayoutContext<>(layoutContext);
+        int[] offsets = indexedLayoutContext.getNeighborOffsets();
+        assertEquals(indexedLayoutContext.getPointCount() + 1, offsets.length);
+        assertEquals(2 * layoutContext.getSimpleGraph().edgeSet().size(), offsets[indexedLayoutContext.getPointCount()]);
+        int index0 = indexedLayoutContext.getIndex("0");
+        assertArrayEquals(
+            new int[] {indexedLayoutContext.getIndex("1"), indexedLayoutContext.getIndex("2"), indexedLayoutContext.getIndex("3")},
+            java.util.Arrays.copyOfRange(indexedLayoutContext.getNeighbors(), offsets[index0], offsets[index0 + 1])
+        );
+        int index4 = indexedLayoutContext.getIndex("4");
+        assertEquals(offsets[index4], offsets[index4 + 1]);
+        assertEquals(1.0, indexedLayoutContext.getNeighborEdgeWeights()[offsets[index0]]);
+        assertEquals(1.0, indexedLayoutContext.getNeighborAttractionWeights()[offsets[index0]]);
+    }
+
+    @Test
+    void forcesAndPositions() {
+        LayoutContext<String, DefaultEdge> layoutContext = GraphTestData.getLayoutContext1();
+        IndexedLayoutContext<String, DefaultEdge> indexedLayoutContext = new IndexedLayoutContext<>(layoutContext);
+        double[] forceX = indexedLayoutContext.getForceX();
+        forceX[0] = 3;
+        indexedLayoutContext.shiftForces();
+        assertSame(forceX, indexedLayoutContext.getPreviousForceX());
+        assertEquals(3, indexedLayoutContext.getPreviousForceX()[0]);
+        assertEquals(0, indexedLayoutContext.getForceX()[0]);
+
+        Vector2D position = indexedLayoutContext.getPoint(0).getPosition();
+        indexedLayoutContext.getPositionX()[0] = -12.5;
+        indexedLayoutContext.getPositionY()[0] = 7;
+        indexedLayoutContext.writePointPositions();
+        // the position is updated in place
+        assertSame(position, indexedLayoutContext.getPoint(0).getPosition());
+        assertEquals(new Vector2D(-12.5, 7), position);
+
+        position.set(1, 2);
+        indexedLayoutContext.readPointPositions();
+        assertEquals(1, indexedLayoutContext.getPositionX()[0]);
+        assertEquals(2, indexedLayoutContext.getPositionY()[0]);
+    }
+
+    @Test
+    void notSetUp() {
+        LayoutContext<String, DefaultEdge> layoutContext = new LayoutContext<>(GraphTestData.getGraph1());
+        assertThrows(IllegalStateException.class, () -> new IndexedLayoutContext<>(layoutContext));
+    }
+}
@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.postprocessing;
+
+import com.powsybl.diagram.util.layout.GraphTestData;
+import com.powsybl.diagram.util.layout.geometry.LayoutContext;
+import com.powsybl.diagram.util.layout.geometry.Vector2D;
+import com.powsybl.diagram.util.layout.postprocessing.parameters.OverlapPreventionPostProcessingParameters;
+import org.jgrapht.graph.DefaultEdge;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class OverlapPreventionPostProcessingTest {
+
+    @Test
+    void barnesHut() {
+        // points of the test graph are close to each other compared to the point size, use a small zone so that the quadtree is useful
+        OverlapPreventionPostProcessingParameters.Builder builder = new OverlapPreventionPostProcessingParameters.Builder()
+            .withPointSizeOffset(1)
+            .withRepulsionZoneRatio(4);
+        LayoutContext<String, DefaultEdge> expected = overlappingLayoutContext();
+        new OverlapPreventionPostProcessing<String, DefaultEdge>(builder.build()).run(expected);
+        LayoutContext<String, DefaultEdge> actual = overlappingLayoutContext();
+        new OverlapPreventionPostProcessing<String, DefaultEdge>(builder.withBarnesHutTheta(1.2).build()).run(actual);
+
+        GraphTestData.checkPointPositionAllDifferent(actual);
+        for (String vertex : expected.getSimpleGraph().vertexSet()) {
+            Vector2D expectedPosition = expected.getAllPoints().get(vertex).getPosition();
+            Vector2D actualPosition = actual.getAllPoints().get(vertex).getPosition();
+            assertEquals(expectedPosition.getX(), actualPosition.getX(), 0.5);
+            assertEquals(expectedPosition.getY(), actualPosition.getY(), 0.5);
+        }
+    }
+
+    private static LayoutContext<String, DefaultEdge> overlappingLayoutContext() {
+        LayoutContext<String, DefaultEdge> layoutContext = GraphTestData.getLayoutContext2();
+        Vector2D position3 = layoutContext.getMovingPoints().get("3").getPosition();
+        layoutContext.getMovingPoints().get("2").setPosition(new Vector2D(position3.getX() + 0.1, position3.getY()));
+        return layoutContext;
+    }
+}
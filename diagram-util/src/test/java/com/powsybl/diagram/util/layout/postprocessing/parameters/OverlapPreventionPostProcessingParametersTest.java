@@ -22,6 +22,7 @@ class OverlapPreventionPostProcessingParametersTest {
     double repulsionWithOverlap = 342.9;
     double repulsionZoneRatio = 11.1;
     double attractToCenterIntensity = 0.87;
+    double barnesHutTheta = 1.3;
 
     @Test
     void checkBuilder() {
@@ -33,6 +34,8 @@ class OverlapPreventionPostProcessingParametersTest {
                 .withRepulsionWithOverlapIntensity(repulsionWithOverlap)
                 .withRepulsionZoneRatio(repulsionZoneRatio)
                 .withAttractToCenterIntensity(attractToCenterIntensity)
+                .withBarnesHutTheta(barnesHutTheta)
+                .withQuadtreeRefitEnabled(true)
                 .build();
 
         assertEquals(pointSizeScale, parameters.getPointSizeScale());
@@ -42,5 +45,16 @@ class OverlapPreventionPostProcessingParametersTest {
         assertEquals(repulsionWithOverlap, parameters.getRepulsionWithOverlapIntensity());
         assertEquals(repulsionZoneRatio, parameters.getRepulsionZoneRatio());
         assertEquals(attractToCenterIntensity, parameters.getAttractToCenterIntensity());
+        assertEquals(barnesHutTheta, parameters.getBarnesHutTheta());
+        assertTrue(parameters.isBarnesHutEnabled());
+        assertTrue(parameters.isQuadtreeRefitEnabled());
+    }
+
+    @Test
+    void checkBarnesHut() {
+        assertFalse(new OverlapPreventionPostProcessingParameters.Builder().build().isBarnesHutEnabled());
+        assertFalse(new OverlapPreventionPostProcessingParameters.Builder().build().isQuadtreeRefitEnabled());
+        OverlapPreventionPostProcessingParameters.Builder builder = new OverlapPreventionPostProcessingParameters.Builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.withBarnesHutTheta(-0.5));
     }
 }
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.diagram.util.layout.setup;
+
+import com.powsybl.diagram.util.layout.geometry.LayoutContext;
+import com.powsybl.diagram.util.layout.geometry.Point;
+import com.powsybl.diagram.util.layout.geometry.Vector2D;
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.DefaultUndirectedGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class NeighbourBarycenterSetupTest {
+
+    private static final double JITTER = 0.1;
+
+    /**
+     * a and b have a position, c is linked to a and b, d is only linked to c, e is not linked to anything
+     */
+    private static LayoutContext<String, DefaultEdge> createLayoutContext() {
+        Graph<String, DefaultEdge> graph = new DefaultUndirectedGraph<>(DefaultEdge.class);
+        for (String vertex : new String[] {"a", "b", "c", "d", "e"}) {
+            graph.addVertex(vertex);
+        }
+        graph.addEdge("a", "b");
+        graph.addEdge("a", "c");
+        graph.addEdge("b", "c");
+        graph.addEdge("c", "d");
+        LayoutContext<String, DefaultEdge> layoutContext = new LayoutContext<>(graph);
+        layoutContext.setInitialPoints(Map.of("a", new Point(10, 0), "b", new Point(20, 6)));
+        layoutContext.setFixedNodes(Set.of("a"));
+        return layoutContext;
+    }
+
+    @Test
+    void run() {
+        LayoutContext<String, DefaultEdge> layoutContext = createLayoutContext();
+        new NeighbourBarycenterSetup<String, DefaultEdge>(new Random(3L), JITTER).run(layoutContext);
+
+        assertEquals(Set.of("a"), layoutContext.getFixedPoints().keySet());
+        assertEquals(Set.of("b", "c", "d", "e"), layoutContext.getMovingPoints().keySet());
+        assertEquals(5, layoutContext.getAllPoints().size());
+        assertEquals(new Vector2D(10, 0), layoutContext.getStablePosition("a"));
+        assertEquals(new Vector2D(20, 6), layoutContext.getStablePosition("b"));
+        assertEquals(new Vector2D(15, 3), layoutContext.getCenter());
+        // c is at the barycenter of a and b, d next to c
+        checkClose(15, 3, JITTER / 2, layoutContext.getStablePosition("c"));
+        checkClose(15, 3, JITTER, layoutContext.getStablePosition("d"));
+        assertNotEquals(layoutContext.getStablePosition("c"), layoutContext.getStablePosition("d"));
+        // e is around the center of the initial points
+        checkClose(15, 3, 0.5, layoutContext.getStablePosition("e"));
+    }
+
+    @Test
+    void runWithoutInitialPoints() {
+        Graph<String, DefaultEdge> graph = new DefaultUndirectedGraph<>(DefaultEdge.class);
+        graph.addVertex("a");
+        graph.addVertex("b");
+        graph.addEdge("a", "b");
+        LayoutContext<String, DefaultEdge> layoutContext = new LayoutContext<>(graph);
+        new NeighbourBarycenterSetup<String, DefaultEdge>().run(layoutContext);
+        checkClose(0, 0, 0.5, layoutContext.getStablePosition("a"));
+        checkClose(0, 0, 0.5, layoutContext.getStablePosition("b"));
+    }
+
+    @Test
+    void checkInvalidJitter() {
+        Random random = new Random();
+        assertThrows(IllegalArgumentException.class, () -> new NeighbourBarycenterSetup<String, DefaultEdge>(random, 0));
+    }
+
+    private static void checkClose(double x, double y, double maxOffset, Vector2D position) {
+        assertTrue(Math.abs(position.getX() - x) <= maxOffset);
+        assertTrue(Math.abs(position.getY() - y) <= maxOffset);
+    }
+}
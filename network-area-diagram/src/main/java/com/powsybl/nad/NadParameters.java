@@ -7,6 +7,7 @@
  */
 package com.powsybl.nad;
 
+import com.powsybl.diagram.util.instrumentation.DiagramInstrumentation;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.nad.build.iidm.IntIdProvider;
 import com.powsybl.nad.layout.Atlas2ForceLayout;
@@ -35,6 +36,7 @@ public class NadParameters {
     private IdProviderFactory idProviderFactory = IntIdProvider::new;
     private NadComponentLibrary componentLibrary = new DefaultComponentLibrary();
     private EdgeRouting edgeRouting = new StraightEdgeRouting();
+    private DiagramInstrumentation instrumentation = DiagramInstrumentation.noOp();
 
     public SvgParameters getSvgParameters() {
         return svgParameters;
@@ -111,4 +113,16 @@ public class NadParameters {
         this.edgeRouting = edgeRouting;
         return this;
     }
+
+    public DiagramInstrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
+    /**
+     * Set the listener of the diagram generation stages and counters, which ignores them by default
+     */
+    public NadParameters setInstrumentation(DiagramInstrumentation instrumentation) {
+        this.instrumentation = Objects.requireNonNull(instrumentation);
+        return this;
+    }
 }
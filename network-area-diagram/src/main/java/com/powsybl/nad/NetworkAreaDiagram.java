@@ -7,16 +7,22 @@
  */
 package com.powsybl.nad;
 
+import com.powsybl.diagram.util.instrumentation.DiagramInstrumentation;
+import com.powsybl.diagram.util.instrumentation.DiagramStage;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.VoltageLevel;
 import com.powsybl.nad.build.iidm.NetworkGraphBuilder;
 import com.powsybl.nad.build.iidm.VoltageLevelFilter;
+import com.powsybl.nad.layout.Layout;
 import com.powsybl.nad.layout.LayoutParameters;
+import com.powsybl.nad.model.BusNode;
 import com.powsybl.nad.model.Graph;
+import com.powsybl.nad.svg.LabelProvider;
 import com.powsybl.nad.svg.StyleProvider;
 import com.powsybl.nad.svg.SvgParameters;
 import com.powsybl.nad.svg.SvgWriter;
 import com.powsybl.nad.svg.metadata.DiagramMetadata;
+import com.powsybl.nad.svg.metadata.DiagramMetadataWriter;
 import org.apache.commons.io.output.NullWriter;
 
 import java.io.IOException;
@@ -26,7 +32,9 @@ import java.io.Writer;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * @author Florian Dupuy {@literal <florian.dupuy at rte-france.com>}
@@ -78,7 +86,8 @@ public final class NetworkAreaDiagram {
         Graph graph = getLayoutResult(network, param, voltageLevelFilter);
         NetworkGraphBuilder.applyStyle(graph, styleProvider);
         createSvgWriter(param).writeSvg(graph, svgFile);
-        createMetadata(graph, param, network).writeJson(getMetadataPath(svgFile));
+        param.getInstrumentation().time(DiagramStage.METADATA_WRITE,
+            () -> createMetadataWriter(param, network).writeJson(graph, getMetadataPath(svgFile)));
     }
 
     public static void draw(Network network, Writer writer, Writer metadataWriter, NadParameters param, Predicate<VoltageLevel> voltageLevelFilter) {
@@ -91,26 +100,70 @@ public final class NetworkAreaDiagram {
         Graph graph = getLayoutResult(network, param, voltageLevelFilter);
         NetworkGraphBuilder.applyStyle(graph, styleProvider);
         createSvgWriter(param).writeSvg(graph, writer);
-        createMetadata(graph, param, network).writeJson(metadataWriter);
-    }
+        param.getInstrumentation().time(DiagramStage.METADATA_WRITE,
+            () -> createMetadataWriter(param, network).writeJson(graph, metadataWriter));
+    }
+
+    /**
+     * Write the update of an SVG previously written, with the current state of the network. No layout is run and no SVG
+     * is built: the graph of the voltage levels displayed in the previous SVG is built again to compute the edge infos
+     * and the style classes of the elements described by the previous metadata.
+     *
+     * @param network          the network, in its current state
+     * @param previousMetadata the metadata written with the SVG to update
+     * @param updateWriter     the writer for the JSON update
+     * @param param            the parameters used to write the SVG to update, whose layout and SVG parameters are
+     *                         superseded by the ones recorded in the previous metadata
+     */
+    public static void writeUpdate(Network network, DiagramMetadata previousMetadata, Writer updateWriter, NadParameters param) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(previousMetadata);
+        Objects.requireNonNull(updateWriter);
+        Objects.requireNonNull(param);
 
-    private static DiagramMetadata createMetadata(Graph graph, NadParameters param, Network network) {
-        return new DiagramMetadata(param.getLayoutParameters(), param.getSvgParameters())
+        Set<VoltageLevel> displayedVoltageLevels = previousMetadata.getNodesMetadata().stream()
+                .filter(nodeMetadata -> nodeMetadata.getType() == null && !nodeMetadata.isInvisible())
+                .map(nodeMetadata -> network.getVoltageLevel(nodeMetadata.getEquipmentId()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        // The parameters the SVG was written with are the ones recorded in the previous metadata
+        LabelProvider labelProvider = param.getLabelProviderFactory().create(network, previousMetadata.getSvgParameters());
+        var networkGraphBuilder = new NetworkGraphBuilder(network, new VoltageLevelFilter(displayedVoltageLevels),
+                labelProvider, previousMetadata.getLayoutParameters(), param.getIdProviderFactory().create());
+        Graph graph = networkGraphBuilder.buildGraph();
+        // The bus index, used by the style providers, is the one given by the layout, that is the bus view order
+        graph.getVoltageLevelNodesStream().forEach(vlNode -> {
+            List<BusNode> busNodes = vlNode.getBusNodes();
+            for (int i = 0; i < busNodes.size(); i++) {
+                busNodes.get(i).setBusIndex(i);
+            }
+        });
+        NetworkGraphBuilder.applyStyle(graph, param.getStyleProviderFactory().create(network));
+
+        createSvgWriter(param).createUpdate(graph, previousMetadata)
             .setNetworkInformation(network.getNameOrId(), network.getId(), network.getCaseDate().toString())
-            .addMetadata(graph);
+            .writeJson(updateWriter);
+    }
+
+    private static DiagramMetadataWriter createMetadataWriter(NadParameters param, Network network) {
+        return new DiagramMetadataWriter(param.getLayoutParameters(), param.getSvgParameters())
+            .setNetworkInformation(network.getNameOrId(), network.getId(), network.getCaseDate().toString());
     }
 
     private static Graph getLayoutResult(Network network, NadParameters param, Predicate<VoltageLevel> voltageLevelFilter) {
         Objects.requireNonNull(voltageLevelFilter);
         var networkGraphBuilder = new NetworkGraphBuilder(network, voltageLevelFilter, param.createLabelProvider(network), param.getLayoutParameters(), param.getIdProviderFactory().create());
-        var graph = networkGraphBuilder.buildGraph();
-        param.getLayoutFactory().create().run(graph, param.getLayoutParameters());
+        DiagramInstrumentation instrumentation = param.getInstrumentation();
+        var graph = networkGraphBuilder.buildGraph(instrumentation);
+        Layout layout = param.getLayoutFactory().create();
+        layout.setInstrumentation(instrumentation);
+        instrumentation.time(DiagramStage.LAYOUT, () -> layout.run(graph, param.getLayoutParameters()));
         return graph;
     }
 
     private static SvgWriter createSvgWriter(NadParameters param) {
         return new SvgWriter(param.getSvgParameters(), param.getComponentLibrary(),
-                param.getEdgeRouting());
+                param.getEdgeRouting(), param.getInstrumentation());
     }
 
     private static Path getMetadataPath(Path svgPath) {
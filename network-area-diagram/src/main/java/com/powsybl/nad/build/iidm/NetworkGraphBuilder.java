@@ -8,6 +8,9 @@ package com.powsybl.nad.build.iidm;
 
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.diagram.util.IidmUtil;
+import com.powsybl.diagram.util.instrumentation.DiagramCounter;
+import com.powsybl.diagram.util.instrumentation.DiagramInstrumentation;
+import com.powsybl.diagram.util.instrumentation.DiagramStage;
 import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.Identifiable;
 import com.powsybl.nad.build.GraphBuilder;
@@ -50,15 +53,34 @@ public class NetworkGraphBuilder implements GraphBuilder {
 
     @Override
     public Graph buildGraph() {
-        Graph graph = new Graph();
-        List<VoltageLevel> voltageLevelsVisible = getVoltageLevels();
-        List<VoltageLevel> voltageLevelsInvisible = VoltageLevelFilter.getNextDepthVoltageLevels(network, voltageLevelsVisible)
-                .stream()
-                .sorted(Comparator.comparing(VoltageLevel::getId))
-                .toList();
-        voltageLevelsVisible.forEach(vl -> addVoltageLevelGraphNode(vl, graph, true, injectionsAdded));
-        voltageLevelsInvisible.forEach(vl -> addVoltageLevelGraphNode(vl, graph, false, false));
-        voltageLevelsVisible.forEach(vl -> addGraphEdges(vl, graph));
+        return buildGraph(DiagramInstrumentation.noOp());
+    }
+
+    /**
+     * Build the graph, reporting the selection of the voltage levels and the building of the graph as separate stages,
+     * and the number of nodes and edges of the graph built
+     * @param instrumentation the listener of the stages and counters
+     * @return the graph built
+     */
+    public Graph buildGraph(DiagramInstrumentation instrumentation) {
+        Objects.requireNonNull(instrumentation);
+        List<VoltageLevel> voltageLevelsVisible = instrumentation.time(DiagramStage.FILTER_TRAVERSAL, this::getVoltageLevels);
+        List<VoltageLevel> voltageLevelsInvisible = instrumentation.time(DiagramStage.FILTER_TRAVERSAL,
+                () -> VoltageLevelFilter.getNextDepthVoltageLevels(network, voltageLevelsVisible)
+                        .stream()
+                        .sorted(Comparator.comparing(VoltageLevel::getId))
+                        .toList());
+        Graph graph = instrumentation.time(DiagramStage.GRAPH_BUILD, () -> {
+            Graph g = new Graph();
+            voltageLevelsVisible.forEach(vl -> addVoltageLevelGraphNode(vl, g, true, injectionsAdded));
+            voltageLevelsInvisible.forEach(vl -> addVoltageLevelGraphNode(vl, g, false, false));
+            voltageLevelsVisible.forEach(vl -> addGraphEdges(vl, g));
+            return g;
+        });
+        if (instrumentation.isEnabled()) {
+            instrumentation.count(DiagramCounter.NODES, graph.getNodesStream().count());
+            instrumentation.count(DiagramCounter.EDGES, graph.getEdges().size());
+        }
         return graph;
     }
 
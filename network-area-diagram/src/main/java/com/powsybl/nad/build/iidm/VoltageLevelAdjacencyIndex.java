@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.nad.build.iidm;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VoltageLevel;
+
+import java.util.*;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Immutable index of the voltage levels adjacency of a network: two voltage levels are adjacent if they are linked by a
+ * line, a two or three windings transformer, an HVDC line or a tie line, as in the traversal of
+ * {@link VoltageLevelFilter}. The adjacency is stored in compressed sparse row arrays over the voltage level indices,
+ * along with the nominal voltages, so that the depth filters are computed by a breadth-first search on arrays instead
+ * of visiting the equipments of each traversed voltage level.
+ * <p>
+ * The index is built once for a network, and can then be shared to create any number of filters. It does not depend
+ * on the network variant, as the equipments and nominal voltages are not variant dependent, but it needs to be built
+ * again if equipments or voltage levels are added or removed.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class VoltageLevelAdjacencyIndex {
+
+    private final VoltageLevel[] voltageLevels;
+    private final Map<String, Integer> indexById;
+    private final double[] nominalVoltages;
+    private final int[] neighbourOffsets;
+    private final int[] neighbours;
+
+    private VoltageLevelAdjacencyIndex(VoltageLevel[] voltageLevels, Map<String, Integer> indexById,
+                                       int[] neighbourOffsets, int[] neighbours) {
+        this.voltageLevels = voltageLevels;
+        this.indexById = indexById;
+        this.nominalVoltages = Arrays.stream(voltageLevels).mapToDouble(VoltageLevel::getNominalV).toArray();
+        this.neighbourOffsets = neighbourOffsets;
+        this.neighbours = neighbours;
+    }
+
+    public static VoltageLevelAdjacencyIndex build(Network network) {
+        Objects.requireNonNull(network);
+        VoltageLevel[] voltageLevels = network.getVoltageLevelStream().toArray(VoltageLevel[]::new);
+        Map<String, Integer> indexById = new HashMap<>();
+        for (int i = 0; i < voltageLevels.length; i++) {
+            indexById.put(voltageLevels[i].getId(), i);
+        }
+
+        int[] neighbourOffsets = new int[voltageLevels.length + 1];
+        int[] neighbours = new int[Math.max(16, voltageLevels.length * 2)];
+        BitSet vlNeighbours = new BitSet(voltageLevels.length);
+        int nbNeighbours = 0;
+        for (int i = 0; i < voltageLevels.length; i++) {
+            vlNeighbours.clear();
+            voltageLevels[i].visitEquipments(new VoltageLevelFilter.VlVisitor(vl -> {
+                Integer neighbourIndex = indexById.get(vl.getId());
+                if (neighbourIndex != null) {
+                    vlNeighbours.set(neighbourIndex);
+                }
+            }));
+            vlNeighbours.clear(i);
+            if (nbNeighbours + vlNeighbours.cardinality() > neighbours.length) {
+                neighbours = Arrays.copyOf(neighbours, Math.max(neighbours.length * 2, nbNeighbours + vlNeighbours.cardinality()));
+            }
+            for (int j = vlNeighbours.nextSetBit(0); j >= 0; j = vlNeighbours.nextSetBit(j + 1)) {
+                neighbours[nbNeighbours++] = j;
+            }
+            neighbourOffsets[i + 1] = nbNeighbours;
+        }
+        return new VoltageLevelAdjacencyIndex(voltageLevels, indexById, neighbourOffsets, Arrays.copyOf(neighbours, nbNeighbours));
+    }
+
+    public int getVoltageLevelCount() {
+        return voltageLevels.length;
+    }
+
+    public int getIndex(String voltageLevelId) {
+        Integer index = indexById.get(voltageLevelId);
+        if (index == null) {
+            throw new PowsyblException("Unknown voltage level id '" + voltageLevelId + "'");
+        }
+        return index;
+    }
+
+    public VoltageLevel getVoltageLevel(int index) {
+        return voltageLevels[index];
+    }
+
+    public double getNominalV(int index) {
+        return nominalVoltages[index];
+    }
+
+    /**
+     * Get the indices of the voltage levels adjacent to the voltage level of given index, in increasing order
+     */
+    public int[] getNeighbours(int index) {
+        return Arrays.copyOfRange(neighbours, neighbourOffsets[index], neighbourOffsets[index + 1]);
+    }
+
+    /**
+     * Breadth-first search from the given voltage levels: the voltage levels reached within the given depth are
+     * returned, only going through voltage levels accepted by the given predicate. The starting voltage levels are
+     * always returned.
+     */
+    BitSet traverse(Collection<String> voltageLevelIds, int depth, IntPredicate predicate) {
+        BitSet visited = new BitSet(voltageLevels.length);
+        if (depth < 0) {
+            return visited;
+        }
+        int[] frontier = new int[voltageLevels.length];
+        int frontierEnd = 0;
+        for (String voltageLevelId : voltageLevelIds) {
+            int index = getIndex(voltageLevelId);
+            if (!visited.get(index)) {
+                visited.set(index);
+                frontier[frontierEnd++] = index;
+            }
+        }
+        // The frontier array is used as a queue, each depth being a contiguous slice of it
+        int depthStart = 0;
+        for (int d = 0; d < depth && depthStart < frontierEnd; d++) {
+            int depthEnd = frontierEnd;
+            for (int f = depthStart; f < depthEnd; f++) {
+                int vl = frontier[f];
+                for (int n = neighbourOffsets[vl]; n < neighbourOffsets[vl + 1]; n++) {
+                    int neighbour = neighbours[n];
+                    if (!visited.get(neighbour) && predicate.test(neighbour)) {
+                        visited.set(neighbour);
+                        frontier[frontierEnd++] = neighbour;
+                    }
+                }
+            }
+            depthStart = depthEnd;
+        }
+        return visited;
+    }
+
+    IntPredicate toIndexPredicate(Predicate<VoltageLevel> voltageLevelPredicate) {
+        return index -> voltageLevelPredicate.test(voltageLevels[index]);
+    }
+
+    IntPredicate nominalVoltagePredicate(double nominalVoltageLowerBound, double nominalVoltageUpperBound) {
+        return index -> nominalVoltages[index] >= nominalVoltageLowerBound && nominalVoltages[index] <= nominalVoltageUpperBound;
+    }
+
+    Set<VoltageLevel> toVoltageLevels(BitSet indices) {
+        Set<VoltageLevel> result = new HashSet<>();
+        for (int i = indices.nextSetBit(0); i >= 0; i = indices.nextSetBit(i + 1)) {
+            result.add(voltageLevels[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Get the voltage levels adjacent to the given ones, excluding the given ones
+     */
+    public Set<VoltageLevel> getNextDepthVoltageLevels(Collection<VoltageLevel> voltageLevelsDepth) {
+        Objects.requireNonNull(voltageLevelsDepth);
+        BitSet current = new BitSet(voltageLevels.length);
+        voltageLevelsDepth.forEach(vl -> current.set(getIndex(vl.getId())));
+        BitSet next = new BitSet(voltageLevels.length);
+        for (int vl = current.nextSetBit(0); vl >= 0; vl = current.nextSetBit(vl + 1)) {
+            for (int n = neighbourOffsets[vl]; n < neighbourOffsets[vl + 1]; n++) {
+                next.set(neighbours[n]);
+            }
+        }
+        next.andNot(current);
+        return toVoltageLevels(next);
+    }
+}
@@ -13,6 +13,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -111,6 +113,52 @@ public record VoltageLevelFilter(Set<VoltageLevel> voltageLevels) implements Pre
         return voltageLevelSet;
     }
 
+    /**
+     * Create the filter of the voltage levels within the given depth of the given voltage levels, using the given
+     * adjacency index instead of visiting the equipments of the traversed voltage levels
+     */
+    public static VoltageLevelFilter createVoltageLevelsDepthFilter(VoltageLevelAdjacencyIndex index, List<String> voltageLevelIds, int depth) {
+        return createVoltageLevelFilterWithPredicate(index, voltageLevelIds, depth, NO_FILTER);
+    }
+
+    public static VoltageLevelFilter createNominalVoltageFilter(VoltageLevelAdjacencyIndex index, List<String> voltageLevelIds,
+                                                                double nominalVoltageLowerBound, double nominalVoltageUpperBound,
+                                                                int depth) {
+        Objects.requireNonNull(index);
+        checkVoltageBoundValues(nominalVoltageLowerBound, nominalVoltageUpperBound);
+        return createVoltageLevelFilter(index, voltageLevelIds, depth, index.nominalVoltagePredicate(nominalVoltageLowerBound, nominalVoltageUpperBound));
+    }
+
+    public static VoltageLevelFilter createNominalVoltageFilter(VoltageLevelAdjacencyIndex index, double nominalVoltageLowerBound, double nominalVoltageUpperBound) {
+        Objects.requireNonNull(index);
+        checkVoltageBoundValues(nominalVoltageLowerBound, nominalVoltageUpperBound);
+        IntPredicate predicate = index.nominalVoltagePredicate(nominalVoltageLowerBound, nominalVoltageUpperBound);
+        BitSet voltageLevels = new BitSet(index.getVoltageLevelCount());
+        for (int i = 0; i < index.getVoltageLevelCount(); i++) {
+            voltageLevels.set(i, predicate.test(i));
+        }
+        return new VoltageLevelFilter(index.toVoltageLevels(voltageLevels));
+    }
+
+    public static VoltageLevelFilter createVoltageLevelFilterWithPredicate(VoltageLevelAdjacencyIndex index, List<String> voltageLevelIds, int depth, Predicate<VoltageLevel> voltageLevelPredicate) {
+        Objects.requireNonNull(index);
+        return createVoltageLevelFilter(index, voltageLevelIds, depth, index.toIndexPredicate(voltageLevelPredicate));
+    }
+
+    private static VoltageLevelFilter createVoltageLevelFilter(VoltageLevelAdjacencyIndex index, List<String> voltageLevelIds, int depth, IntPredicate predicate) {
+        Objects.requireNonNull(voltageLevelIds);
+        for (String voltageLevelId : voltageLevelIds) {
+            if (!predicate.test(index.getIndex(voltageLevelId))) {
+                LOGGER.warn("vl '{}' does not comply with the predicate", voltageLevelId);
+            }
+        }
+        return new VoltageLevelFilter(index.toVoltageLevels(index.traverse(voltageLevelIds, depth, predicate)));
+    }
+
+    public static Collection<VoltageLevel> getNextDepthVoltageLevels(VoltageLevelAdjacencyIndex index, List<VoltageLevel> voltageLevels) {
+        return index.getNextDepthVoltageLevels(voltageLevels);
+    }
+
     private static void traverseVoltageLevels(Set<VoltageLevel> voltageLevelsDepth, int depth, Set<VoltageLevel> visitedVoltageLevels, Predicate<VoltageLevel> predicate) {
         if (depth < 0) {
             return;
@@ -119,7 +167,11 @@ public record VoltageLevelFilter(Set<VoltageLevel> voltageLevels) implements Pre
         for (VoltageLevel vl : voltageLevelsDepth) {
             if (!visitedVoltageLevels.contains(vl)) {
                 visitedVoltageLevels.add(vl);
-                vl.visitEquipments(new VlVisitor(nextDepthVoltageLevels, visitedVoltageLevels, predicate));
+                vl.visitEquipments(new VlVisitor(voltageLevel -> {
+                    if (!visitedVoltageLevels.contains(voltageLevel) && predicate.test(voltageLevel)) {
+                        nextDepthVoltageLevels.add(voltageLevel);
+                    }
+                }));
             }
         }
         traverseVoltageLevels(nextDepthVoltageLevels, depth - 1, visitedVoltageLevels, predicate);
@@ -134,15 +186,14 @@ public record VoltageLevelFilter(Set<VoltageLevel> voltageLevels) implements Pre
         }
     }
 
-    private static class VlVisitor extends DefaultTopologyVisitor {
-        private final Set<VoltageLevel> nextDepthVoltageLevels;
-        private final Set<VoltageLevel> visitedVoltageLevels;
-        private final Predicate<VoltageLevel> voltageLevelPredicate;
+    /**
+     * Visitor giving the voltage levels at the other sides of the visited equipments
+     */
+    static class VlVisitor extends DefaultTopologyVisitor {
+        private final Consumer<VoltageLevel> oppositeVoltageLevelConsumer;
 
-        VlVisitor(Set<VoltageLevel> nextDepthVoltageLevels, Set<VoltageLevel> visitedVoltageLevels, Predicate<VoltageLevel> voltageLevelPredicate) {
-            this.nextDepthVoltageLevels = nextDepthVoltageLevels;
-            this.visitedVoltageLevels = visitedVoltageLevels;
-            this.voltageLevelPredicate = voltageLevelPredicate;
+        VlVisitor(Consumer<VoltageLevel> oppositeVoltageLevelConsumer) {
+            this.oppositeVoltageLevelConsumer = oppositeVoltageLevelConsumer;
         }
 
         @Override
@@ -179,10 +230,7 @@ public record VoltageLevelFilter(Set<VoltageLevel> voltageLevels) implements Pre
         }
 
         private void visitTerminal(Terminal terminal) {
-            VoltageLevel voltageLevel = terminal.getVoltageLevel();
-            if (!visitedVoltageLevels.contains(voltageLevel) && voltageLevelPredicate.test(voltageLevel)) {
-                nextDepthVoltageLevels.add(voltageLevel);
-            }
+            oppositeVoltageLevelConsumer.accept(terminal.getVoltageLevel());
         }
 
         @Override
@@ -6,6 +6,7 @@
  */
 package com.powsybl.nad.layout;
 
+import com.powsybl.diagram.util.instrumentation.DiagramInstrumentation;
 import com.powsybl.nad.model.*;
 import org.jgrapht.alg.util.Pair;
 
@@ -21,6 +22,7 @@ public abstract class AbstractLayout implements Layout {
     private Map<String, Point> initialNodePositions = Collections.emptyMap();
     private Set<String> nodesWithFixedPosition = Collections.emptySet();
     private final Map<String, TextPosition> textNodesWithFixedPosition = new HashMap<>();
+    private DiagramInstrumentation instrumentation = DiagramInstrumentation.noOp();
 
     @Override
     public void run(Graph graph, LayoutParameters layoutParameters) {
@@ -34,6 +36,15 @@ public abstract class AbstractLayout implements Layout {
         computeSize(graph);
     }
 
+    @Override
+    public void setInstrumentation(DiagramInstrumentation instrumentation) {
+        this.instrumentation = Objects.requireNonNull(instrumentation);
+    }
+
+    public DiagramInstrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
     @Override
     public Map<String, Point> getInitialNodePositions() {
         return initialNodePositions;
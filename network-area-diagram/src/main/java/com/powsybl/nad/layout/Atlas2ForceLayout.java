@@ -7,12 +7,9 @@
  */
 package com.powsybl.nad.layout;
 
-import com.powsybl.diagram.util.layout.Layout;
 import com.powsybl.diagram.util.layout.algorithms.Atlas2ForceLayoutAlgorithm;
+import com.powsybl.diagram.util.layout.algorithms.LayoutAlgorithm;
 import com.powsybl.diagram.util.layout.algorithms.parameters.Atlas2Parameters;
-import com.powsybl.diagram.util.layout.geometry.LayoutContext;
-import com.powsybl.diagram.util.layout.geometry.Point;
-import com.powsybl.diagram.util.layout.geometry.Vector2D;
 import com.powsybl.diagram.util.layout.postprocessing.OverlapPreventionPostProcessing;
 import com.powsybl.diagram.util.layout.postprocessing.PostProcessing;
 import com.powsybl.diagram.util.layout.postprocessing.parameters.OverlapPreventionPostProcessingParameters;
@@ -21,32 +18,20 @@ import com.powsybl.diagram.util.layout.setup.SquareRandomSetup;
 import com.powsybl.nad.model.Edge;
 import com.powsybl.nad.model.Graph;
 import com.powsybl.nad.model.Node;
-import com.powsybl.nad.model.TextNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
-
 /**
  * @author Nathan Dissoubray {@literal <nathan.dissoubray at rte-france.com>}
  */
-public class Atlas2ForceLayout extends AbstractLayout {
+public class Atlas2ForceLayout extends AbstractForceLayout {
     private static final Logger LOGGER = LoggerFactory.getLogger(Atlas2ForceLayout.class);
 
-    private static final double SCALE_COEFFICIENT = 190.757;
-    private static final double SCALE_EXPONENT = -0.458;
-
-    private final Setup<Node, Edge> setup;
     private final Atlas2Parameters atlas2Parameters;
-    private final PostProcessing<Node, Edge> postProcessing;
 
     public Atlas2ForceLayout(Setup<Node, Edge> setup, Atlas2Parameters atlas2Parameters, PostProcessing<Node, Edge> postProcessing) {
-        this.setup = setup;
+        super(setup, postProcessing);
         this.atlas2Parameters = atlas2Parameters;
-        this.postProcessing = postProcessing;
     }
 
     public Atlas2ForceLayout() {
@@ -59,55 +44,16 @@ public class Atlas2ForceLayout extends AbstractLayout {
         );
     }
 
+    @Override
+    protected LayoutAlgorithm<Node, Edge> createLayoutAlgorithm() {
+        return new Atlas2ForceLayoutAlgorithm<>(this.atlas2Parameters);
+    }
+
     @Override
     protected void nodesLayout(Graph graph, LayoutParameters layoutParameters) {
         if (atlas2Parameters.getMaxSteps() != layoutParameters.getMaxSteps()) {
             LOGGER.warn("The max steps of layoutParameters and Atlas2Parameters are different, ignoring layoutParameters");
         }
-        LayoutContext<Node, Edge> layoutContext = new LayoutContext<>(graph.getJgraphtGraph(layoutParameters.isTextNodesForceLayout()));
-        double scale = SCALE_COEFFICIENT * Math.pow(layoutContext.getSimpleGraph().vertexSet().size(), SCALE_EXPONENT) * layoutParameters.getScaleFactor();
-        Layout<Node, Edge> layoutAlgorithmRunner = new Layout<>(
-            this.setup,
-            new Atlas2ForceLayoutAlgorithm<>(this.atlas2Parameters),
-            this.postProcessing
-        );
-        setInitialPositions(graph, layoutContext, scale);
-        Set<Node> fixedNodes = getNodesWithFixedPosition().stream()
-                .map(graph::getNode)
-                .flatMap(Optional::stream)
-                .collect(Collectors.toSet());
-        layoutContext.setFixedNodes(fixedNodes);
-
-        layoutAlgorithmRunner.run(layoutContext);
-
-        layoutContext.getSimpleGraph().vertexSet().forEach(node -> {
-            Vector2D p = layoutContext.getStablePosition(node);
-            if (node instanceof TextNode texNode) {
-                texNode.setPosition(scale * p.getX(), scale * p.getY() - layoutParameters.getTextNodeEdgeConnectionYShift());
-                texNode.setEdgeConnection(new com.powsybl.nad.model.Point(scale * p.getX(), scale * p.getY()));
-            } else {
-                node.setPosition(scale * p.getX(), scale * p.getY());
-            }
-        });
-
-        if (!layoutParameters.isTextNodesForceLayout()) {
-            graph.getTextEdgesMap().values().forEach(nodePair -> fixedTextNodeLayout(nodePair, layoutParameters));
-        }
-    }
-
-    /// Taken from BasicForceLayout, could be put in parent class but not exactly the same
-    /// This would require to change BasicForceLayout to use LayoutAlgorithmRunner instead of ForceLayout
-    private void setInitialPositions(Graph graph, LayoutContext<Node, Edge> layoutContext, double scale) {
-        Map<Node, Point> initialPoints = getInitialNodePositions().entrySet().stream()
-                // Only accept positions for nodes in the graph
-                .filter(nodePosition -> graph.getNode(nodePosition.getKey()).isPresent())
-                .collect(Collectors.toMap(
-                        nodePosition -> graph.getNode(nodePosition.getKey()).orElseThrow(),
-                        nodePosition -> new Point(
-                                nodePosition.getValue().x() / scale,
-                                nodePosition.getValue().y() / scale)
-                ));
-        layoutContext.setInitialPoints(initialPoints);
+        super.nodesLayout(graph, layoutParameters);
     }
 }
-
@@ -90,6 +90,7 @@ public class BasicForceLayout extends AbstractLayout {
                 .flatMap(Optional::stream)
                 .collect(Collectors.toSet());
         layoutContext.setFixedNodes(fixedNodes);
+        layoutContext.setInstrumentation(getInstrumentation());
 
         layout.run(layoutContext);
 
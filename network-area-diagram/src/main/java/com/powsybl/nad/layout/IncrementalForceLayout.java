@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.nad.layout;
+
+import com.powsybl.diagram.util.layout.algorithms.IncrementalForceLayoutAlgorithm;
+import com.powsybl.diagram.util.layout.algorithms.LayoutAlgorithm;
+import com.powsybl.diagram.util.layout.algorithms.parameters.IncrementalParameters;
+import com.powsybl.diagram.util.layout.postprocessing.PostProcessing;
+import com.powsybl.diagram.util.layout.setup.NeighbourBarycenterSetup;
+import com.powsybl.diagram.util.layout.setup.Setup;
+import com.powsybl.nad.model.Edge;
+import com.powsybl.nad.model.Node;
+
+import java.util.Objects;
+
+/**
+ * Force layout using {@link IncrementalForceLayoutAlgorithm}: the nodes with an initial position keep it, except the ones close
+ * to the nodes without initial position, which are placed next to their neighbours. Meant to relayout a diagram that has been expanded.
+ * @author agent {@literal <agent at local>}
+ */
+public class IncrementalForceLayout extends AbstractForceLayout {
+
+    private final IncrementalParameters incrementalParameters;
+
+    public IncrementalForceLayout(Setup<Node, Edge> setup, IncrementalParameters incrementalParameters, PostProcessing<Node, Edge> postProcessing) {
+        super(setup, postProcessing);
+        this.incrementalParameters = Objects.requireNonNull(incrementalParameters);
+    }
+
+    public IncrementalForceLayout(IncrementalParameters incrementalParameters) {
+        // no overlap prevention, as it would move all the nodes of the diagram
+        this(new NeighbourBarycenterSetup<>(), incrementalParameters, PostProcessing.noOp());
+    }
+
+    public IncrementalForceLayout() {
+        this(new IncrementalParameters.Builder().build());
+    }
+
+    @Override
+    protected LayoutAlgorithm<Node, Edge> createLayoutAlgorithm() {
+        return new IncrementalForceLayoutAlgorithm<>(this.incrementalParameters);
+    }
+}
@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.nad.layout;
+
+import com.powsybl.diagram.util.layout.algorithms.parameters.IncrementalParameters;
+import com.powsybl.nad.model.Point;
+import com.powsybl.nad.svg.metadata.DiagramMetadata;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Factory of {@link IncrementalForceLayout}, to relayout a diagram after it has been expanded, for instance with
+ * {@link com.powsybl.nad.build.iidm.VoltageLevelFilter#getNextDepthVoltageLevels}. The nodes of the previous diagram start at
+ * their previous position, and only the new nodes and their close neighbours are moved.
+ * @author agent {@literal <agent at local>}
+ */
+public class IncrementalForceLayoutFactory implements LayoutFactory {
+
+    private final Map<String, Point> previousPositions;
+    private final Map<String, TextPosition> previousTextPositions;
+    private final IncrementalParameters incrementalParameters;
+
+    public IncrementalForceLayoutFactory(Map<String, Point> previousPositions, Map<String, TextPosition> previousTextPositions,
+                                         IncrementalParameters incrementalParameters) {
+        this.previousPositions = Objects.requireNonNull(previousPositions);
+        this.previousTextPositions = Objects.requireNonNull(previousTextPositions);
+        this.incrementalParameters = Objects.requireNonNull(incrementalParameters);
+    }
+
+    public IncrementalForceLayoutFactory(Map<String, Point> previousPositions) {
+        this(previousPositions, Map.of(), new IncrementalParameters.Builder().build());
+    }
+
+    public IncrementalForceLayoutFactory(DiagramMetadata previousDiagramMetadata, IncrementalParameters incrementalParameters) {
+        this(previousDiagramMetadata.getFixedPositions(), previousDiagramMetadata.getFixedTextPositions(), incrementalParameters);
+    }
+
+    public IncrementalForceLayoutFactory(DiagramMetadata previousDiagramMetadata) {
+        this(previousDiagramMetadata, new IncrementalParameters.Builder().build());
+    }
+
+    @Override
+    public Layout create() {
+        Layout layout = new IncrementalForceLayout(incrementalParameters);
+        layout.setInitialNodePositions(previousPositions);
+        previousTextPositions.forEach((k, v) -> layout.setTextNodeFixedPosition(k, v.topLeftPosition(), v.edgeConnection()));
+        return layout;
+    }
+}
@@ -6,6 +6,7 @@
  */
 package com.powsybl.nad.layout;
 
+import com.powsybl.diagram.util.instrumentation.DiagramInstrumentation;
 import com.powsybl.nad.model.Graph;
 import com.powsybl.nad.model.Point;
 
@@ -27,4 +28,11 @@ public interface Layout {
     Set<String> getNodesWithFixedPosition();
 
     void setTextNodeFixedPosition(String voltageLevelId, Point topLeft, Point edgeConnection);
+
+    /**
+     * Set the listener of the layout stages and counters, ignored by default
+     * @param instrumentation the listener
+     */
+    default void setInstrumentation(DiagramInstrumentation instrumentation) {
+    }
 }
@@ -0,0 +1,328 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.nad.layout;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.nad.model.BranchEdge;
+import com.powsybl.nad.model.Graph;
+import com.powsybl.nad.model.Point;
+import com.powsybl.nad.routing.CustomPathRouting;
+import com.powsybl.nad.svg.metadata.DiagramMetadata;
+
+import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Snapshot of a network area diagram layout: the node positions, the text node positions relative to their voltage
+ * level node, and the custom paths of the edges and of the text edges. A snapshot can be created from the
+ * {@link DiagramMetadata} or from a laid-out graph, and gives the {@link FixedLayoutFactory} and the
+ * {@link CustomPathRouting} to draw the diagram again with the same layout.
+ * <p>
+ * The snapshot is persisted in a compact binary format. All values are big-endian:
+ * <pre>
+ * int     magic number "NADL"
+ * int     format version
+ * int     number of ids, followed by each id as an int byte length and its UTF-8 bytes
+ * int     number of nodes, followed by each node as an int id index and its x and y doubles
+ * int     number of text nodes, followed by each text node as an int id index and its top-left x and y and edge
+ *         connection x and y doubles
+ * int     number of edge paths, followed by each path as an int id index, an int number of points and their x and y doubles
+ * int     number of text edge paths, with the same layout as the edge paths
+ * </pre>
+ * The ids are stored once in the ids table, and referred to by their index in that table. Each count is checked
+ * against the remaining bytes before being used, so that a corrupted file fails with a {@link PowsyblException}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class LayoutSnapshot {
+
+    private static final int MAGIC_NUMBER = 0x4E41444C; // "NADL"
+    private static final int VERSION = 1;
+    private static final int POINT_BYTES = 2 * Double.BYTES;
+
+    private final Map<String, Point> positions;
+    private final Map<String, TextPosition> textPositions;
+    private final Map<String, List<Point>> edgePaths;
+    private final Map<String, List<Point>> textEdgePaths;
+
+    public LayoutSnapshot(Map<String, Point> positions, Map<String, TextPosition> textPositions) {
+        this(positions, textPositions, Map.of(), Map.of());
+    }
+
+    public LayoutSnapshot(Map<String, Point> positions, Map<String, TextPosition> textPositions,
+                          Map<String, List<Point>> edgePaths, Map<String, List<Point>> textEdgePaths) {
+        this.positions = Collections.unmodifiableMap(new LinkedHashMap<>(Objects.requireNonNull(positions)));
+        this.textPositions = Collections.unmodifiableMap(new LinkedHashMap<>(Objects.requireNonNull(textPositions)));
+        this.edgePaths = copyPaths(edgePaths);
+        this.textEdgePaths = copyPaths(textEdgePaths);
+    }
+
+    private static Map<String, List<Point>> copyPaths(Map<String, List<Point>> paths) {
+        Map<String, List<Point>> copy = new LinkedHashMap<>();
+        Objects.requireNonNull(paths).forEach((id, path) -> copy.put(id, List.copyOf(path)));
+        return Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Create the snapshot of the node positions and text node positions given by the metadata
+     */
+    public static LayoutSnapshot fromMetadata(DiagramMetadata metadata) {
+        Objects.requireNonNull(metadata);
+        return new LayoutSnapshot(metadata.getFixedPositions(), metadata.getFixedTextPositions());
+    }
+
+    /**
+     * Create the snapshot of the node positions and text node positions of the given laid-out graph. If the edges of the
+     * graph were routed, the snapshot also contains the intermediate points of the single branch edges and of the text
+     * edges which are not straight, so that the {@link #createEdgeRouting() edge routing} of the snapshot gives the same
+     * geometry. The other edges only depend on the node positions.
+     */
+    public static LayoutSnapshot fromGraph(Graph graph) {
+        Objects.requireNonNull(graph);
+        Map<String, Point> positions = new LinkedHashMap<>();
+        graph.getNodesStream().forEach(node -> positions.put(node.getEquipmentId(), node.getPosition()));
+        Map<String, TextPosition> textPositions = new LinkedHashMap<>();
+        graph.getVoltageLevelTextPairs().forEach(textPair -> {
+            Point vlPosition = textPair.getFirst().getPosition();
+            Point textPosition = textPair.getSecond().getPosition();
+            Point edgeConnection = textPair.getSecond().getEdgeConnection();
+            textPositions.put(textPair.getFirst().getEquipmentId(), new TextPosition(
+                    new Point(textPosition.x() - vlPosition.x(), textPosition.y() - vlPosition.y()),
+                    new Point(edgeConnection.x() - vlPosition.x(), edgeConnection.y() - vlPosition.y())));
+        });
+        Map<String, List<Point>> edgePaths = new LinkedHashMap<>();
+        graph.getNonMultiBranchEdgesStream()
+                .filter(edge -> graph.getVoltageLevelNode1(edge) != graph.getVoltageLevelNode2(edge)) // loops are not routed with custom paths
+                .forEach(edge -> {
+                    List<Point> path = getIntermediatePoints(edge);
+                    if (!path.isEmpty()) {
+                        edgePaths.put(edge.getEquipmentId(), path);
+                    }
+                });
+        Map<String, List<Point>> textEdgePaths = new LinkedHashMap<>();
+        graph.getTextEdgesMap().forEach((edge, nodes) -> {
+            List<Point> points = edge.getPoints();
+            if (points.size() > 2) {
+                // the first point, on the voltage level circle, is computed by the routing
+                textEdgePaths.put(nodes.getFirst().getEquipmentId(), points.subList(1, points.size()));
+            }
+        });
+        return new LayoutSnapshot(positions, textPositions, edgePaths, textEdgePaths);
+    }
+
+    /**
+     * Get the points of the given routed edge between its two edge starts, without the middle point. The first half
+     * goes from the edge start 1 to the middle, the second half from the edge start 2 to the middle.
+     */
+    private static List<Point> getIntermediatePoints(BranchEdge edge) {
+        List<Point> points1 = edge.getPoints1();
+        List<Point> points2 = edge.getPoints2();
+        if (points1.size() < 2 || points2.size() < 2) {
+            return List.of();
+        }
+        List<Point> path = new ArrayList<>(points1.subList(1, points1.size() - 1));
+        for (int i = points2.size() - 2; i >= 1; i--) {
+            path.add(points2.get(i));
+        }
+        return path;
+    }
+
+    /**
+     * Create a snapshot with the same positions and the given custom paths
+     */
+    public LayoutSnapshot withPaths(Map<String, List<Point>> edgePaths, Map<String, List<Point>> textEdgePaths) {
+        return new LayoutSnapshot(positions, textPositions, edgePaths, textEdgePaths);
+    }
+
+    public Map<String, Point> getPositions() {
+        return positions;
+    }
+
+    public Map<String, TextPosition> getTextPositions() {
+        return textPositions;
+    }
+
+    public Map<String, List<Point>> getEdgePaths() {
+        return edgePaths;
+    }
+
+    public Map<String, List<Point>> getTextEdgePaths() {
+        return textEdgePaths;
+    }
+
+    public FixedLayoutFactory createLayoutFactory() {
+        return new FixedLayoutFactory(positions, textPositions);
+    }
+
+    public FixedLayoutFactory createLayoutFactory(LayoutFactory layoutFactory) {
+        return new FixedLayoutFactory(positions, textPositions, layoutFactory);
+    }
+
+    public CustomPathRouting createEdgeRouting() {
+        return new CustomPathRouting(edgePaths, textEdgePaths);
+    }
+
+    public void write(Path file) {
+        Objects.requireNonNull(file);
+        try (OutputStream os = Files.newOutputStream(file)) {
+            write(os);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void write(OutputStream os) {
+        Objects.requireNonNull(os);
+        Map<String, Integer> idIndexes = new LinkedHashMap<>();
+        Function<String, Integer> indexer = id -> idIndexes.computeIfAbsent(id, k -> idIndexes.size());
+        positions.keySet().forEach(indexer::apply);
+        textPositions.keySet().forEach(indexer::apply);
+        edgePaths.keySet().forEach(indexer::apply);
+        textEdgePaths.keySet().forEach(indexer::apply);
+
+        try {
+            DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(os));
+            dos.writeInt(MAGIC_NUMBER);
+            dos.writeInt(VERSION);
+
+            dos.writeInt(idIndexes.size());
+            for (String id : idIndexes.keySet()) {
+                byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+                dos.writeInt(bytes.length);
+                dos.write(bytes);
+            }
+
+            dos.writeInt(positions.size());
+            for (Map.Entry<String, Point> e : positions.entrySet()) {
+                dos.writeInt(idIndexes.get(e.getKey()));
+                writePoint(dos, e.getValue());
+            }
+
+            dos.writeInt(textPositions.size());
+            for (Map.Entry<String, TextPosition> e : textPositions.entrySet()) {
+                dos.writeInt(idIndexes.get(e.getKey()));
+                writePoint(dos, e.getValue().topLeftPosition());
+                writePoint(dos, e.getValue().edgeConnection());
+            }
+
+            writePaths(dos, edgePaths, idIndexes);
+            writePaths(dos, textEdgePaths, idIndexes);
+            dos.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writePaths(DataOutputStream dos, Map<String, List<Point>> paths, Map<String, Integer> idIndexes) throws IOException {
+        dos.writeInt(paths.size());
+        for (Map.Entry<String, List<Point>> e : paths.entrySet()) {
+            dos.writeInt(idIndexes.get(e.getKey()));
+            dos.writeInt(e.getValue().size());
+            for (Point point : e.getValue()) {
+                writePoint(dos, point);
+            }
+        }
+    }
+
+    private static void writePoint(DataOutputStream dos, Point point) throws IOException {
+        dos.writeDouble(point.x());
+        dos.writeDouble(point.y());
+    }
+
+    public static LayoutSnapshot read(Path file) {
+        Objects.requireNonNull(file);
+        try {
+            return read(ByteBuffer.wrap(Files.readAllBytes(file)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static LayoutSnapshot read(InputStream is) {
+        Objects.requireNonNull(is);
+        try {
+            return read(ByteBuffer.wrap(is.readAllBytes()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static LayoutSnapshot read(ByteBuffer buffer) {
+        Objects.requireNonNull(buffer);
+        try {
+            if (buffer.getInt() != MAGIC_NUMBER) {
+                throw new PowsyblException("Not a layout snapshot");
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new PowsyblException("Unsupported layout snapshot version " + version);
+            }
+
+            String[] ids = new String[readCount(buffer, Integer.BYTES)];
+            for (int i = 0; i < ids.length; i++) {
+                byte[] bytes = new byte[readCount(buffer, 1)];
+                buffer.get(bytes);
+                ids[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            int nbNodes = readCount(buffer, Integer.BYTES + POINT_BYTES);
+            Map<String, Point> positions = new LinkedHashMap<>();
+            for (int i = 0; i < nbNodes; i++) {
+                positions.put(ids[buffer.getInt()], readPoint(buffer));
+            }
+
+            int nbTextNodes = readCount(buffer, Integer.BYTES + 2 * POINT_BYTES);
+            Map<String, TextPosition> textPositions = new LinkedHashMap<>();
+            for (int i = 0; i < nbTextNodes; i++) {
+                textPositions.put(ids[buffer.getInt()], new TextPosition(readPoint(buffer), readPoint(buffer)));
+            }
+
+            Map<String, List<Point>> edgePaths = readPaths(buffer, ids);
+            Map<String, List<Point>> textEdgePaths = readPaths(buffer, ids);
+            return new LayoutSnapshot(positions, textPositions, edgePaths, textEdgePaths);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new PowsyblException("Invalid layout snapshot", e);
+        }
+    }
+
+    /**
+     * Read a count of elements, checking that the remaining bytes can hold that many elements of the given minimal size
+     */
+    private static int readCount(ByteBuffer buffer, int minElementBytes) {
+        int count = buffer.getInt();
+        if (count < 0 || (long) count * minElementBytes > buffer.remaining()) {
+            throw new PowsyblException("Invalid layout snapshot: count " + count + " at position " + (buffer.position() - Integer.BYTES)
+                    + " does not fit in the " + buffer.remaining() + " remaining bytes");
+        }
+        return count;
+    }
+
+    private static Map<String, List<Point>> readPaths(ByteBuffer buffer, String[] ids) {
+        int nbPaths = readCount(buffer, 2 * Integer.BYTES);
+        Map<String, List<Point>> paths = new LinkedHashMap<>();
+        for (int i = 0; i < nbPaths; i++) {
+            String id = ids[buffer.getInt()];
+            Point[] points = new Point[readCount(buffer, POINT_BYTES)];
+            for (int j = 0; j < points.length; j++) {
+                points[j] = readPoint(buffer);
+            }
+            paths.put(id, List.of(points));
+        }
+        return paths;
+    }
+
+    private static Point readPoint(ByteBuffer buffer) {
+        return new Point(buffer.getDouble(), buffer.getDouble());
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.nad.layout;
+
+import com.powsybl.diagram.util.layout.algorithms.LayoutAlgorithm;
+import com.powsybl.diagram.util.layout.algorithms.MultilevelForceLayoutAlgorithm;
+import com.powsybl.diagram.util.layout.algorithms.parameters.MultilevelParameters;
+import com.powsybl.diagram.util.layout.postprocessing.OverlapPreventionPostProcessing;
+import com.powsybl.diagram.util.layout.postprocessing.PostProcessing;
+import com.powsybl.diagram.util.layout.postprocessing.parameters.OverlapPreventionPostProcessingParameters;
+import com.powsybl.diagram.util.layout.setup.Setup;
+import com.powsybl.diagram.util.layout.setup.SquareRandomSetup;
+import com.powsybl.nad.model.Edge;
+import com.powsybl.nad.model.Node;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Force layout using {@link MultilevelForceLayoutAlgorithm}, meant for large networks. The nodes having the same grouping key,
+ * for instance the voltage levels of a same substation, are merged together in the first coarsening level.
+ * @author agent {@literal <agent at local>}
+ */
+public class MultilevelForceLayout extends AbstractForceLayout {
+
+    private final MultilevelParameters multilevelParameters;
+    private final Function<Node, ?> groupingKey;
+
+    public MultilevelForceLayout(Setup<Node, Edge> setup, MultilevelParameters multilevelParameters, PostProcessing<Node, Edge> postProcessing,
+                                 Function<Node, ?> groupingKey) {
+        super(setup, postProcessing);
+        this.multilevelParameters = Objects.requireNonNull(multilevelParameters);
+        this.groupingKey = Objects.requireNonNull(groupingKey);
+    }
+
+    public MultilevelForceLayout(MultilevelParameters multilevelParameters, Function<Node, ?> groupingKey) {
+        this(
+                new SquareRandomSetup<>(),
+                multilevelParameters,
+                new OverlapPreventionPostProcessing<>(
+                    new OverlapPreventionPostProcessingParameters.Builder().build()
+                ),
+                groupingKey
+        );
+    }
+
+    public MultilevelForceLayout() {
+        this(new MultilevelParameters.Builder().build(), node -> null);
+    }
+
+    @Override
+    protected LayoutAlgorithm<Node, Edge> createLayoutAlgorithm() {
+        return new MultilevelForceLayoutAlgorithm<>(this.multilevelParameters, this.groupingKey);
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.nad.layout;
+
+import com.powsybl.diagram.util.layout.algorithms.parameters.MultilevelParameters;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.nad.model.VoltageLevelNode;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Factory of {@link MultilevelForceLayout}. When a network is given, the voltage levels of a same substation are merged together
+ * in the first coarsening level, so that they end up close to each other.
+ * @author agent {@literal <agent at local>}
+ */
+public class MultilevelForceLayoutFactory implements LayoutFactory {
+
+    private final MultilevelParameters multilevelParameters;
+    private final Map<String, String> substationIds;
+
+    public MultilevelForceLayoutFactory(Network network, MultilevelParameters multilevelParameters) {
+        this.multilevelParameters = Objects.requireNonNull(multilevelParameters);
+        this.substationIds = getSubstationIds(network);
+    }
+
+    public MultilevelForceLayoutFactory(Network network) {
+        this(network, new MultilevelParameters.Builder().build());
+    }
+
+    public MultilevelForceLayoutFactory(MultilevelParameters multilevelParameters) {
+        this.multilevelParameters = Objects.requireNonNull(multilevelParameters);
+        this.substationIds = Collections.emptyMap();
+    }
+
+    public MultilevelForceLayoutFactory() {
+        this(new MultilevelParameters.Builder().build());
+    }
+
+    private static Map<String, String> getSubstationIds(Network network) {
+        Objects.requireNonNull(network);
+        Map<String, String> substationIds = new HashMap<>();
+        network.getVoltageLevelStream().forEach(vl -> vl.getSubstation()
+                .ifPresent(substation -> substationIds.put(vl.getId(), substation.getId())));
+        return substationIds;
+    }
+
+    @Override
+    public Layout create() {
+        return new MultilevelForceLayout(
+                multilevelParameters,
+                node -> node instanceof VoltageLevelNode vlNode ? substationIds.get(vlNode.getEquipmentId()) : null
+        );
+    }
+}
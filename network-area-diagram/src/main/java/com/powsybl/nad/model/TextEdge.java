@@ -16,7 +16,7 @@ public class TextEdge extends AbstractEdge {
 
     public static final String TEXT_EDGE = "TextEdge";
 
-    private Point[] points;
+    private Point[] points = new Point[0];
 
     public TextEdge(String svgId) {
         super(svgId, null, null, TEXT_EDGE);
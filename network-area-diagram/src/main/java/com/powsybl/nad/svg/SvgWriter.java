@@ -10,23 +10,24 @@ import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.exceptions.UncheckedXmlStreamException;
 import com.powsybl.commons.xml.XmlUtil;
 import com.powsybl.diagram.components.ComponentSize;
+import com.powsybl.diagram.components.SvgTemplate;
 import com.powsybl.diagram.util.CssUtil;
+import com.powsybl.diagram.util.instrumentation.DiagramCounter;
+import com.powsybl.diagram.util.instrumentation.DiagramInstrumentation;
+import com.powsybl.diagram.util.instrumentation.DiagramStage;
 import com.powsybl.nad.library.NadComponentLibrary;
 import com.powsybl.nad.model.*;
 import com.powsybl.nad.routing.EdgeRouting;
+import com.powsybl.nad.svg.metadata.DiagramMetadata;
+import com.powsybl.nad.svg.metadata.DiagramUpdate;
 import com.powsybl.nad.utils.RadiusUtils;
+import org.apache.commons.io.output.CountingOutputStream;
 import org.apache.commons.io.output.WriterOutputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.jgrapht.alg.util.Pair;
-import org.w3c.dom.Element;
 
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
-import javax.xml.transform.Result;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.sax.SAXResult;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -74,12 +75,19 @@ public class SvgWriter {
     private final SvgParameters svgParameters;
     private final EdgeRouting edgeRouting;
     private final NadComponentLibrary componentLibrary;
+    private final DiagramInstrumentation instrumentation;
 
     public SvgWriter(SvgParameters svgParameters, NadComponentLibrary componentLibrary,
                     EdgeRouting edgeRouting) {
+        this(svgParameters, componentLibrary, edgeRouting, DiagramInstrumentation.noOp());
+    }
+
+    public SvgWriter(SvgParameters svgParameters, NadComponentLibrary componentLibrary,
+                     EdgeRouting edgeRouting, DiagramInstrumentation instrumentation) {
         this.svgParameters = Objects.requireNonNull(svgParameters);
         this.componentLibrary = Objects.requireNonNull(componentLibrary);
         this.edgeRouting = Objects.requireNonNull(edgeRouting);
+        this.instrumentation = Objects.requireNonNull(instrumentation);
     }
 
     public void writeSvg(Graph graph, Path svgFile) {
@@ -107,6 +115,21 @@ public class SvgWriter {
         }
     }
 
+    /**
+     * Create the update of an SVG previously written, containing the style classes of the bus nodes, injections and edges,
+     * and the edge infos if included in the SVG. No SVG is built and the graph does not need to be laid out: only the
+     * elements of the graph described in the metadata of the previous SVG are updated. The SVG parameters used are the
+     * ones recorded in the previous metadata, not the ones of this writer, as they are the ones the SVG was written with.
+     *
+     * @param graph            the graph built with the current network state, with style applied
+     * @param previousMetadata the metadata of the SVG to update
+     * @return the update of the SVG
+     */
+    public DiagramUpdate createUpdate(Graph graph, DiagramMetadata previousMetadata) {
+        Objects.requireNonNull(previousMetadata);
+        return new DiagramUpdate().addUpdates(graph, previousMetadata, previousMetadata.getSvgParameters().isEdgeInfosIncluded());
+    }
+
     private void writeSvg(Graph graph, OutputStream svgOs) {
         Objects.requireNonNull(graph);
         Objects.requireNonNull(svgOs);
@@ -117,8 +140,18 @@ public class SvgWriter {
         }
 
         // Edge coordinates need to be computed first, based on svg parameters
-        edgeRouting.run(graph, svgParameters);
+        instrumentation.time(DiagramStage.EDGE_ROUTING, () -> edgeRouting.run(graph, svgParameters));
 
+        if (instrumentation.isEnabled()) {
+            CountingOutputStream countingSvgOs = new CountingOutputStream(svgOs);
+            instrumentation.time(DiagramStage.SVG_WRITE, () -> drawSvg(graph, countingSvgOs));
+            instrumentation.count(DiagramCounter.BYTES_WRITTEN, countingSvgOs.getByteCount());
+        } else {
+            instrumentation.time(DiagramStage.SVG_WRITE, () -> drawSvg(graph, svgOs));
+        }
+    }
+
+    private void drawSvg(Graph graph, OutputStream svgOs) {
         try {
             XMLStreamWriter writer = XmlUtil.initializeWriter(true, INDENT, svgOs);
             addSvgRoot(graph, writer);
@@ -140,6 +173,7 @@ public class SvgWriter {
             }
 
             writer.writeEndDocument();
+            writer.flush();
         } catch (XMLStreamException e) {
             throw new UncheckedXmlStreamException(e);
         }
@@ -223,7 +257,7 @@ public class SvgWriter {
         writer.writeAttribute(TRANSFORM_ATTRIBUTE, getTranslateString(injection.getIconOrigin(svgParameters.getInjectionCircleRadius())));
 
         String componentType = injection.getComponentType();
-        writeSvgComponent(writer, componentType, "Cannot insert SVG for injection of type " + injection.getType());
+        writeSvgComponent(writer, componentType);
     }
 
     private void drawComponentOnBranchEdgeMiddle(XMLStreamWriter writer, String componentType) throws XMLStreamException {
@@ -236,28 +270,22 @@ public class SvgWriter {
         Point trans = new Point(-componentSize.width() / 2, -componentSize.height() / 2);
         writer.writeAttribute(TRANSFORM_ATTRIBUTE, getTranslateString(trans));
 
-        writeSvgComponent(writer, componentType, "Cannot insert SVG component of type " + componentType + " on branch edge middle");
+        writeSvgComponent(writer, componentType);
     }
 
-    private void writeSvgComponent(XMLStreamWriter writer, String componentType, String errorMessage) throws XMLStreamException {
-        Result result = new SAXResult(new SvgContentHandlerToXMLStreamWriter(writer));
+    private void writeSvgComponent(XMLStreamWriter writer, String componentType) throws XMLStreamException {
         writeStyleClasses(writer, componentLibrary.getComponentStyleClass(componentType).map(List::of).orElse(List.of()));
 
-        try {
-            Transformer transformer = componentLibrary.getSvgTransformer();
-            Map<String, List<Element>> subComponents = componentLibrary.getSvgElements(componentType);
-            if (subComponents != null) {
-                for (Map.Entry<String, List<Element>> scEntry : subComponents.entrySet()) {
-                    List<String> edgeStyleClasses = componentLibrary.getSubComponentStyleClass(componentType, scEntry.getKey())
-                        .map(List::of).orElse(List.of());
-                    writeStyleClasses(writer, edgeStyleClasses);
-                    for (Element element : scEntry.getValue()) {
-                        transformer.transform(new DOMSource(element), result);
-                    }
+        Map<String, List<SvgTemplate>> subComponents = componentLibrary.getSvgTemplates(componentType);
+        if (subComponents != null) {
+            for (Map.Entry<String, List<SvgTemplate>> scEntry : subComponents.entrySet()) {
+                List<String> edgeStyleClasses = componentLibrary.getSubComponentStyleClass(componentType, scEntry.getKey())
+                    .map(List::of).orElse(List.of());
+                writeStyleClasses(writer, edgeStyleClasses);
+                for (SvgTemplate template : scEntry.getValue()) {
+                    template.write(writer);
                 }
             }
-        } catch (TransformerException e) {
-            throw new PowsyblException(errorMessage, e);
         }
         writer.writeEndElement();
     }
@@ -8,6 +8,8 @@
 package com.powsybl.nad.svg.metadata;
 
 import com.fasterxml.jackson.annotation.*;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.json.JsonUtil;
@@ -27,9 +29,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -120,13 +124,24 @@ public class DiagramMetadata extends AbstractMetadata<DiagramMetadata> {
     }
 
     public DiagramMetadata addMetadata(Graph graph) {
-        Objects.requireNonNull(graph);
+        checkStyleApplied(graph);
+        forEachBusNodeMetadata(graph, busNodesMetadata::add);
+        forEachNodeMetadata(graph, nodesMetadata::add);
+        forEachInjectionMetadata(graph, injectionsMetadata::add);
+        forEachEdgeMetadata(graph, edgesMetadata::add);
+        forEachTextNodeMetadata(graph, textNodesMetadata::add);
+        return this;
+    }
 
+    static void checkStyleApplied(Graph graph) {
+        Objects.requireNonNull(graph);
         if (!graph.isStyleApplied()) {
             throw new PowsyblException("Style must be applied to the graph");
         }
+    }
 
-        graph.getVoltageLevelNodesStream().forEach(vlNode -> vlNode.getBusNodeStream().forEach(busNode -> busNodesMetadata.add(new BusNodeMetadata(
+    void forEachBusNodeMetadata(Graph graph, Consumer<? super BusNodeMetadata> consumer) {
+        graph.getVoltageLevelNodesStream().forEach(vlNode -> vlNode.getBusNodeStream().forEach(busNode -> consumer.accept(new BusNodeMetadata(
                 getPrefixedId(busNode.getSvgId()),
                 busNode.getEquipmentId(),
                 busNode.getNbNeighbouringBusNodes(),
@@ -136,11 +151,17 @@ public class DiagramMetadata extends AbstractMetadata<DiagramMetadata> {
                 busNode.getStyleClasses(),
                 busNode.getStyle()
         ))));
-        graph.getNodesStream().forEach(node -> nodesMetadata.add(createNodeMetadata(node, graph)));
+    }
+
+    void forEachNodeMetadata(Graph graph, Consumer<? super NodeMetadata> consumer) {
+        graph.getNodesStream().forEach(node -> consumer.accept(createNodeMetadata(node, graph)));
+    }
+
+    void forEachInjectionMetadata(Graph graph, Consumer<? super InjectionMetadata> consumer) {
         graph.getVoltageLevelNodesStream().forEach(
                 vlNode -> vlNode.getBusNodeStream().forEach(
                         busNode -> busNode.getInjections().forEach(
-                                injection -> injectionsMetadata.add(new InjectionMetadata(
+                                injection -> consumer.accept(new InjectionMetadata(
                                         injection.getSvgId(),
                                         injection.getEquipmentId(),
                                         injection.getComponentType(),
@@ -150,7 +171,10 @@ public class DiagramMetadata extends AbstractMetadata<DiagramMetadata> {
                                         injection.getStyleClasses(),
                                         injection.getStyle()
                                 )))));
-        graph.getBranchEdgeStream().forEach(edge -> edgesMetadata.add(new EdgeMetadata(
+    }
+
+    void forEachEdgeMetadata(Graph graph, Consumer<? super EdgeMetadata> consumer) {
+        graph.getBranchEdgeStream().forEach(edge -> consumer.accept(new EdgeMetadata(
                 getPrefixedId(edge.getSvgId()),
                 edge.getEquipmentId(),
                 getPrefixedId(graph.getNode1(edge).getSvgId()),
@@ -170,8 +194,11 @@ public class DiagramMetadata extends AbstractMetadata<DiagramMetadata> {
                 edge.getEdgeStyleInfo(BranchEdge.Side.TWO).style(),
                 edge.getStyleClasses()
         )));
-        graph.getThreeWtEdgesStream().forEach(edge -> addThreeWtEdgeMetadata(edge, graph));
-        graph.getVoltageLevelTextPairs().forEach(textPair -> textNodesMetadata.add(new TextNodeMetadata(
+        graph.getThreeWtEdgesStream().forEach(edge -> consumer.accept(createThreeWtEdgeMetadata(edge, graph)));
+    }
+
+    void forEachTextNodeMetadata(Graph graph, Consumer<? super TextNodeMetadata> consumer) {
+        graph.getVoltageLevelTextPairs().forEach(textPair -> consumer.accept(new TextNodeMetadata(
                 getPrefixedId(textPair.getSecond().getSvgId()),
                 textPair.getFirst().getEquipmentId(),
                 getPrefixedId(textPair.getFirst().getSvgId()),
@@ -179,12 +206,11 @@ public class DiagramMetadata extends AbstractMetadata<DiagramMetadata> {
                 round(textPair.getSecond().getY() - textPair.getFirst().getY()),
                 round(textPair.getSecond().getEdgeConnection().x() - textPair.getFirst().getX()),
                 round(textPair.getSecond().getEdgeConnection().y() - textPair.getFirst().getY()))));
-        return this;
     }
 
-    private void addThreeWtEdgeMetadata(ThreeWtEdge edge, Graph graph) {
+    private EdgeMetadata createThreeWtEdgeMetadata(ThreeWtEdge edge, Graph graph) {
         String threeWtNodeSvgId = graph.getThreeWtNode(edge).getSvgId();
-        edgesMetadata.add(new EdgeMetadata(
+        return new EdgeMetadata(
             getPrefixedId(edge.getSvgId()),
             edge.getEquipmentId(),
             getPrefixedId(graph.getVoltageLevelNode(edge).getSvgId()),
@@ -203,7 +229,7 @@ public class DiagramMetadata extends AbstractMetadata<DiagramMetadata> {
             edge.getEdgeStyleInfo().style(),
             null,
             null
-        ));
+        );
     }
 
     private String findNodeType(Node node) {
@@ -257,8 +283,11 @@ public class DiagramMetadata extends AbstractMetadata<DiagramMetadata> {
     }
 
     private static EdgeInfoMetadata createEdgeInfoMetadata(SvgEdgeInfo svgEdgeInfo) {
-        EdgeInfo edgeInfo = svgEdgeInfo.edgeInfo();
-        return new EdgeInfoMetadata(svgEdgeInfo.svgId(),
+        return createEdgeInfoMetadata(svgEdgeInfo.svgId(), svgEdgeInfo.edgeInfo());
+    }
+
+    static EdgeInfoMetadata createEdgeInfoMetadata(String svgId, EdgeInfo edgeInfo) {
+        return new EdgeInfoMetadata(svgId,
                 edgeInfo.getInfoTypeA(),
                 edgeInfo.getInfoTypeB(),
                 edgeInfo.getDirection().map(Enum::name).orElse(null),
@@ -306,6 +335,49 @@ public class DiagramMetadata extends AbstractMetadata<DiagramMetadata> {
         }
     }
 
+    public static Map<String, Point> parseFixedPositions(Path file) {
+        Objects.requireNonNull(file);
+        try (Reader reader = Files.newBufferedReader(file)) {
+            return parseFixedPositions(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Read the node positions only, as given by {@link #getFixedPositions()}, without reading the whole metadata: the
+     * nodes are read one at a time and all the other properties are skipped.
+     * @param reader the reader of the JSON metadata
+     * @return the positions of the nodes, indexed by equipment id
+     */
+    public static Map<String, Point> parseFixedPositions(Reader reader) {
+        Objects.requireNonNull(reader);
+        ObjectMapper objectMapper = JsonUtil.createObjectMapper();
+        Map<String, Point> positions = new LinkedHashMap<>();
+        try (JsonParser parser = objectMapper.createParser(reader)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new PowsyblException("Metadata JSON object expected");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if ("nodes".equals(fieldName) && token == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        NodeMetadata nodeMetadata = parser.readValueAs(NodeMetadata.class);
+                        if (positions.put(nodeMetadata.getEquipmentId(), nodeMetadata.getPosition()) != null) {
+                            throw new IllegalStateException("Duplicate key " + nodeMetadata.getEquipmentId());
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return positions;
+    }
+
     @JsonIgnore
     public Map<String, Point> getFixedPositions() {
         return nodesMetadata.stream().collect(Collectors.toMap(NodeMetadata::getEquipmentId, NodeMetadata::getPosition));
@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.nad.svg.metadata;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.nad.layout.LayoutParameters;
+import com.powsybl.nad.model.Graph;
+import com.powsybl.nad.svg.SvgParameters;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Writer of the {@link DiagramMetadata} of a graph, streaming the metadata of each graph element to the JSON output as
+ * soon as it is created, instead of building the whole metadata lists first. The output is the same as the one of
+ * {@code new DiagramMetadata(layoutParameters, svgParameters).addMetadata(graph).writeJson(writer)}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class DiagramMetadataWriter {
+
+    // Holds the parameters and the network information, its metadata lists are never filled
+    private final DiagramMetadata header;
+
+    public DiagramMetadataWriter(LayoutParameters layoutParameters, SvgParameters svgParameters) {
+        this.header = new DiagramMetadata(layoutParameters, svgParameters);
+    }
+
+    public DiagramMetadataWriter setNetworkInformation(String networkName, String networkId, String networkDate) {
+        header.setNetworkInformation(networkName, networkId, networkDate);
+        return this;
+    }
+
+    public void writeJson(Graph graph, Path file) {
+        Objects.requireNonNull(file);
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeJson(graph, writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void writeJson(Graph graph, Writer writer) {
+        DiagramMetadata.checkStyleApplied(graph);
+        Objects.requireNonNull(writer);
+        // no flush after each element, the generator is flushed when closed
+        ObjectMapper objectMapper = JsonUtil.createObjectMapper().disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        // Same generator configuration as the one used by objectMapper.writerWithDefaultPrettyPrinter()
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.setCodec(objectMapper);
+            generator.useDefaultPrettyPrinter();
+            write(graph, generator);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(Graph graph, JsonGenerator generator) throws IOException {
+        // Properties in the order given by Jackson to the DiagramMetadata properties
+        generator.writeStartObject();
+        generator.writeStringField("metadataVersion", header.getMetadataVersion());
+        generator.writeObjectField("layoutParameters", header.getLayoutParameters());
+        generator.writeObjectField("svgParameters", header.getSvgParameters());
+
+        writeArray(generator, "busNodes", true, consumer -> header.forEachBusNodeMetadata(graph, consumer));
+        writeArray(generator, "nodes", true, consumer -> header.forEachNodeMetadata(graph, consumer));
+        // the injections are only serialized if there are some
+        writeArray(generator, "injections", false, consumer -> header.forEachInjectionMetadata(graph, consumer));
+        writeArray(generator, "edges", true, consumer -> header.forEachEdgeMetadata(graph, consumer));
+        writeArray(generator, "textNodes", true, consumer -> header.forEachTextNodeMetadata(graph, consumer));
+
+        writeStringFieldIfNotNull(generator, "networkId", header.getNetworkId());
+        writeStringFieldIfNotNull(generator, "networkName", header.getNetworkName());
+        writeStringFieldIfNotNull(generator, "networkDate", header.getNetworkDate());
+        generator.writeEndObject();
+    }
+
+    private static <T> void writeArray(JsonGenerator generator, String fieldName, boolean writtenIfEmpty,
+                                       Consumer<Consumer<T>> items) throws IOException {
+        boolean[] started = {false};
+        if (writtenIfEmpty) {
+            generator.writeArrayFieldStart(fieldName);
+            started[0] = true;
+        }
+        try {
+            items.accept(item -> {
+                try {
+                    if (!started[0]) {
+                        generator.writeArrayFieldStart(fieldName);
+                        started[0] = true;
+                    }
+                    generator.writeObject(item);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (started[0]) {
+            generator.writeEndArray();
+        }
+    }
+
+    private static void writeStringFieldIfNotNull(JsonGenerator generator, String fieldName, String value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(fieldName, value);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.nad.svg.metadata;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.diagram.metadata.AbstractMetadata;
+import com.powsybl.nad.model.*;
+import com.powsybl.nad.svg.SvgEdgeInfo;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * Update of the parts of a network area diagram SVG which depend on the network state only: the style classes of the
+ * bus nodes, injections and edges, and the edge infos with their labels and arrow directions. The updates are keyed by
+ * the ids given in the {@link DiagramMetadata} of the SVG, the graph elements being matched with the metadata items by
+ * equipment id, hence the graph used to create the update does not need to be laid out.
+ * <p>
+ * Each update contains the complete value to set, hence an update can be applied to the original SVG as well as to an
+ * SVG already updated.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class DiagramUpdate extends AbstractMetadata<DiagramUpdate> {
+
+    // please note further changes as a comment when version is bumped
+    private static final String METADATA_VERSION = "1.0";
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record ElementUpdate(String svgId, List<String> classes, String style) {
+        @JsonCreator
+        public ElementUpdate(@JsonProperty("svgId") String svgId,
+                             @JsonProperty("classes") List<String> classes,
+                             @JsonProperty("style") String style) {
+            this.svgId = Objects.requireNonNull(svgId);
+            this.classes = Objects.requireNonNullElse(classes, Collections.emptyList());
+            this.style = style;
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record EdgeUpdate(String svgId, List<String> classes, List<String> classes1, List<String> classes2,
+                             String style1, String style2) {
+        @JsonCreator
+        public EdgeUpdate(@JsonProperty("svgId") String svgId,
+                          @JsonProperty("classes") List<String> classes,
+                          @JsonProperty("classes1") List<String> classes1,
+                          @JsonProperty("classes2") List<String> classes2,
+                          @JsonProperty("style1") String style1,
+                          @JsonProperty("style2") String style2) {
+            this.svgId = Objects.requireNonNull(svgId);
+            this.classes = classes;
+            this.classes1 = classes1;
+            this.classes2 = classes2;
+            this.style1 = style1;
+            this.style2 = style2;
+        }
+    }
+
+    private final List<ElementUpdate> busNodeUpdates = new ArrayList<>();
+    private final List<ElementUpdate> injectionUpdates = new ArrayList<>();
+    private final List<EdgeUpdate> edgeUpdates = new ArrayList<>();
+    private final List<EdgeInfoMetadata> edgeInfoUpdates = new ArrayList<>();
+
+    public DiagramUpdate() {
+        this.metadataVersion = METADATA_VERSION;
+    }
+
+    @JsonCreator
+    public DiagramUpdate(@JsonProperty("busNodes") List<ElementUpdate> busNodeUpdates,
+                         @JsonProperty("injections") List<ElementUpdate> injectionUpdates,
+                         @JsonProperty("edges") List<EdgeUpdate> edgeUpdates,
+                         @JsonProperty("edgeInfos") List<EdgeInfoMetadata> edgeInfoUpdates,
+                         @JsonProperty("networkId") String networkId,
+                         @JsonProperty("networkName") String networkName,
+                         @JsonProperty("networkDate") String networkDate) {
+        super(networkId, networkName, networkDate);
+        this.busNodeUpdates.addAll(busNodeUpdates);
+        this.injectionUpdates.addAll(injectionUpdates);
+        this.edgeUpdates.addAll(edgeUpdates);
+        this.edgeInfoUpdates.addAll(edgeInfoUpdates);
+        this.metadataVersion = METADATA_VERSION;
+    }
+
+    @JsonProperty("busNodes")
+    public List<ElementUpdate> getBusNodeUpdates() {
+        return busNodeUpdates;
+    }
+
+    @JsonProperty("injections")
+    public List<ElementUpdate> getInjectionUpdates() {
+        return injectionUpdates;
+    }
+
+    @JsonProperty("edges")
+    public List<EdgeUpdate> getEdgeUpdates() {
+        return edgeUpdates;
+    }
+
+    @JsonProperty("edgeInfos")
+    public List<EdgeInfoMetadata> getEdgeInfoUpdates() {
+        return edgeInfoUpdates;
+    }
+
+    /**
+     * Add the updates of the elements of the given graph which are described in the given metadata
+     * @param graph the graph built with the current network state, with style applied
+     * @param previousMetadata the metadata of the SVG to update
+     * @param edgeInfosIncluded whether the edge infos are drawn in the SVG to update
+     * @return this update
+     */
+    public DiagramUpdate addUpdates(Graph graph, DiagramMetadata previousMetadata, boolean edgeInfosIncluded) {
+        Objects.requireNonNull(graph);
+        Objects.requireNonNull(previousMetadata);
+
+        if (!graph.isStyleApplied()) {
+            throw new PowsyblException("Style must be applied to the graph");
+        }
+
+        Map<String, BusNodeMetadata> busNodesMetadata = new HashMap<>();
+        previousMetadata.getBusNodesMetadata().forEach(bnm -> busNodesMetadata.put(bnm.getEquipmentId(), bnm));
+        graph.getBusNodesStream().forEach(busNode -> {
+            BusNodeMetadata busNodeMetadata = busNodesMetadata.get(busNode.getEquipmentId());
+            if (busNodeMetadata != null) {
+                busNodeUpdates.add(new ElementUpdate(busNodeMetadata.getSvgId(), busNode.getStyleClasses(), busNode.getStyle()));
+            }
+        });
+
+        Map<String, InjectionMetadata> injectionsMetadata = new HashMap<>();
+        previousMetadata.getInjectionsMetadata().forEach(im -> injectionsMetadata.put(im.getEquipmentId(), im));
+        for (Injection injection : graph.getInjections()) {
+            InjectionMetadata injectionMetadata = injectionsMetadata.get(injection.getEquipmentId());
+            if (injectionMetadata != null) {
+                injectionUpdates.add(new ElementUpdate(injectionMetadata.getSvgId(), injection.getStyleClasses(), injection.getStyle()));
+                if (edgeInfosIncluded) {
+                    addEdgeInfoUpdate(injectionMetadata.getEdgeInfoMetadata(), injection.getSvgEdgeInfo().orElse(null));
+                }
+            }
+        }
+
+        // Branch edges are identified by their equipment id, three-winding transformer edges by their equipment id and side
+        Map<String, EdgeMetadata> edgesMetadata = new HashMap<>();
+        previousMetadata.getEdgesMetadata().forEach(em -> edgesMetadata.put(getEdgeKey(em.getEquipmentId(), em.getSide()), em));
+        graph.getBranchEdgeStream().forEach(edge -> {
+            EdgeMetadata edgeMetadata = edgesMetadata.get(getEdgeKey(edge.getEquipmentId(), null));
+            if (edgeMetadata != null) {
+                EdgeStyleInfo styleInfo1 = edge.getEdgeStyleInfo(BranchEdge.Side.ONE);
+                EdgeStyleInfo styleInfo2 = edge.getEdgeStyleInfo(BranchEdge.Side.TWO);
+                edgeUpdates.add(new EdgeUpdate(edgeMetadata.getSvgId(), edge.getStyleClasses(),
+                        styleInfo1.styleClasses(), styleInfo2.styleClasses(), styleInfo1.style(), styleInfo2.style()));
+                if (edgeInfosIncluded) {
+                    addEdgeInfoUpdate(edgeMetadata.getEdgeInfo1(), edge.getSvgEdgeInfo(BranchEdge.Side.ONE).orElse(null));
+                    addEdgeInfoUpdate(edgeMetadata.getEdgeInfo2(), edge.getSvgEdgeInfo(BranchEdge.Side.TWO).orElse(null));
+                    addEdgeInfoUpdate(edgeMetadata.getEdgeInfoMiddle(), edge.getSvgEdgeInfoMiddle().orElse(null));
+                }
+            }
+        });
+        graph.getThreeWtEdgesStream().forEach(edge -> {
+            EdgeMetadata edgeMetadata = edgesMetadata.get(getEdgeKey(edge.getEquipmentId(), edge.getSide().name()));
+            if (edgeMetadata != null) {
+                EdgeStyleInfo styleInfo = edge.getEdgeStyleInfo();
+                edgeUpdates.add(new EdgeUpdate(edgeMetadata.getSvgId(), null, styleInfo.styleClasses(), null, styleInfo.style(), null));
+                if (edgeInfosIncluded) {
+                    addEdgeInfoUpdate(edgeMetadata.getEdgeInfo1(), edge.getSvgEdgeInfo().orElse(null));
+                }
+            }
+        });
+
+        return this;
+    }
+
+    private static String getEdgeKey(String equipmentId, String side) {
+        return side == null ? equipmentId : equipmentId + "_" + side;
+    }
+
+    private void addEdgeInfoUpdate(EdgeInfoMetadata previousEdgeInfo, SvgEdgeInfo svgEdgeInfo) {
+        if (previousEdgeInfo == null) {
+            return;
+        }
+        String svgId = previousEdgeInfo.getSvgId();
+        if (svgEdgeInfo != null) {
+            edgeInfoUpdates.add(DiagramMetadata.createEdgeInfoMetadata(svgId, svgEdgeInfo.edgeInfo()));
+        } else {
+            // the edge info is now empty: no label nor arrow direction
+            edgeInfoUpdates.add(new EdgeInfoMetadata(svgId, null, null, null, null, null, null, null, null));
+        }
+    }
+
+    public static DiagramUpdate parseJson(Reader reader) {
+        Objects.requireNonNull(reader);
+        ObjectMapper objectMapper = JsonUtil.createObjectMapper();
+        try {
+            return objectMapper.readValue(reader, DiagramUpdate.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -14,6 +14,9 @@ import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.diagram.test.Networks;
+import com.powsybl.diagram.util.instrumentation.DiagramCounter;
+import com.powsybl.diagram.util.instrumentation.DiagramInstrumentation;
+import com.powsybl.diagram.util.instrumentation.DiagramStage;
 import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
@@ -34,9 +37,13 @@ import java.io.IOException;
 import java.io.StringWriter;
 import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.powsybl.nad.build.iidm.VoltageLevelFilter.NO_FILTER;
 import static org.junit.jupiter.api.Assertions.*;
@@ -373,4 +380,36 @@ class NetworkAreaDiagramTest extends AbstractTest {
         assertFileEquals("/" + svgFileName, svgFile);
         assertFileEquals("/" + metadataFileName, metadataFile);
     }
+
+    @Test
+    void testInstrumentation() {
+        Network network = Networks.createThreeVoltageLevelsFiveBuses();
+        List<DiagramStage> stages = new ArrayList<>();
+        Map<DiagramCounter, Long> counters = new EnumMap<>(DiagramCounter.class);
+        DiagramInstrumentation instrumentation = new DiagramInstrumentation() {
+            @Override
+            public void stageFinished(DiagramStage stage, long durationNanos) {
+                assertTrue(durationNanos >= 0);
+                stages.add(stage);
+            }
+
+            @Override
+            public void count(DiagramCounter counter, long amount) {
+                counters.merge(counter, amount, Long::sum);
+            }
+        };
+        NadParameters nadParameters = new NadParameters()
+                .setSvgParameters(getSvgParameters())
+                .setInstrumentation(instrumentation);
+        StringWriter svgWriter = new StringWriter();
+        NetworkAreaDiagram.draw(network, svgWriter, new StringWriter(), nadParameters, NO_FILTER);
+
+        assertEquals(List.of(DiagramStage.FILTER_TRAVERSAL, DiagramStage.FILTER_TRAVERSAL, DiagramStage.GRAPH_BUILD,
+                DiagramStage.LAYOUT_SETUP, DiagramStage.LAYOUT_ITERATIONS, DiagramStage.POST_PROCESSING, DiagramStage.LAYOUT,
+                DiagramStage.EDGE_ROUTING, DiagramStage.SVG_WRITE, DiagramStage.METADATA_WRITE), stages);
+        assertTrue(counters.get(DiagramCounter.NODES) > 0);
+        assertTrue(counters.get(DiagramCounter.EDGES) > 0);
+        assertTrue(counters.get(DiagramCounter.ITERATIONS) > 0);
+        assertEquals(svgWriter.toString().getBytes(StandardCharsets.UTF_8).length, counters.get(DiagramCounter.BYTES_WRITTEN));
+    }
 }
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.nad.build.iidm;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VoltageLevel;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.iidm.network.test.FourSubstationsNodeBreakerFactory;
+import com.powsybl.iidm.network.test.ThreeWindingsTransformerNetworkFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class VoltageLevelAdjacencyIndexTest {
+
+    private static Set<String> ids(Collection<VoltageLevel> voltageLevels) {
+        return voltageLevels.stream().map(Identifiable::getId).collect(Collectors.toSet());
+    }
+
+    private static void checkSameFilters(Network network, List<String> voltageLevelIds) {
+        VoltageLevelAdjacencyIndex index = VoltageLevelAdjacencyIndex.build(network);
+        for (int depth = 0; depth < 4; depth++) {
+            assertEquals(ids(VoltageLevelFilter.createVoltageLevelsDepthFilter(network, voltageLevelIds, depth).voltageLevels()),
+                    ids(VoltageLevelFilter.createVoltageLevelsDepthFilter(index, voltageLevelIds, depth).voltageLevels()));
+            assertEquals(ids(VoltageLevelFilter.createNominalVoltageFilter(network, voltageLevelIds, 100, 300, depth).voltageLevels()),
+                    ids(VoltageLevelFilter.createNominalVoltageFilter(index, voltageLevelIds, 100, 300, depth).voltageLevels()));
+        }
+        assertEquals(ids(VoltageLevelFilter.createNominalVoltageFilter(network, 100, 300).voltageLevels()),
+                ids(VoltageLevelFilter.createNominalVoltageFilter(index, 100, 300).voltageLevels()));
+
+        List<VoltageLevel> voltageLevels = voltageLevelIds.stream().map(network::getVoltageLevel).toList();
+        assertEquals(ids(VoltageLevelFilter.getNextDepthVoltageLevels(network, voltageLevels)),
+                ids(VoltageLevelFilter.getNextDepthVoltageLevels(index, voltageLevels)));
+    }
+
+    @Test
+    void testSameAsNetworkTraversal() {
+        checkSameFilters(IeeeCdfNetworkFactory.create118(), List.of("VL1", "VL50"));
+        checkSameFilters(IeeeCdfNetworkFactory.create300(), List.of("VL1"));
+        checkSameFilters(ThreeWindingsTransformerNetworkFactory.create(), List.of("VL_132"));
+        checkSameFilters(FourSubstationsNodeBreakerFactory.create(), List.of("S1VL2"));
+        checkSameFilters(EurostagTutorialExample1Factory.createWithTieLine(), List.of("VLHV1"));
+    }
+
+    @Test
+    void testNeighbours() {
+        Network network = ThreeWindingsTransformerNetworkFactory.create();
+        VoltageLevelAdjacencyIndex index = VoltageLevelAdjacencyIndex.build(network);
+        assertEquals(3, index.getVoltageLevelCount());
+        int vl132 = index.getIndex("VL_132");
+        assertEquals(132, index.getNominalV(vl132));
+        Set<String> neighbours = new HashSet<>();
+        for (int neighbour : index.getNeighbours(vl132)) {
+            neighbours.add(index.getVoltageLevel(neighbour).getId());
+        }
+        assertEquals(Set.of("VL_33", "VL_11"), neighbours);
+    }
+
+    @Test
+    void testUnknownVoltageLevel() {
+        VoltageLevelAdjacencyIndex index = VoltageLevelAdjacencyIndex.build(IeeeCdfNetworkFactory.create9());
+        List<String> voltageLevelIds = List.of("foo");
+        PowsyblException e = assertThrows(PowsyblException.class, () -> VoltageLevelFilter.createVoltageLevelsDepthFilter(index, voltageLevelIds, 1));
+        assertEquals("Unknown voltage level id 'foo'", e.getMessage());
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.nad.layout;
+
+import com.powsybl.diagram.util.layout.algorithms.parameters.IncrementalParameters;
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.nad.build.iidm.NetworkGraphBuilder;
+import com.powsybl.nad.build.iidm.VoltageLevelFilter;
+import com.powsybl.nad.model.Graph;
+import com.powsybl.nad.model.Point;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class IncrementalForceLayoutTest {
+
+    private static Map<String, Point> runLayout(Network network, int depth, LayoutFactory layoutFactory) {
+        LayoutParameters layoutParameters = new LayoutParameters();
+        VoltageLevelFilter filter = VoltageLevelFilter.createVoltageLevelDepthFilter(network, "VL12", depth);
+        Graph graph = new NetworkGraphBuilder(network, filter, layoutParameters).buildGraph();
+        layoutFactory.create().run(graph, layoutParameters);
+        return graph.getNodePositions();
+    }
+
+    @Test
+    void testExpandedDiagram() {
+        Network network = IeeeCdfNetworkFactory.create118();
+        Map<String, Point> previousPositions = runLayout(network, 1, Atlas2ForceLayout::new);
+        Map<String, Point> positions = runLayout(network, 3, new IncrementalForceLayoutFactory(previousPositions));
+
+        assertTrue(positions.keySet().containsAll(previousPositions.keySet()));
+        assertTrue(positions.size() > previousPositions.size());
+        Set<Point> distinctPositions = new HashSet<>();
+        positions.values().forEach(p -> {
+            assertTrue(Double.isFinite(p.x()));
+            assertTrue(Double.isFinite(p.y()));
+            distinctPositions.add(p);
+        });
+        assertEquals(positions.size(), distinctPositions.size());
+    }
+
+    @Test
+    void testPinnedPreviousNodes() {
+        Network network = IeeeCdfNetworkFactory.create118();
+        Map<String, Point> previousPositions = runLayout(network, 1, Atlas2ForceLayout::new);
+        IncrementalParameters parameters = new IncrementalParameters.Builder().withRelaxationDepth(0).build();
+        Map<String, Point> positions = runLayout(network, 2, new IncrementalForceLayoutFactory(previousPositions, Map.of(), parameters));
+
+        previousPositions.forEach((id, previous) -> {
+            assertEquals(previous.x(), positions.get(id).x(), 1e-6);
+            assertEquals(previous.y(), positions.get(id).y(), 1e-6);
+        });
+    }
+}
@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.nad.layout;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.diagram.test.Networks;
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.nad.NadParameters;
+import com.powsybl.nad.NetworkAreaDiagram;
+import com.powsybl.nad.build.iidm.NetworkGraphBuilder;
+import com.powsybl.nad.build.iidm.VoltageLevelFilter;
+import com.powsybl.nad.model.Graph;
+import com.powsybl.nad.model.Point;
+import com.powsybl.nad.routing.CustomPathRouting;
+import com.powsybl.nad.svg.SvgParameters;
+import com.powsybl.nad.svg.metadata.DiagramMetadata;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class LayoutSnapshotTest {
+
+    @TempDir
+    Path tmpDir;
+
+    private static LayoutSnapshot roundTrip(LayoutSnapshot snapshot) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        snapshot.write(os);
+        return LayoutSnapshot.read(ByteBuffer.wrap(os.toByteArray()));
+    }
+
+    @Test
+    void testMetadataRoundTrip() throws IOException {
+        DiagramMetadata metadata;
+        try (InputStream is = Objects.requireNonNull(getClass().getResourceAsStream("/IEEE_14_bus_voltage_nofilter_metadata.json"))) {
+            metadata = DiagramMetadata.parseJson(is);
+        }
+        LayoutSnapshot snapshot = roundTrip(LayoutSnapshot.fromMetadata(metadata));
+        assertEquals(metadata.getFixedPositions(), snapshot.getPositions());
+        assertEquals(metadata.getFixedTextPositions(), snapshot.getTextPositions());
+        assertTrue(snapshot.getEdgePaths().isEmpty());
+        assertTrue(snapshot.getTextEdgePaths().isEmpty());
+    }
+
+    @Test
+    void testPathsRoundTrip() {
+        LayoutSnapshot snapshot = new LayoutSnapshot(
+                Map.of("VL1", new Point(-10.5, 20), "VL2", new Point(100, 200.25)),
+                Map.of("VL1", new TextPosition(new Point(80, -30), new Point(80, -5))),
+                Map.of("L1-2-1", List.of(new Point(296.1, -502.39), new Point(717.04, -455.84))),
+                Map.of("VL1", List.of(new Point(450, -400))));
+        Path file = tmpDir.resolve("layout.bin");
+        snapshot.write(file);
+        LayoutSnapshot read = LayoutSnapshot.read(file);
+        assertEquals(snapshot.getPositions(), read.getPositions());
+        assertEquals(snapshot.getTextPositions(), read.getTextPositions());
+        assertEquals(snapshot.getEdgePaths(), read.getEdgePaths());
+        assertEquals(snapshot.getTextEdgePaths(), read.getTextEdgePaths());
+    }
+
+    @Test
+    void testFromGraph() {
+        Network network = Networks.createTwoVoltageLevels();
+        LayoutParameters layoutParameters = new LayoutParameters();
+        Graph graph = new NetworkGraphBuilder(network, VoltageLevelFilter.NO_FILTER, layoutParameters).buildGraph();
+        new BasicForceLayout().run(graph, layoutParameters);
+
+        LayoutSnapshot snapshot = roundTrip(LayoutSnapshot.fromGraph(graph));
+        Graph graph2 = new NetworkGraphBuilder(network, VoltageLevelFilter.NO_FILTER, layoutParameters).buildGraph();
+        snapshot.createLayoutFactory().create().run(graph2, layoutParameters);
+        assertEquals(graph.getNodePositions(), graph2.getNodePositions());
+        Map<String, Point> textPositions = getTextNodePositions(graph);
+        Map<String, Point> textPositions2 = getTextNodePositions(graph2);
+        assertEquals(textPositions.keySet(), textPositions2.keySet());
+        textPositions.forEach((id, p) -> {
+            assertEquals(p.x(), textPositions2.get(id).x(), 1e-9);
+            assertEquals(p.y(), textPositions2.get(id).y(), 1e-9);
+        });
+    }
+
+    @Test
+    void testFromRoutedGraph() {
+        Network network = IeeeCdfNetworkFactory.create14();
+        LayoutParameters layoutParameters = new LayoutParameters();
+        Graph graph = new NetworkGraphBuilder(network, VoltageLevelFilter.NO_FILTER, layoutParameters).buildGraph();
+        new BasicForceLayout().run(graph, layoutParameters);
+        Map<String, List<Point>> edgePaths = Map.of(
+                "L1-2-1", List.of(new Point(-0.89, -652.83)),
+                "L1-5-1", List.of(new Point(296.10, -502.39), new Point(717.04, -455.84), new Point(737.27, -51.09)));
+        Map<String, List<Point>> textEdgePaths = Map.of("VL3", List.of(new Point(450, -400), new Point(479.01, -375.27)));
+        new CustomPathRouting(edgePaths, textEdgePaths).run(graph, new SvgParameters());
+
+        LayoutSnapshot snapshot = roundTrip(LayoutSnapshot.fromGraph(graph));
+        assertEquals(edgePaths, snapshot.getEdgePaths());
+        assertEquals(textEdgePaths, snapshot.getTextEdgePaths());
+
+        // Not routed graph: no paths
+        Graph notRoutedGraph = new NetworkGraphBuilder(network, VoltageLevelFilter.NO_FILTER, layoutParameters).buildGraph();
+        new BasicForceLayout().run(notRoutedGraph, layoutParameters);
+        LayoutSnapshot notRoutedSnapshot = LayoutSnapshot.fromGraph(notRoutedGraph);
+        assertTrue(notRoutedSnapshot.getEdgePaths().isEmpty());
+        assertTrue(notRoutedSnapshot.getTextEdgePaths().isEmpty());
+    }
+
+    private static Map<String, Point> getTextNodePositions(Graph graph) {
+        Map<String, Point> textPositions = new HashMap<>();
+        graph.getVoltageLevelTextPairs().forEach(pair -> textPositions.put(pair.getFirst().getEquipmentId(), pair.getSecond().getPosition()));
+        return textPositions;
+    }
+
+    @Test
+    void testDrawWithSnapshot() {
+        Network network = IeeeCdfNetworkFactory.create14();
+        StringWriter metadataWriter = new StringWriter();
+        NetworkAreaDiagram.draw(network, new StringWriter(), metadataWriter, new NadParameters(), VoltageLevelFilter.NO_FILTER);
+        String metadataJson = metadataWriter.toString();
+
+        StringWriter svgFromJson = new StringWriter();
+        NadParameters jsonParameters = new NadParameters()
+                .setLayoutFactory(LayoutFactoryUtils.create(new StringReader(metadataJson)));
+        NetworkAreaDiagram.draw(network, svgFromJson, new StringWriter(), jsonParameters, VoltageLevelFilter.NO_FILTER);
+
+        LayoutSnapshot snapshot = roundTrip(LayoutSnapshot.fromMetadata(DiagramMetadata.parseJson(new StringReader(metadataJson))));
+        StringWriter svgFromSnapshot = new StringWriter();
+        NadParameters snapshotParameters = new NadParameters()
+                .setLayoutFactory(snapshot.createLayoutFactory())
+                .setEdgeRouting(snapshot.createEdgeRouting());
+        NetworkAreaDiagram.draw(network, svgFromSnapshot, new StringWriter(), snapshotParameters, VoltageLevelFilter.NO_FILTER);
+
+        assertEquals(svgFromJson.toString(), svgFromSnapshot.toString());
+    }
+
+    @Test
+    void testInvalidSnapshot() {
+        ByteBuffer notASnapshot = ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        PowsyblException e = assertThrows(PowsyblException.class, () -> LayoutSnapshot.read(notASnapshot));
+        assertEquals("Not a layout snapshot", e.getMessage());
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        new LayoutSnapshot(Map.of("VL1", new Point(1, 2)), Map.of()).write(os);
+        byte[] truncated = new byte[os.size() - 4];
+        System.arraycopy(os.toByteArray(), 0, truncated, 0, truncated.length);
+        e = assertThrows(PowsyblException.class, () -> LayoutSnapshot.read(new ByteArrayInputStream(truncated)));
+        assertEquals("Invalid layout snapshot", e.getMessage());
+
+        // Number of ids far larger than the file: fails before allocating the ids array
+        ByteBuffer hugeCount = ByteBuffer.allocate(16).putInt(0x4E41444C).putInt(1).putInt(Integer.MAX_VALUE).putInt(0).flip();
+        e = assertThrows(PowsyblException.class, () -> LayoutSnapshot.read(hugeCount));
+        assertEquals("Invalid layout snapshot: count 2147483647 at position 8 does not fit in the 4 remaining bytes", e.getMessage());
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.nad.layout;
+
+import com.powsybl.diagram.util.layout.algorithms.parameters.MultilevelParameters;
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.nad.build.iidm.NetworkGraphBuilder;
+import com.powsybl.nad.build.iidm.VoltageLevelFilter;
+import com.powsybl.nad.model.Graph;
+import com.powsybl.nad.model.Point;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class MultilevelForceLayoutTest {
+
+    private static Map<String, Point> runLayout(Network network, LayoutFactory layoutFactory) {
+        LayoutParameters layoutParameters = new LayoutParameters();
+        Graph graph = new NetworkGraphBuilder(network, VoltageLevelFilter.NO_FILTER, layoutParameters).buildGraph();
+        layoutFactory.create().run(graph, layoutParameters);
+        return graph.getNodePositions();
+    }
+
+    private static void checkPositions(Network network, Map<String, Point> positions) {
+        assertEquals(network.getVoltageLevelCount(), positions.keySet().stream().filter(id -> network.getVoltageLevel(id) != null).count());
+        Set<Point> distinctPositions = new HashSet<>();
+        positions.values().forEach(p -> {
+            assertTrue(Double.isFinite(p.x()));
+            assertTrue(Double.isFinite(p.y()));
+            distinctPositions.add(p);
+        });
+        assertEquals(positions.size(), distinctPositions.size());
+    }
+
+    @Test
+    void testIeee118() {
+        Network network = IeeeCdfNetworkFactory.create118();
+        checkPositions(network, runLayout(network, new MultilevelForceLayoutFactory(network)));
+    }
+
+    @Test
+    void testWithoutNetwork() {
+        Network network = IeeeCdfNetworkFactory.create118();
+        MultilevelParameters parameters = new MultilevelParameters.Builder()
+                .withCoarsestGraphSize(10)
+                .build();
+        checkPositions(network, runLayout(network, new MultilevelForceLayoutFactory(parameters)));
+    }
+
+    @Test
+    void testDeterministic() {
+        Network network = IeeeCdfNetworkFactory.create118();
+        assertEquals(
+                runLayout(network, new MultilevelForceLayoutFactory(network)),
+                runLayout(network, new MultilevelForceLayoutFactory(network))
+        );
+    }
+
+    @Test
+    void testFixedPosition() {
+        Network network = IeeeCdfNetworkFactory.create118();
+        LayoutParameters layoutParameters = new LayoutParameters();
+        Graph graph = new NetworkGraphBuilder(network, VoltageLevelFilter.NO_FILTER, layoutParameters).buildGraph();
+        Layout layout = new MultilevelForceLayoutFactory(network).create();
+        layout.setInitialNodePositions(Map.of("VL1", new Point(100, 200)));
+        layout.setNodesWithFixedPosition(Set.of("VL1"));
+        layout.run(graph, layoutParameters);
+        Point vl1 = graph.getNodePositions().get("VL1");
+        assertEquals(100, vl1.x(), 1e-6);
+        assertEquals(200, vl1.y(), 1e-6);
+    }
+}
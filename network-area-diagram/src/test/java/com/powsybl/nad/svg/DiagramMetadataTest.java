@@ -26,6 +26,7 @@ import com.powsybl.nad.model.Graph;
 import com.powsybl.nad.svg.iidm.DefaultLabelProvider;
 import com.powsybl.nad.svg.iidm.TopologicalStyleProvider;
 import com.powsybl.nad.svg.metadata.DiagramMetadata;
+import com.powsybl.nad.svg.metadata.DiagramMetadataWriter;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -260,7 +261,13 @@ class DiagramMetadataTest extends AbstractTest {
         assertNotNull(graph.getCssFilenames());
         // Checking
         assertFileEquals(referenceMetadata, outMetadataPath);
+        // Streamed metadata is the same
+        Path streamedMetadataPath = tmpDir.resolve("streamed_metadata.json");
+        new DiagramMetadataWriter(layoutParameters, getSvgParameters()).writeJson(graph, streamedMetadataPath);
+        assertFileEquals(referenceMetadata, streamedMetadataPath);
         // Read metadata from file
-        return DiagramMetadata.parseJson(outMetadataPath);
+        DiagramMetadata metadata = DiagramMetadata.parseJson(outMetadataPath);
+        assertEquals(metadata.getFixedPositions(), DiagramMetadata.parseFixedPositions(outMetadataPath));
+        return metadata;
     }
 }
@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.nad.svg.metadata;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.nad.NadParameters;
+import com.powsybl.nad.NetworkAreaDiagram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.powsybl.nad.build.iidm.VoltageLevelFilter.NO_FILTER;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class DiagramUpdateTest {
+
+    private Network network;
+    private NadParameters nadParameters;
+    private DiagramMetadata metadata;
+
+    @BeforeEach
+    void setUp() {
+        network = EurostagTutorialExample1Factory.createWithLFResults();
+        nadParameters = new NadParameters();
+        StringWriter metadataWriter = new StringWriter();
+        NetworkAreaDiagram.draw(network, new StringWriter(), metadataWriter, nadParameters, NO_FILTER);
+        metadata = DiagramMetadata.parseJson(new StringReader(metadataWriter.toString()));
+    }
+
+    private DiagramUpdate writeUpdate() {
+        StringWriter updateWriter = new StringWriter();
+        NetworkAreaDiagram.writeUpdate(network, metadata, updateWriter, nadParameters);
+        return DiagramUpdate.parseJson(new StringReader(updateWriter.toString()));
+    }
+
+    private static EdgeInfoMetadata getEdgeInfoUpdate(DiagramUpdate update, String svgId) {
+        return update.getEdgeInfoUpdates().stream()
+                .filter(u -> u.getSvgId().equals(svgId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static List<String> getLabels(EdgeInfoMetadata edgeInfo) {
+        return Arrays.asList(edgeInfo.getLabelA(), edgeInfo.getLabelB());
+    }
+
+    private static List<String> getDirections(EdgeInfoMetadata edgeInfo) {
+        // A single direction, or one direction for each side when both infos are displayed with arrows
+        return Arrays.asList(edgeInfo.getDirection(), edgeInfo.getDirectionA(), edgeInfo.getDirectionB());
+    }
+
+    @Test
+    void testIdsFromMetadata() {
+        DiagramUpdate update = writeUpdate();
+        Set<String> busNodeIds = metadata.getBusNodesMetadata().stream().map(AbstractMetadataItem::getSvgId).collect(Collectors.toSet());
+        Set<String> edgeIds = metadata.getEdgesMetadata().stream().map(AbstractMetadataItem::getSvgId).collect(Collectors.toSet());
+        assertEquals(busNodeIds, update.getBusNodeUpdates().stream().map(DiagramUpdate.ElementUpdate::svgId).collect(Collectors.toSet()));
+        assertEquals(edgeIds, update.getEdgeUpdates().stream().map(DiagramUpdate.EdgeUpdate::svgId).collect(Collectors.toSet()));
+        update.getEdgeUpdates().forEach(u -> assertFalse(u.classes1().isEmpty()));
+        assertEquals(network.getId(), update.getNetworkId());
+        assertEquals("1.0", update.getMetadataVersion());
+    }
+
+    @Test
+    void testEdgeInfos() {
+        EdgeMetadata lineMetadata = metadata.getEdgesMetadata().stream()
+                .filter(em -> em.getEquipmentId().equals("NHV1_NHV2_1"))
+                .findFirst()
+                .orElseThrow();
+        String edgeInfoId = lineMetadata.getEdgeInfo1().getSvgId();
+
+        EdgeInfoMetadata edgeInfo = getEdgeInfoUpdate(writeUpdate(), edgeInfoId);
+        assertEquals(getLabels(lineMetadata.getEdgeInfo1()), getLabels(edgeInfo));
+        assertEquals(getDirections(lineMetadata.getEdgeInfo1()), getDirections(edgeInfo));
+        assertTrue(getDirections(edgeInfo).stream().anyMatch(Objects::nonNull));
+
+        network.getLine("NHV1_NHV2_1").getTerminal1().setP(-302.4);
+        EdgeInfoMetadata edgeInfoUpdated = getEdgeInfoUpdate(writeUpdate(), edgeInfoId);
+        assertNotEquals(getLabels(edgeInfo), getLabels(edgeInfoUpdated));
+        assertNotEquals(getDirections(edgeInfo), getDirections(edgeInfoUpdated));
+    }
+
+    @Test
+    void testSvgParametersFromMetadata() {
+        // The update follows the parameters the SVG was written with, not the ones given when updating
+        nadParameters.getSvgParameters().setEdgeInfosIncluded(false);
+        DiagramUpdate update = writeUpdate();
+        assertTrue(metadata.getSvgParameters().isEdgeInfosIncluded());
+        assertFalse(update.getEdgeInfoUpdates().isEmpty());
+    }
+
+    @Test
+    void testUpdateRoundTrip() {
+        DiagramUpdate update = writeUpdate();
+        StringWriter writer = new StringWriter();
+        update.writeJson(writer);
+        DiagramUpdate parsed = DiagramUpdate.parseJson(new StringReader(writer.toString()));
+        assertEquals(update.getBusNodeUpdates(), parsed.getBusNodeUpdates());
+        assertEquals(update.getEdgeUpdates(), parsed.getEdgeUpdates());
+        assertEquals(update.getEdgeInfoUpdates().size(), parsed.getEdgeInfoUpdates().size());
+    }
+}
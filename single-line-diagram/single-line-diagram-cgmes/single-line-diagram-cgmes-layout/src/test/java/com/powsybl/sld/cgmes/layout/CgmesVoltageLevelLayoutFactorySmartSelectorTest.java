@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld.cgmes.layout;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.sld.layout.SmartVoltageLevelLayoutFactory;
+import com.powsybl.sld.layout.VoltageLevelLayoutFactorySmartSelector;
+import com.powsybl.sld.layout.VoltageLevelLayoutFactorySmartSelectorRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class CgmesVoltageLevelLayoutFactorySmartSelectorTest {
+
+    @Test
+    void testNetworkNotKeptByDefaultRegistry() throws InterruptedException {
+        WeakReference<Network> networkRef = createCgmesFactory();
+        for (int i = 0; i < 100 && networkRef.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(networkRef.get());
+    }
+
+    private static WeakReference<Network> createCgmesFactory() {
+        Network network = Networks.createBusTopologyNetwork();
+        VoltageLevelLayoutFactorySmartSelectorRegistry registry = VoltageLevelLayoutFactorySmartSelectorRegistry.getDefault();
+        VoltageLevelLayoutFactorySmartSelector selector = registry.getSelectors().stream()
+                .filter(CgmesVoltageLevelLayoutFactorySmartSelector.class::isInstance)
+                .findFirst()
+                .orElseThrow();
+        assertTrue(selector.isSelectable(network.getVoltageLevel("VoltageLevel1")));
+        assertFalse(selector.isFactoryNetworkIndependent());
+        assertInstanceOf(CgmesVoltageLevelLayoutFactory.class, registry.getFactory(selector, network));
+        assertNotNull(SmartVoltageLevelLayoutFactory.createWithPrecomputedSelection(network));
+        return new WeakReference<>(network);
+    }
+}
@@ -8,12 +8,19 @@
 package com.powsybl.sld;
 
 import com.powsybl.commons.PowsyblException;
+import com.powsybl.diagram.util.instrumentation.ByteCountingWriter;
+import com.powsybl.diagram.util.instrumentation.DiagramCounter;
+import com.powsybl.diagram.util.instrumentation.DiagramInstrumentation;
+import com.powsybl.diagram.util.instrumentation.DiagramStage;
 import com.powsybl.iidm.network.Identifiable;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.sld.builders.NetworkGraphBuilder;
+import com.powsybl.sld.layout.Layout;
 import com.powsybl.sld.layout.LayoutParameters;
 import com.powsybl.sld.layout.VoltageLevelLayoutFactory;
+import com.powsybl.sld.layout.cache.VoltageLevelLayoutCache;
 import com.powsybl.sld.library.SldComponentLibrary;
+import com.powsybl.sld.model.graphs.BaseGraph;
 import com.powsybl.sld.model.graphs.Graph;
 import com.powsybl.sld.model.graphs.SubstationGraph;
 import com.powsybl.sld.model.graphs.VoltageLevelGraph;
@@ -31,6 +38,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import static com.powsybl.iidm.network.IdentifiableType.SUBSTATION;
 import static com.powsybl.iidm.network.IdentifiableType.VOLTAGE_LEVEL;
@@ -103,21 +111,21 @@ public final class SingleLineDiagram {
     }
 
     private static void drawVoltageLevel(Network network, String voltageLevelId, Path svgFile, SldParameters sldParameters) {
-        VoltageLevelGraph voltageLevelGraph = new NetworkGraphBuilder(network, sldParameters.getLayoutParameters()).buildVoltageLevelGraph(voltageLevelId);
-        DefaultSVGWriter svgWriter = preDraw(voltageLevelGraph, sldParameters, network);
+        VoltageLevelGraph voltageLevelGraph = buildVoltageLevelGraphWithLayout(network, voltageLevelId, sldParameters);
+        SVGWriter svgWriter = sldParameters.createSvgWriter();
         draw(network, voltageLevelGraph, svgFile, svgWriter,
             sldParameters.createLabelProvider(network),
             sldParameters.getStyleProviderFactory().create(network, sldParameters.getSvgParameters()),
-            sldParameters.createLegendWriter(network));
+            sldParameters.createLegendWriter(network), sldParameters.getInstrumentation());
     }
 
     public static void drawVoltageLevel(Network network, String voltageLevelId, Writer writerForSvg, Writer metadataWriter, SldParameters sldParameters) {
-        VoltageLevelGraph voltageLevelGraph = new NetworkGraphBuilder(network, sldParameters.getLayoutParameters()).buildVoltageLevelGraph(voltageLevelId);
-        DefaultSVGWriter svgWriter = preDraw(voltageLevelGraph, sldParameters, network);
+        VoltageLevelGraph voltageLevelGraph = buildVoltageLevelGraphWithLayout(network, voltageLevelId, sldParameters);
+        SVGWriter svgWriter = sldParameters.createSvgWriter();
         draw(network, voltageLevelGraph, writerForSvg, metadataWriter, svgWriter,
             sldParameters.createLabelProvider(network),
             sldParameters.getStyleProviderFactory().create(network, sldParameters.getSvgParameters()),
-            sldParameters.createLegendWriter(network));
+            sldParameters.createLegendWriter(network), sldParameters.getInstrumentation());
     }
 
     public static void drawSubstation(Network network, String id, String svgFile) {
@@ -129,21 +137,23 @@ public final class SingleLineDiagram {
     }
 
     private static void drawSubstation(Network network, String substationId, Path svgFile, SldParameters sldParameters) {
-        SubstationGraph substationGraph = new NetworkGraphBuilder(network, sldParameters.getLayoutParameters()).buildSubstationGraph(substationId);
-        DefaultSVGWriter svgWriter = preDraw(substationGraph, sldParameters, network);
+        SubstationGraph substationGraph = buildGraph(sldParameters,
+            () -> new NetworkGraphBuilder(network, sldParameters.getLayoutParameters()).buildSubstationGraph(substationId));
+        SVGWriter svgWriter = preDraw(substationGraph, sldParameters, network);
         draw(network, substationGraph, svgFile, svgWriter,
             sldParameters.createLabelProvider(network),
             sldParameters.getStyleProviderFactory().create(network, sldParameters.getSvgParameters()),
-            sldParameters.createLegendWriter(network));
+            sldParameters.createLegendWriter(network), sldParameters.getInstrumentation());
     }
 
     public static void drawSubstation(Network network, String substationId, Writer writerForSvg, Writer metadataWriter, SldParameters sldParameters) {
-        SubstationGraph substationGraph = new NetworkGraphBuilder(network, sldParameters.getLayoutParameters()).buildSubstationGraph(substationId);
-        DefaultSVGWriter svgWriter = preDraw(substationGraph, sldParameters, network);
+        SubstationGraph substationGraph = buildGraph(sldParameters,
+            () -> new NetworkGraphBuilder(network, sldParameters.getLayoutParameters()).buildSubstationGraph(substationId));
+        SVGWriter svgWriter = preDraw(substationGraph, sldParameters, network);
         draw(network, substationGraph, writerForSvg, metadataWriter, svgWriter,
             sldParameters.createLabelProvider(network),
             sldParameters.getStyleProviderFactory().create(network, sldParameters.getSvgParameters()),
-            sldParameters.createLegendWriter(network));
+            sldParameters.createLegendWriter(network), sldParameters.getInstrumentation());
     }
 
     public static void drawMultiSubstations(Network network, List<String> substationIdList, Path svgFile) {
@@ -151,28 +161,41 @@ public final class SingleLineDiagram {
     }
 
     public static void drawMultiSubstations(Network network, List<String> substationIdList, Path svgFile, SldParameters sldParameters) {
-        ZoneGraph zoneGraph = new NetworkGraphBuilder(network).buildZoneGraph(substationIdList);
-        DefaultSVGWriter svgWriter = preDraw(zoneGraph, sldParameters, network);
+        ZoneGraph zoneGraph = buildGraph(sldParameters, () -> new NetworkGraphBuilder(network).buildZoneGraph(substationIdList));
+        SVGWriter svgWriter = preDraw(zoneGraph, sldParameters, network);
         draw(network, zoneGraph, svgFile, svgWriter,
             sldParameters.createLabelProvider(network),
             sldParameters.getStyleProviderFactory().create(network, sldParameters.getSvgParameters()),
-            sldParameters.createLegendWriter(network));
+            sldParameters.createLegendWriter(network), sldParameters.getInstrumentation());
     }
 
     public static void drawMultiSubstations(Network network, List<String> substationIdList, Writer writerForSvg, Writer metadataWriter, SldParameters sldParameters) {
-        ZoneGraph zoneGraph = new NetworkGraphBuilder(network).buildZoneGraph(substationIdList);
-        DefaultSVGWriter svgWriter = preDraw(zoneGraph, sldParameters, network);
+        ZoneGraph zoneGraph = buildGraph(sldParameters, () -> new NetworkGraphBuilder(network).buildZoneGraph(substationIdList));
+        SVGWriter svgWriter = preDraw(zoneGraph, sldParameters, network);
         draw(network, zoneGraph, writerForSvg, metadataWriter, svgWriter,
             sldParameters.createLabelProvider(network),
             sldParameters.getStyleProviderFactory().create(network, sldParameters.getSvgParameters()),
-            sldParameters.createLegendWriter(network));
+            sldParameters.createLegendWriter(network), sldParameters.getInstrumentation());
     }
 
     public static void draw(Graph graph, Path svgFile, DefaultSVGWriter svgWriter, LabelProvider labelProvider, StyleProvider styleProvider, SVGLegendWriter legendWriter) {
-        draw(null, graph, svgFile, svgWriter, labelProvider, styleProvider, legendWriter);
+        draw(null, graph, svgFile, svgWriter, labelProvider, styleProvider, legendWriter, DiagramInstrumentation.noOp());
     }
 
     public static void draw(Network network, Graph graph, Path svgFile, DefaultSVGWriter svgWriter, LabelProvider labelProvider, StyleProvider styleProvider, SVGLegendWriter legendWriter) {
+        draw(network, graph, svgFile, svgWriter, labelProvider, styleProvider, legendWriter, DiagramInstrumentation.noOp());
+    }
+
+    public static void draw(Graph graph, Path svgFile, SVGWriter svgWriter, LabelProvider labelProvider, StyleProvider styleProvider, SVGLegendWriter legendWriter) {
+        draw(null, graph, svgFile, svgWriter, labelProvider, styleProvider, legendWriter);
+    }
+
+    public static void draw(Network network, Graph graph, Path svgFile, SVGWriter svgWriter, LabelProvider labelProvider, StyleProvider styleProvider, SVGLegendWriter legendWriter) {
+        draw(network, graph, svgFile, svgWriter, labelProvider, styleProvider, legendWriter, DiagramInstrumentation.noOp());
+    }
+
+    public static void draw(Network network, Graph graph, Path svgFile, SVGWriter svgWriter, LabelProvider labelProvider, StyleProvider styleProvider,
+                            SVGLegendWriter legendWriter, DiagramInstrumentation instrumentation) {
         Objects.requireNonNull(svgFile);
 
         Path dir = svgFile.toAbsolutePath().getParent();
@@ -182,7 +205,7 @@ public final class SingleLineDiagram {
         }
         try (Writer writerForSvg = Files.newBufferedWriter(svgFile, StandardCharsets.UTF_8);
              Writer metadataWriter = Files.newBufferedWriter(dir.resolve(svgFileName.replace(".svg", "_metadata.json")), StandardCharsets.UTF_8)) {
-            draw(network, graph, writerForSvg, metadataWriter, svgWriter, labelProvider, styleProvider, legendWriter);
+            draw(network, graph, writerForSvg, metadataWriter, svgWriter, labelProvider, styleProvider, legendWriter, instrumentation);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -190,26 +213,49 @@ public final class SingleLineDiagram {
 
     public static void draw(Graph graph, Writer writerForSvg, Writer metadataWriter, DefaultSVGWriter svgWriter,
                             LabelProvider labelProvider, StyleProvider styleProvider, SVGLegendWriter legendWriter) {
-        draw(null, graph, writerForSvg, metadataWriter, svgWriter, labelProvider, styleProvider, legendWriter);
+        draw(null, graph, writerForSvg, metadataWriter, svgWriter, labelProvider, styleProvider, legendWriter, DiagramInstrumentation.noOp());
     }
 
     public static void draw(Network network, Graph graph, Writer writerForSvg, Writer metadataWriter, DefaultSVGWriter svgWriter,
                             LabelProvider labelProvider, StyleProvider styleProvider, SVGLegendWriter legendWriter) {
+        draw(network, graph, writerForSvg, metadataWriter, svgWriter, labelProvider, styleProvider, legendWriter, DiagramInstrumentation.noOp());
+    }
+
+    public static void draw(Graph graph, Writer writerForSvg, Writer metadataWriter, SVGWriter svgWriter,
+                            LabelProvider labelProvider, StyleProvider styleProvider, SVGLegendWriter legendWriter) {
+        draw(null, graph, writerForSvg, metadataWriter, svgWriter, labelProvider, styleProvider, legendWriter);
+    }
+
+    public static void draw(Network network, Graph graph, Writer writerForSvg, Writer metadataWriter, SVGWriter svgWriter,
+                            LabelProvider labelProvider, StyleProvider styleProvider, SVGLegendWriter legendWriter) {
+        draw(network, graph, writerForSvg, metadataWriter, svgWriter, labelProvider, styleProvider, legendWriter, DiagramInstrumentation.noOp());
+    }
+
+    public static void draw(Network network, Graph graph, Writer writerForSvg, Writer metadataWriter, SVGWriter svgWriter,
+                            LabelProvider labelProvider, StyleProvider styleProvider, SVGLegendWriter legendWriter,
+                            DiagramInstrumentation instrumentation) {
         Objects.requireNonNull(graph);
         Objects.requireNonNull(writerForSvg);
         Objects.requireNonNull(metadataWriter);
         Objects.requireNonNull(labelProvider);
         Objects.requireNonNull(styleProvider);
         Objects.requireNonNull(legendWriter);
+        Objects.requireNonNull(instrumentation);
 
         LOGGER.info("Writing SVG and JSON metadata files...");
         // write SVG file
-        GraphMetadata metadata = svgWriter.write(graph, labelProvider, styleProvider, legendWriter, writerForSvg);
+        ByteCountingWriter countingWriterForSvg = instrumentation.isEnabled() ? new ByteCountingWriter(writerForSvg) : null;
+        Writer svgOutput = countingWriterForSvg != null ? countingWriterForSvg : writerForSvg;
+        GraphMetadata metadata = instrumentation.time(DiagramStage.SVG_WRITE,
+            () -> svgWriter.write(graph, labelProvider, styleProvider, legendWriter, svgOutput));
+        if (countingWriterForSvg != null) {
+            instrumentation.count(DiagramCounter.BYTES_WRITTEN, countingWriterForSvg.getByteCount());
+        }
         if (network != null) {
             metadata.setNetworkInformation(network.getNameOrId(), network.getId(), network.getCaseDate().toString());
         }
         // write metadata JSON file
-        metadata.writeJson(metadataWriter);
+        instrumentation.time(DiagramStage.METADATA_WRITE, () -> metadata.writeJson(metadataWriter));
     }
 
     public static void draw(Graph graph, Writer writerForSvg, Writer metadataWriter, SldComponentLibrary componentLibrary,
@@ -222,16 +268,103 @@ public final class SingleLineDiagram {
         draw(graph, writerForSvg, metadataWriter, svgWriter, labelProvider, styleProvider, legendWriter);
     }
 
-    private static DefaultSVGWriter preDraw(Graph graph, SldParameters sldParameters, Network network) {
+    /**
+     * Write the update of an SVG previously written for the given voltage level or substation, with the current state of
+     * the network. No layout is run and no SVG is built: the graph is built again, or taken from the layout cache of the
+     * parameters if any, to compute the feeder infos and the style classes of the elements described by the previous
+     * metadata. Without layout cache, the elements added by the layout, such as the wires to fictitious nodes, are not
+     * updated.
+     *
+     * @param network          the network, in its current state
+     * @param id               the voltage level or substation id
+     * @param previousMetadata the metadata written with the SVG to update
+     * @param updateWriter     the writer for the JSON update
+     * @param sldParameters    the parameters used to write the SVG to update
+     */
+    public static void writeUpdate(Network network, String id, GraphMetadata previousMetadata, Writer updateWriter, SldParameters sldParameters) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(previousMetadata);
+        Objects.requireNonNull(updateWriter);
+        Objects.requireNonNull(sldParameters);
+
+        Identifiable<?> identifiable = getIdentifiable(network, id);
+        Graph graph;
+        if (identifiable.getType() == VOLTAGE_LEVEL) {
+            graph = sldParameters.getVoltageLevelLayoutCache() != null
+                ? buildVoltageLevelGraphWithLayout(network, id, sldParameters)
+                : new NetworkGraphBuilder(network, sldParameters.getLayoutParameters()).buildVoltageLevelGraph(id);
+        } else if (identifiable.getType() == SUBSTATION) {
+            graph = new NetworkGraphBuilder(network, sldParameters.getLayoutParameters()).buildSubstationGraph(id);
+        } else {
+            throw new PowsyblException("Given id '" + id + "' is not a substation or voltage level id in given network '" + network.getId() + "'");
+        }
+
+        GraphUpdate update = new DefaultSVGWriter(sldParameters.getComponentLibrary(), sldParameters.getLayoutParameters(), sldParameters.getSvgParameters()).createUpdate(graph, previousMetadata,
+            sldParameters.createLabelProvider(network),
+            sldParameters.getStyleProviderFactory().create(network, sldParameters.getSvgParameters()));
+        update.setNetworkInformation(network.getNameOrId(), network.getId(), network.getCaseDate().toString());
+        update.writeJson(updateWriter);
+    }
+
+    private static SVGWriter preDraw(Graph graph, SldParameters sldParameters, Network network) {
         LayoutParameters layoutParameters = sldParameters.getLayoutParameters();
         VoltageLevelLayoutFactory voltageLevelLayoutFactory = sldParameters.createVoltageLevelLayoutFactory(network);
-        switch (graph) {
-            case VoltageLevelGraph voltageLevelGraph -> voltageLevelLayoutFactory.create(voltageLevelGraph).run(layoutParameters);
-            case SubstationGraph substationGraph -> sldParameters.getSubstationLayoutFactory().create(substationGraph, voltageLevelLayoutFactory).run(layoutParameters);
+        Layout layout = switch (graph) {
+            case VoltageLevelGraph voltageLevelGraph -> voltageLevelLayoutFactory.create(voltageLevelGraph);
+            case SubstationGraph substationGraph -> sldParameters.getSubstationLayoutFactory().create(substationGraph, voltageLevelLayoutFactory);
             case ZoneGraph zoneGraph -> sldParameters.getZoneLayoutFactory().create(zoneGraph, sldParameters.getZoneLayoutPathFinderFactory(),
-                sldParameters.getSubstationLayoutFactory(), voltageLevelLayoutFactory).run(layoutParameters);
+                sldParameters.getSubstationLayoutFactory(), voltageLevelLayoutFactory);
             case null, default -> throw new PowsyblException("First argument is an instance of an unexpected class");
+        };
+        sldParameters.getInstrumentation().time(DiagramStage.LAYOUT, () -> layout.run(layoutParameters));
+        return sldParameters.createSvgWriter();
+    }
+
+    /**
+     * Build and lay out the graph of the given voltage level, or take it from the layout cache of the parameters if any
+     * and if the topology of the voltage level did not change since the cached layout.
+     */
+    private static VoltageLevelGraph buildVoltageLevelGraphWithLayout(Network network, String voltageLevelId, SldParameters sldParameters) {
+        LayoutParameters layoutParameters = sldParameters.getLayoutParameters();
+        Supplier<VoltageLevelGraph> layoutSupplier = () -> {
+            VoltageLevelGraph voltageLevelGraph = buildGraph(sldParameters,
+                () -> new NetworkGraphBuilder(network, layoutParameters).buildVoltageLevelGraph(voltageLevelId));
+            Layout layout = sldParameters.createVoltageLevelLayoutFactory(network).create(voltageLevelGraph);
+            sldParameters.getInstrumentation().time(DiagramStage.LAYOUT, () -> layout.run(layoutParameters));
+            return voltageLevelGraph;
+        };
+        VoltageLevelLayoutCache layoutCache = sldParameters.getVoltageLevelLayoutCache();
+        return layoutCache != null
+            ? layoutCache.getOrCreate(network, voltageLevelId, layoutParameters, layoutSupplier)
+            : layoutSupplier.get();
+    }
+
+    /**
+     * Build a graph, reporting its building duration and its number of nodes and edges to the instrumentation of the parameters
+     */
+    private static <G extends Graph> G buildGraph(SldParameters sldParameters, Supplier<G> graphBuilder) {
+        DiagramInstrumentation instrumentation = sldParameters.getInstrumentation();
+        G graph = instrumentation.time(DiagramStage.GRAPH_BUILD, graphBuilder);
+        if (instrumentation.isEnabled()) {
+            instrumentation.count(DiagramCounter.NODES, graph.getAllNodesStream().count());
+            instrumentation.count(DiagramCounter.EDGES, countEdges(graph));
+        }
+        return graph;
+    }
+
+    private static long countEdges(Graph graph) {
+        long edgeCount = graph.getVoltageLevelStream().mapToLong(vlGraph -> vlGraph.getEdges().size()).sum();
+        if (graph instanceof ZoneGraph zoneGraph) {
+            edgeCount += zoneGraph.getSubstations().stream().mapToLong(SingleLineDiagram::countBaseGraphEdges).sum();
+        }
+        if (graph instanceof BaseGraph baseGraph) {
+            edgeCount += countBaseGraphEdges(baseGraph);
         }
-        return new DefaultSVGWriter(sldParameters.getComponentLibrary(), sldParameters.getLayoutParameters(), sldParameters.getSvgParameters());
+        return edgeCount;
+    }
+
+    private static long countBaseGraphEdges(BaseGraph baseGraph) {
+        return (long) baseGraph.getLineEdges().size() + baseGraph.getTwtEdges().size();
     }
 }
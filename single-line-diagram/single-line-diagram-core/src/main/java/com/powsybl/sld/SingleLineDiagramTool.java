@@ -20,11 +20,22 @@ import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static com.powsybl.sld.AbstractSingleLineDiagramCommand.INPUT_FILE;
 import static com.powsybl.sld.AbstractSingleLineDiagramCommand.OUTPUT_DIR;
@@ -38,6 +49,11 @@ public class SingleLineDiagramTool implements Tool {
     private static final String IDS = "ids";
     private static final String ALL_VOLTAGE_LEVELS = "all-voltage-levels";
     private static final String ALL_SUBSTATIONS = "all-substations";
+    private static final String PARALLELISM = "parallelism";
+    private static final String BATCH_SIZE = "batch-size";
+
+    private static final int DEFAULT_PARALLELISM = 1;
+    private static final int DEFAULT_BATCH_SIZE = 16;
 
     @Override
     public Command getCommand() {
@@ -69,6 +85,16 @@ public class SingleLineDiagramTool implements Tool {
                 options.addOption(Option.builder().longOpt(ALL_SUBSTATIONS)
                         .desc("all substations")
                         .build());
+                options.addOption(Option.builder().longOpt(PARALLELISM)
+                        .desc("number of diagrams drawn concurrently, default is " + DEFAULT_PARALLELISM)
+                        .hasArg()
+                        .argName("PARALLELISM")
+                        .build());
+                options.addOption(Option.builder().longOpt(BATCH_SIZE)
+                        .desc("maximum number of drawn diagrams waiting to be written when drawing concurrently, default is " + DEFAULT_BATCH_SIZE)
+                        .hasArg()
+                        .argName("BATCH_SIZE")
+                        .build());
 
                 return options;
             }
@@ -80,42 +106,164 @@ public class SingleLineDiagramTool implements Tool {
         };
     }
 
+    /**
+     * A diagram drawn by a worker, waiting to be written by the caller thread
+     */
+    private record DrawnDiagram(String id, String svg, String metadata, long drawingTimeNanos, Throwable error) {
+    }
+
     private Path getSvgFile(Path outputDir, String id) {
         return outputDir.resolve(URLEncoder.encode(id, StandardCharsets.UTF_8) + ".svg");
     }
 
-    private void generateSvg(ToolRunningContext context, Path outputDir, String vlOrSubstationId, Network network, SldParameters sldParameters) {
+    private Path getMetadataFile(Path svgFile) {
+        return svgFile.resolveSibling(svgFile.getFileName().toString().replace(".svg", "_metadata.json"));
+    }
+
+    private boolean generateSvg(ToolRunningContext context, Path outputDir, String vlOrSubstationId, Network network, SldParameters sldParameters) {
         Path svgFile = getSvgFile(outputDir, vlOrSubstationId);
         context.getOutputStream().println("Generating '" + svgFile + "'");
+        long start = System.nanoTime();
         try {
             SingleLineDiagram.draw(network, vlOrSubstationId, svgFile, sldParameters);
         } catch (Exception e) {
             e.printStackTrace(context.getErrorStream());
+            return false;
+        }
+        printTiming(context, svgFile, System.nanoTime() - start);
+        return true;
+    }
+
+    private static DrawnDiagram drawSvg(String vlOrSubstationId, Network network, SldParameters sldParameters) {
+        long start = System.nanoTime();
+        StringWriter svgWriter = new StringWriter();
+        StringWriter metadataWriter = new StringWriter();
+        try {
+            SingleLineDiagram.draw(network, vlOrSubstationId, svgWriter, metadataWriter, sldParameters);
+            return new DrawnDiagram(vlOrSubstationId, svgWriter.toString(), metadataWriter.toString(), System.nanoTime() - start, null);
+        } catch (Exception e) {
+            return new DrawnDiagram(vlOrSubstationId, null, null, System.nanoTime() - start, e);
+        }
+    }
+
+    private boolean writeSvg(ToolRunningContext context, Path outputDir, DrawnDiagram diagram) {
+        Path svgFile = getSvgFile(outputDir, diagram.id());
+        if (diagram.error() != null) {
+            context.getErrorStream().println("Cannot generate '" + svgFile + "'");
+            diagram.error().printStackTrace(context.getErrorStream());
+            return false;
+        }
+        try (Writer svgWriter = Files.newBufferedWriter(svgFile, StandardCharsets.UTF_8);
+             Writer metadataWriter = Files.newBufferedWriter(getMetadataFile(svgFile), StandardCharsets.UTF_8)) {
+            svgWriter.write(diagram.svg());
+            metadataWriter.write(diagram.metadata());
+        } catch (IOException e) {
+            e.printStackTrace(context.getErrorStream());
+            return false;
         }
+        printTiming(context, svgFile, diagram.drawingTimeNanos());
+        return true;
     }
 
-    private void generateSome(ToolRunningContext context, Path outputDir, List<String> ids, Network network, SldParameters sldParameters) {
+    private static void printTiming(ToolRunningContext context, Path svgFile, long drawingTimeNanos) {
+        context.getOutputStream().println("Generated '" + svgFile + "' in " + TimeUnit.NANOSECONDS.toMillis(drawingTimeNanos) + " ms");
+    }
+
+    private void generate(ToolRunningContext context, Path outputDir, List<String> ids, Network network, int parallelism, int batchSize) {
+        long start = System.nanoTime();
+        int generated = parallelism > 1
+                ? generateConcurrently(context, outputDir, ids, network, parallelism, batchSize)
+                : generateSequentially(context, outputDir, ids, network);
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        context.getOutputStream().println(generated + "/" + ids.size() + " diagrams generated in " + elapsedMillis + " ms ("
+                + String.format(Locale.ROOT, "%.1f", generated * 1000.0 / elapsedMillis) + " diagrams/s)");
+    }
+
+    private int generateSequentially(ToolRunningContext context, Path outputDir, List<String> ids, Network network) {
+        SldParameters sldParameters = new SldParameters();
+        int generated = 0;
         for (String id : ids) {
-            generateSvg(context, outputDir, id, network, sldParameters);
+            if (generateSvg(context, outputDir, id, network, sldParameters)) {
+                generated++;
+            }
+        }
+        return generated;
+    }
+
+    /**
+     * Draw the diagrams on a pool of workers, each worker having its own parameters, hence its own component library and
+     * style provider factory. The drawn diagrams are handed to the caller thread through a bounded queue, which writes them
+     * to the output directory: the workers wait when the queue is full, so that at most <code>batchSize</code> diagrams
+     * wait in memory to be written.
+     */
+    private int generateConcurrently(ToolRunningContext context, Path outputDir, List<String> ids, Network network, int parallelism, int batchSize) {
+        // The network is only read, but the bus views are computed lazily on first access: they are computed once
+        // here, so that the workers do not compute them concurrently
+        for (VoltageLevel vl : network.getVoltageLevels()) {
+            vl.getBusBreakerView().getBuses().forEach(b -> { });
+            vl.getBusView().getBuses().forEach(b -> { });
         }
+
+        BlockingQueue<DrawnDiagram> drawnDiagrams = new ArrayBlockingQueue<>(batchSize);
+        ThreadLocal<SldParameters> workerParameters = ThreadLocal.withInitial(SldParameters::new);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        int generated = 0;
+        try {
+            for (String id : ids) {
+                executor.execute(() -> {
+                    DrawnDiagram diagram;
+                    try {
+                        diagram = drawSvg(id, network, workerParameters.get());
+                    } catch (Throwable t) {
+                        // the caller waits for one diagram per id: errors are handed to it too, instead of leaving it blocked
+                        diagram = new DrawnDiagram(id, null, null, 0, t);
+                    }
+                    try {
+                        drawnDiagrams.put(diagram);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            for (int i = 0; i < ids.size(); i++) {
+                if (writeSvg(context, outputDir, drawnDiagrams.take())) {
+                    generated++;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PowsyblException("Interrupted while generating diagrams", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        return generated;
     }
 
-    private void generateAll(ToolRunningContext context, boolean allVoltageLevels, boolean allSubstations,
-                             Path outputDir, Network network, SldParameters sldParameters) {
+    private static List<String> getAllIds(Network network, boolean allVoltageLevels, boolean allSubstations) {
+        List<String> ids = new ArrayList<>();
         // by default, export all voltage levels if no id given and no
         // additional option (all-voltage-levels or all-substations) given
         if (allVoltageLevels || !allSubstations) {
             // export all voltage levels
             for (VoltageLevel vl : network.getVoltageLevels()) {
-                generateSvg(context, outputDir, vl.getId(), network, sldParameters);
+                ids.add(vl.getId());
             }
         }
         if (allSubstations) {
             // export all substations
             for (Substation s : network.getSubstations()) {
-                generateSvg(context, outputDir, s.getId(), network, sldParameters);
+                ids.add(s.getId());
             }
         }
+        return ids;
+    }
+
+    private static int getStrictlyPositiveInt(ToolOptions toolOptions, String option, int defaultValue) {
+        int value = toolOptions.getValue(option).map(Integer::parseInt).orElse(defaultValue);
+        if (value < 1) {
+            throw new PowsyblException(option + " option must be strictly positive");
+        }
+        return value;
     }
 
     @Override
@@ -129,13 +277,13 @@ public class SingleLineDiagramTool implements Tool {
         if (network == null) {
             throw new PowsyblException("File '" + inputFile + "' is not importable");
         }
-        SldParameters sldParameters = new SldParameters();
+        int parallelism = getStrictlyPositiveInt(toolOptions, PARALLELISM, DEFAULT_PARALLELISM);
+        int batchSize = getStrictlyPositiveInt(toolOptions, BATCH_SIZE, DEFAULT_BATCH_SIZE);
         if (ids.isEmpty()) {
             boolean allVoltageLevels = toolOptions.hasOption(ALL_VOLTAGE_LEVELS);
             boolean allSubstations = toolOptions.hasOption(ALL_SUBSTATIONS);
-            generateAll(context, allVoltageLevels, allSubstations, outputDir, network, sldParameters);
-        } else {
-            generateSome(context, outputDir, ids, network, sldParameters);
+            ids = getAllIds(network, allVoltageLevels, allSubstations);
         }
+        generate(context, outputDir, ids, network, parallelism, batchSize);
     }
 }
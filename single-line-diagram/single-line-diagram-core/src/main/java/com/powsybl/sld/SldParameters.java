@@ -7,8 +7,10 @@
  */
 package com.powsybl.sld;
 
+import com.powsybl.diagram.util.instrumentation.DiagramInstrumentation;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.sld.layout.*;
+import com.powsybl.sld.layout.cache.VoltageLevelLayoutCache;
 import com.powsybl.sld.layout.pathfinding.DijkstraPathFinder;
 import com.powsybl.sld.layout.pathfinding.ZoneLayoutPathFinderFactory;
 import com.powsybl.sld.library.ConvergenceComponentLibrary;
@@ -29,6 +31,7 @@ public class SldParameters {
     private SldComponentLibrary componentLibrary = new ConvergenceComponentLibrary();
     private LabelProviderFactory labelProviderFactory = DefaultLabelProvider::new;
     private LegendWriterFactory legendWriterFactory = DefaultSVGLegendWriter::new;
+    private SVGWriterFactory svgWriterFactory = DefaultSVGWriter::new;
     private StyleProviderFactory styleProviderFactory = new DefaultStyleProviderFactory();
     private VoltageLevelLayoutFactoryCreator voltageLevelLayoutFactoryCreator = VoltageLevelLayoutFactoryCreator.newSmartVoltageLevelLayoutFactoryCreator();
     private SubstationLayoutFactory substationLayoutFactory = new HorizontalSubstationLayoutFactory();
@@ -36,6 +39,10 @@ public class SldParameters {
 
     private ZoneLayoutPathFinderFactory zoneLayoutPathFinderFactory = DijkstraPathFinder::new;
 
+    private VoltageLevelLayoutCache voltageLevelLayoutCache;
+
+    private DiagramInstrumentation instrumentation = DiagramInstrumentation.noOp();
+
     public SvgParameters getSvgParameters() {
         return svgParameters;
     }
@@ -94,6 +101,19 @@ public class SldParameters {
         return this;
     }
 
+    public SVGWriter createSvgWriter() {
+        return svgWriterFactory.create(componentLibrary, layoutParameters, svgParameters);
+    }
+
+    /**
+     * Set the factory of the writer of the diagrams, {@link DefaultSVGWriter} by default. Use {@code StreamingSVGWriter::new}
+     * to write large diagrams without building a DOM document.
+     */
+    public SldParameters setSvgWriterFactory(SVGWriterFactory svgWriterFactory) {
+        this.svgWriterFactory = Objects.requireNonNull(svgWriterFactory);
+        return this;
+    }
+
     public SldParameters setVoltageLevelLayoutFactoryCreator(VoltageLevelLayoutFactoryCreator voltageLevelLayoutFactoryCreator) {
         this.voltageLevelLayoutFactoryCreator = Objects.requireNonNull(voltageLevelLayoutFactoryCreator);
         return this;
@@ -125,4 +145,32 @@ public class SldParameters {
         this.zoneLayoutPathFinderFactory = zoneLayoutPathFinderFactory;
         return this;
     }
+
+    /**
+     * @return the cache of the voltage level layouts, or null if the voltage level layouts are not cached
+     */
+    public VoltageLevelLayoutCache getVoltageLevelLayoutCache() {
+        return voltageLevelLayoutCache;
+    }
+
+    /**
+     * Set the cache used when drawing a voltage level to reuse the layouts of the voltage levels whose topology did not
+     * change, null to disable the cache (default)
+     */
+    public SldParameters setVoltageLevelLayoutCache(VoltageLevelLayoutCache voltageLevelLayoutCache) {
+        this.voltageLevelLayoutCache = voltageLevelLayoutCache;
+        return this;
+    }
+
+    public DiagramInstrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
+    /**
+     * Set the listener of the diagram generation stages and counters, which ignores them by default
+     */
+    public SldParameters setInstrumentation(DiagramInstrumentation instrumentation) {
+        this.instrumentation = Objects.requireNonNull(instrumentation);
+        return this;
+    }
 }
@@ -8,6 +8,7 @@
 package com.powsybl.sld.layout;
 
 import com.powsybl.commons.PowsyblException;
+import com.powsybl.sld.layout.pathfinding.ConcurrentSnakeLineRouter;
 import com.powsybl.sld.layout.pathfinding.Grid;
 import com.powsybl.sld.layout.pathfinding.ZoneLayoutPathFinderFactory;
 import com.powsybl.sld.model.coordinate.Direction;
@@ -41,17 +42,24 @@ public abstract class AbstractPositionedZoneLayout extends AbstractZoneLayout {
     /** Path-finding grid built in manageSnakeLines, used in calculatePolylineSnakeLine. */
     private Grid pathFinderGrid;
 
+    private final ZoneLayoutPathFinderFactory pathFinderFactory;
+
     protected AbstractPositionedZoneLayout(ZoneGraph graph,
                                    ZoneLayoutPathFinderFactory pathFinderFactory,
                                    SubstationLayoutFactory sLayoutFactory,
                                    VoltageLevelLayoutFactory vLayoutFactory) {
         super(graph, sLayoutFactory, vLayoutFactory);
-        this.pathFinder = Objects.requireNonNull(pathFinderFactory).create();
+        this.pathFinderFactory = Objects.requireNonNull(pathFinderFactory);
+        this.pathFinder = pathFinderFactory.create();
     }
 
     @Override
     protected void calculateCoordSubstations(LayoutParameters layoutParameters) {
-        getGraph().getSubstations().forEach(sg -> layoutBySubstation.get(sg).run(layoutParameters));
+        // Substations are independent until the snake lines, their layouts may run concurrently
+        List<Runnable> substationLayouts = getGraph().getSubstations().stream()
+                .<Runnable>map(sg -> () -> layoutBySubstation.get(sg).run(layoutParameters))
+                .toList();
+        ConcurrentLayoutRunner.runAll(substationLayouts, layoutParameters.getLayoutExecutor());
         LayoutParameters.Padding diagramPadding = layoutParameters.getDiagramPadding();
         List<Pair<String, Point>> positions = computeSubstationPositions(layoutParameters);
         for (Pair<String, Point> entry : positions) {
@@ -77,12 +85,65 @@ public abstract class AbstractPositionedZoneLayout extends AbstractZoneLayout {
     @Override
     public void manageSnakeLines(LayoutParameters layoutParameters) {
         computePathFindingGrid(layoutParameters);
-        manageSnakeLines(getGraph(), layoutParameters);
+        if (layoutParameters.getZoneLayoutRoutingParallelism() > 1 && getGraph().getMultiTermNodes().isEmpty()) {
+            manageLineSnakeLinesConcurrently(layoutParameters);
+        } else {
+            manageSnakeLines(getGraph(), layoutParameters);
+        }
+    }
+
+    /**
+     * Routes all the lines with a {@link ConcurrentSnakeLineRouter}: the exit corridors of all lines are opened first,
+     * then the paths are searched concurrently, the conflicting ones being routed again.
+     */
+    private void manageLineSnakeLinesConcurrently(LayoutParameters layoutParameters) {
+        List<BranchEdge> routedEdges = new ArrayList<>();
+        List<ConcurrentSnakeLineRouter.Route> routes = new ArrayList<>();
+        for (BranchEdge lineEdge : getGraph().getLineEdges()) {
+            List<Node> adjacentNodes = lineEdge.getNodes();
+            Pair<Point, Point> ends = openExitCorridors(layoutParameters, new Pair<>(adjacentNodes.get(0), adjacentNodes.get(1)));
+            if (ends == null) {
+                lineEdge.setSnakeLine(new ArrayList<>());
+            } else {
+                routedEdges.add(lineEdge);
+                routes.add(new ConcurrentSnakeLineRouter.Route(ends.getFirst(), ends.getSecond()));
+            }
+        }
+
+        List<List<Point>> paths = new ConcurrentSnakeLineRouter(pathFinderFactory, layoutParameters.getZoneLayoutRoutingParallelism(),
+                layoutParameters.getLayoutExecutor())
+                .route(pathFinderGrid, routes);
+        for (int i = 0; i < routedEdges.size(); i++) {
+            List<Point> polyline = new ArrayList<>();
+            polyline.add(routes.get(i).start());
+            polyline.addAll(paths.get(i));
+            polyline.add(routes.get(i).goal());
+            routedEdges.get(i).setSnakeLine(polyline);
+        }
     }
 
     @Override
     protected List<Point> calculatePolylineSnakeLine(LayoutParameters layoutParameters, Pair<Node, Node> nodes,
                                                      boolean increment) {
+        Pair<Point, Point> ends = openExitCorridors(layoutParameters, nodes);
+        if (ends == null) {
+            return new ArrayList<>();
+        }
+        Point p1 = ends.getFirst();
+        Point p2 = ends.getSecond();
+
+        List<Point> polyline = new ArrayList<>();
+        polyline.add(p1);
+        polyline.addAll(pathFinder.findShortestPath(pathFinderGrid, p1, p2));
+        polyline.add(p2);
+        return polyline;
+    }
+
+    /**
+     * Opens the exit corridors of the two nodes and returns their shifted points, or null if one of the nodes is not
+     * in a substation of the zone.
+     */
+    private Pair<Point, Point> openExitCorridors(LayoutParameters layoutParameters, Pair<Node, Node> nodes) {
         Node node1 = nodes.getFirst();
         Node node2 = nodes.getSecond();
         VoltageLevelGraph vlGraph1 = getGraph().getVoltageLevelGraph(node1);
@@ -93,7 +154,7 @@ public abstract class AbstractPositionedZoneLayout extends AbstractZoneLayout {
         if (ss1Graph == null || ss2Graph == null
                 || !containsSubstation(ss1Graph.getId())
                 || !containsSubstation(ss2Graph.getId())) {
-            return new ArrayList<>();
+            return null;
         }
 
         Point p1 = vlGraph1.getShiftedPoint(node1);
@@ -101,15 +162,10 @@ public abstract class AbstractPositionedZoneLayout extends AbstractZoneLayout {
         Direction dNode1 = getNodeDirection(node1, 1);
         Direction dNode2 = getNodeDirection(node2, 2);
 
-        // Open exit corridors from each node into the margin hallway, then find path
+        // Open exit corridors from each node into the margin hallway
         insertFreePathInSubstation(ss1Graph, p1, dNode1, layoutParameters);
         insertFreePathInSubstation(ss2Graph, p2, dNode2, layoutParameters);
-
-        List<Point> polyline = new ArrayList<>();
-        polyline.add(p1);
-        polyline.addAll(pathFinder.findShortestPath(pathFinderGrid, p1, p2));
-        polyline.add(p2);
-        return polyline;
+        return new Pair<>(p1, p2);
     }
 
     // -------------------------------------------------------------------------
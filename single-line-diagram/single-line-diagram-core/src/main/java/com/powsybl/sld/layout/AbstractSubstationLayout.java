@@ -8,6 +8,7 @@ package com.powsybl.sld.layout;
 
 import com.powsybl.sld.model.graphs.SubstationGraph;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -34,4 +35,15 @@ public abstract class AbstractSubstationLayout extends AbstractBaseLayout<Substa
 
     protected abstract void calculateCoordVoltageLevels(LayoutParameters layoutParameters);
 
+    /**
+     * Calculate the objects coordinates inside each voltageLevel graph of the substation, concurrently if a layout
+     * executor is given in the layout parameters
+     */
+    protected void runVoltageLevelLayouts(LayoutParameters layoutParameters) {
+        List<Runnable> vlLayouts = getGraph().getVoltageLevels().stream()
+                .<Runnable>map(vlGraph -> () -> vLayoutFactory.create(vlGraph).run(layoutParameters))
+                .toList();
+        ConcurrentLayoutRunner.runAll(vlLayouts, layoutParameters.getLayoutExecutor());
+    }
+
 }
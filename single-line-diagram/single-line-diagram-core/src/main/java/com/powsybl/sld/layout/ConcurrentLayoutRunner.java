@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld.layout;
+
+import com.powsybl.commons.PowsyblException;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs independent layout tasks on the layout executor given in the {@link LayoutParameters}, and waits for their
+ * completion.
+ * <p>
+ * The calling thread takes part in the run: the tasks are taken one after the other by the calling thread and by the
+ * helpers submitted to the executor, and the calling thread only waits for the tasks already taken by a running
+ * helper. Hence nested runs, as the voltage level layouts run by the substation layouts of a zone, cannot deadlock
+ * even if all the executor threads are busy, the tasks being then run by the calling thread.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class ConcurrentLayoutRunner {
+
+    private ConcurrentLayoutRunner() {
+    }
+
+    /**
+     * Run the given tasks, sequentially in the list order if there is no executor, concurrently otherwise. If some
+     * tasks failed, the exception of the first one in the list order is thrown once all the tasks are completed.
+     */
+    static void runAll(List<? extends Runnable> tasks, Executor executor) {
+        Objects.requireNonNull(tasks);
+        if (executor == null || tasks.size() < 2) {
+            tasks.forEach(Runnable::run);
+            return;
+        }
+
+        AtomicInteger nextTask = new AtomicInteger();
+        CountDownLatch completedTasks = new CountDownLatch(tasks.size());
+        Throwable[] failures = new Throwable[tasks.size()];
+        Runnable worker = () -> {
+            for (int i = nextTask.getAndIncrement(); i < tasks.size(); i = nextTask.getAndIncrement()) {
+                try {
+                    tasks.get(i).run();
+                } catch (Throwable t) {
+                    failures[i] = t;
+                } finally {
+                    completedTasks.countDown();
+                }
+            }
+        };
+        try {
+            for (int i = 1; i < tasks.size(); i++) {
+                executor.execute(worker);
+            }
+        } catch (RejectedExecutionException e) {
+            // The remaining tasks are run by the calling thread
+        }
+        worker.run();
+
+        try {
+            completedTasks.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PowsyblException("Interrupted while waiting for layouts completion", e);
+        }
+        for (Throwable failure : failures) {
+            if (failure instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (failure instanceof Error error) {
+                throw error;
+            } else if (failure != null) {
+                throw new PowsyblException("Layout failed", failure);
+            }
+        }
+    }
+}
@@ -52,14 +52,29 @@ public class HorizontalSubstationLayout extends AbstractSubstationLayout {
         double x = diagramPadding.left();
         double substationHeight = 0;
 
-        for (VoltageLevelGraph vlGraph : getGraph().getVoltageLevels()) {
+        // Each voltage level is positioned with the voltage levels after it as they are before their layout, as when
+        // the voltage levels are laid out and positioned one after the other
+        List<VoltageLevelGraph> vlGraphs = getGraph().getVoltageLevels();
+        double[] nextMaxTopExternCellHeights = new double[vlGraphs.size() + 1];
+        int[] nextMaxVs = new int[vlGraphs.size() + 1];
+        for (int i = vlGraphs.size() - 1; i >= 0; i--) {
+            nextMaxTopExternCellHeights[i] = Math.max(nextMaxTopExternCellHeights[i + 1], vlGraphs.get(i).getExternCellHeight(Direction.TOP));
+            nextMaxVs[i] = i == vlGraphs.size() - 1 ? vlGraphs.get(i).getMaxV() : Math.max(nextMaxVs[i + 1], vlGraphs.get(i).getMaxV());
+        }
+
+        runVoltageLevelLayouts(layoutParameters);
 
-            // Calculate the objects coordinates inside the voltageLevel graph
-            Layout vLayout = vLayoutFactory.create(vlGraph);
-            vLayout.run(layoutParameters);
+        double maxTopExternCellHeight = 0;
+        int maxV = 0;
+        for (int i = 0; i < vlGraphs.size(); i++) {
+            VoltageLevelGraph vlGraph = vlGraphs.get(i);
+            maxTopExternCellHeight = Math.max(maxTopExternCellHeight, vlGraph.getExternCellHeight(Direction.TOP));
+            maxV = i == 0 ? vlGraph.getMaxV() : Math.max(maxV, vlGraph.getMaxV());
+            double maxTopExternCellHeightAll = Math.max(maxTopExternCellHeight, nextMaxTopExternCellHeights[i + 1]);
+            int maxVAll = i == vlGraphs.size() - 1 ? maxV : Math.max(maxV, nextMaxVs[i + 1]);
 
             x += voltageLevelPadding.left();
-            vlGraph.setCoord(x, computeCoordY(layoutParameters, topPadding, vlGraph));
+            vlGraph.setCoord(x, computeCoordY(layoutParameters, topPadding, vlGraph, maxTopExternCellHeightAll, maxVAll));
 
             x += vlGraph.getWidth() + voltageLevelPadding.right();
 
@@ -106,13 +121,18 @@ public class HorizontalSubstationLayout extends AbstractSubstationLayout {
     }
 
     double computeCoordY(LayoutParameters layoutParameters, double topPadding, VoltageLevelGraph vlGraph) {
-        double y;
         // Find maximum voltage level top height
         double maxTopExternCellHeight = getGraph().getVoltageLevelStream().mapToDouble(g -> g.getExternCellHeight(Direction.TOP)).max().orElse(0.0);
-        // Get the gap between current voltage level and maximum height one
-        double delta = maxTopExternCellHeight - vlGraph.getExternCellHeight(Direction.TOP);
         // Find maximum voltage level maxV
         double maxV = getGraph().getVoltageLevelStream().mapToDouble(VoltageLevelGraph::getMaxV).max().orElse(0.0);
+        return computeCoordY(layoutParameters, topPadding, vlGraph, maxTopExternCellHeight, maxV);
+    }
+
+    private static double computeCoordY(LayoutParameters layoutParameters, double topPadding, VoltageLevelGraph vlGraph,
+                                        double maxTopExternCellHeight, double maxV) {
+        double y;
+        // Get the gap between current voltage level and maximum height one
+        double delta = maxTopExternCellHeight - vlGraph.getExternCellHeight(Direction.TOP);
         // Get all busbar section height
         double bbsHeight = layoutParameters.getVerticalSpaceBus() * (maxV - vlGraph.getMaxV());
 
@@ -101,7 +101,7 @@ public class ImplicitCellDetector implements CellDetector {
      * @param allocatedNodes The list of nodes already allocated to a cell.
      * @return the list of nodes for each detected cell
      */
-    private List<Set<Node>> detectCell(VoltageLevelGraph graph,
+    protected List<Set<Node>> detectCell(VoltageLevelGraph graph,
                                        List<Node.NodeType> typeStops,
                                        List<Node.NodeType> exclusionTypes,
                                        List<Node> allocatedNodes) {
@@ -126,7 +126,7 @@ public class ImplicitCellDetector implements CellDetector {
     /**
      * Check if the given nodes could constitute a pure extern and return true in that case, else false (suspected shunt)
      */
-    private boolean isPureExternCell(VoltageLevelGraph graph, Set<Node> cellNodes) {
+    protected boolean isPureExternCell(VoltageLevelGraph graph, Set<Node> cellNodes) {
         /*Explore the graph of the candidate cell. Remove successively one node, assess if it splits the graph into n>1 branches
         if so, then check if each component is exclusively reaching FEEDER or exclusively reaching BUS
         And verify you have at least one of them
@@ -178,9 +178,11 @@ public class ImplicitCellDetector implements CellDetector {
      **/
     private void detectAndTypeShunt(VoltageLevelGraph graph, Set<Node> nodes, List<ShuntCell> shuntCells) {
 
-        List<Node> externalNodes = graph.getNodes().stream()
+        // the explorations from the nodes only reach the external nodes adjacent to the given nodes
+        Set<Node> externalNodes = nodes.stream()
+                .flatMap(node -> node.getAdjacentNodes().stream())
                 .filter(node -> !nodes.contains(node))
-                .collect(Collectors.toList());
+                .collect(Collectors.toCollection(HashSet::new));
 
         // optimisation : a Shunt node has necessarily 3 ore more adjacent nodes and must be InternalNode
         Optional<List<Node>> cellNodesExtern = nodes.stream().filter(n -> n.getAdjacentNodes().size() > 2 && n instanceof ConnectivityNode)
@@ -211,7 +213,7 @@ public class ImplicitCellDetector implements CellDetector {
         }
     }
 
-    private static boolean isShunt(Node node) {
+    static boolean isShunt(Node node) {
         return node instanceof ConnectivityNode && ((ConnectivityNode) node).isShunt();
     }
 
@@ -222,11 +224,11 @@ public class ImplicitCellDetector implements CellDetector {
      * @param shuntNode the detected shunt node
      * @param cellNodesExtern the extern cell nodes detected while detecting the shunt node
      * @param remainingNodes the nodes which remain after creating the shunt cells and pure extern cells
-     * @param externalNodes the nodes in the graph which are not in the <code>nodes</code>
+     * @param externalNodes the nodes in the graph which are not in the <code>nodes</code> and are adjacent to them
      * @param shuntCellsCreated the shunt cells created
      */
     private void splitNodes(VoltageLevelGraph graph, Set<Node> nodes, ConnectivityNode shuntNode, List<Node> cellNodesExtern,
-                            Set<Node> remainingNodes, List<Node> externalNodes, List<ShuntCell> shuntCellsCreated) {
+                            Set<Node> remainingNodes, Set<Node> externalNodes, List<ShuntCell> shuntCellsCreated) {
 
         // create the new pure external cell
         List<ShuntCell> linkedShuntCells = shuntCellsCreated.stream()
@@ -269,10 +271,10 @@ public class ImplicitCellDetector implements CellDetector {
     /**
      *
      * @param candidateShuntNode an InternalNode that could be a shunt
-     * @param externalNodes the nodes of the graph that are outside of the cell
+     * @param externalNodes the nodes of the graph that are outside of the cell and adjacent to it
      * @return a list of Node. Important: the first node is the candidateShuntNode and is an InternalNode
      */
-    private List<Node> checkCandidateShuntNode(ConnectivityNode candidateShuntNode, List<Node> externalNodes) {
+    protected List<Node> checkCandidateShuntNode(ConnectivityNode candidateShuntNode, Set<Node> externalNodes) {
         Predicate<Node> filter = node -> node.getType() == BUS || node.getType() == FEEDER || isShunt(node);
         /*
         the node n is candidate to be a SHUNT node if there is
@@ -320,7 +322,7 @@ public class ImplicitCellDetector implements CellDetector {
         return selectShuntNode(candidateShuntNode, cellNodesExtern, hasBusBranch, hasFeederBranch, hasMixBranch);
     }
 
-    private static List<Node> selectShuntNode(ConnectivityNode candidateShuntNode, List<Node> cellNodesExtern,
+    static List<Node> selectShuntNode(ConnectivityNode candidateShuntNode, List<Node> cellNodesExtern,
                                               boolean hasBusBranch, boolean hasFeederBranch, boolean hasMixBranc) {
         if (hasBusBranch && hasFeederBranch && hasMixBranc) {
             candidateShuntNode.setShunt(true);
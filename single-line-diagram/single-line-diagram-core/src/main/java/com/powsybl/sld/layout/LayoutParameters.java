@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * @author Benoit Jeanson {@literal <benoit.jeanson at rte-france.com>}
@@ -51,6 +52,14 @@ public class LayoutParameters {
     @JsonIgnore
     private Map<String, ComponentSize> componentsSize;
 
+    // Number of threads routing the snake lines of positioned zone layouts on the layout executor, 1 meaning sequential routing
+    @JsonIgnore
+    private int zoneLayoutRoutingParallelism = 1;
+
+    // Executor running the substation and voltage level layouts of substation and zone diagrams, null meaning sequential layouts
+    @JsonIgnore
+    private Executor layoutExecutor;
+
     public LayoutParameters() {
     }
 
@@ -121,6 +130,8 @@ public class LayoutParameters {
         componentsSize = other.componentsSize;
         zoneLayoutSnakeLinePadding = other.zoneLayoutSnakeLinePadding;
         displayTeePointsInVoltageLevels = other.displayTeePointsInVoltageLevels;
+        zoneLayoutRoutingParallelism = other.zoneLayoutRoutingParallelism;
+        layoutExecutor = other.layoutExecutor;
     }
 
     public double getVerticalSpaceBus() {
@@ -307,6 +318,27 @@ public class LayoutParameters {
         return this;
     }
 
+    public int getZoneLayoutRoutingParallelism() {
+        return zoneLayoutRoutingParallelism;
+    }
+
+    public LayoutParameters setZoneLayoutRoutingParallelism(int zoneLayoutRoutingParallelism) {
+        if (zoneLayoutRoutingParallelism < 1) {
+            throw new IllegalArgumentException("Invalid zone layout routing parallelism " + zoneLayoutRoutingParallelism);
+        }
+        this.zoneLayoutRoutingParallelism = zoneLayoutRoutingParallelism;
+        return this;
+    }
+
+    public Executor getLayoutExecutor() {
+        return layoutExecutor;
+    }
+
+    public LayoutParameters setLayoutExecutor(Executor layoutExecutor) {
+        this.layoutExecutor = layoutExecutor;
+        return this;
+    }
+
     public boolean isDisplayTeePointsInVoltageLevels() {
         return this.displayTeePointsInVoltageLevels;
     }
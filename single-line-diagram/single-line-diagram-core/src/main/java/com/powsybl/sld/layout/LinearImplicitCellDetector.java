@@ -0,0 +1,427 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld.layout;
+
+import com.powsybl.sld.model.graphs.VoltageLevelGraph;
+import com.powsybl.sld.model.nodes.ConnectivityNode;
+import com.powsybl.sld.model.nodes.Edge;
+import com.powsybl.sld.model.nodes.Node;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static com.powsybl.sld.model.nodes.Node.NodeType.BUS;
+import static com.powsybl.sld.model.nodes.Node.NodeType.FEEDER;
+
+/**
+ * Cell detector giving the same cells as {@link ImplicitCellDetector}, in linear time with respect to the size of the cells.
+ * <ul>
+ *     <li>The explorations are done iteratively with the nodes identified by an index, the visited and the allocated nodes
+ *     being kept in bitmaps instead of being copied in node sets for each exploration.</li>
+ *     <li>The check of pure extern cells does a single depth-first search computing the articulation points of the cell,
+ *     as done by Tarjan's algorithm, instead of computing the connected components of the cell without each of its nodes.</li>
+ * </ul>
+ * No recursion is done on the nodes, hence large voltage levels cannot lead to a stack overflow.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class LinearImplicitCellDetector extends ImplicitCellDetector {
+
+    /**
+     * Index of the nodes, assigned when first met: the nodes inserted while creating the shunt cells get an index too
+     */
+    private final Map<Node, Integer> nodeIndices = new HashMap<>();
+
+    private Node[] stackNodes = new Node[0];
+    private int[] stackPositions = new int[0];
+
+    @Override
+    public void detectCells(VoltageLevelGraph graph) {
+        nodeIndices.clear();
+        graph.getNodes().forEach(this::getIndex);
+        super.detectCells(graph);
+    }
+
+    private int getIndex(Node node) {
+        return nodeIndices.computeIfAbsent(node, n -> nodeIndices.size());
+    }
+
+    @Override
+    protected List<Set<Node>> detectCell(VoltageLevelGraph graph,
+                                         List<Node.NodeType> typeStops,
+                                         List<Node.NodeType> exclusionTypes,
+                                         List<Node> allocatedNodes) {
+        Set<Node.NodeType> stopTypes = typeStops.isEmpty() ? EnumSet.noneOf(Node.NodeType.class) : EnumSet.copyOf(typeStops);
+        Set<Node.NodeType> excludedTypes = exclusionTypes.isEmpty() ? EnumSet.noneOf(Node.NodeType.class) : EnumSet.copyOf(exclusionTypes);
+        Predicate<Node> extremityCriteria = node -> stopTypes.contains(node.getType());
+        Predicate<Node> unsuccessfulCriteria = node -> excludedTypes.contains(node.getType());
+
+        BitSet outsideNodes = new BitSet(nodeIndices.size());
+        allocatedNodes.forEach(node -> outsideNodes.set(getIndex(node)));
+        BitSet visitedNodes = new BitSet(nodeIndices.size());
+        List<Node> cellNodes = new ArrayList<>();
+
+        List<Set<Node>> cellsNodes = new ArrayList<>();
+        graph.getNodeBuses().forEach(bus -> bus.getAdjacentNodes().forEach(adj -> {
+            int busIndex = getIndex(bus);
+            boolean busAllocated = outsideNodes.get(busIndex);
+            cellNodes.add(bus);
+            visitedNodes.set(busIndex);
+            outsideNodes.set(busIndex);
+            boolean cellFound = traverse(adj, extremityCriteria, unsuccessfulCriteria, cellNodes, visitedNodes, outsideNodes);
+            outsideNodes.set(busIndex, busAllocated);
+            cellNodes.forEach(node -> visitedNodes.clear(getIndex(node)));
+            if (cellFound) {
+                cellsNodes.add(new LinkedHashSet<>(cellNodes));
+                cellNodes.stream()
+                        .filter(node -> node.getType() != BUS)
+                        .forEach(node -> {
+                            allocatedNodes.add(node);
+                            outsideNodes.set(getIndex(node));
+                        });
+            }
+            cellNodes.clear();
+        }));
+        return cellsNodes;
+    }
+
+    /**
+     * Iterative version of {@link com.powsybl.sld.util.GraphTraversal#run(Node, Predicate, Predicate, Set, Set)}, which visits
+     * the nodes in the same order.
+     * @param node                 the entry point for the exploration
+     * @param extremityCriteria    criteria applied to node returning if we reach an extremity node (the node is included in the result)
+     * @param unsuccessfulCriteria criteria applied to node returning if the traversal is to be invalidated
+     * @param nodesResult          the resulting nodes, in the order they are visited
+     * @param resultIndices        the indices of the resulting nodes, updated with the visited nodes
+     * @param outsideNodes         the indices of the nodes which cannot be visited
+     * @return true if no unsuccessfulCriteria reached or node outside
+     */
+    private boolean traverse(Node node, Predicate<Node> extremityCriteria, Predicate<Node> unsuccessfulCriteria,
+                             List<Node> nodesResult, BitSet resultIndices, BitSet outsideNodes) {
+        if (outsideNodes.get(getIndex(node))) {
+            return false;
+        }
+        addResultNode(node, nodesResult, resultIndices);
+        int depth = push(node, 0);
+        while (depth > 0) {
+            Node current = stackNodes[depth - 1];
+            List<Edge> adjacentEdges = current.getAdjacentEdges();
+            int position = stackPositions[depth - 1];
+            if (position == adjacentEdges.size()) {
+                depth--;
+                continue;
+            }
+            stackPositions[depth - 1]++;
+            Node adjacentNode = adjacentEdges.get(position).getOppositeNode(current);
+            int adjacentIndex = getIndex(adjacentNode);
+            // A node visited since the visit of its neighbour started has been fully explored: visiting it again has no effect
+            if (outsideNodes.get(adjacentIndex) || resultIndices.get(adjacentIndex)) {
+                continue;
+            }
+            if (unsuccessfulCriteria.test(adjacentNode)) {
+                return false;
+            }
+            addResultNode(adjacentNode, nodesResult, resultIndices);
+            if (!extremityCriteria.test(adjacentNode)) {
+                depth = push(adjacentNode, depth);
+            }
+        }
+        return true;
+    }
+
+    private void addResultNode(Node node, List<Node> nodesResult, BitSet resultIndices) {
+        nodesResult.add(node);
+        resultIndices.set(getIndex(node));
+    }
+
+    private int push(Node node, int depth) {
+        if (depth == stackNodes.length) {
+            int newLength = Math.max(16, 2 * depth);
+            stackNodes = Arrays.copyOf(stackNodes, newLength);
+            stackPositions = Arrays.copyOf(stackPositions, newLength);
+        }
+        stackNodes[depth] = node;
+        stackPositions[depth] = 0;
+        return depth + 1;
+    }
+
+    /**
+     * Check if the given nodes could constitute a pure extern and return true in that case, else false (suspected shunt).
+     * The given nodes constitute a pure extern cell if there is a node whose removal splits the nodes into several components,
+     * each of them reaching either only feeders or only buses, with at least one component of each kind. Only the
+     * articulation points split the nodes into several components: they are found with a depth-first search, which gives
+     * the components obtained when removing each node.
+     */
+    @Override
+    protected boolean isPureExternCell(VoltageLevelGraph graph, Set<Node> cellNodes) {
+        CellArticulationPoints articulationPoints = new CellArticulationPoints(cellNodes);
+        for (int i = 0; i < articulationPoints.size(); i++) {
+            if (articulationPoints.isExternSplit(i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Same check as {@link ImplicitCellDetector#checkCandidateShuntNode}, with iterative explorations
+     */
+    @Override
+    protected List<Node> checkCandidateShuntNode(ConnectivityNode candidateShuntNode, Set<Node> externalNodes) {
+        Predicate<Node> filter = node -> node.getType() == BUS || node.getType() == FEEDER || isShunt(node);
+
+        BitSet visitedNodes = new BitSet(nodeIndices.size());
+        externalNodes.forEach(node -> visitedNodes.set(getIndex(node)));
+        visitedNodes.set(getIndex(candidateShuntNode)); //removal of the node to explore branches from it
+
+        List<Node> cellNodesExtern = new ArrayList<>();
+        cellNodesExtern.add(candidateShuntNode); // reminder : the first node of cellNodesExtern is the candidateShuntNode
+
+        boolean hasFeederBranch = false;
+        boolean hasBusBranch = false;
+        boolean hasMixBranch = false;
+
+        List<Node> adjList = candidateShuntNode.getAdjacentNodes().stream()
+                .filter(adj -> !visitedNodes.get(getIndex(adj)))
+                .toList();
+        List<Node> resultNodes = new ArrayList<>();
+        BitSet resultIndices = new BitSet(nodeIndices.size());
+        for (Node adj : adjList) {
+            traverse(adj, filter, node -> false, resultNodes, resultIndices, visitedNodes);
+
+            boolean hasShunt = resultNodes.stream().anyMatch(ImplicitCellDetector::isShunt);
+            boolean hasBus = resultNodes.stream().anyMatch(node -> node.getType() == BUS);
+            boolean hasFeeder = resultNodes.stream().anyMatch(node -> node.getType() == FEEDER);
+            int nbTypes = (hasShunt ? 1 : 0) + (hasBus ? 1 : 0) + (hasFeeder ? 1 : 0);
+
+            if (nbTypes > 1) {
+                hasMixBranch = true;
+            } else if (nbTypes == 1) {
+                hasBusBranch |= hasBus;
+                hasFeederBranch |= hasFeeder;
+
+                if (hasBus || hasFeeder) {
+                    cellNodesExtern.addAll(resultNodes);
+                }
+            }
+            for (Node node : resultNodes) {
+                resultIndices.clear(getIndex(node));
+                if (node.getType() != BUS) {
+                    visitedNodes.set(getIndex(node));
+                }
+            }
+            resultNodes.clear();
+        }
+        return selectShuntNode(candidateShuntNode, cellNodesExtern, hasBusBranch, hasFeederBranch, hasMixBranch);
+    }
+
+    /**
+     * Components obtained when removing each node of a cell, computed with a single iterative depth-first search.
+     * For each node, the components are the subtrees of its children which are not linked to its ancestors (the children
+     * whose low-link is not smaller than the discovery time of the node), the remaining part of its depth-first tree, and
+     * the other depth-first trees if the nodes of the cell are not connected. For each component, only the presence of
+     * buses and feeders is needed, hence only the number of buses and feeders of the subtrees are kept.
+     */
+    private static final class CellArticulationPoints {
+
+        private final int[][] adjacency;
+        private final boolean[] feeder;
+        private final boolean[] bus;
+
+        private final int[] discovery;
+        private final int[] low;
+        private final int[] parent;
+        private final int[] tree;
+        private final int[] subtreeSize;
+        private final int[] subtreeFeeders;
+        private final int[] subtreeBuses;
+
+        private final List<ComponentsKinds> treesKinds = new ArrayList<>();
+        private final List<int[]> treesCounts = new ArrayList<>();
+        private final ComponentsKinds allTreesKinds = new ComponentsKinds();
+
+        private final ComponentsKinds[] separatedKinds;
+        private final int[][] separatedCounts;
+
+        private int time;
+
+        private CellArticulationPoints(Set<Node> cellNodes) {
+            Node[] nodes = cellNodes.toArray(new Node[0]);
+            int n = nodes.length;
+            Map<Node, Integer> localIndices = HashMap.newHashMap(n);
+            for (int i = 0; i < n; i++) {
+                localIndices.put(nodes[i], i);
+            }
+            adjacency = new int[n][];
+            feeder = new boolean[n];
+            bus = new boolean[n];
+            for (int i = 0; i < n; i++) {
+                Node node = nodes[i];
+                adjacency[i] = node.getAdjacentEdges().stream()
+                        .map(edge -> localIndices.get(edge.getOppositeNode(node)))
+                        .filter(Objects::nonNull)
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+                feeder[i] = node.getType() == FEEDER;
+                bus[i] = node.getType() == BUS;
+            }
+
+            discovery = new int[n];
+            low = new int[n];
+            parent = new int[n];
+            tree = new int[n];
+            subtreeSize = new int[n];
+            subtreeFeeders = new int[n];
+            subtreeBuses = new int[n];
+            for (int root = 0; root < n; root++) {
+                if (discovery[root] == 0) {
+                    search(root, treesCounts.size());
+                }
+            }
+
+            separatedKinds = new ComponentsKinds[n];
+            separatedCounts = new int[n][3];
+            for (int i = 0; i < n; i++) {
+                separatedKinds[i] = new ComponentsKinds();
+            }
+            for (int child = 0; child < n; child++) {
+                int p = parent[child];
+                if (p >= 0 && low[child] >= discovery[p]) {
+                    separatedKinds[p].add(subtreeFeeders[child], subtreeBuses[child]);
+                    separatedCounts[p][0] += subtreeSize[child];
+                    separatedCounts[p][1] += subtreeFeeders[child];
+                    separatedCounts[p][2] += subtreeBuses[child];
+                }
+            }
+        }
+
+        private int size() {
+            return adjacency.length;
+        }
+
+        /**
+         * Iterative depth-first search from the given root, computing the discovery times, the low-links and the subtrees counts
+         */
+        private void search(int root, int treeIndex) {
+            int n = adjacency.length;
+            int[] stack = new int[n];
+            int[] positions = new int[n];
+            int depth = 0;
+            stack[depth++] = root;
+            parent[root] = -1;
+            discovery[root] = ++time;
+            low[root] = discovery[root];
+            while (depth > 0) {
+                int v = stack[depth - 1];
+                if (positions[v] < adjacency[v].length) {
+                    int w = adjacency[v][positions[v]++];
+                    if (discovery[w] == 0) {
+                        parent[w] = v;
+                        discovery[w] = ++time;
+                        low[w] = discovery[w];
+                        stack[depth++] = w;
+                    } else {
+                        low[v] = Math.min(low[v], discovery[w]);
+                    }
+                } else {
+                    depth--;
+                    tree[v] = treeIndex;
+                    subtreeSize[v]++;
+                    subtreeFeeders[v] += feeder[v] ? 1 : 0;
+                    subtreeBuses[v] += bus[v] ? 1 : 0;
+                    int p = parent[v];
+                    if (p >= 0) {
+                        low[p] = Math.min(low[p], low[v]);
+                        subtreeSize[p] += subtreeSize[v];
+                        subtreeFeeders[p] += subtreeFeeders[v];
+                        subtreeBuses[p] += subtreeBuses[v];
+                    }
+                }
+            }
+            ComponentsKinds treeKinds = new ComponentsKinds();
+            treeKinds.add(subtreeFeeders[root], subtreeBuses[root]);
+            treesKinds.add(treeKinds);
+            treesCounts.add(new int[] {subtreeSize[root], subtreeFeeders[root], subtreeBuses[root]});
+            allTreesKinds.add(subtreeFeeders[root], subtreeBuses[root]);
+        }
+
+        /**
+         * @return true if removing the given node splits the cell into components reflecting an extern cell
+         */
+        private boolean isExternSplit(int v) {
+            int t = tree[v];
+            int[] treeCounts = treesCounts.get(t);
+            int[] separated = separatedCounts[v];
+
+            ComponentsKinds kinds = new ComponentsKinds();
+            kinds.add(separatedKinds[v]);
+            // the remaining part of the depth-first tree, linked to the ancestors of the node
+            if (treeCounts[0] - 1 - separated[0] > 0) {
+                kinds.add(treeCounts[1] - (feeder[v] ? 1 : 0) - separated[1], treeCounts[2] - (bus[v] ? 1 : 0) - separated[2]);
+            }
+            // the other depth-first trees
+            kinds.add(allTreesKinds);
+            kinds.remove(treesKinds.get(t));
+            return kinds.isExtern();
+        }
+    }
+
+    /**
+     * Kinds of a set of components: number of components, and number of components reaching only feeders, only buses,
+     * both or none of them
+     */
+    private static final class ComponentsKinds {
+        private int feederOnly;
+        private int busOnly;
+        private int mixed;
+        private int none;
+
+        private void add(int feeders, int buses) {
+            if (feeders > 0 && buses > 0) {
+                mixed++;
+            } else if (feeders > 0) {
+                feederOnly++;
+            } else if (buses > 0) {
+                busOnly++;
+            } else {
+                none++;
+            }
+        }
+
+        private void add(ComponentsKinds other) {
+            feederOnly += other.feederOnly;
+            busOnly += other.busOnly;
+            mixed += other.mixed;
+            none += other.none;
+        }
+
+        private void remove(ComponentsKinds other) {
+            feederOnly -= other.feederOnly;
+            busOnly -= other.busOnly;
+            mixed -= other.mixed;
+            none -= other.none;
+        }
+
+        /**
+         * Same check as {@link ImplicitCellDetector}: several components, each of them reaching only feeders or only buses,
+         * at least one of them reaching feeders and one of them reaching buses
+         */
+        private boolean isExtern() {
+            return feederOnly + busOnly + mixed + none > 1 && none == 0 && mixed == 0 && feederOnly > 0 && busOnly > 0;
+        }
+    }
+}
@@ -29,6 +29,11 @@ public class PositionByClusterVoltageLevelLayoutFactorySmartSelector implements
         return true;
     }
 
+    @Override
+    public boolean isFactoryNetworkIndependent() {
+        return true;
+    }
+
     @Override
     public VoltageLevelLayoutFactory createFactory(Network network) {
         return new PositionVoltageLevelLayoutFactory(new PositionByClustering());
@@ -7,6 +7,7 @@
 package com.powsybl.sld.layout;
 
 import com.google.auto.service.AutoService;
+import com.powsybl.iidm.network.BusbarSection;
 import com.powsybl.iidm.network.Connectable;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.TopologyKind;
@@ -14,6 +15,10 @@ import com.powsybl.iidm.network.VoltageLevel;
 import com.powsybl.iidm.network.extensions.BusbarSectionPosition;
 import com.powsybl.iidm.network.extensions.ConnectablePosition;
 
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
@@ -30,19 +35,46 @@ public class PositionFromExtensionVoltageLevelLayoutFactorySmartSelector impleme
     private static boolean hasAtLeastOneExtension(VoltageLevel vl) {
         // check for position extensions
         for (Connectable c : vl.getConnectables()) {
-            if (c.getExtension(ConnectablePosition.class) != null
-                    || c.getExtension(BusbarSectionPosition.class) != null) {
+            if (hasPositionExtension(c)) {
                 return true;
             }
         }
         return false;
     }
 
+    private static boolean hasPositionExtension(Connectable<?> c) {
+        return hasConnectablePosition(c)
+                || c instanceof BusbarSection busbarSection && busbarSection.getExtension(BusbarSectionPosition.class) != null;
+    }
+
+    private static boolean hasConnectablePosition(Connectable<?> c) {
+        return c.getExtension(ConnectablePosition.class) != null;
+    }
+
+    private static void addVoltageLevelIds(Connectable<?> c, Set<String> vlIds) {
+        c.getTerminals().forEach(t -> vlIds.add(t.getVoltageLevel().getId()));
+    }
+
     @Override
     public boolean isSelectable(VoltageLevel vl) {
         return vl.getTopologyKind() == TopologyKind.BUS_BREAKER || hasAtLeastOneExtension(vl);
     }
 
+    @Override
+    public Predicate<VoltageLevel> createSelectablePredicate(Network network) {
+        // One scan of the network connectables instead of one scan of the connectables of each voltage level
+        Set<String> vlIdsWithExtension = new HashSet<>();
+        network.getConnectableStream()
+                .filter(PositionFromExtensionVoltageLevelLayoutFactorySmartSelector::hasPositionExtension)
+                .forEach(c -> addVoltageLevelIds(c, vlIdsWithExtension));
+        return vl -> vl.getTopologyKind() == TopologyKind.BUS_BREAKER || vlIdsWithExtension.contains(vl.getId());
+    }
+
+    @Override
+    public boolean isFactoryNetworkIndependent() {
+        return true;
+    }
+
     @Override
     public VoltageLevelLayoutFactory createFactory(Network network) {
         return new PositionVoltageLevelLayoutFactory();
@@ -50,7 +50,9 @@ public class PositionVoltageLevelLayoutFactory implements VoltageLevelLayoutFact
                 positionVoltageLevelLayoutFactoryParameters.isSubstituteInternalMiddle2wtByEquipmentNodes());
 
         // For cell detection
-        ImplicitCellDetector cellDetector = new ImplicitCellDetector();
+        CellDetector cellDetector = positionVoltageLevelLayoutFactoryParameters.isLinearCellDetection()
+                ? new LinearImplicitCellDetector()
+                : new ImplicitCellDetector();
 
         // For building blocks from cells
         BlockOrganizer blockOrganizer = new BlockOrganizer(positionFinder, positionVoltageLevelLayoutFactoryParameters.isFeederStacked(),
@@ -25,6 +25,7 @@ public class PositionVoltageLevelLayoutFactoryParameters {
     private boolean handleShunts = false;
     private Map<String, Side> busInfoMap = new HashMap<>();
     private boolean substituteInternalMiddle2wtByEquipmentNodes = true;
+    private boolean linearCellDetection = false;
 
     public boolean isFeederStacked() {
         return feederStacked;
@@ -88,4 +89,17 @@ public class PositionVoltageLevelLayoutFactoryParameters {
         this.substituteInternalMiddle2wtByEquipmentNodes = substituteInternalMiddle2wtByEquipmentNodes;
         return this;
     }
+
+    public boolean isLinearCellDetection() {
+        return linearCellDetection;
+    }
+
+    /**
+     * Use {@link LinearImplicitCellDetector} instead of {@link ImplicitCellDetector} to detect the cells, which gives
+     * the same cells in linear time
+     */
+    public PositionVoltageLevelLayoutFactoryParameters setLinearCellDetection(boolean linearCellDetection) {
+        this.linearCellDetection = linearCellDetection;
+        return this;
+    }
 }
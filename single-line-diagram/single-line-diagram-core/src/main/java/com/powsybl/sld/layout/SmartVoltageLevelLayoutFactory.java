@@ -10,7 +10,9 @@ import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.sld.model.graphs.VoltageLevelGraph;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -18,16 +20,47 @@ import java.util.Objects;
 public class SmartVoltageLevelLayoutFactory implements VoltageLevelLayoutFactory {
 
     private final Network network;
+    private final VoltageLevelLayoutFactorySmartSelectorRegistry registry;
+    private final Map<String, VoltageLevelLayoutFactorySmartSelector> selection;
+    // Layout factories by selector, created once for the network of this factory
+    private final Map<VoltageLevelLayoutFactorySmartSelector, VoltageLevelLayoutFactory> factories = new ConcurrentHashMap<>();
 
     public SmartVoltageLevelLayoutFactory(Network network) {
+        this(network, VoltageLevelLayoutFactorySmartSelectorRegistry.getDefault());
+    }
+
+    public SmartVoltageLevelLayoutFactory(Network network, VoltageLevelLayoutFactorySmartSelectorRegistry registry) {
+        this(network, registry, Map.of());
+    }
+
+    /**
+     * @param selection the selector to use by voltage level id, as precomputed by the registry; the best selector of the
+     *                  voltage levels absent from it is searched when creating their layout
+     */
+    public SmartVoltageLevelLayoutFactory(Network network, VoltageLevelLayoutFactorySmartSelectorRegistry registry,
+                                          Map<String, VoltageLevelLayoutFactorySmartSelector> selection) {
         this.network = Objects.requireNonNull(network);
+        this.registry = Objects.requireNonNull(registry);
+        this.selection = Objects.requireNonNull(selection);
+    }
+
+    /**
+     * Create a factory with the selection of the layout factories precomputed for all the voltage levels of the
+     * network, to be used when drawing many voltage levels of a network which is not modified meanwhile
+     */
+    public static SmartVoltageLevelLayoutFactory createWithPrecomputedSelection(Network network) {
+        VoltageLevelLayoutFactorySmartSelectorRegistry registry = VoltageLevelLayoutFactorySmartSelectorRegistry.getDefault();
+        return new SmartVoltageLevelLayoutFactory(network, registry, registry.precomputeSelection(network));
     }
 
     @Override
     public Layout create(VoltageLevelGraph graph) {
-        return VoltageLevelLayoutFactorySmartSelector.findBest(network.getVoltageLevel(graph.getVoltageLevelInfos().id()))
-                .orElseThrow(() -> new PowsyblException("Voltage level layout factory not found"))
-                .createFactory(network)
-                .create(graph);
+        String voltageLevelId = graph.getVoltageLevelInfos().id();
+        VoltageLevelLayoutFactorySmartSelector selector = selection.get(voltageLevelId);
+        if (selector == null) {
+            selector = registry.findBest(network.getVoltageLevel(voltageLevelId))
+                    .orElseThrow(() -> new PowsyblException("Voltage level layout factory not found"));
+        }
+        return factories.computeIfAbsent(selector, s -> registry.getFactory(s, network)).create(graph);
     }
 }
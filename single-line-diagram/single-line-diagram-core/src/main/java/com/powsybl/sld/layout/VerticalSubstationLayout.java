@@ -55,11 +55,9 @@ public class VerticalSubstationLayout extends AbstractSubstationLayout {
         double substationWidth = 0;
         double y = diagramPadding.top();
 
-        for (VoltageLevelGraph vlGraph : getGraph().getVoltageLevels()) {
-            // Calculate the objects coordinates inside the voltageLevel graph
-            Layout vLayout = vLayoutFactory.create(vlGraph);
-            vLayout.run(layoutParameters);
+        runVoltageLevelLayouts(layoutParameters);
 
+        for (VoltageLevelGraph vlGraph : getGraph().getVoltageLevels()) {
             vlGraph.setCoord(xVoltageLevels, y + voltageLevelPadding.top());
 
             substationWidth = Math.max(substationWidth, vlGraph.getWidth());
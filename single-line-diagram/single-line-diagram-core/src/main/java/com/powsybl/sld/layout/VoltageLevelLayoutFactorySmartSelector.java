@@ -9,11 +9,8 @@ package com.powsybl.sld.layout;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.VoltageLevel;
 
-import java.util.Comparator;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.ServiceLoader;
-import java.util.stream.StreamSupport;
+import java.util.function.Predicate;
 
 /**
  * {@link VoltageLevelLayoutFactory} smart selector.
@@ -27,12 +24,10 @@ public interface VoltageLevelLayoutFactorySmartSelector {
      * @param vl the voltage level
      *
      * @return best {@link VoltageLevelLayoutFactory}
+     * @see VoltageLevelLayoutFactorySmartSelectorRegistry#getDefault()
      */
     static Optional<VoltageLevelLayoutFactorySmartSelector> findBest(VoltageLevel vl) {
-        Objects.requireNonNull(vl);
-        return StreamSupport.stream(ServiceLoader.load(VoltageLevelLayoutFactorySmartSelector.class, VoltageLevelLayoutFactorySmartSelector.class.getClassLoader()).spliterator(), false)
-                .filter(selector -> selector.isSelectable(vl))
-                .max(Comparator.comparingInt(selector -> selector.getPriority(vl)));
+        return VoltageLevelLayoutFactorySmartSelectorRegistry.getDefault().findBest(vl);
     }
 
     /**
@@ -51,6 +46,28 @@ public interface VoltageLevelLayoutFactorySmartSelector {
      */
     boolean isSelectable(VoltageLevel vl);
 
+    /**
+     * Create a predicate telling if the {@link VoltageLevelLayoutFactory} is selectable for the voltage levels of the
+     * given network. It may be overridden to compute the selectable voltage levels of the whole network at once.
+     *
+     * @param network the network
+     * @return a predicate giving the same result as {@link #isSelectable(VoltageLevel)} for the voltage levels of the network
+     */
+    default Predicate<VoltageLevel> createSelectablePredicate(Network network) {
+        return this::isSelectable;
+    }
+
+    /**
+     * Tell whether the {@link VoltageLevelLayoutFactory} created by {@link #createFactory(Network)} does not depend on
+     * the network, in which case the same factory may be used for all the networks. False by default: the factory may
+     * keep a reference to the network.
+     *
+     * @return true if the factory created does not depend on the network, false otherwise
+     */
+    default boolean isFactoryNetworkIndependent() {
+        return false;
+    }
+
     /**
      * Create a {@link VoltageLevelLayoutFactory} instance.
      *
@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld.layout;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VoltageLevel;
+
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.StreamSupport;
+
+/**
+ * Registry of the {@link VoltageLevelLayoutFactorySmartSelector}s, loaded once, selecting the best one for a voltage
+ * level as {@link VoltageLevelLayoutFactorySmartSelector#findBest} does.
+ * <p>
+ * The registry can select the layout factories of all the voltage levels of a network in one pass. It also keeps the
+ * {@link VoltageLevelLayoutFactory} created by the selectors, so that each one is created once instead of once per
+ * voltage level: the factories of the selectors whose factory is
+ * {@link VoltageLevelLayoutFactorySmartSelector#isFactoryNetworkIndependent() network independent} are shared by all
+ * the networks, the other ones are kept by network.
+ * <p>
+ * As the default registry lives as long as its class loader, the factories kept by network never prevent their network
+ * from being garbage collected: the networks are weakly referenced keys, and the factories, which may keep a reference
+ * to their network, are weakly referenced values. A factory is therefore kept as long as it is used, for instance by a
+ * {@link SmartVoltageLevelLayoutFactory}. The kept factories can also be dropped with {@link #clear()} and
+ * {@link #clear(Network)}, for instance when the network is modified in a way that changes its layout factories.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class VoltageLevelLayoutFactorySmartSelectorRegistry {
+
+    /**
+     * Statistics of the selections done by a registry
+     * @param selectionCount number of voltage levels for which the best selector was searched, one by one or in a precomputed selection
+     * @param precomputedSelectionCount number of selections precomputed for all the voltage levels of a network
+     * @param factoryCreationCount number of layout factories created by the selectors
+     * @param selectionCountBySelector number of voltage levels for which each selector, given by its class name, was selected
+     */
+    public record Statistics(long selectionCount, long precomputedSelectionCount, long factoryCreationCount,
+                             Map<String, Long> selectionCountBySelector) {
+    }
+
+    private static final class DefaultRegistryHolder {
+        private static final VoltageLevelLayoutFactorySmartSelectorRegistry DEFAULT_REGISTRY = new VoltageLevelLayoutFactorySmartSelectorRegistry(
+                StreamSupport.stream(ServiceLoader.load(VoltageLevelLayoutFactorySmartSelector.class, VoltageLevelLayoutFactorySmartSelector.class.getClassLoader()).spliterator(), false)
+                        .toList());
+    }
+
+    private final List<VoltageLevelLayoutFactorySmartSelector> selectors;
+    private final Map<VoltageLevelLayoutFactorySmartSelector, VoltageLevelLayoutFactory> networkIndependentFactories = new ConcurrentHashMap<>();
+    // Guarded by itself
+    private final Map<Network, Map<VoltageLevelLayoutFactorySmartSelector, WeakReference<VoltageLevelLayoutFactory>>> networkFactories = new WeakHashMap<>();
+
+    private final LongAdder selectionCount = new LongAdder();
+    private final LongAdder precomputedSelectionCount = new LongAdder();
+    private final LongAdder factoryCreationCount = new LongAdder();
+    private final Map<String, LongAdder> selectionCountBySelector = new ConcurrentHashMap<>();
+
+    public VoltageLevelLayoutFactorySmartSelectorRegistry(List<VoltageLevelLayoutFactorySmartSelector> selectors) {
+        this.selectors = List.copyOf(selectors);
+    }
+
+    /**
+     * Get the registry of the selectors found by the {@link ServiceLoader}, loaded the first time this method is called
+     */
+    public static VoltageLevelLayoutFactorySmartSelectorRegistry getDefault() {
+        return DefaultRegistryHolder.DEFAULT_REGISTRY;
+    }
+
+    public List<VoltageLevelLayoutFactorySmartSelector> getSelectors() {
+        return selectors;
+    }
+
+    /**
+     * Find best selector for the given voltage level, i.e the one with higher priority among selectable ones.
+     */
+    public Optional<VoltageLevelLayoutFactorySmartSelector> findBest(VoltageLevel vl) {
+        Objects.requireNonNull(vl);
+        Optional<VoltageLevelLayoutFactorySmartSelector> best = selectors.stream()
+                .filter(selector -> selector.isSelectable(vl))
+                .max(Comparator.comparingInt(selector -> selector.getPriority(vl)));
+        best.ifPresent(this::countSelection);
+        return best;
+    }
+
+    /**
+     * Find best selector for each voltage level of the given network, computing the selectable voltage levels of each
+     * selector for the whole network at once.
+     *
+     * @return the best selector by voltage level id, the voltage levels without selectable selector being absent
+     */
+    public Map<String, VoltageLevelLayoutFactorySmartSelector> precomputeSelection(Network network) {
+        Objects.requireNonNull(network);
+        List<Predicate<VoltageLevel>> selectablePredicates = selectors.stream()
+                .map(selector -> selector.createSelectablePredicate(network))
+                .toList();
+        Map<String, VoltageLevelLayoutFactorySmartSelector> selection = new HashMap<>();
+        network.getVoltageLevelStream().forEach(vl -> {
+            VoltageLevelLayoutFactorySmartSelector best = null;
+            int bestPriority = 0;
+            for (int i = 0; i < selectors.size(); i++) {
+                VoltageLevelLayoutFactorySmartSelector selector = selectors.get(i);
+                if (selectablePredicates.get(i).test(vl)) {
+                    // Same choice as Stream.max: the first one among the highest priorities
+                    int priority = selector.getPriority(vl);
+                    if (best == null || priority > bestPriority) {
+                        best = selector;
+                        bestPriority = priority;
+                    }
+                }
+            }
+            if (best != null) {
+                selection.put(vl.getId(), best);
+                countSelection(best);
+            }
+        });
+        precomputedSelectionCount.increment();
+        return Collections.unmodifiableMap(selection);
+    }
+
+    /**
+     * Get the layout factory created by the given selector for the given network. The factory is created once if it
+     * does not depend on the network, and once per network otherwise, as long as it is still used or until the
+     * registry is cleared.
+     */
+    public VoltageLevelLayoutFactory getFactory(VoltageLevelLayoutFactorySmartSelector selector, Network network) {
+        Objects.requireNonNull(selector);
+        Objects.requireNonNull(network);
+        if (selector.isFactoryNetworkIndependent()) {
+            return networkIndependentFactories.computeIfAbsent(selector, s -> createFactory(s, network));
+        }
+        synchronized (networkFactories) {
+            Map<VoltageLevelLayoutFactorySmartSelector, WeakReference<VoltageLevelLayoutFactory>> factories =
+                    networkFactories.computeIfAbsent(network, n -> new HashMap<>());
+            WeakReference<VoltageLevelLayoutFactory> factoryRef = factories.get(selector);
+            VoltageLevelLayoutFactory factory = factoryRef != null ? factoryRef.get() : null;
+            if (factory == null) {
+                factory = createFactory(selector, network);
+                factories.put(selector, new WeakReference<>(factory));
+            }
+            return factory;
+        }
+    }
+
+    /**
+     * Drop all the layout factories kept by the registry
+     */
+    public void clear() {
+        networkIndependentFactories.clear();
+        synchronized (networkFactories) {
+            networkFactories.clear();
+        }
+    }
+
+    /**
+     * Drop the layout factories kept by the registry for the given network
+     */
+    public void clear(Network network) {
+        Objects.requireNonNull(network);
+        synchronized (networkFactories) {
+            networkFactories.remove(network);
+        }
+    }
+
+    private VoltageLevelLayoutFactory createFactory(VoltageLevelLayoutFactorySmartSelector selector, Network network) {
+        factoryCreationCount.increment();
+        return selector.createFactory(network);
+    }
+
+    public Statistics getStatistics() {
+        Map<String, Long> countBySelector = new TreeMap<>();
+        selectionCountBySelector.forEach((name, count) -> countBySelector.put(name, count.sum()));
+        return new Statistics(selectionCount.sum(), precomputedSelectionCount.sum(), factoryCreationCount.sum(),
+                Collections.unmodifiableMap(countBySelector));
+    }
+
+    private void countSelection(VoltageLevelLayoutFactorySmartSelector selector) {
+        selectionCount.increment();
+        selectionCountBySelector.computeIfAbsent(selector.getClass().getName(), k -> new LongAdder()).increment();
+    }
+}
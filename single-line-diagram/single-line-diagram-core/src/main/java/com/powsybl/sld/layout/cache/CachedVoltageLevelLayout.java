@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld.layout.cache;
+
+import com.powsybl.sld.model.graphs.VoltageLevelGraph;
+
+import java.util.Objects;
+
+/**
+ * A laid-out voltage level graph kept in a {@link LayoutCacheStorage}.
+ * The SVG writers do not modify the graph they draw, the snake lines being adapted to the anchor points of the components
+ * on a copy, hence the graph of an entry can be drawn by several threads at the same time.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class CachedVoltageLevelLayout {
+
+    private final VoltageLevelGraph graph;
+
+    public CachedVoltageLevelLayout(VoltageLevelGraph graph) {
+        this.graph = Objects.requireNonNull(graph);
+    }
+
+    /**
+     * @return the laid-out graph, which is shared by all the users of the cache entry and should therefore not be modified
+     */
+    public VoltageLevelGraph getGraph() {
+        return graph;
+    }
+}
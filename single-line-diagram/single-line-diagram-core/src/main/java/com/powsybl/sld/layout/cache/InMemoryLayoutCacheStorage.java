@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld.layout.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Layout storage keeping at most a given number of layouts in memory, the least recently used layout being evicted first.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class InMemoryLayoutCacheStorage implements LayoutCacheStorage {
+
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final int maxSize;
+
+    private final Map<String, CachedVoltageLevelLayout> layouts;
+
+    public InMemoryLayoutCacheStorage() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public InMemoryLayoutCacheStorage(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Maximum size of layout cache must be strictly positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.layouts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedVoltageLevelLayout> eldest) {
+                return size() > InMemoryLayoutCacheStorage.this.maxSize;
+            }
+        };
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public synchronized CachedVoltageLevelLayout get(String fingerprint) {
+        return layouts.get(Objects.requireNonNull(fingerprint));
+    }
+
+    @Override
+    public synchronized void put(String fingerprint, CachedVoltageLevelLayout layout) {
+        layouts.put(Objects.requireNonNull(fingerprint), Objects.requireNonNull(layout));
+    }
+
+    @Override
+    public synchronized void clear() {
+        layouts.clear();
+    }
+
+    @Override
+    public synchronized int size() {
+        return layouts.size();
+    }
+}
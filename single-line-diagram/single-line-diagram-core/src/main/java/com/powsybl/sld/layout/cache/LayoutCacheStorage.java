@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld.layout.cache;
+
+/**
+ * Storage of the laid-out voltage level graphs of a {@link VoltageLevelLayoutCache}, keyed by topology fingerprint.
+ * Implementations decide which layouts are kept, and must be safe to use from several threads.
+ * The layouts are kept as graph objects, as the layout adds nodes, cells and blocks to the graph which cannot be rebuilt
+ * from the coordinates only: a storage is therefore local to the process.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public interface LayoutCacheStorage {
+
+    /**
+     * @param fingerprint the topology fingerprint of the voltage level
+     * @return the layout stored for the given fingerprint, or null if none
+     */
+    CachedVoltageLevelLayout get(String fingerprint);
+
+    /**
+     * Store a layout, replacing the layout previously stored for the same fingerprint if any
+     * @param fingerprint the topology fingerprint of the voltage level
+     * @param layout the layout to store
+     */
+    void put(String fingerprint, CachedVoltageLevelLayout layout);
+
+    /**
+     * Remove all the stored layouts
+     */
+    void clear();
+
+    /**
+     * @return the number of stored layouts
+     */
+    int size();
+}
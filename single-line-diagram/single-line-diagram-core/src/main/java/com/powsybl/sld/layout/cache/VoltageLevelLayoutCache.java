@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld.layout.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.extensions.BusbarSectionPosition;
+import com.powsybl.iidm.network.extensions.ConnectablePosition;
+import com.powsybl.sld.layout.LayoutParameters;
+import com.powsybl.sld.model.graphs.VoltageLevelGraph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Cache of voltage level layouts, keyed by a fingerprint of the voltage level topology and of the layout parameters.
+ * As the measurements (flows, voltages...) are not part of the fingerprint, a voltage level whose topology did not change
+ * since its last drawing is drawn again without building nor laying out its graph: the labels and styles are computed
+ * from the network when writing the SVG.
+ * <p>
+ * The fingerprint covers the switches and their states, the connectables and their terminals, and the
+ * {@link ConnectablePosition} and {@link BusbarSectionPosition} extensions. It does not cover the graph build
+ * post-processors, nor the voltage level layout factory, therefore a cache should only be used with one layout
+ * configuration.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class VoltageLevelLayoutCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VoltageLevelLayoutCache.class);
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonUtil.createObjectMapper();
+
+    private final LayoutCacheStorage storage;
+
+    public VoltageLevelLayoutCache() {
+        this(new InMemoryLayoutCacheStorage());
+    }
+
+    public VoltageLevelLayoutCache(int maxSize) {
+        this(new InMemoryLayoutCacheStorage(maxSize));
+    }
+
+    public VoltageLevelLayoutCache(LayoutCacheStorage storage) {
+        this.storage = Objects.requireNonNull(storage);
+    }
+
+    public LayoutCacheStorage getStorage() {
+        return storage;
+    }
+
+    /**
+     * Returns the laid-out graph of the given voltage level, taken from the cache if its topology fingerprint is known,
+     * or created with the given supplier and stored in the cache otherwise.
+     * @param network the network containing the voltage level
+     * @param voltageLevelId the voltage level id
+     * @param layoutParameters the layout parameters used by the supplier
+     * @param layoutSupplier the supplier building and laying out the voltage level graph
+     * @return the laid-out voltage level graph, which may be shared with the other users of the cache and should therefore
+     * only be drawn
+     */
+    public VoltageLevelGraph getOrCreate(Network network, String voltageLevelId, LayoutParameters layoutParameters,
+                                         Supplier<VoltageLevelGraph> layoutSupplier) {
+        Objects.requireNonNull(layoutSupplier);
+        String fingerprint = computeFingerprint(network, voltageLevelId, layoutParameters);
+        CachedVoltageLevelLayout cachedLayout = storage.get(fingerprint);
+        if (cachedLayout != null) {
+            LOGGER.debug("Layout of voltage level '{}' found in cache", voltageLevelId);
+            return cachedLayout.getGraph();
+        }
+        VoltageLevelGraph graph = layoutSupplier.get();
+        storage.put(fingerprint, new CachedVoltageLevelLayout(graph));
+        return graph;
+    }
+
+    /**
+     * Computes the fingerprint of the topology of a voltage level, in the current variant of the network
+     * @param network the network containing the voltage level
+     * @param voltageLevelId the voltage level id
+     * @param layoutParameters the layout parameters
+     * @return the hexadecimal SHA-256 digest of the voltage level topology and of the layout parameters
+     */
+    public static String computeFingerprint(Network network, String voltageLevelId, LayoutParameters layoutParameters) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(voltageLevelId);
+        Objects.requireNonNull(layoutParameters);
+        VoltageLevel vl = network.getVoltageLevel(voltageLevelId);
+        if (vl == null) {
+            throw new PowsyblException("Voltage level '" + voltageLevelId + "' not found");
+        }
+
+        StringBuilder sb = new StringBuilder();
+        append(sb, vl.getId(), vl.getNameOrId(), vl.getNominalV(), vl.getTopologyKind());
+        try {
+            sb.append(OBJECT_MAPPER.writeValueAsString(layoutParameters)).append('\n');
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (vl.getTopologyKind() == TopologyKind.NODE_BREAKER) {
+            VoltageLevel.NodeBreakerView view = vl.getNodeBreakerView();
+            view.getSwitchStream().sorted(Comparator.comparing(Identifiable::getId)).forEach(sw ->
+                    append(sb, sw.getId(), sw.getNameOrId(), sw.getKind(), sw.isOpen(), sw.isRetained(), sw.isFictitious(),
+                            view.getNode1(sw.getId()), view.getNode2(sw.getId())));
+            view.getInternalConnectionStream()
+                    .map(ic -> Math.min(ic.getNode1(), ic.getNode2()) + "-" + Math.max(ic.getNode1(), ic.getNode2()))
+                    .sorted()
+                    .forEach(ic -> append(sb, "ic", ic));
+        } else {
+            VoltageLevel.BusBreakerView view = vl.getBusBreakerView();
+            view.getBusStream().sorted(Comparator.comparing(Identifiable::getId))
+                    .forEach(bus -> append(sb, bus.getId(), bus.getNameOrId()));
+            view.getSwitchStream().sorted(Comparator.comparing(Identifiable::getId)).forEach(sw ->
+                    append(sb, sw.getId(), sw.getNameOrId(), sw.getKind(), sw.isOpen(), sw.isFictitious(),
+                            view.getBus1(sw.getId()).getId(), view.getBus2(sw.getId()).getId()));
+        }
+
+        vl.getConnectableStream()
+                .map(c -> (Connectable<?>) c)
+                .sorted(Comparator.comparing(Identifiable::getId))
+                .forEach(connectable -> appendConnectable(sb, vl, connectable));
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void appendConnectable(StringBuilder sb, VoltageLevel vl, Connectable<?> connectable) {
+        append(sb, connectable.getType(), connectable.getId(), connectable.getNameOrId());
+        for (Terminal terminal : connectable.getTerminals()) {
+            VoltageLevel terminalVl = terminal.getVoltageLevel();
+            if (terminalVl != vl) {
+                append(sb, "other side", terminalVl.getId(), terminalVl.getNameOrId(), terminalVl.getNominalV());
+            } else if (vl.getTopologyKind() == TopologyKind.NODE_BREAKER) {
+                append(sb, "node", terminal.getNodeBreakerView().getNode());
+            } else {
+                append(sb, "bus", terminal.getBusBreakerView().getConnectableBus().getId(), terminal.isConnected());
+            }
+        }
+        if (connectable instanceof HvdcConverterStation<?> station) {
+            station.getOtherConverterStation().ifPresent(other -> append(sb, "hvdc", other.getId(), other.getTerminal().getVoltageLevel().getId()));
+        }
+        ConnectablePosition<?> position = (ConnectablePosition<?>) connectable.getExtension(ConnectablePosition.class);
+        if (position != null) {
+            appendFeeder(sb, position.getFeeder());
+            appendFeeder(sb, position.getFeeder1());
+            appendFeeder(sb, position.getFeeder2());
+            appendFeeder(sb, position.getFeeder3());
+        }
+        if (connectable instanceof BusbarSection busbarSection) {
+            BusbarSectionPosition busbarSectionPosition = busbarSection.getExtension(BusbarSectionPosition.class);
+            if (busbarSectionPosition != null) {
+                append(sb, "bbs", busbarSectionPosition.getBusbarIndex(), busbarSectionPosition.getSectionIndex());
+            }
+        }
+    }
+
+    private static void appendFeeder(StringBuilder sb, ConnectablePosition.Feeder feeder) {
+        if (feeder != null) {
+            append(sb, "feeder", feeder.getName().orElse(null), feeder.getOrder().orElse(null), feeder.getDirection());
+        }
+    }
+
+    private static void append(StringBuilder sb, Object... values) {
+        for (Object value : values) {
+            sb.append(value).append('|');
+        }
+        sb.append('\n');
+    }
+}
@@ -0,0 +1,213 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld.layout.pathfinding;
+
+import com.powsybl.sld.model.coordinate.Point;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A* path finder on the 4-connected grid, with the same costs as the {@link DijkstraPathFinder}: each step costs 1, and
+ * a right angle with the previous step costs 1 more. The Manhattan distance to the goal is used as heuristic.
+ * <p>
+ * No object is allocated per cell: the search state is kept in arrays indexed by cell, with the costs, the parents, and
+ * the position in an indexed binary heap, which allows to decrease the cost of a queued cell instead of queuing it
+ * again. The arrays are reused from one search to the next, a generation number telling which cells were reached by
+ * the current search, hence an instance should not be used by several threads at the same time.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class AStarPathFinder implements PathFinder {
+
+    private static final int NOT_QUEUED = -1;
+    private static final int CLOSED = -2;
+    private static final int NO_PARENT = -1;
+
+    private static final int[] DX = {1, -1, 0, 0};
+    private static final int[] DY = {0, 0, 1, -1};
+
+    private int[] generations = new int[0];
+    private int[] costs = new int[0];
+    private int[] parents = new int[0];
+    private int[] heapPositions = new int[0];
+    private int[] heap = new int[0];
+    private int heapSize;
+    private int generation;
+
+    private int height;
+    private int goalX;
+    private int goalY;
+
+    @Override
+    public List<Point> findShortestPath(Grid grid, Point start, Point goal) {
+        int width = grid.getWidth();
+        height = grid.getHeight();
+        if (!isInGrid(start, width, height) || !isInGrid(goal, width, height)) {
+            return new ArrayList<>();
+        }
+        initSearch(width * height);
+
+        int startIndex = (int) start.getX() * height + (int) start.getY();
+        int goalIndex = (int) goal.getX() * height + (int) goal.getY();
+        goalX = (int) goal.getX();
+        goalY = (int) goal.getY();
+
+        reach(startIndex, 0, NO_PARENT);
+        while (heapSize > 0) {
+            int current = poll();
+            if (current == goalIndex) {
+                List<Point> path = DijkstraPathFinder.smoothPath(rebuildPath(current));
+                // Make path not available
+                grid.setAvailability(path, false);
+                return path;
+            }
+            heapPositions[current] = CLOSED;
+            expand(grid, current, width);
+        }
+        // No path found
+        return new ArrayList<>();
+    }
+
+    private static boolean isInGrid(Point point, int width, int height) {
+        return point.getX() >= 0 && point.getX() < width && point.getY() >= 0 && point.getY() < height;
+    }
+
+    private void initSearch(int nbCells) {
+        if (generations.length < nbCells) {
+            generations = new int[nbCells];
+            costs = new int[nbCells];
+            parents = new int[nbCells];
+            heapPositions = new int[nbCells];
+            heap = new int[nbCells];
+            generation = 0;
+        }
+        heapSize = 0;
+        if (generation == Integer.MAX_VALUE) {
+            // Generation number overflow, the arrays need to be reset
+            Arrays.fill(generations, 0);
+            generation = 0;
+        }
+        generation++;
+    }
+
+    private void expand(Grid grid, int current, int width) {
+        int x = current / height;
+        int y = current % height;
+        int parent = parents[current];
+        int parentDx = parent == NO_PARENT ? 0 : x - parent / height;
+        int parentDy = parent == NO_PARENT ? 0 : y - parent % height;
+        for (int d = 0; d < DX.length; d++) {
+            int nx = x + DX[d];
+            int ny = y + DY[d];
+            if (nx < 0 || nx >= width || ny < 0 || ny >= height) {
+                continue;
+            }
+            int neighbor = nx * height + ny;
+            if (!grid.isAvailable(neighbor)) {
+                continue;
+            }
+            boolean reached = generations[neighbor] == generation;
+            if (reached && heapPositions[neighbor] == CLOSED) {
+                continue;
+            }
+            int cost = costs[current] + 1;
+            if (parent != NO_PARENT && parentDx * DX[d] + parentDy * DY[d] == 0) {
+                // Assuming right angle are useless
+                cost++;
+            }
+            if (!reached || cost < costs[neighbor]) {
+                reach(neighbor, cost, current);
+            }
+        }
+    }
+
+    private void reach(int cell, int cost, int parent) {
+        if (generations[cell] != generation) {
+            generations[cell] = generation;
+            heapPositions[cell] = NOT_QUEUED;
+        }
+        costs[cell] = cost;
+        parents[cell] = parent;
+        if (heapPositions[cell] == NOT_QUEUED) {
+            heap[heapSize] = cell;
+            heapPositions[cell] = heapSize;
+            heapSize++;
+        }
+        siftUp(heapPositions[cell]);
+    }
+
+    private int priority(int cell) {
+        return costs[cell] + Math.abs(cell / height - goalX) + Math.abs(cell % height - goalY);
+    }
+
+    private boolean isBefore(int cell1, int cell2) {
+        int priority1 = priority(cell1);
+        int priority2 = priority(cell2);
+        // On equal priorities, the cell with the highest cost is the closest to the goal
+        return priority1 < priority2 || priority1 == priority2 && costs[cell1] > costs[cell2];
+    }
+
+    private int poll() {
+        int first = heap[0];
+        heapSize--;
+        if (heapSize > 0) {
+            move(heap[heapSize], 0);
+            siftDown(0);
+        }
+        heapPositions[first] = NOT_QUEUED;
+        return first;
+    }
+
+    private void siftUp(int position) {
+        int cell = heap[position];
+        int p = position;
+        while (p > 0) {
+            int parentPosition = (p - 1) / 2;
+            if (!isBefore(cell, heap[parentPosition])) {
+                break;
+            }
+            move(heap[parentPosition], p);
+            p = parentPosition;
+        }
+        move(cell, p);
+    }
+
+    private void siftDown(int position) {
+        int cell = heap[position];
+        int p = position;
+        while (2 * p + 1 < heapSize) {
+            int child = 2 * p + 1;
+            if (child + 1 < heapSize && isBefore(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!isBefore(heap[child], cell)) {
+                break;
+            }
+            move(heap[child], p);
+            p = child;
+        }
+        move(cell, p);
+    }
+
+    private void move(int cell, int position) {
+        heap[position] = cell;
+        heapPositions[cell] = position;
+    }
+
+    private List<Point> rebuildPath(int goalIndex) {
+        List<Point> path = new ArrayList<>();
+        for (int cell = goalIndex; cell != NO_PARENT; cell = parents[cell]) {
+            path.add(new Point(cell / height, cell % height));
+        }
+        Collections.reverse(path);
+        return path;
+    }
+}
@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld.layout.pathfinding;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.sld.model.coordinate.Point;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Router of snake lines on a shared {@link Grid}, computing the paths concurrently.
+ * <p>
+ * When routed one after the other, each path found is made unavailable on the grid before the next path is searched,
+ * so that no path goes through the points of a previous path. Here the routing is done in rounds: in each round, the
+ * paths still to route are searched concurrently, each one on a private copy of the grid as it was at the beginning of
+ * the round. The paths found are then checked in the input order: a path is accepted if it does not go through a point
+ * of a path accepted before it, and is made unavailable on the grid; otherwise it is ripped up and searched again in
+ * the next round, on a grid including the paths accepted so far. The paths still conflicting after the last round are
+ * routed sequentially, in the input order.
+ * <p>
+ * The searches of a round are split into contiguous batches, one per thread, run on the given executor and on the
+ * calling thread, which runs itself the batches not yet started by the executor. Without executor, the searches of a
+ * round are all run by the calling thread, in a single batch.
+ * <p>
+ * As the conflicts are resolved in the input order, and as each search only depends on the grid it is given, the
+ * resulting paths only depend on the grid and on the routes order, and not on the parallelism nor on the executor.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class ConcurrentSnakeLineRouter {
+
+    public static final int DEFAULT_MAX_ROUNDS = 3;
+
+    public record Route(Point start, Point goal) {
+        public Route {
+            Objects.requireNonNull(start);
+            Objects.requireNonNull(goal);
+        }
+    }
+
+    private final ZoneLayoutPathFinderFactory pathFinderFactory;
+    private final int parallelism;
+    private final int maxRounds;
+    private final Executor executor;
+
+    /**
+     * @param pathFinderFactory the factory of the path finders, one path finder being created per batch
+     * @param parallelism the maximum number of batches searched concurrently
+     * @param executor the executor running the batches, null meaning that they are all run by the calling thread
+     */
+    public ConcurrentSnakeLineRouter(ZoneLayoutPathFinderFactory pathFinderFactory, int parallelism, Executor executor) {
+        this(pathFinderFactory, parallelism, DEFAULT_MAX_ROUNDS, executor);
+    }
+
+    public ConcurrentSnakeLineRouter(ZoneLayoutPathFinderFactory pathFinderFactory, int parallelism, int maxRounds, Executor executor) {
+        this.pathFinderFactory = Objects.requireNonNull(pathFinderFactory);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Invalid parallelism " + parallelism);
+        }
+        if (maxRounds < 0) {
+            throw new IllegalArgumentException("Invalid maximum number of rounds " + maxRounds);
+        }
+        this.parallelism = parallelism;
+        this.maxRounds = maxRounds;
+        this.executor = executor;
+    }
+
+    /**
+     * Find the paths of the given routes on the given grid, in which the accepted paths are made unavailable.
+     * The paths are returned in the routes order, an empty path meaning that no path was found.
+     */
+    public List<List<Point>> route(Grid grid, List<Route> routes) {
+        Objects.requireNonNull(grid);
+        Objects.requireNonNull(routes);
+        List<List<Point>> paths = new ArrayList<>(Collections.nCopies(routes.size(), List.of()));
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < routes.size(); i++) {
+            pending.add(i);
+        }
+
+        for (int round = 0; round < maxRounds && !pending.isEmpty(); round++) {
+            List<List<Point>> candidates = findPaths(grid, routes, pending);
+            List<Integer> conflicting = new ArrayList<>();
+            for (int i = 0; i < pending.size(); i++) {
+                List<Point> candidate = candidates.get(i);
+                if (isFree(grid, candidate)) {
+                    grid.setAvailability(candidate, false);
+                    paths.set(pending.get(i), candidate);
+                } else {
+                    // Rip-up: searched again in next round
+                    conflicting.add(pending.get(i));
+                }
+            }
+            pending = conflicting;
+        }
+
+        // Remaining conflicts are routed one after the other
+        PathFinder pathFinder = pathFinderFactory.create();
+        for (int index : pending) {
+            Route route = routes.get(index);
+            paths.set(index, pathFinder.findShortestPath(grid, route.start(), route.goal()));
+        }
+        return paths;
+    }
+
+    private List<List<Point>> findPaths(Grid grid, List<Route> routes, List<Integer> indexes) {
+        // Contiguous batches, one per thread, each with its own path finder and grid copy
+        int nbBatches = executor == null ? 1 : Math.min(parallelism, indexes.size());
+        List<FutureTask<List<List<Point>>>> tasks = new ArrayList<>(nbBatches);
+        for (int b = 0; b < nbBatches; b++) {
+            List<Integer> batch = indexes.subList(b * indexes.size() / nbBatches, (b + 1) * indexes.size() / nbBatches);
+            tasks.add(new FutureTask<>(() -> findBatchPaths(grid, routes, batch)));
+        }
+        try {
+            for (int b = 1; b < nbBatches; b++) {
+                executor.execute(tasks.get(b));
+            }
+        } catch (RejectedExecutionException e) {
+            // The batches not submitted are run by the calling thread
+        }
+
+        List<List<Point>> candidates = new ArrayList<>(indexes.size());
+        try {
+            for (FutureTask<List<List<Point>>> task : tasks) {
+                // Does nothing if the task was already started by the executor
+                task.run();
+                candidates.addAll(task.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PowsyblException("Snake lines routing interrupted", e);
+        } catch (ExecutionException e) {
+            throw new PowsyblException("Snake lines routing failed", e.getCause());
+        }
+        return candidates;
+    }
+
+    private List<List<Point>> findBatchPaths(Grid grid, List<Route> routes, List<Integer> batch) {
+        PathFinder pathFinder = pathFinderFactory.create();
+        Grid batchGrid = new Grid(grid);
+        List<List<Point>> batchPaths = new ArrayList<>(batch.size());
+        for (int index : batch) {
+            if (!batchPaths.isEmpty()) {
+                // The path finder made the points of the previous path unavailable: only those are reset
+                batchGrid.copyAvailability(grid, batchPaths.getLast());
+            }
+            Route route = routes.get(index);
+            batchPaths.add(pathFinder.findShortestPath(batchGrid, route.start(), route.goal()));
+        }
+        return batchPaths;
+    }
+
+    /**
+     * Tell whether the given path, found on the grid before the paths accepted in current round were made unavailable,
+     * is still free, that is if no point after its start point was made unavailable since.
+     */
+    private static boolean isFree(Grid grid, List<Point> path) {
+        if (path.isEmpty()) {
+            return true;
+        }
+        List<Point> points = Grid.getPointsAlongSnakeline(path);
+        for (int i = 1; i < points.size(); i++) {
+            if (!grid.isAvailable(points.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -48,21 +48,50 @@ public class Grid {
         }
     }
 
-    private final Node[][] nodes;
+    // Availability of the cells, one bit per cell, the index of cell (x, y) being x * height + y
+    private final long[] availability;
+    // Nodes used by the DijkstraPathFinder search, created when first needed
+    private Node[] nodes;
     private final int width;
     private final int height;
 
     public Grid(int width, int height) {
+        if (width < 0 || height < 0 || (long) width * height > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid grid size " + width + "x" + height);
+        }
         this.width = width;
         this.height = height;
-        this.nodes = new Node[width][height];
-        for (int x = 0; x < nodes.length; ++x) {
-            for (int y = 0; y < nodes[0].length; ++y) {
-                nodes[x][y] = new Node(new Point(x, y), false, 0);
-            }
+        this.availability = new long[(width * height + 63) / 64];
+    }
+
+    /**
+     * Create a grid with the same size and cells availability as the given one
+     */
+    public Grid(Grid other) {
+        this.width = other.width;
+        this.height = other.height;
+        this.availability = other.availability.clone();
+    }
+
+    /**
+     * Reset the availability of the cells of the given points to the one of the given grid, which has the same size
+     */
+    void copyAvailability(Grid other, List<Point> points) {
+        for (Point point : points) {
+            int nodeX = (int) Math.max(0, Math.min(point.getX(), width - 1.0));
+            int nodeY = (int) Math.max(0, Math.min(point.getY(), height - 1.0));
+            setAvailability(nodeX, nodeY, other.isAvailable(nodeX * height + nodeY));
         }
     }
 
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
     public void updateNode(Point point, int cost, double distance, Node parent) {
         Node node = getNode(point);
         node.cost = cost;
@@ -76,13 +105,33 @@ public class Grid {
 
     private Node getNode(double x, double y) {
         // Make sure we are not out of bounds
-        double nodeX = Math.max(0, Math.min(x, width - 1.0));
-        double nodeY = Math.max(0, Math.min(y, height - 1.0));
-        return nodes[(int) nodeX][(int) nodeY];
+        int nodeX = (int) Math.max(0, Math.min(x, width - 1.0));
+        int nodeY = (int) Math.max(0, Math.min(y, height - 1.0));
+        if (nodes == null) {
+            nodes = new Node[width * height];
+        }
+        int index = nodeX * height + nodeY;
+        Node node = nodes[index];
+        if (node == null) {
+            node = new Node(new Point(nodeX, nodeY), isAvailable(index), 0);
+            nodes[index] = node;
+        }
+        return node;
     }
 
     public void setAvailability(double x, double y, boolean available) {
-        getNode(x, y).available = available;
+        // Make sure we are not out of bounds
+        int nodeX = (int) Math.max(0, Math.min(x, width - 1.0));
+        int nodeY = (int) Math.max(0, Math.min(y, height - 1.0));
+        int index = nodeX * height + nodeY;
+        if (available) {
+            availability[index >>> 6] |= 1L << index;
+        } else {
+            availability[index >>> 6] &= ~(1L << index);
+        }
+        if (nodes != null && nodes[index] != null) {
+            nodes[index].available = available;
+        }
     }
 
     public void setAvailability(Point point, boolean available) {
@@ -98,12 +147,24 @@ public class Grid {
     }
 
     public boolean isAvailable(Point point) {
-        return point.getX() >= 0 && point.getX() < width && point.getY() >= 0 && point.getY() < height && nodes[(int) point.getX()][(int) point.getY()].available;
+        return point.getX() >= 0 && point.getX() < width && point.getY() >= 0 && point.getY() < height
+                && isAvailable((int) point.getX(), (int) point.getY());
+    }
+
+    /**
+     * Tell whether the cell (x, y) is available, the coordinates being within the grid bounds
+     */
+    public boolean isAvailable(int x, int y) {
+        return isAvailable(x * height + y);
+    }
+
+    boolean isAvailable(int index) {
+        return (availability[index >>> 6] & (1L << index)) != 0;
     }
 
     protected List<Node> getNeighbors(Point point) {
         // Considering only adjacent points
-        List<Node> neighbors = new ArrayList<>();
+        List<Node> neighbors = new ArrayList<>(4);
         Node right = getNode(point.getX() + 1.0, point.getY());
         Node left = getNode(point.getX() - 1.0, point.getY());
         Node up = getNode(point.getX(), point.getY() + 1.0);
@@ -14,6 +14,7 @@ import com.powsybl.sld.model.nodes.BusNode;
 import org.jspecify.annotations.NonNull;
 
 import java.util.*;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -63,62 +64,63 @@ class Link implements Comparable<Link> {
     }
 
     private void assessLink() {
-        categoryToWeight.put(LinkCategory.COMMON_BUSES, assessCommonBusNodes());
-        categoryToWeight.put(LinkCategory.FLAT_CELLS, assessFlatCell());
-        categoryToWeight.put(LinkCategory.CROSSOVER, assessCrossOver());
-        categoryToWeight.put(LinkCategory.SHUNT, assessShunt());
-    }
-
-    private int assessCommonBusNodes() {
-        Set<BusNode> nodeBusesIntersect = new LinkedHashSet<>(bsClusterSide1.getBusNodeSet());
-        nodeBusesIntersect.retainAll(bsClusterSide2.getBusNodeSet());
+        categoryToWeight.put(LinkCategory.COMMON_BUSES, assessCommonBusNodes(bsClusterSide1.getBusNodeSet(), bsClusterSide2.getBusNodeSet()));
+        categoryToWeight.put(LinkCategory.FLAT_CELLS, assessFlatCell(bsClusterSide1.getCandidateFlatCellList(), bsClusterSide2.getCandidateFlatCellList(),
+                internCell -> flatCellDistanceToEdges(internCell, bsClusterSide1, bsClusterSide2)));
+        categoryToWeight.put(LinkCategory.CROSSOVER, assessCrossOver(bsClusterSide1.getInternCellsFromShape(InternCell.Shape.UNDEFINED),
+                bsClusterSide2.getInternCellsFromShape(InternCell.Shape.UNDEFINED)));
+        categoryToWeight.put(LinkCategory.SHUNT, assessShunt(extractExternShuntedCells(bsClusterSide1), bsClusterSide1::getExternCellAttractionToEdge,
+                extractExternShuntedCells(bsClusterSide2), bsClusterSide2::getExternCellAttractionToEdge));
+    }
+
+    static int assessCommonBusNodes(Set<BusNode> busNodes1, Set<BusNode> busNodes2) {
+        Set<BusNode> nodeBusesIntersect = new LinkedHashSet<>(busNodes1);
+        nodeBusesIntersect.retainAll(busNodes2);
         return nodeBusesIntersect.size();
     }
 
-    private int assessFlatCell() {
-        Set<InternCell> flatCellIntersect = new LinkedHashSet<>(bsClusterSide1.getCandidateFlatCellList());
-        flatCellIntersect.retainAll(bsClusterSide2.getCandidateFlatCellList());
+    static int assessFlatCell(List<InternCell> candidateFlatCells1, List<InternCell> candidateFlatCells2,
+                              ToIntFunction<InternCell> flatCellDistanceToEdges) {
+        Set<InternCell> flatCellIntersect = new LinkedHashSet<>(candidateFlatCells1);
+        flatCellIntersect.retainAll(candidateFlatCells2);
         return flatCellIntersect.size() * 100
                 - flatCellIntersect.stream()
-                .mapToInt(internCell -> flatCellDistanceToEdges(internCell, bsClusterSide1, bsClusterSide2)).sum();
+                .mapToInt(flatCellDistanceToEdges).sum();
     }
 
     static int flatCellDistanceToEdges(InternCell cell, BSClusterSide bsCS1, BSClusterSide bsCS2) {
         return bsCS1.getCandidateFlatCellDistanceToEdge(cell) + bsCS2.getCandidateFlatCellDistanceToEdge(cell);
     }
 
-    private int assessCrossOver() {
-        Set<InternCell> commonInternCells = new LinkedHashSet<>(bsClusterSide1.getInternCellsFromShape(InternCell.Shape.UNDEFINED));
-        commonInternCells.retainAll(bsClusterSide2.getInternCellsFromShape(InternCell.Shape.UNDEFINED));
+    static int assessCrossOver(List<InternCell> undefinedInternCells1, List<InternCell> undefinedInternCells2) {
+        Set<InternCell> commonInternCells = new LinkedHashSet<>(undefinedInternCells1);
+        commonInternCells.retainAll(undefinedInternCells2);
         return (int) (commonInternCells.stream()
                 .flatMap(internCell -> internCell.getBusNodes().stream()).distinct()
                 .count());
     }
 
-    private int assessShunt() {
-        List<ExternCell> externCells1 = extractExternShuntedCells(bsClusterSide1);
-        List<ExternCell> externCells2 = extractExternShuntedCells(bsClusterSide2);
+    static int assessShunt(List<ExternCell> externShuntedCells1, ToIntFunction<ExternCell> attractionToEdge1,
+                           List<ExternCell> externShuntedCells2, ToIntFunction<ExternCell> attractionToEdge2) {
+        List<ExternCell> externCells1 = new ArrayList<>(externShuntedCells1);
+        List<ExternCell> externCells2 = new ArrayList<>(externShuntedCells2);
         List<ShuntCell> shuntCells = extractShuntCells(externCells1);
         shuntCells.retainAll(extractShuntCells(externCells2));
         List<ExternCell> myShuntedExternCells = shuntCells.stream()
                 .flatMap(sc -> sc.getSideCells().stream()).collect(Collectors.toList());
         externCells1.retainAll(myShuntedExternCells);
         externCells2.retainAll(myShuntedExternCells);
-        return shuntAttractivity(externCells1, bsClusterSide1) + shuntAttractivity(externCells2, bsClusterSide2);
+        return externCells1.stream().mapToInt(attractionToEdge1).sum() + externCells2.stream().mapToInt(attractionToEdge2).sum();
     }
 
-    private List<ExternCell> extractExternShuntedCells(BSClusterSide bsClusterSide) {
+    static List<ExternCell> extractExternShuntedCells(BSClusterSide bsClusterSide) {
         return bsClusterSide.getExternCells().stream().filter(ExternCell::isShunted).collect(Collectors.toList());
     }
 
-    private List<ShuntCell> extractShuntCells(List<ExternCell> externCells) {
+    private static List<ShuntCell> extractShuntCells(List<ExternCell> externCells) {
         return externCells.stream().map(ExternCell::getShuntCells).flatMap(List::stream).collect(Collectors.toList());
     }
 
-    private int shuntAttractivity(List<ExternCell> cells, BSClusterSide bsClusterSide) {
-        return cells.stream().mapToInt(bsClusterSide::getExternCellAttractionToEdge).sum();
-    }
-
     private int getLinkCategoryWeight(LinkCategory cat) {
         return categoryToWeight.get(cat);
     }
@@ -143,6 +145,10 @@ class Link implements Comparable<Link> {
     }
 
     void mergeClusters() {
+        mergeClusters(bsClusterSide1, bsClusterSide2);
+    }
+
+    static void mergeClusters(BSClusterSide bsClusterSide1, BSClusterSide bsClusterSide2) {
         if (bsClusterSide1.getCluster() == bsClusterSide2.getCluster()
                 || bsClusterSide1.getMySideInCluster() == Side.UNDEFINED
                 || bsClusterSide2.getMySideInCluster() == Side.UNDEFINED) {
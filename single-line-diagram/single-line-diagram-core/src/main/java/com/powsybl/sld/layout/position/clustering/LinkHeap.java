@@ -0,0 +1,228 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld.layout.position.clustering;
+
+import com.powsybl.sld.layout.position.BSCluster;
+import com.powsybl.sld.model.cells.ExternCell;
+import com.powsybl.sld.model.cells.InternCell;
+import com.powsybl.sld.model.coordinate.Side;
+import com.powsybl.sld.model.nodes.BusNode;
+
+import java.util.*;
+
+/**
+ * Manages the links between a list of BSClusterSides as {@link Links} does, and merges them in the same order, but
+ * without {@link Link} objects: the weights of each link are stored in primitive arrays, and the links are ordered in a
+ * binary heap with lazy deletion. When two clusters are merged, the links of their sides are not removed from the heap,
+ * they are only skipped when reaching the top of the heap, and only the links of the sides of the merged cluster are
+ * computed.
+ * <p>
+ * As in {@link Links}, a link is identified by its creation number, which is used to order links with the same weights.
+ * The data of each side which does not change until its cluster is merged is computed once, the candidate flat cells
+ * being computed again after each merge as their shape may have changed.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class LinkHeap {
+
+    private static final int NB_CATEGORIES = Link.LinkCategory.values().length;
+
+    private final List<SideData> sides = new ArrayList<>();
+    private List<SideData> aliveSides = new ArrayList<>();
+    private int nbDeadSides = 0;
+    private int nbMerges = 0;
+
+    // Link data, indexed by link creation number
+    private int[] linkWeights = new int[16 * NB_CATEGORIES];
+    private int[] linkSides = new int[16 * 2];
+    private int nbLinks = 0;
+
+    private int[] heap = new int[16];
+    private int heapSize = 0;
+
+    LinkHeap(List<BSCluster> bsClusters) {
+        bsClusters.forEach(this::addClusterSidesTwins);
+    }
+
+    private void addClusterSidesTwins(BSCluster bsCluster) {
+        BSClusterSide bsSLeft = new BSClusterSide(bsCluster, Side.LEFT);
+        BSClusterSide bsSRight = new BSClusterSide(bsCluster, Side.RIGHT);
+        bsSLeft.setOtherSameRoot(bsSRight);
+        bsSRight.setOtherSameRoot(bsSLeft);
+        SideData left = addBsClusterSide(bsSLeft);
+        SideData right = addBsClusterSide(bsSRight);
+        left.otherSameRoot = right;
+        right.otherSameRoot = left;
+    }
+
+    private SideData addBsClusterSide(BSClusterSide bsClusterSide) {
+        SideData sideData = new SideData(sides.size(), bsClusterSide);
+        sides.add(sideData);
+        for (SideData other : aliveSides) {
+            if (other.alive && other.bsClusterSide.getCluster() != bsClusterSide.getCluster()) {
+                addLink(other, sideData);
+            }
+        }
+        aliveSides.add(sideData);
+        return sideData;
+    }
+
+    private void addLink(SideData sideData1, SideData sideData2) {
+        int link = nbLinks++;
+        if (link * NB_CATEGORIES >= linkWeights.length) {
+            linkWeights = Arrays.copyOf(linkWeights, linkWeights.length * 2);
+            linkSides = Arrays.copyOf(linkSides, linkSides.length * 2);
+        }
+        int offset = link * NB_CATEGORIES;
+        linkWeights[offset + Link.LinkCategory.COMMON_BUSES.ordinal()] = Link.assessCommonBusNodes(sideData1.busNodes, sideData2.busNodes);
+        linkWeights[offset + Link.LinkCategory.FLAT_CELLS.ordinal()] = Link.assessFlatCell(sideData1.getCandidateFlatCells(), sideData2.getCandidateFlatCells(),
+                internCell -> sideData1.getFlatCellDistanceToEdge(internCell) + sideData2.getFlatCellDistanceToEdge(internCell));
+        linkWeights[offset + Link.LinkCategory.CROSSOVER.ordinal()] = Link.assessCrossOver(sideData1.undefinedInternCells, sideData2.undefinedInternCells);
+        linkWeights[offset + Link.LinkCategory.SHUNT.ordinal()] = Link.assessShunt(sideData1.externShuntedCells, sideData1::getExternCellAttractionToEdge,
+                sideData2.externShuntedCells, sideData2::getExternCellAttractionToEdge);
+        linkSides[2 * link] = sideData1.id;
+        linkSides[2 * link + 1] = sideData2.id;
+        push(link);
+    }
+
+    boolean isEmpty() {
+        removeDeadLinksOnTop();
+        return heapSize == 0;
+    }
+
+    /**
+     * Merge the clusters of the strongest link, which is the link with the highest weights, compared category by
+     * category, and then the last created one.
+     */
+    void mergeStrongestLink() {
+        removeDeadLinksOnTop();
+        int link = poll();
+        SideData sideData1 = sides.get(linkSides[2 * link]);
+        SideData sideData2 = sides.get(linkSides[2 * link + 1]);
+        Link.mergeClusters(sideData1.bsClusterSide, sideData2.bsClusterSide);
+        BSCluster mergedCluster = sideData1.bsClusterSide.getCluster();
+        nbMerges++;
+        removeBsClusterSide(sideData1);
+        removeBsClusterSide(sideData2);
+        removeBsClusterSide(sideData1.otherSameRoot);
+        removeBsClusterSide(sideData2.otherSameRoot);
+        addClusterSidesTwins(mergedCluster);
+    }
+
+    private void removeBsClusterSide(SideData sideData) {
+        sideData.alive = false;
+        nbDeadSides++;
+        if (nbDeadSides > aliveSides.size() / 2) {
+            // Keeping the creation order of the alive sides, hence the link creation order
+            aliveSides = new ArrayList<>(aliveSides.stream().filter(s -> s.alive).toList());
+            nbDeadSides = 0;
+        }
+    }
+
+    BSCluster getFinalBsCluster() {
+        return aliveSides.stream().filter(s -> s.alive).findFirst().orElseThrow().bsClusterSide.getCluster();
+    }
+
+    private boolean isAlive(int link) {
+        return sides.get(linkSides[2 * link]).alive && sides.get(linkSides[2 * link + 1]).alive;
+    }
+
+    private void removeDeadLinksOnTop() {
+        while (heapSize > 0 && !isAlive(heap[0])) {
+            poll();
+        }
+    }
+
+    private boolean isStronger(int link1, int link2) {
+        int offset1 = link1 * NB_CATEGORIES;
+        int offset2 = link2 * NB_CATEGORIES;
+        for (int c = 0; c < NB_CATEGORIES; c++) {
+            if (linkWeights[offset1 + c] != linkWeights[offset2 + c]) {
+                return linkWeights[offset1 + c] > linkWeights[offset2 + c];
+            }
+        }
+        return link1 > link2;
+    }
+
+    private void push(int link) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+        int p = heapSize++;
+        while (p > 0) {
+            int parent = (p - 1) / 2;
+            if (!isStronger(link, heap[parent])) {
+                break;
+            }
+            heap[p] = heap[parent];
+            p = parent;
+        }
+        heap[p] = link;
+    }
+
+    private int poll() {
+        int first = heap[0];
+        int last = heap[--heapSize];
+        int p = 0;
+        while (2 * p + 1 < heapSize) {
+            int child = 2 * p + 1;
+            if (child + 1 < heapSize && isStronger(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!isStronger(heap[child], last)) {
+                break;
+            }
+            heap[p] = heap[child];
+            p = child;
+        }
+        if (heapSize > 0) {
+            heap[p] = last;
+        }
+        return first;
+    }
+
+    private final class SideData {
+
+        private final int id;
+        private final BSClusterSide bsClusterSide;
+        private final Set<BusNode> busNodes;
+        private final List<InternCell> undefinedInternCells;
+        private final List<ExternCell> externShuntedCells;
+        private final Map<InternCell, Integer> flatCellDistancesToEdge = new HashMap<>();
+        private final Map<ExternCell, Integer> externCellAttractionsToEdge = new HashMap<>();
+        private List<InternCell> candidateFlatCells;
+        private int candidateFlatCellsMerges = -1;
+        private SideData otherSameRoot;
+        private boolean alive = true;
+
+        private SideData(int id, BSClusterSide bsClusterSide) {
+            this.id = id;
+            this.bsClusterSide = bsClusterSide;
+            this.busNodes = bsClusterSide.getBusNodeSet();
+            this.undefinedInternCells = bsClusterSide.getInternCellsFromShape(InternCell.Shape.UNDEFINED);
+            this.externShuntedCells = Link.extractExternShuntedCells(bsClusterSide);
+        }
+
+        private List<InternCell> getCandidateFlatCells() {
+            // Merges may set some candidate flat cells flat
+            if (candidateFlatCellsMerges != nbMerges) {
+                candidateFlatCells = bsClusterSide.getCandidateFlatCellList();
+                candidateFlatCellsMerges = nbMerges;
+            }
+            return candidateFlatCells;
+        }
+
+        private int getFlatCellDistanceToEdge(InternCell internCell) {
+            return flatCellDistancesToEdge.computeIfAbsent(internCell, bsClusterSide::getCandidateFlatCellDistanceToEdge);
+        }
+
+        private int getExternCellAttractionToEdge(ExternCell externCell) {
+            return externCellAttractionsToEdge.computeIfAbsent(externCell, bsClusterSide::getExternCellAttractionToEdge);
+        }
+    }
+}
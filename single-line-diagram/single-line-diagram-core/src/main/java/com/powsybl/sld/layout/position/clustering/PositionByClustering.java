@@ -83,12 +83,7 @@ public class PositionByClustering extends AbstractPositionFinder {
     }
 
     public BSCluster organizeBusSets(VoltageLevelGraph graph, List<VerticalBusSet> verticalBusSets) {
-        List<BSCluster> bsClusters = BSCluster.createBSClusters(verticalBusSets);
-        Links links = new Links(bsClusters);
-        while (!links.isEmpty()) {
-            links.mergeLink(links.getStrongestLink());
-        }
-        BSCluster bsCluster = links.getFinalBsCluster();
+        BSCluster bsCluster = mergeBsClusters(BSCluster.createBSClusters(verticalBusSets));
 
         tetrisHorizontalBusLists(bsCluster);
         bsCluster.getHorizontalBusLists().forEach(hl -> LOGGER.info(hl.toString()));
@@ -98,6 +93,17 @@ public class PositionByClustering extends AbstractPositionFinder {
         return bsCluster;
     }
 
+    /**
+     * Merge the given BSClusters two by two, starting by the ones having the strongest link, into a single BSCluster
+     */
+    protected BSCluster mergeBsClusters(List<BSCluster> bsClusters) {
+        Links links = new Links(bsClusters);
+        while (!links.isEmpty()) {
+            links.mergeLink(links.getStrongestLink());
+        }
+        return links.getFinalBsCluster();
+    }
+
     private void tetrisHorizontalBusLists(BSCluster bsCluster) {
         List<HorizontalBusList> horizontalBusLists = bsCluster.getHorizontalBusLists();
         if (LOGGER.isInfoEnabled()) {
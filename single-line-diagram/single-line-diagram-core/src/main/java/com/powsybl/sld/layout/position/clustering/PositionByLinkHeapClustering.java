@@ -0,0 +1,31 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld.layout.position.clustering;
+
+import com.powsybl.sld.layout.position.BSCluster;
+
+import java.util.List;
+
+/**
+ * {@link PositionByClustering} merging the BSClusters with a {@link LinkHeap} instead of the {@link Links}: the
+ * resulting positions are the same, but the merging scales better with the number of vertical bus sets, which makes
+ * it suitable for large voltage levels without position extensions.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class PositionByLinkHeapClustering extends PositionByClustering {
+
+    @Override
+    protected BSCluster mergeBsClusters(List<BSCluster> bsClusters) {
+        LinkHeap linkHeap = new LinkHeap(bsClusters);
+        while (!linkHeap.isEmpty()) {
+            linkHeap.mergeStrongestLink();
+        }
+        return linkHeap.getFinalBsCluster();
+    }
+}
@@ -22,6 +22,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,7 +44,8 @@ public abstract class AbstractGraph implements Graph {
         if (parentGraph instanceof VoltageLevelGraph) {
             throw new PowsyblException("a voltageLevelGraph can not be a parent Graph");
         }
-        this.nodeToVlGraph = parentGraph == null ? new HashMap<>() : parentGraph.getNodeToVlGraph();
+        // Shared by all the graphs of a diagram, and updated by the voltage level layouts, which may run concurrently
+        this.nodeToVlGraph = parentGraph == null ? Collections.synchronizedMap(new HashMap<>()) : parentGraph.getNodeToVlGraph();
     }
 
     @Override
@@ -63,13 +63,15 @@ public class VoltageLevelGraph extends AbstractBaseGraph {
 
     private final VoltageLevelInfos voltageLevelInfos;
 
-    private final List<Node> nodes = new ArrayList<>();
+    // Insertion-ordered sets: membership checks and removals are done in constant time, while the iteration order
+    // stays the one of a list from which the removed elements would have been taken out
+    private final Set<Node> nodes = new LinkedHashSet<>();
 
-    private final List<Edge> edges = new ArrayList<>();
+    private final Set<Edge> edges = new LinkedHashSet<>();
 
     private final SortedSet<Cell> cells = new TreeSet<>(Comparator.comparingInt(Cell::getNumber)); // cells sorted to avoid randomness
 
-    private final Map<Node.NodeType, List<Node>> nodesByType = new EnumMap<>(Node.NodeType.class);
+    private final Map<Node.NodeType, Set<Node>> nodesByType = new EnumMap<>(Node.NodeType.class);
 
     private final Map<String, Node> nodesById = new HashMap<>();
 
@@ -104,6 +106,10 @@ public class VoltageLevelGraph extends AbstractBaseGraph {
         return forVoltageLevelDiagram;
     }
 
+    /**
+     * Cells are numbered per voltage level graph, hence the numbers do not depend on the order in which the voltage
+     * levels of a substation or zone diagram are laid out, even when their layouts run concurrently
+     */
     public int getNextCellNumber() {
         return cellCounter++;
     }
@@ -204,7 +210,7 @@ public class VoltageLevelGraph extends AbstractBaseGraph {
         }
         super.addNode(this, node);
         nodes.add(node);
-        nodesByType.computeIfAbsent(node.getType(), nodeType -> new ArrayList<>()).add(node);
+        nodesByType.computeIfAbsent(node.getType(), nodeType -> new LinkedHashSet<>()).add(node);
         nodesById.put(node.getId(), node);
     }
 
@@ -212,7 +218,10 @@ public class VoltageLevelGraph extends AbstractBaseGraph {
     public void removeNode(Node node) {
         nodes.remove(node);
         super.removeNode(node);
-        nodesByType.computeIfAbsent(node.getType(), nodeType -> new ArrayList<>()).remove(node);
+        Set<Node> nodesOfType = nodesByType.get(node.getType());
+        if (nodesOfType != null) {
+            nodesOfType.remove(node);
+        }
         nodesById.remove(node.getId(), node);
         for (Edge edge : new ArrayList<>(node.getAdjacentEdges())) {
             removeEdge(edge);
@@ -382,7 +391,7 @@ public class VoltageLevelGraph extends AbstractBaseGraph {
     public void insertHookNodesAtFeeders() {
         // Each feeder node needs a fictitious node to have enough place for the feeder infos (arrows)
         // FeederNode linked to Middle3WTNode do not need any fictitious node inserted, because of the fictitious Middle3WTNode
-        List<Node> feederNodes = nodesByType.computeIfAbsent(Node.NodeType.FEEDER, nodeType -> new ArrayList<>());
+        Set<Node> feederNodes = nodesByType.getOrDefault(Node.NodeType.FEEDER, Collections.emptySet());
         feederNodes.stream()
                 .filter(feederNode -> !isHookReplacement((FeederNode) feederNode))
                 .forEach(this::insertFeederHookNode);
@@ -511,7 +520,7 @@ public class VoltageLevelGraph extends AbstractBaseGraph {
     }
 
     public List<BusNode> getNodeBuses() {
-        return nodesByType.computeIfAbsent(Node.NodeType.BUS, nodeType -> new ArrayList<>())
+        return nodesByType.getOrDefault(Node.NodeType.BUS, Collections.emptySet())
                 .stream()
                 .map(BusNode.class::cast)
                 .collect(Collectors.toList());
@@ -522,7 +531,7 @@ public class VoltageLevelGraph extends AbstractBaseGraph {
     }
 
     private Stream<FeederNode> getFeederNodeStream() {
-        return nodesByType.computeIfAbsent(NodeType.FEEDER, nodeType -> new ArrayList<>())
+        return nodesByType.getOrDefault(NodeType.FEEDER, Collections.emptySet())
                 .stream()
                 .map(FeederNode.class::cast);
     }
@@ -536,7 +545,7 @@ public class VoltageLevelGraph extends AbstractBaseGraph {
     }
 
     public Stream<ConnectivityNode> getConnectivityNodeStream() {
-        return nodesByType.computeIfAbsent(NodeType.INTERNAL, nodeType -> new ArrayList<>())
+        return nodesByType.getOrDefault(NodeType.INTERNAL, Collections.emptySet())
                 .stream()
                 .filter(ConnectivityNode.class::isInstance)
                 .map(ConnectivityNode.class::cast);
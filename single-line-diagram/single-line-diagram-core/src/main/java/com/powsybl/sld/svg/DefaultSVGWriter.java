@@ -117,19 +117,104 @@ public class DefaultSVGWriter implements SVGWriter {
         return metadata;
     }
 
+    /**
+     * Create the update of an SVG previously written, containing the style classes of the nodes and wires, and the labels
+     * and style classes of the feeder infos. No SVG is built and the graph does not need to be laid out: only the elements
+     * of the graph described in the metadata of the previous SVG are updated.
+     *
+     * @param graph            zone, voltage level or substation graph, built with the current network state
+     * @param previousMetadata metadata returned when writing the SVG to update
+     * @param labelProvider    provider of the feeder infos
+     * @param styleProvider    provider of the style classes
+     * @return the update of the SVG
+     */
+    public GraphUpdate createUpdate(Graph graph, GraphMetadata previousMetadata, LabelProvider labelProvider, StyleProvider styleProvider) {
+        Objects.requireNonNull(graph);
+        Objects.requireNonNull(previousMetadata);
+        Objects.requireNonNull(labelProvider);
+        Objects.requireNonNull(styleProvider);
+
+        GraphUpdate update = new GraphUpdate();
+        String prefixId = previousMetadata.getSvgParameters().getPrefixId();
+
+        for (VoltageLevelGraph vlGraph : graph.getVoltageLevels()) {
+            String voltageLevelId = vlGraph.getVoltageLevelInfos().id();
+            for (Node node : vlGraph.getNodes()) {
+                addNodeUpdate(update, previousMetadata, vlGraph, node, styleProvider);
+                if (node instanceof FeederNode feederNode) {
+                    addFeederInfoUpdates(update, previousMetadata, feederNode, labelProvider, styleProvider);
+                }
+            }
+            for (Edge edge : vlGraph.getEdges()) {
+                String wireId = getWireId(prefixId, voltageLevelId, edge);
+                if (previousMetadata.getWireMetadata(wireId) != null) {
+                    update.addWireUpdate(new GraphUpdate.ElementUpdate(wireId, styleProvider.getEdgeStyles(vlGraph, edge), styleProvider.getEdgeStyle(vlGraph, edge)));
+                }
+            }
+            addSnakeLinesUpdates(update, previousMetadata, vlGraph, styleProvider);
+        }
+
+        if (graph instanceof SubstationGraph substationGraph) {
+            addSnakeLinesUpdates(update, previousMetadata, substationGraph, styleProvider);
+        } else if (graph instanceof ZoneGraph zoneGraph) {
+            zoneGraph.getSubstations().forEach(sGraph -> addSnakeLinesUpdates(update, previousMetadata, sGraph, styleProvider));
+            zoneGraph.getLineEdges().forEach(edge -> addSnakeLineUpdate(update, previousMetadata, zoneGraph, edge, styleProvider));
+        }
+
+        return update;
+    }
+
+    private void addNodeUpdate(GraphUpdate update, GraphMetadata previousMetadata, Graph graph, Node node, StyleProvider styleProvider) {
+        String nodeEscapedId = IdUtil.escapeId(previousMetadata.getSvgParameters().getPrefixId() + node.getId());
+        if (previousMetadata.getNodeMetadata(nodeEscapedId) != null) {
+            VoltageLevelGraph vlGraph = graph.getVoltageLevelGraph(node);
+            String style = node instanceof BusNode busNode
+                    ? styleProvider.getBusNodeStyle(busNode)
+                    : styleProvider.getNodeStyle(vlGraph, node, componentLibrary, svgParameters.isShowInternalNodes());
+            update.addNodeUpdate(new GraphUpdate.ElementUpdate(nodeEscapedId,
+                    styleProvider.getNodeStyles(vlGraph, node, componentLibrary, svgParameters.isShowInternalNodes()), style));
+        }
+    }
+
+    private void addFeederInfoUpdates(GraphUpdate update, GraphMetadata previousMetadata, FeederNode feederNode,
+                                      LabelProvider labelProvider, StyleProvider styleProvider) {
+        for (FeederInfo feederInfo : labelProvider.getFeederInfos(feederNode)) {
+            String svgId = escapeId(feederNode.getId() + "_" + feederInfo.getComponentType());
+            if (previousMetadata.getFeederInfoMetadata(svgId) != null) {
+                List<String> classes = new ArrayList<>(styleProvider.getFeederInfoStyles(feederInfo));
+                componentLibrary.getComponentStyleClass(feederInfo.getComponentType()).ifPresent(classes::add);
+                update.addFeederInfoUpdate(new GraphUpdate.FeederInfoUpdate(svgId,
+                        feederInfo.getLeftLabel().orElse(null), feederInfo.getRightLabel().orElse(null), classes));
+            }
+        }
+    }
+
+    private void addSnakeLinesUpdates(GraphUpdate update, GraphMetadata previousMetadata, BaseGraph graph, StyleProvider styleProvider) {
+        graph.getLineEdges().forEach(edge -> addSnakeLineUpdate(update, previousMetadata, graph, edge, styleProvider));
+        graph.getTwtEdges().forEach(edge -> addSnakeLineUpdate(update, previousMetadata, graph, edge, styleProvider));
+        graph.getMultiTermNodes().forEach(node -> addNodeUpdate(update, previousMetadata, graph, node, styleProvider));
+    }
+
+    private void addSnakeLineUpdate(GraphUpdate update, GraphMetadata previousMetadata, Graph graph, BranchEdge edge, StyleProvider styleProvider) {
+        String snakeLineId = escapeId(previousMetadata.getSvgParameters().getPrefixId() + edge.getId());
+        if (previousMetadata.getWireMetadata(snakeLineId) != null) {
+            update.addWireUpdate(new GraphUpdate.ElementUpdate(snakeLineId, styleProvider.getEdgeStyles(graph, edge), styleProvider.getEdgeStyle(graph, edge)));
+        }
+    }
+
     private void setDocumentSize(Graph graph, Document document) {
-        document.getDocumentElement().setAttribute("viewBox", "0 0 " + getDiagramWidth(graph, layoutParameters) + " " + getDiagramHeight(graph, layoutParameters));
+        document.getDocumentElement().setAttribute("viewBox", "0 0 " + getDiagramWidth(graph, layoutParameters) + " " + getDiagramHeight(graph, layoutParameters, svgParameters));
         if (svgParameters.isSvgWidthAndHeightAdded()) {
             document.getDocumentElement().setAttribute(WIDTH, Double.toString(getDiagramWidth(graph, layoutParameters)));
-            document.getDocumentElement().setAttribute(HEIGHT, Double.toString(getDiagramHeight(graph, layoutParameters)));
+            document.getDocumentElement().setAttribute(HEIGHT, Double.toString(getDiagramHeight(graph, layoutParameters, svgParameters)));
         }
     }
 
-    private double getDiagramWidth(Graph graph, LayoutParameters layoutParameters) {
+    static double getDiagramWidth(Graph graph, LayoutParameters layoutParameters) {
         return graph.getWidth() + layoutParameters.getDiagramPadding().left() + layoutParameters.getDiagramPadding().right();
     }
 
-    private double getDiagramHeight(Graph graph, LayoutParameters layoutParameters) {
+    static double getDiagramHeight(Graph graph, LayoutParameters layoutParameters, SvgParameters svgParameters) {
         double height = graph.getHeight() + layoutParameters.getDiagramPadding().top() + layoutParameters.getDiagramPadding().bottom();
         if (graph instanceof VoltageLevelGraph && svgParameters.isBusesLegendAdded()) {
             height += 8 * CIRCLE_RADIUS_NODE_INFOS_SIZE;
@@ -486,10 +571,10 @@ public class DefaultSVGWriter implements SVGWriter {
                         node instanceof EquipmentNode ? ((EquipmentNode) node).getEquipmentId() : null,
                         createNodeLabelMetadata(prefixId, node, nodeLabels)));
 
-        addInfoComponentMetadata(metadata, node.getComponentType());
+        addInfoComponentMetadata(componentLibrary, metadata, node.getComponentType());
     }
 
-    private String getUnescapedId(Node node) {
+    static String getUnescapedId(Node node) {
         String unescapedId = null;
         if (node.getComponentType().equals(VSC_CONVERTER_STATION) ||
             node.getComponentType().equals(LCC_CONVERTER_STATION)) {
@@ -657,7 +742,7 @@ public class DefaultSVGWriter implements SVGWriter {
         setAttributesAndInsertElement(g, elementAttributesSetter, subComponentName, eltUse);
     }
 
-    private static String getHRefValue(int nbSubComponents, String componentType, String subComponentName) {
+    static String getHRefValue(int nbSubComponents, String componentType, String subComponentName) {
         return nbSubComponents > 1 ? componentType + "-" + subComponentName : componentType;
     }
 
@@ -681,20 +766,9 @@ public class DefaultSVGWriter implements SVGWriter {
         replaceId(g, elt, prefixId);
         ComponentSize size = componentLibrary.getSize(componentType);
 
-        // Checking if svg component is allowed to be transformed (rotate or flip)
-        // (ex : disconnector in SVG component library not allowed to rotate)
-        Orientation nodeOrientation = node.getOrientation();
-        SldComponent.Transformation transformationType = componentLibrary.getTransformations(node.getComponentType()).get(nodeOrientation);
-        if (transformationType != null) {
-            String transform = switch (transformationType) {
-                case ROTATION -> ROTATE + "(" + nodeOrientation.toRotationAngle() + "," + size.width() / 2 + "," + size.height() / 2 + ")";
-                case FLIP -> SCALE + "(1, -1)" + " "
-                        + TRANSLATE + "(0, " + -size.height() + ")";
-                default -> null;
-            };
-            if (transform != null) {
-                elt.setAttribute(TRANSFORM, transform);
-            }
+        String transform = getComponentTransform(componentLibrary, node, size);
+        if (transform != null) {
+            elt.setAttribute(TRANSFORM, transform);
         }
 
         writeStyleClasses(elt, styleProvider.getNodeSubcomponentStyles(graph, node, subComponent),
@@ -703,12 +777,31 @@ public class DefaultSVGWriter implements SVGWriter {
         writeStyleAttribute(elt, styleProvider.getNodeSubcomponentStyle(graph, node, subComponent));
     }
 
+    /**
+     * Returns the transform of a component of the given node, or null if the component is not transformed
+     */
+    static String getComponentTransform(SldComponentLibrary componentLibrary, Node node, ComponentSize size) {
+        // Checking if svg component is allowed to be transformed (rotate or flip)
+        // (ex : disconnector in SVG component library not allowed to rotate)
+        Orientation nodeOrientation = node.getOrientation();
+        SldComponent.Transformation transformationType = componentLibrary.getTransformations(node.getComponentType()).get(nodeOrientation);
+        if (transformationType == null) {
+            return null;
+        }
+        return switch (transformationType) {
+            case ROTATION -> ROTATE + "(" + nodeOrientation.toRotationAngle() + "," + size.width() / 2 + "," + size.height() / 2 + ")";
+            case FLIP -> SCALE + "(1, -1)" + " "
+                    + TRANSLATE + "(0, " + -size.height() + ")";
+            default -> null;
+        };
+    }
+
     private void setDecoratorAttributes(String prefixId, Element g, Graph graph, Node node, LabelProvider.NodeDecorator nodeDecorator,
                                         StyleProvider styleProvider, Element elt, String subComponentName) {
         replaceId(g, elt, prefixId);
         ComponentSize decoratorSize = componentLibrary.getSize(nodeDecorator.type());
         LabelPosition decoratorPosition = nodeDecorator.position();
-        elt.setAttribute(TRANSFORM, getTransformStringDecorator(node, decoratorPosition, decoratorSize));
+        elt.setAttribute(TRANSFORM, getTransformStringDecorator(componentLibrary, node, decoratorPosition, decoratorSize));
         writeStyleClasses(elt, styleProvider.getNodeSubcomponentStyles(graph, node, subComponentName),
                 componentLibrary.getSubComponentStyleClass(nodeDecorator.type(), subComponentName).orElse(null));
     }
@@ -730,7 +823,7 @@ public class DefaultSVGWriter implements SVGWriter {
         }
     }
 
-    private String getTransformStringDecorator(Node node, LabelPosition decoratorPosition, ComponentSize decoratorSize) {
+    static String getTransformStringDecorator(SldComponentLibrary componentLibrary, Node node, LabelPosition decoratorPosition, ComponentSize decoratorSize) {
         ComponentSize componentSize = componentLibrary.getSize(node.getComponentType());
         double dX = componentSize.width() / 2 + decoratorPosition.dX();
         double dY = componentSize.height() / 2 + decoratorPosition.dY();
@@ -742,11 +835,11 @@ public class DefaultSVGWriter implements SVGWriter {
     }
 
     protected void transformComponent(Node node, Point shift, Element g) {
-        double[] translate = getNodeTranslate(node, shift);
+        double[] translate = getNodeTranslate(componentLibrary, node, shift);
         g.setAttribute(TRANSFORM, TRANSLATE + "(" + translate[0] + "," + translate[1] + ")");
     }
 
-    private double[] getNodeTranslate(Node node, Point shift) {
+    static double[] getNodeTranslate(SldComponentLibrary componentLibrary, Node node, Point shift) {
         ComponentSize componentSize = componentLibrary.getSize(node.getComponentType());
         double translateX = node.getX() + shift.getX() - componentSize.width() / 2;
         double translateY = node.getY() + shift.getY() - componentSize.height() / 2;
@@ -754,6 +847,16 @@ public class DefaultSVGWriter implements SVGWriter {
     }
 
     protected void transformFeederInfo(List<Point> points, ComponentSize componentSize, double shift, Element g) {
+        String transform = getFeederInfoTransform(points, componentSize, shift, svgParameters);
+        if (transform != null) {
+            g.setAttribute(TRANSFORM, transform);
+        }
+    }
+
+    /**
+     * Returns the transform of a feeder info placed along the given wire points, or null if the wire has no length
+     */
+    static String getFeederInfoTransform(List<Point> points, ComponentSize componentSize, double shift, SvgParameters svgParameters) {
         Point pointA = points.get(0);
         Point pointB = points.get(1);
         double distancePoints = pointA.distance(pointB);
@@ -784,11 +887,12 @@ public class DefaultSVGWriter implements SVGWriter {
             if (feederInfoRotationAngle < -Math.PI / 2) {
                 feederInfoRotationAngle += Math.PI;
             }
-            g.setAttribute(TRANSFORM, getTransformString(x, y, feederInfoRotationAngle, componentSize));
+            return getTransformString(x, y, feederInfoRotationAngle, componentSize);
         }
+        return null;
     }
 
-    private String getTransformString(double centerPosX, double centerPosY, double angle, ComponentSize componentSize) {
+    private static String getTransformString(double centerPosX, double centerPosY, double angle, ComponentSize componentSize) {
         if (angle == 0) {
             double translateX = centerPosX - componentSize.width() / 2;
             double translateY = centerPosY - componentSize.height() / 2;
@@ -800,7 +904,7 @@ public class DefaultSVGWriter implements SVGWriter {
         }
     }
 
-    private double[] getTransformMatrix(double width, double height, double angle,
+    private static double[] getTransformMatrix(double width, double height, double angle,
                                         double centerPosX, double centerPosY) {
 
         double cosRo = Math.cos(angle);
@@ -841,14 +945,14 @@ public class DefaultSVGWriter implements SVGWriter {
         double shiftFeederInfo = 0;
         for (FeederInfo feederInfo : labelProvider.getFeederInfos(feederNode)) {
             drawFeederInfo(prefixId, feederNode, points, root, feederInfo, shiftFeederInfo, metadata, styleProvider);
-            addInfoComponentMetadata(metadata, feederInfo.getComponentType());
+            addInfoComponentMetadata(componentLibrary, metadata, feederInfo.getComponentType());
 
             double height = componentLibrary.getSize(feederInfo.getComponentType()).height();
             shiftFeederInfo += svgParameters.getFeederInfosIntraMargin() + height;
         }
     }
 
-    private void addInfoComponentMetadata(GraphMetadata metadata, String componentType) {
+    static void addInfoComponentMetadata(SldComponentLibrary componentLibrary, GraphMetadata metadata, String componentType) {
         if (metadata.getComponentMetadata(componentType) == null) {
             metadata.addComponent(new SldComponent(componentType,
                     componentLibrary.getAnchorPoints(componentType),
@@ -904,7 +1008,7 @@ public class DefaultSVGWriter implements SVGWriter {
         Optional<BusInfo> busInfo = labelProvider.getBusInfo(busNode);
         busInfo.ifPresent(info -> {
             drawBusInfo(prefixId, busNode, root, info, styleProvider, metadata);
-            addInfoComponentMetadata(metadata, busInfo.get().getComponentType());
+            addInfoComponentMetadata(componentLibrary, metadata, busInfo.get().getComponentType());
         });
     }
 
@@ -953,11 +1057,11 @@ public class DefaultSVGWriter implements SVGWriter {
      * we rely on the fact that node ids are unique inside a voltage level. We also prepend with a custom prefix id to
      * allow multiple diagrams unicity.
      */
-    private static String getWireId(String prefixId, String containerId, Edge edge) {
+    static String getWireId(String prefixId, String containerId, Edge edge) {
         return escapeClassName(prefixId + "_" + containerId + "_" + edge.getNode1().getId() + "_" + edge.getNode2().getId());
     }
 
-    private static String getNodeLabelId(String prefixId, Node node, LabelPosition labelPosition) {
+    static String getNodeLabelId(String prefixId, Node node, LabelPosition labelPosition) {
         return prefixId + node.getId() + "_" + labelPosition.positionName();
     }
 
@@ -1057,7 +1161,7 @@ public class DefaultSVGWriter implements SVGWriter {
             // Note that edge.getNode2() might be outside the voltageLevelGraph (multiTermNode between voltage levels),
             // whereas edge.getNode1() is supposed to always be a FeederNode in a voltageLevelGraph
             // Snakeline between two feeder nodes, no need to adapt
-            adaptCoordSnakeLine(edge, pol, graph);
+            pol = adaptCoordSnakeLine(componentLibrary, edge, pol, graph);
         }
 
         Element polyline = root.getOwnerDocument().createElement(POLYLINE);
@@ -1073,9 +1177,10 @@ public class DefaultSVGWriter implements SVGWriter {
 
     /*
      * Adaptation of the previously calculated snakeLine points, in order to use the anchor points
-     * if a node is outside any graph
+     * if a node is outside any graph. The points are copied, so that drawing a graph does not modify it
      */
-    private void adaptCoordSnakeLine(BranchEdge edge, List<Point> pol, Graph graph) {
+    static List<Point> adaptCoordSnakeLine(SldComponentLibrary componentLibrary, BranchEdge edge, List<Point> snakeLine, Graph graph) {
+        List<Point> pol = snakeLine.stream().map(Point::new).collect(Collectors.toList());
         // Getting the right polyline point from where we need to compute the best anchor point
         Point multiTermPoint = pol.getLast();
         Point pointBeforeNode = pol.get(Math.max(pol.size() - 2, 0));
@@ -1088,6 +1193,7 @@ public class DefaultSVGWriter implements SVGWriter {
             pointBeforeNode.shiftY(bestAnchorPoint.getY()); // horizontal line remains horizontal
         }
         multiTermPoint.shift(bestAnchorPoint);
+        return pol;
     }
 
     protected String pointsListToString(List<Point> polyline) {
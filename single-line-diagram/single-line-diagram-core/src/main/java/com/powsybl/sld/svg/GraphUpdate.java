@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld.svg;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.diagram.metadata.AbstractMetadata;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Update of the parts of a single-line diagram SVG which depend on the network state only: the style classes of the
+ * nodes and wires, and the labels and style classes of the feeder infos. The updates are keyed by the ids of the
+ * corresponding SVG elements, as given in the {@link GraphMetadata} of the SVG.
+ * <p>
+ * Each update contains the complete value to set, hence an update can be applied to the original SVG as well as to an
+ * SVG already updated.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class GraphUpdate extends AbstractMetadata<GraphUpdate> {
+
+    // please note further changes as a comment when version is bumped
+    private static final String METADATA_VERSION = "1.0";
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record ElementUpdate(String id, List<String> classes, String style) {
+        @JsonCreator
+        public ElementUpdate(@JsonProperty("id") String id,
+                             @JsonProperty("classes") List<String> classes,
+                             @JsonProperty("style") String style) {
+            this.id = Objects.requireNonNull(id);
+            this.classes = Objects.requireNonNullElse(classes, Collections.emptyList());
+            this.style = style;
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record FeederInfoUpdate(String id, String leftLabel, String rightLabel, List<String> classes) {
+        @JsonCreator
+        public FeederInfoUpdate(@JsonProperty("id") String id,
+                                @JsonProperty("leftLabel") String leftLabel,
+                                @JsonProperty("rightLabel") String rightLabel,
+                                @JsonProperty("classes") List<String> classes) {
+            this.id = Objects.requireNonNull(id);
+            this.leftLabel = leftLabel;
+            this.rightLabel = rightLabel;
+            this.classes = Objects.requireNonNullElse(classes, Collections.emptyList());
+        }
+    }
+
+    private final List<ElementUpdate> nodeUpdates = new ArrayList<>();
+
+    private final List<ElementUpdate> wireUpdates = new ArrayList<>();
+
+    private final List<FeederInfoUpdate> feederInfoUpdates = new ArrayList<>();
+
+    public GraphUpdate() {
+        this.metadataVersion = METADATA_VERSION;
+    }
+
+    @JsonCreator
+    public GraphUpdate(@JsonProperty("nodes") List<ElementUpdate> nodeUpdates,
+                       @JsonProperty("wires") List<ElementUpdate> wireUpdates,
+                       @JsonProperty("feederInfos") List<FeederInfoUpdate> feederInfoUpdates,
+                       @JsonProperty("networkId") String networkId,
+                       @JsonProperty("networkName") String networkName,
+                       @JsonProperty("networkDate") String networkDate) {
+        super(networkId, networkName, networkDate);
+        this.nodeUpdates.addAll(nodeUpdates);
+        this.wireUpdates.addAll(wireUpdates);
+        this.feederInfoUpdates.addAll(feederInfoUpdates);
+        this.metadataVersion = METADATA_VERSION;
+    }
+
+    public static GraphUpdate parseJson(Reader reader) {
+        Objects.requireNonNull(reader);
+        ObjectMapper objectMapper = JsonUtil.createObjectMapper();
+        try {
+            return objectMapper.readValue(reader, GraphUpdate.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void addNodeUpdate(ElementUpdate update) {
+        nodeUpdates.add(Objects.requireNonNull(update));
+    }
+
+    @JsonProperty("nodes")
+    public List<ElementUpdate> getNodeUpdates() {
+        return Collections.unmodifiableList(nodeUpdates);
+    }
+
+    public void addWireUpdate(ElementUpdate update) {
+        wireUpdates.add(Objects.requireNonNull(update));
+    }
+
+    @JsonProperty("wires")
+    public List<ElementUpdate> getWireUpdates() {
+        return Collections.unmodifiableList(wireUpdates);
+    }
+
+    public void addFeederInfoUpdate(FeederInfoUpdate update) {
+        feederInfoUpdates.add(Objects.requireNonNull(update));
+    }
+
+    @JsonProperty("feederInfos")
+    public List<FeederInfoUpdate> getFeederInfoUpdates() {
+        return Collections.unmodifiableList(feederInfoUpdates);
+    }
+}
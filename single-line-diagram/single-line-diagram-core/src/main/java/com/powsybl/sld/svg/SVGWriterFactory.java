@@ -0,0 +1,19 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld.svg;
+
+import com.powsybl.sld.layout.LayoutParameters;
+import com.powsybl.sld.library.SldComponentLibrary;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+@FunctionalInterface
+public interface SVGWriterFactory {
+    SVGWriter create(SldComponentLibrary componentLibrary, LayoutParameters layoutParameters, SvgParameters svgParameters);
+}
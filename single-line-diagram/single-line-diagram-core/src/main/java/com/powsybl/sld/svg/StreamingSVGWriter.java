@@ -0,0 +1,858 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld.svg;
+
+import com.powsybl.commons.exceptions.UncheckedXmlStreamException;
+import com.powsybl.commons.xml.XmlUtil;
+import com.powsybl.diagram.components.ComponentSize;
+import com.powsybl.diagram.components.SvgTemplate;
+import com.powsybl.diagram.util.CssUtil;
+import com.powsybl.diagram.util.DomUtil;
+import com.powsybl.sld.layout.LayoutParameters;
+import com.powsybl.sld.library.SldComponent;
+import com.powsybl.sld.library.SldComponentLibrary;
+import com.powsybl.sld.model.cells.Cell;
+import com.powsybl.sld.model.coordinate.Direction;
+import com.powsybl.sld.model.coordinate.Point;
+import com.powsybl.sld.model.coordinate.Side;
+import com.powsybl.sld.model.graphs.*;
+import com.powsybl.sld.model.nodes.*;
+import com.powsybl.sld.model.nodes.feeders.FeederWithSides;
+import com.powsybl.sld.svg.styles.StyleClassConstants;
+import com.powsybl.sld.svg.styles.StyleProvider;
+import com.powsybl.sld.util.IdUtil;
+import javanet.staxutils.helpers.StreamWriterDelegate;
+import org.apache.commons.io.output.WriterOutputStream;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Strings;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.powsybl.diagram.util.CssUtil.CLASS;
+import static com.powsybl.sld.library.SldComponentTypeName.*;
+import static com.powsybl.sld.model.coordinate.Direction.*;
+import static com.powsybl.sld.svg.DefaultSVGWriter.*;
+import static com.powsybl.sld.util.IdUtil.escapeId;
+
+/**
+ * SVG writer giving the same diagram and the same {@link GraphMetadata} as {@link DefaultSVGWriter}, without building a DOM
+ * document: the elements are written one after the other to an {@link XMLStreamWriter}. The SVG elements of the components are
+ * written from the templates compiled by the component library, with their id, class, transform and style replaced. When writing
+ * to an output stream, these templates are copied as bytes into the stream.
+ * The output is equivalent to the one of {@link DefaultSVGWriter}, but the attributes order and the indentation may differ.
+ * As the legend writers build DOM elements, the legend is still built as a small DOM fragment before being written.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class StreamingSVGWriter implements SVGWriter {
+
+    private static final String SVG_NAMESPACE = "http://www.w3.org/2000/svg";
+    private static final String INDENT = "    ";
+    private static final String ID = "id";
+
+    protected final SldComponentLibrary componentLibrary;
+
+    protected final LayoutParameters layoutParameters;
+    protected final SvgParameters svgParameters;
+
+    public StreamingSVGWriter(SldComponentLibrary componentLibrary, LayoutParameters layoutParameters, SvgParameters svgParameters) {
+        this.componentLibrary = Objects.requireNonNull(componentLibrary);
+        this.layoutParameters = Objects.requireNonNull(layoutParameters);
+        this.svgParameters = Objects.requireNonNull(svgParameters);
+    }
+
+    @Override
+    public GraphMetadata write(Graph graph, LabelProvider labelProvider, StyleProvider styleProvider, SVGLegendWriter legendWriter, Writer writer) {
+        try (WriterOutputStream svgOs = WriterOutputStream.builder()
+                .setWriter(writer)
+                .setCharset(StandardCharsets.UTF_8)
+                .get()) {
+            return write(graph, labelProvider, styleProvider, legendWriter, svgOs);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write the SVG corresponding to the graph to the given output stream, encoded in UTF-8
+     *
+     * @param graph zone, voltage level or substation graph
+     * @param os    output stream for the SVG content
+     */
+    public GraphMetadata write(Graph graph, LabelProvider labelProvider, StyleProvider styleProvider, SVGLegendWriter legendWriter, OutputStream os) {
+        Objects.requireNonNull(os);
+        try {
+            XMLStreamWriter writer = new TemplateSplicingWriter(XmlUtil.initializeWriter(true, INDENT, os), os);
+            GraphMetadata metadata = write(graph, labelProvider, styleProvider, legendWriter, writer);
+            writer.writeEndDocument();
+            writer.flush();
+            return metadata;
+        } catch (XMLStreamException e) {
+            throw new UncheckedXmlStreamException(e);
+        }
+    }
+
+    /**
+     * Write the SVG element corresponding to the graph to the given XML stream writer. Neither the start nor the end of the document
+     * are written, so that the SVG can be included in another XML document.
+     *
+     * @param graph  zone, voltage level or substation graph
+     * @param writer XML stream writer for the SVG content
+     */
+    public GraphMetadata write(Graph graph, LabelProvider labelProvider, StyleProvider styleProvider, SVGLegendWriter legendWriter,
+                               XMLStreamWriter writer) throws XMLStreamException {
+        Objects.requireNonNull(graph);
+        Objects.requireNonNull(labelProvider);
+        Objects.requireNonNull(styleProvider);
+        Objects.requireNonNull(legendWriter);
+        Objects.requireNonNull(writer);
+
+        writer.writeStartElement("", "svg", SVG_NAMESPACE);
+        writeDocumentSize(graph, writer);
+        writer.writeDefaultNamespace(SVG_NAMESPACE);
+
+        Set<String> listUsedComponentSVG = new HashSet<>();
+        addStyle(writer, styleProvider, labelProvider, graph, listUsedComponentSVG);
+        if (graph instanceof BaseGraph baseGraph) {
+            baseGraph.getMultiTermNodes().forEach(n -> listUsedComponentSVG.add(n.getComponentType()));
+        }
+
+        writeDefsSVGComponents(writer, listUsedComponentSVG);
+
+        writeFrame(writer);
+        GraphMetadata metadata = writeGraph(graph, writer, labelProvider, styleProvider, legendWriter);
+
+        writer.writeEndElement();
+        return metadata;
+    }
+
+    private void writeDocumentSize(Graph graph, XMLStreamWriter writer) throws XMLStreamException {
+        double width = getDiagramWidth(graph, layoutParameters);
+        double height = getDiagramHeight(graph, layoutParameters, svgParameters);
+        writer.writeAttribute("viewBox", "0 0 " + width + " " + height);
+        if (svgParameters.isSvgWidthAndHeightAdded()) {
+            writer.writeAttribute(WIDTH, Double.toString(width));
+            writer.writeAttribute(HEIGHT, Double.toString(height));
+        }
+    }
+
+    private void addStyle(XMLStreamWriter writer, StyleProvider styleProvider, LabelProvider labelProvider,
+                          Graph graph, Set<String> listUsedComponentSVG) throws XMLStreamException {
+
+        graph.getAllNodesStream().forEach(n -> {
+            listUsedComponentSVG.add(n.getComponentType());
+            List<LabelProvider.NodeDecorator> nodeDecorators = labelProvider.getNodeDecorators(n, graph.getDirection(n));
+            if (nodeDecorators != null) {
+                nodeDecorators.forEach(nodeDecorator -> listUsedComponentSVG.add(nodeDecorator.type()));
+            }
+        });
+
+        switch (svgParameters.getCssLocation()) {
+            case INSERTED_IN_SVG -> {
+                writer.writeStartElement(STYLE);
+                writer.writeCData(CssUtil.getFilesContent(styleProvider.getCssUrls())
+                    + CssUtil.getFilesContent(componentLibrary.getCssUrls()));
+                writer.writeEndElement();
+            }
+            case EXTERNAL_IMPORTED -> {
+                writer.writeStartElement(STYLE);
+                writer.writeCharacters(CssUtil.getImportCssString(styleProvider.getCssFilenames())
+                    + CssUtil.getImportCssString(componentLibrary.getCssFilenames()));
+                writer.writeEndElement();
+            }
+            case EXTERNAL_NO_IMPORT -> {
+                // Nothing to do
+            }
+            default -> throw new AssertionError("Unexpected CSS location: " + svgParameters.getCssLocation());
+        }
+    }
+
+    private void writeDefsSVGComponents(XMLStreamWriter writer, Set<String> listUsedComponentSVG) throws XMLStreamException {
+        if (!svgParameters.isAvoidSVGComponentsDuplication()) {
+            return;
+        }
+        // adding also arrows
+        listUsedComponentSVG.add(ARROW_ACTIVE);
+        listUsedComponentSVG.add(ARROW_REACTIVE);
+
+        writer.writeStartElement("defs");
+        for (String componentType : listUsedComponentSVG) {
+            Map<String, List<SvgTemplate>> subComponents = componentLibrary.getSvgTemplates(componentType);
+            if (subComponents != null && !subComponents.isEmpty()) {
+                writer.writeStartElement(GROUP);
+                writer.writeAttribute(ID, componentType);
+                for (Map.Entry<String, List<SvgTemplate>> subComponent : subComponents.entrySet()) {
+                    if (subComponents.size() > 1) {
+                        writer.writeStartElement(GROUP);
+                        writer.writeAttribute(ID, getHRefValue(subComponents.size(), componentType, subComponent.getKey()));
+                    }
+                    for (SvgTemplate template : subComponent.getValue()) {
+                        writeTemplate(writer, template, null, SubComponentAttributes.NONE);
+                    }
+                    if (subComponents.size() > 1) {
+                        writer.writeEndElement();
+                    }
+                }
+                writer.writeEndElement();
+            }
+        }
+        writer.writeEndElement();
+    }
+
+    private void writeFrame(XMLStreamWriter writer) throws XMLStreamException {
+        writer.writeEmptyElement("rect");
+        writer.writeAttribute(WIDTH, "100%");
+        writer.writeAttribute(HEIGHT, "100%");
+        writer.writeAttribute(CLASS, StyleClassConstants.FRAME_CLASS);
+    }
+
+    private GraphMetadata writeGraph(Graph graph, XMLStreamWriter writer, LabelProvider labelProvider, StyleProvider styleProvider,
+                                     SVGLegendWriter legendWriter) throws XMLStreamException {
+        GraphMetadata metadata = new GraphMetadata(layoutParameters, svgParameters);
+
+        writer.writeStartElement(GROUP);
+
+        if (svgParameters.isShowGrid()) {
+            for (VoltageLevelGraph vlGraph : graph.getVoltageLevels()) {
+                if (vlGraph.isPositionNodeBusesCalculated()) {
+                    drawGrid(vlGraph, writer, metadata);
+                }
+            }
+        }
+
+        if (graph instanceof VoltageLevelGraph voltageLevelGraph) {
+            drawVoltageLevel(voltageLevelGraph, writer, metadata, labelProvider, styleProvider, legendWriter);
+        } else if (graph instanceof SubstationGraph substationGraph) {
+            drawSubstation(substationGraph, writer, metadata, labelProvider, styleProvider, legendWriter);
+        } else if (graph instanceof ZoneGraph zoneGraph) {
+            drawZone(zoneGraph, writer, metadata, labelProvider, styleProvider, legendWriter);
+        }
+
+        writer.writeEndElement();
+        return metadata;
+    }
+
+    private void drawZone(ZoneGraph graph, XMLStreamWriter writer, GraphMetadata metadata, LabelProvider labelProvider,
+                          StyleProvider styleProvider, SVGLegendWriter legendWriter) throws XMLStreamException {
+        for (SubstationGraph sGraph : graph.getSubstations()) {
+            drawSubstation(sGraph, writer, metadata, labelProvider, styleProvider, legendWriter);
+        }
+        for (BranchEdge edge : graph.getLineEdges()) {
+            drawSnakeLine(graph, edge, writer, metadata, styleProvider);
+        }
+    }
+
+    private void drawSubstation(SubstationGraph graph, XMLStreamWriter writer, GraphMetadata metadata, LabelProvider labelProvider,
+                                StyleProvider styleProvider, SVGLegendWriter legendWriter) throws XMLStreamException {
+        // Drawing the voltageLevel graphs
+        for (VoltageLevelGraph vlGraph : graph.getVoltageLevels()) {
+            drawVoltageLevel(vlGraph, writer, metadata, labelProvider, styleProvider, legendWriter);
+        }
+
+        // Drawing the snake lines before multi-terminal nodes to hide the 3WT connections
+        drawSnakeLines(writer, graph, metadata, styleProvider);
+
+        // Drawing the nodes outside the voltageLevel graphs (multi-terminal nodes)
+        drawNodes(writer, graph, new Point(0, 0), metadata, labelProvider, styleProvider, graph.getMultiTermNodes());
+    }
+
+    private void drawVoltageLevel(VoltageLevelGraph graph, XMLStreamWriter writer, GraphMetadata metadata, LabelProvider labelProvider,
+                                  StyleProvider styleProvider, SVGLegendWriter legendWriter) throws XMLStreamException {
+        writer.writeStartElement(GROUP);
+        writer.writeAttribute(ID, IdUtil.escapeId(graph.getId()));
+        writer.writeAttribute(CLASS, StyleClassConstants.VOLTAGE_LEVEL_CLASS);
+
+        if (!graph.isForVoltageLevelDiagram()) {
+            drawGraphLabel(writer, graph, metadata);
+        }
+
+        Set<Node> remainingNodesToDraw = graph.getNodeSet();
+        Set<Edge> remainingEdgesToDraw = graph.getEdgeSet();
+
+        drawBuses(writer, graph, metadata, labelProvider, styleProvider, remainingNodesToDraw);
+        for (Cell cell : graph.getCellStream().toList()) {
+            drawCell(writer, graph, cell, metadata, labelProvider, styleProvider, remainingEdgesToDraw, remainingNodesToDraw);
+        }
+
+        drawEdges(writer, graph, metadata, labelProvider, styleProvider, remainingEdgesToDraw);
+
+        drawNodes(writer, graph, graph.getCoord(), metadata, labelProvider, styleProvider, remainingNodesToDraw);
+
+        // Drawing the snake lines before multi-terminal nodes to hide the 3WT connections
+        drawSnakeLines(writer, graph, metadata, styleProvider);
+
+        // Drawing the nodes outside the voltageLevel graphs (multi-terminal nodes)
+        drawNodes(writer, graph, new Point(0, 0), metadata, labelProvider, styleProvider, graph.getMultiTermNodes());
+
+        if (graph.isForVoltageLevelDiagram() && svgParameters.isBusesLegendAdded()) {
+            drawLegend(writer, graph, metadata, styleProvider, legendWriter);
+        }
+        writer.writeEndElement();
+    }
+
+    private void drawCell(XMLStreamWriter writer, VoltageLevelGraph graph, Cell cell, GraphMetadata metadata, LabelProvider labelProvider,
+                          StyleProvider styleProvider, Set<Edge> remainingEdgesToDraw, Set<Node> remainingNodesToDraw) throws XMLStreamException {
+        String prefixId = metadata.getSvgParameters().getPrefixId();
+
+        writer.writeStartElement(GROUP);
+        writer.writeAttribute(ID, IdUtil.escapeId(prefixId + cell.getId()));
+        writeStyleClasses(writer, styleProvider.getCellStyles(cell), null);
+
+        // As in DefaultSVGWriter, the edges are drawn before the nodes to avoid overlapping lines over the switches
+        List<Node> cellNodes = cell.getNodes();
+        List<Node> nodesToDraw = cellNodes.stream().filter(n -> !(n instanceof BusNode)).toList();
+        Collection<Edge> edgesToDraw = nodesToDraw.stream().flatMap(n -> n.getAdjacentEdges().stream())
+                .filter(e -> cellNodes.contains(e.getNode1()) && cellNodes.contains(e.getNode2()))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        drawEdges(writer, graph, metadata, labelProvider, styleProvider, edgesToDraw);
+        drawNodes(writer, graph, graph.getCoord(), metadata, labelProvider, styleProvider, nodesToDraw);
+
+        edgesToDraw.forEach(remainingEdgesToDraw::remove);
+        nodesToDraw.forEach(remainingNodesToDraw::remove);
+
+        writer.writeEndElement();
+    }
+
+    private void drawGrid(VoltageLevelGraph graph, XMLStreamWriter writer, GraphMetadata metadata) throws XMLStreamException {
+        int maxH = graph.getMaxH();
+        int maxV = graph.getMaxV();
+
+        String gridId = metadata.getSvgParameters().getPrefixId() + "GRID_" + graph.getVoltageLevelInfos().id();
+        writer.writeStartElement(GROUP);
+        writer.writeAttribute(ID, IdUtil.escapeId(gridId));
+        writer.writeAttribute(CLASS, StyleClassConstants.GRID_STYLE_CLASS);
+
+        // vertical lines
+        double yTop = graph.getY() + graph.getFirstBusY() - graph.getExternCellHeight(TOP);
+        double yBottom = graph.getY() + graph.getFirstBusY() + graph.getExternCellHeight(BOTTOM) + layoutParameters.getVerticalSpaceBus() * maxV;
+        for (int iCell = 0; iCell < maxH / 2 + 1; iCell++) {
+            double x = graph.getX() + iCell * layoutParameters.getCellWidth();
+            drawGridLine(writer, x, yTop, x, yBottom);
+        }
+
+        double xRight = maxH / 2. * layoutParameters.getCellWidth() + graph.getX();
+        List<Double> horizontalLinesY = new ArrayList<>();
+        if (graph.getExternCellHeight(TOP) > 0.) {
+            horizontalLinesY.add(graph.getY() + graph.getFirstBusY() - layoutParameters.getStackHeight());
+            horizontalLinesY.add(graph.getY() + graph.getFirstBusY() - layoutParameters.getInternCellHeight());
+            horizontalLinesY.add(graph.getY() + layoutParameters.getFeederSpan());
+        }
+        if (graph.getExternCellHeight(BOTTOM) > 0.) {
+            horizontalLinesY.add(graph.getY() + graph.getFirstBusY() + layoutParameters.getStackHeight() + layoutParameters.getVerticalSpaceBus() * maxV);
+            horizontalLinesY.add(graph.getY() + graph.getFirstBusY() + layoutParameters.getInternCellHeight() + layoutParameters.getVerticalSpaceBus() * maxV);
+            horizontalLinesY.add(graph.getY() + graph.getFirstBusY() + graph.getExternCellHeight(BOTTOM) - layoutParameters.getFeederSpan() + layoutParameters.getVerticalSpaceBus() * maxV);
+        }
+        for (double y : horizontalLinesY) {
+            drawGridLine(writer, graph.getX(), y, xRight, y);
+        }
+
+        metadata.addNodeMetadata(new GraphMetadata.NodeMetadata(null, gridId, graph.getVoltageLevelInfos().id(),
+                null, null, false, UNDEFINED, false, null, Collections.emptyList()));
+
+        writer.writeEndElement();
+    }
+
+    private static void drawGridLine(XMLStreamWriter writer, double x1, double y1, double x2, double y2) throws XMLStreamException {
+        writer.writeEmptyElement("line");
+        writer.writeAttribute("x1", Double.toString(x1));
+        writer.writeAttribute("x2", Double.toString(x2));
+        writer.writeAttribute("y1", Double.toString(y1));
+        writer.writeAttribute("y2", Double.toString(y2));
+    }
+
+    private void drawGraphLabel(XMLStreamWriter writer, VoltageLevelGraph graph, GraphMetadata metadata) throws XMLStreamException {
+        String unescapedId = metadata.getSvgParameters().getPrefixId() + "LABEL_VL_" + graph.getVoltageLevelInfos().id();
+        String idLabelVoltageLevel = IdUtil.escapeId(unescapedId);
+        writer.writeStartElement(GROUP);
+        writer.writeAttribute(ID, idLabelVoltageLevel);
+
+        String graphName = svgParameters.isUseName() ? graph.getVoltageLevelInfos().name() : graph.getVoltageLevelInfos().id();
+        writeLabelStart(writer, graph.getX(), graph.getY() - 24., 0, StyleClassConstants.GRAPH_LABEL_STYLE_CLASS);
+        writeLabelEnd(writer, graphName);
+        writer.writeEndElement();
+
+        metadata.addNodeMetadata(new GraphMetadata.NodeMetadata(unescapedId, idLabelVoltageLevel, graph.getVoltageLevelInfos().id(),
+                null, null, false, UNDEFINED, true, null, Collections.emptyList()));
+    }
+
+    private void drawBuses(XMLStreamWriter writer, VoltageLevelGraph graph, GraphMetadata metadata, LabelProvider labelProvider,
+                           StyleProvider styleProvider, Set<Node> remainingNodesToDraw) throws XMLStreamException {
+        String prefixId = metadata.getSvgParameters().getPrefixId();
+
+        for (BusNode busNode : graph.getNodeBuses()) {
+            String nodeId = IdUtil.escapeId(prefixId + busNode.getId());
+
+            writer.writeStartElement(GROUP);
+            writer.writeAttribute(ID, nodeId);
+            writeStyleClasses(writer, styleProvider.getNodeStyles(graph, busNode, componentLibrary, svgParameters.isShowInternalNodes()), null);
+            writeStyleAttribute(writer, styleProvider.getBusNodeStyle(busNode));
+            writer.writeAttribute(TRANSFORM, String.format("%s(%s,%s)", TRANSLATE, graph.getX() + busNode.getX(), graph.getY() + busNode.getY()));
+
+            writer.writeEmptyElement("line");
+            writer.writeAttribute("x1", "0");
+            writer.writeAttribute("y1", "0");
+            if (busNode.getOrientation().isHorizontal()) {
+                writer.writeAttribute("x2", String.valueOf(busNode.getPxWidth()));
+                writer.writeAttribute("y2", "0");
+            } else {
+                writer.writeAttribute("x2", "0");
+                writer.writeAttribute("y2", String.valueOf(busNode.getPxWidth()));
+            }
+
+            List<LabelProvider.NodeLabel> nodeLabels = labelProvider.getNodeLabels(busNode, graph.getDirection(busNode));
+            drawNodeLabels(writer, prefixId, busNode, nodeLabels);
+            drawNodeDecorators(writer, prefixId, graph, busNode, labelProvider, styleProvider);
+
+            Optional<BusInfo> busInfo = labelProvider.getBusInfo(busNode);
+            if (busInfo.isPresent()) {
+                drawBusInfo(writer, prefixId, busNode, busInfo.get(), styleProvider, metadata);
+                addInfoComponentMetadata(componentLibrary, metadata, busInfo.get().getComponentType());
+            }
+
+            writer.writeEndElement();
+
+            metadata.addNodeMetadata(new GraphMetadata.NodeMetadata(null, nodeId, graph.getVoltageLevelInfos().id(), null, BUSBAR_SECTION,
+                    false, UNDEFINED, false, busNode.getEquipmentId(), createNodeLabelMetadata(prefixId, busNode, nodeLabels)));
+            if (metadata.getComponentMetadata(BUSBAR_SECTION) == null) {
+                metadata.addComponent(new SldComponent(BUSBAR_SECTION, null, null,
+                        componentLibrary.getComponentStyleClass(BUSBAR_SECTION).orElse(null),
+                        componentLibrary.getTransformations(BUSBAR_SECTION), null));
+            }
+
+            remainingNodesToDraw.remove(busNode);
+        }
+    }
+
+    private void drawBusInfo(XMLStreamWriter writer, String prefixId, BusNode busNode, BusInfo busInfo, StyleProvider styleProvider,
+                             GraphMetadata metadata) throws XMLStreamException {
+        ComponentSize size = componentLibrary.getSize(busInfo.getComponentType());
+        double shiftX = svgParameters.getBusInfoMargin();
+        double dy = -size.height() / 2;
+        double dx = busInfo.getAnchor() == Side.RIGHT ? busNode.getPxWidth() - shiftX - size.width() : shiftX;
+        String svgId = escapeId(busNode.getId() + "_" + busInfo.getComponentType());
+
+        writer.writeStartElement(GROUP);
+        writer.writeAttribute(TRANSFORM, TRANSLATE + "(" + dx + "," + dy + ")");
+        writeStyleClasses(writer, styleProvider.getBusInfoStyle(busInfo),
+                componentLibrary.getComponentStyleClass(busInfo.getComponentType()).orElse(null));
+        writer.writeAttribute(ID, svgId);
+
+        metadata.addBusInfoMetadata(new GraphMetadata.BusInfoMetadata(svgId, busNode.getId(), busInfo.getUserDefinedId()));
+
+        String infoType = busInfo.getComponentType();
+        writeComponent(writer, infoType, getIdPrefix(prefixId, svgId), null,
+            subComponent -> new SubComponentAttributes(null, componentLibrary.getSubComponentStyleClass(infoType, subComponent).orElse(null), null));
+
+        double shY = size.height() + LABEL_OFFSET;
+        if (busInfo.getBottomLabel().isPresent()) {
+            writeLabelStart(writer, 0, shY, 0, StyleClassConstants.LABEL_STYLE_CLASS);
+            writeLabelEnd(writer, busInfo.getBottomLabel().get());
+        }
+        if (busInfo.getTopLabel().isPresent()) {
+            writeLabelStart(writer, 0, -LABEL_OFFSET, 0, StyleClassConstants.LABEL_STYLE_CLASS);
+            writeLabelEnd(writer, busInfo.getTopLabel().get());
+        }
+        writer.writeEndElement();
+    }
+
+    private void drawNodes(XMLStreamWriter writer, BaseGraph graph, Point shift, GraphMetadata metadata, LabelProvider labelProvider,
+                           StyleProvider styleProvider, Collection<? extends Node> nodes) throws XMLStreamException {
+        String prefixId = metadata.getSvgParameters().getPrefixId();
+
+        for (Node node : nodes) {
+            String nodeEscapedId = IdUtil.escapeId(prefixId + node.getId());
+            VoltageLevelGraph vlGraph = graph.getVoltageLevelGraph(node);
+            double[] translate = getNodeTranslate(componentLibrary, node, shift);
+
+            writer.writeStartElement(GROUP);
+            writer.writeAttribute(ID, nodeEscapedId);
+            writeStyleClasses(writer, styleProvider.getNodeStyles(vlGraph, node, componentLibrary, svgParameters.isShowInternalNodes()), null);
+            writeStyleAttribute(writer, styleProvider.getNodeStyle(vlGraph, node, componentLibrary, svgParameters.isShowInternalNodes()));
+            writer.writeAttribute(TRANSFORM, TRANSLATE + "(" + translate[0] + "," + translate[1] + ")");
+
+            String componentType = node.getComponentType();
+            String tooltip = svgParameters.isTooltipEnabled() ? labelProvider.getTooltip(node) : null;
+            ComponentSize size = componentLibrary.getSize(componentType);
+            String transform = getComponentTransform(componentLibrary, node, size);
+            writeComponent(writer, componentType, getIdPrefix(prefixId, nodeEscapedId), tooltip,
+                subComponent -> new SubComponentAttributes(transform,
+                        joinStyleClasses(styleProvider.getNodeSubcomponentStyles(graph, node, subComponent),
+                                componentLibrary.getSubComponentStyleClass(componentType, subComponent).orElse(null)),
+                        StringUtils.defaultIfEmpty(styleProvider.getNodeSubcomponentStyle(graph, node, subComponent), null)));
+
+            List<LabelProvider.NodeLabel> nodeLabels = labelProvider.getNodeLabels(node, graph.getDirection(node));
+            drawNodeLabels(writer, prefixId, node, nodeLabels);
+            drawNodeDecorators(writer, prefixId, graph, node, labelProvider, styleProvider);
+
+            writer.writeEndElement();
+
+            Direction direction = node instanceof FeederNode ? graph.getDirection(node) : Direction.UNDEFINED;
+            setMetadata(metadata, node, nodeEscapedId, graph, direction, nodeLabels);
+        }
+    }
+
+    private void setMetadata(GraphMetadata metadata, Node node, String nodeEscapedId, BaseGraph graph, Direction direction,
+                             List<LabelProvider.NodeLabel> nodeLabels) {
+        String nextVId = null;
+        if (node instanceof FeederNode feederNode && feederNode.getFeeder() instanceof FeederWithSides feederWs) {
+            VoltageLevelInfos otherSideVoltageLevelInfos = feederWs.getOtherSideVoltageLevelInfos();
+            if (otherSideVoltageLevelInfos != null) {
+                nextVId = otherSideVoltageLevelInfos.id();
+            }
+        }
+        String vId = graph instanceof VoltageLevelGraph voltageLevelGraph ? voltageLevelGraph.getVoltageLevelInfos().id() : "";
+        boolean isOpen = node.getType() == Node.NodeType.SWITCH && ((SwitchNode) node).isOpen();
+
+        metadata.addNodeMetadata(new GraphMetadata.NodeMetadata(getUnescapedId(node), nodeEscapedId, vId, nextVId, node.getComponentType(),
+                isOpen, direction, false, node instanceof EquipmentNode equipmentNode ? equipmentNode.getEquipmentId() : null,
+                createNodeLabelMetadata(metadata.getSvgParameters().getPrefixId(), node, nodeLabels)));
+
+        addInfoComponentMetadata(componentLibrary, metadata, node.getComponentType());
+    }
+
+    private static List<GraphMetadata.NodeLabelMetadata> createNodeLabelMetadata(String prefixId, Node node, List<LabelProvider.NodeLabel> nodeLabels) {
+        List<GraphMetadata.NodeLabelMetadata> labelsMetadata = new ArrayList<>();
+        for (LabelProvider.NodeLabel nodeLabel : nodeLabels) {
+            LabelPosition labelPosition = nodeLabel.position();
+            labelsMetadata.add(new GraphMetadata.NodeLabelMetadata(getNodeLabelId(prefixId, node, labelPosition),
+                    labelPosition.positionName(), nodeLabel.userDefinedId()));
+        }
+        return labelsMetadata;
+    }
+
+    private void drawNodeLabels(XMLStreamWriter writer, String prefixId, Node node, List<LabelProvider.NodeLabel> nodeLabels) throws XMLStreamException {
+        for (LabelProvider.NodeLabel nodeLabel : nodeLabels) {
+            LabelPosition labelPosition = nodeLabel.position();
+            writeLabelStart(writer, labelPosition.dX(), labelPosition.dY(), labelPosition.shiftAngle(), StyleClassConstants.LABEL_STYLE_CLASS);
+            writer.writeAttribute(ID, IdUtil.escapeId(getNodeLabelId(prefixId, node, labelPosition)));
+            if (labelPosition.isCentered()) {
+                writer.writeAttribute(TEXT_ANCHOR, DefaultSVGWriter.MIDDLE);
+            }
+            writeLabelEnd(writer, nodeLabel.label());
+        }
+    }
+
+    private void drawNodeDecorators(XMLStreamWriter writer, String prefixId, Graph graph, Node node, LabelProvider labelProvider,
+                                    StyleProvider styleProvider) throws XMLStreamException {
+        for (LabelProvider.NodeDecorator nodeDecorator : labelProvider.getNodeDecorators(node, graph.getDirection(node))) {
+            String decoratorType = nodeDecorator.type();
+            String transform = getTransformStringDecorator(componentLibrary, node, nodeDecorator.position(), componentLibrary.getSize(decoratorType));
+
+            writer.writeStartElement(GROUP);
+            writeStyleClasses(writer, styleProvider.getNodeDecoratorStyles(nodeDecorator, node, componentLibrary), null);
+            // the decorator group has no id, hence the ids of its elements are only prefixed
+            writeComponent(writer, decoratorType, getIdPrefix(prefixId, ""), null,
+                subComponent -> new SubComponentAttributes(transform,
+                        joinStyleClasses(styleProvider.getNodeSubcomponentStyles(graph, node, subComponent),
+                                componentLibrary.getSubComponentStyleClass(decoratorType, subComponent).orElse(null)),
+                        null));
+            writer.writeEndElement();
+        }
+    }
+
+    private void drawEdges(XMLStreamWriter writer, VoltageLevelGraph graph, GraphMetadata metadata, LabelProvider labelProvider,
+                           StyleProvider styleProvider, Collection<Edge> edges) throws XMLStreamException {
+        String voltageLevelId = graph.getVoltageLevelInfos().id();
+        String prefixId = metadata.getSvgParameters().getPrefixId();
+
+        for (Edge edge : edges) {
+            String wireId = getWireId(prefixId, voltageLevelId, edge);
+
+            List<Point> pol = new ArrayList<>();
+            if (!edge.isZeroLength()) {
+                pol = WireConnection.searchBestAnchorPoints(componentLibrary, graph, edge.getNode1(), edge.getNode2())
+                        .calculatePolylinePoints(edge.getNode1(), edge.getNode2(), svgParameters.isDrawStraightWires(), graph.getCoord());
+                if (!pol.isEmpty()) {
+                    writer.writeStartElement(GROUP);
+                    writer.writeAttribute(ID, wireId);
+                    writeStyleClasses(writer, styleProvider.getEdgeStyles(graph, edge), null);
+                    writeStyleAttribute(writer, styleProvider.getEdgeStyle(graph, edge));
+                    writer.writeEmptyElement(POLYLINE);
+                    writer.writeAttribute(POINTS, pointsListToString(pol));
+                    writer.writeEndElement();
+                }
+            }
+
+            metadata.addWireMetadata(new GraphMetadata.WireMetadata(wireId,
+                    escapeId(edge.getNode1().getId()),
+                    escapeId(edge.getNode2().getId()),
+                    svgParameters.isDrawStraightWires(),
+                    false));
+
+            if (edge.getNode1() instanceof FeederNode feederNode1) {
+                if (!(edge.getNode2() instanceof FeederNode)) {
+                    drawFeederInfos(writer, prefixId, pol, graph, feederNode1, metadata, labelProvider, styleProvider);
+                }
+            } else if (edge.getNode2() instanceof FeederNode feederNode2) {
+                Collections.reverse(pol);
+                drawFeederInfos(writer, prefixId, pol, graph, feederNode2, metadata, labelProvider, styleProvider);
+            }
+        }
+    }
+
+    private void drawFeederInfos(XMLStreamWriter writer, String prefixId, List<Point> points, VoltageLevelGraph graph, FeederNode feederNode,
+                                 GraphMetadata metadata, LabelProvider labelProvider, StyleProvider styleProvider) throws XMLStreamException {
+        if (points.isEmpty()) {
+            points.add(graph.getShiftedPoint(feederNode));
+            points.add(graph.getShiftedPoint(feederNode));
+        }
+
+        double shiftFeederInfo = 0;
+        for (FeederInfo feederInfo : labelProvider.getFeederInfos(feederNode)) {
+            drawFeederInfo(writer, prefixId, feederNode, points, feederInfo, shiftFeederInfo, metadata, styleProvider);
+            addInfoComponentMetadata(componentLibrary, metadata, feederInfo.getComponentType());
+
+            double height = componentLibrary.getSize(feederInfo.getComponentType()).height();
+            shiftFeederInfo += svgParameters.getFeederInfosIntraMargin() + height;
+        }
+    }
+
+    private void drawFeederInfo(XMLStreamWriter writer, String prefixId, FeederNode feederNode, List<Point> points, FeederInfo feederInfo,
+                                double shift, GraphMetadata metadata, StyleProvider styleProvider) throws XMLStreamException {
+        String componentType = feederInfo.getComponentType();
+        ComponentSize size = componentLibrary.getSize(componentType);
+        String svgId = escapeId(feederNode.getId() + "_" + componentType);
+
+        writer.writeStartElement(GROUP);
+        String transform = getFeederInfoTransform(points, size, shift, svgParameters);
+        if (transform != null) {
+            writer.writeAttribute(TRANSFORM, transform);
+        }
+        writer.writeAttribute(ID, svgId);
+        writeStyleClasses(writer, styleProvider.getFeederInfoStyles(feederInfo),
+                componentLibrary.getComponentStyleClass(componentType).orElse(null));
+
+        String side = feederNode.getFeeder() instanceof FeederWithSides feederWs ? feederWs.getSide().name() : null;
+        metadata.addFeederInfoMetadata(new GraphMetadata.FeederInfoMetadata(svgId, feederNode.getEquipmentId(), side, componentType, feederInfo.getUserDefinedId()));
+
+        // we draw the feeder info
+        double rotationAngle = points.get(0).getY() > points.get(1).getY() ? 180 : 0;
+        String infoTransform = Math.abs(rotationAngle) > 0
+                ? ROTATE + "(" + rotationAngle + "," + size.width() / 2 + "," + size.height() / 2 + ")"
+                : null;
+        writeComponent(writer, componentType, getIdPrefix(prefixId, svgId), null,
+            subComponent -> new SubComponentAttributes(infoTransform, componentLibrary.getSubComponentStyleClass(componentType, subComponent).orElse(null), null));
+
+        double shY = size.height() / 2;
+        // we draw the right label only if present
+        if (feederInfo.getRightLabel().isPresent()) {
+            writeLabelStart(writer, size.width() + LABEL_OFFSET, shY, 0, StyleClassConstants.LABEL_STYLE_CLASS);
+            writeLabelEnd(writer, feederInfo.getRightLabel().get());
+        }
+        // we draw the left label only if present
+        if (feederInfo.getLeftLabel().isPresent()) {
+            writeLabelStart(writer, -LABEL_OFFSET, shY, 0, StyleClassConstants.LABEL_STYLE_CLASS);
+            writer.writeAttribute(STYLE, "text-anchor:end");
+            writeLabelEnd(writer, feederInfo.getLeftLabel().get());
+        }
+        writer.writeEndElement();
+    }
+
+    private void drawSnakeLines(XMLStreamWriter writer, BaseGraph graph, GraphMetadata metadata, StyleProvider styleProvider) throws XMLStreamException {
+        for (BranchEdge edge : graph.getLineEdges()) {
+            drawSnakeLine(graph, edge, writer, metadata, styleProvider);
+        }
+        for (BranchEdge edge : graph.getTwtEdges()) {
+            drawSnakeLine(graph, edge, writer, metadata, styleProvider);
+        }
+    }
+
+    private void drawSnakeLine(Graph graph, BranchEdge edge, XMLStreamWriter writer, GraphMetadata metadata, StyleProvider styleProvider) throws XMLStreamException {
+        String snakeLineId = escapeId(metadata.getSvgParameters().getPrefixId() + edge.getId());
+        writer.writeStartElement(GROUP);
+        writer.writeAttribute(ID, snakeLineId);
+        writeStyleClasses(writer, styleProvider.getEdgeStyles(graph, edge), null);
+        writeStyleAttribute(writer, styleProvider.getEdgeStyle(graph, edge));
+
+        // Get the points of the snakeLine, already calculated during the layout application
+        List<Point> pol = edge.getSnakeLine();
+        if (!pol.isEmpty() && graph.getVoltageLevelGraph(edge.getNode2()) == null) {
+            pol = adaptCoordSnakeLine(componentLibrary, edge, pol, graph);
+        }
+
+        writer.writeEmptyElement(POLYLINE);
+        writer.writeAttribute(POINTS, pointsListToString(pol));
+        writer.writeEndElement();
+
+        metadata.addWireMetadata(new GraphMetadata.WireMetadata(snakeLineId,
+                escapeId(edge.getNode1().getId()),
+                escapeId(edge.getNode2().getId()),
+                svgParameters.isDrawStraightWires(),
+                true));
+    }
+
+    private void drawLegend(XMLStreamWriter writer, VoltageLevelGraph graph, GraphMetadata metadata, StyleProvider styleProvider,
+                            SVGLegendWriter legendWriter) throws XMLStreamException {
+        // The legend writers work on DOM elements: the legend is built in a document of its own, and then written
+        Document document = DomUtil.getDocumentBuilder().newDocument();
+        Element legendRootElement = document.createElement(GROUP);
+        document.appendChild(legendRootElement);
+        legendRootElement.setAttribute(CLASS, StyleClassConstants.LEGEND);
+
+        double yPos = graph.getY() - layoutParameters.getVoltageLevelPadding().top() + graph.getHeight() + CIRCLE_RADIUS_NODE_INFOS_SIZE;
+        double xPos = graph.getX() + layoutParameters.getDiagramPadding().left() + CIRCLE_RADIUS_NODE_INFOS_SIZE;
+        legendWriter.drawLegend(graph, metadata, styleProvider, legendRootElement, xPos, yPos);
+
+        SvgTemplate.of(legendRootElement).write(writer);
+    }
+
+    /**
+     * Write the SVG elements of the given component, as done by {@link DefaultSVGWriter}: either a reference to the component
+     * in the defs area, or a copy of its elements, with the id prefixed and the attributes given for each sub-component.
+     */
+    private void writeComponent(XMLStreamWriter writer, String componentType, String idPrefix, String tooltip,
+                                Function<String, SubComponentAttributes> subComponentAttributes) throws XMLStreamException {
+        Map<String, List<SvgTemplate>> subComponents = componentLibrary.getSvgTemplates(componentType);
+        if (subComponents == null) {
+            return;
+        }
+        if (!StringUtils.isEmpty(tooltip)) {
+            writer.writeStartElement("title");
+            writer.writeCharacters(tooltip);
+            writer.writeEndElement();
+        }
+        for (Map.Entry<String, List<SvgTemplate>> subComponent : subComponents.entrySet()) {
+            SubComponentAttributes attributes = subComponentAttributes.apply(subComponent.getKey());
+            if (svgParameters.isAvoidSVGComponentsDuplication()) {
+                // Adding <use> markup to reuse the svg defined in the <defs> part
+                writer.writeEmptyElement("use");
+                writer.writeAttribute("href", "#" + getHRefValue(subComponents.size(), componentType, subComponent.getKey()));
+                attributes.write(writer);
+            } else {
+                for (SvgTemplate template : subComponent.getValue()) {
+                    writeTemplate(writer, template, idPrefix, attributes);
+                }
+            }
+        }
+    }
+
+    /**
+     * Write the given template, spliced as bytes in the output stream if the writer allows it
+     */
+    private static void writeTemplate(XMLStreamWriter writer, SvgTemplate template, String idPrefix, SubComponentAttributes attributes) throws XMLStreamException {
+        if (writer instanceof TemplateSplicingWriter splicingWriter) {
+            splicingWriter.splice(template, idPrefix, attributes);
+        } else {
+            template.write(writer, idPrefix, attributes.styleClass(), attributes.transform(), attributes.style());
+        }
+    }
+
+    /**
+     * Same id as the one given by {@link DefaultSVGWriter} to the elements of a component: prefix id, then the id of the group
+     * containing the component without the prefix id, then the id of the element
+     */
+    private static String getIdPrefix(String prefixId, String groupId) {
+        return prefixId + Strings.CS.removeStart(groupId, prefixId) + "_";
+    }
+
+    private static void writeLabelStart(XMLStreamWriter writer, double xShift, double yShift, int shiftAngle, String styleClass) throws XMLStreamException {
+        writer.writeStartElement("text");
+        writer.writeAttribute("x", String.valueOf(xShift));
+        writer.writeAttribute("y", String.valueOf(yShift));
+        if (shiftAngle != 0) {
+            writer.writeAttribute(TRANSFORM, ROTATE + "(" + shiftAngle + "," + 0 + "," + 0 + ")");
+        }
+        writer.writeAttribute(CLASS, styleClass);
+    }
+
+    private static void writeLabelEnd(XMLStreamWriter writer, String str) throws XMLStreamException {
+        if (str != null) {
+            writer.writeCharacters(str);
+        }
+        writer.writeEndElement();
+    }
+
+    private static void writeStyleAttribute(XMLStreamWriter writer, String style) throws XMLStreamException {
+        if (!StringUtils.isEmpty(style)) {
+            writer.writeAttribute(STYLE, style);
+        }
+    }
+
+    private static void writeStyleClasses(XMLStreamWriter writer, List<String> styleClasses, String additionalClass) throws XMLStreamException {
+        String classes = joinStyleClasses(styleClasses, additionalClass);
+        if (classes != null) {
+            writer.writeAttribute(CLASS, classes);
+        }
+    }
+
+    /**
+     * Same classes as the ones written by {@link CssUtil#writeStyleClasses}, null if there is no class to write
+     */
+    private static String joinStyleClasses(List<String> styleClasses, String additionalClass) {
+        if (styleClasses.isEmpty() && additionalClass == null) {
+            return null;
+        }
+        if (additionalClass == null) {
+            return String.join(" ", styleClasses);
+        }
+        return styleClasses.isEmpty() ? additionalClass : String.join(" ", styleClasses) + " " + additionalClass;
+    }
+
+    private static String pointsListToString(List<Point> polyline) {
+        return polyline.stream()
+            .map(pt -> pt.getX() + "," + pt.getY())
+            .collect(Collectors.joining(","));
+    }
+
+    /**
+     * Attributes set on the root elements of a sub-component, a null value keeping the value of the library element if any
+     */
+    private record SubComponentAttributes(String transform, String styleClass, String style) {
+
+        private static final SubComponentAttributes NONE = new SubComponentAttributes(null, null, null);
+
+        private void write(XMLStreamWriter writer) throws XMLStreamException {
+            if (transform != null) {
+                writer.writeAttribute(TRANSFORM, transform);
+            }
+            if (styleClass != null) {
+                writer.writeAttribute(CLASS, styleClass);
+            }
+            if (style != null) {
+                writer.writeAttribute(STYLE, style);
+            }
+        }
+    }
+
+    /**
+     * XML stream writer owning the output stream it writes to, which allows the component templates to be copied as bytes
+     * to the output stream instead of being written element by element
+     */
+    private static final class TemplateSplicingWriter extends StreamWriterDelegate {
+
+        private final OutputStream os;
+
+        private TemplateSplicingWriter(XMLStreamWriter writer, OutputStream os) {
+            super(writer);
+            this.os = os;
+        }
+
+        private void splice(SvgTemplate template, String idPrefix, SubComponentAttributes attributes) throws XMLStreamException {
+            // closes the start tag of the parent element, and writes all pending content before the template bytes
+            writeCharacters("");
+            flush();
+            try {
+                template.write(os, idPrefix, attributes.styleClass(), attributes.transform(), attributes.style());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
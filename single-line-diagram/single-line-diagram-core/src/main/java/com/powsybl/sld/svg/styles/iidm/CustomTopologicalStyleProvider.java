@@ -139,14 +139,12 @@ public class CustomTopologicalStyleProvider extends TopologicalStyleProvider {
     }
 
     private Set<Node> getConnectedNodesSet(Node node) {
-        Set<Node> connectedNodes = new LinkedHashSet<>();
-        findConnectedNodes(node, connectedNodes);
-        return connectedNodes;
+        return getConnectedNodes(node);
     }
 
     private Set<Node> getConnectedNodesSet(List<Node> nodeList) {
         Set<Node> connectedNodes = new LinkedHashSet<>();
-        nodeList.forEach(n -> findConnectedNodes(n, connectedNodes));
+        nodeList.forEach(n -> connectedNodes.addAll(getConnectedNodes(n)));
         return connectedNodes;
     }
 
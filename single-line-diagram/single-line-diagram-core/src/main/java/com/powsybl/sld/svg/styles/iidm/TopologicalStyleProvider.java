@@ -22,12 +22,12 @@ import com.powsybl.sld.model.nodes.feeders.FeederTwLeg;
 import com.powsybl.sld.svg.SvgParameters;
 import com.powsybl.sld.svg.styles.AbstractVoltageStyleProvider;
 import com.powsybl.sld.svg.styles.StyleClassConstants;
+import com.powsybl.sld.util.BusConnectivityIndex;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -48,6 +48,7 @@ public class TopologicalStyleProvider extends AbstractVoltageStyleProvider {
     private final Map<String, Map<String, String>> vlNodeIdStyleMap = new HashMap<>();
     private final Map<String, Map<String, String>> vlBusIdStyleMap = new HashMap<>();
     private final Map<String, Integer> stylesIndices = new HashMap<>();
+    private final BusConnectivityIndex connectivityIndex = new BusConnectivityIndex(this::isMultiTerminalInternalNode);
     private final Network network;
     private final SvgParameters svgParameters;
     private final boolean busHighlightOnHover;
@@ -119,6 +120,7 @@ public class TopologicalStyleProvider extends AbstractVoltageStyleProvider {
     public void reset() {
         vlNodeIdStyleMap.clear();
         vlBusIdStyleMap.clear();
+        connectivityIndex.clear();
     }
 
     private Map<String, String> createBusIdStyleMap(String baseVoltageName, String vlId) {
@@ -152,8 +154,7 @@ public class TopologicalStyleProvider extends AbstractVoltageStyleProvider {
     }
 
     private String findConnectedStyle(String vlId, Map<String, String> busIdStyleMap, Map<String, String> nodeIdStyleMap, Node node) {
-        Set<Node> connectedNodes = new LinkedHashSet<>();
-        findConnectedNodes(node, connectedNodes);
+        Set<Node> connectedNodes = getConnectedNodes(node);
         String connectedStyle = getConnectedStyle(vlId, busIdStyleMap, connectedNodes);
         connectedNodes.forEach(n -> nodeIdStyleMap.put(n.getId(), connectedStyle));
         return connectedStyle;
@@ -183,20 +184,19 @@ public class TopologicalStyleProvider extends AbstractVoltageStyleProvider {
                 .orElse(StyleClassConstants.DISCONNECTED_STYLE_CLASS);
     }
 
+    /**
+     * Returns the nodes connected to the given node, that is the nodes reachable from it without passing through any open
+     * switch nor any multi-terminal node, the multi-terminal nodes reached being included
+     * @param node the node whose connected nodes are requested
+     * @return the unmodifiable set of connected nodes, shared by all the nodes of that set
+     */
+    protected Set<Node> getConnectedNodes(Node node) {
+        return connectivityIndex.getConnectedNodes(node);
+    }
+
     protected void findConnectedNodes(Node node, Set<Node> visitedNodes) {
-        if (visitedNodes.contains(node)) {
-            return;
-        }
-        if (node.getType() == NodeType.SWITCH && ((SwitchNode) node).isOpen()) {
-            return;
-        }
-        if (isMultiTerminalInternalNode(node)) {
-            visitedNodes.add(node);
-            return;
-        }
-        visitedNodes.add(node);
-        for (Node adjNode : node.getAdjacentNodes()) {
-            findConnectedNodes(adjNode, visitedNodes);
+        if (!visitedNodes.contains(node)) {
+            visitedNodes.addAll(getConnectedNodes(node));
         }
     }
 
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld.util;
+
+import com.powsybl.sld.model.graphs.VoltageLevelGraph;
+import com.powsybl.sld.model.nodes.Node;
+import com.powsybl.sld.model.nodes.SwitchNode;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Index of the electrically connected sets of nodes of voltage level graphs.
+ * Two nodes are connected if there is a path between them which passes neither through an open switch nor through a cut
+ * node, cut nodes being typically the multi-terminal nodes separating two buses. The set of connected nodes of a node
+ * includes the cut nodes adjacent to it, the set of connected nodes of a cut node is the cut node alone, and an open
+ * switch is connected to no node.
+ * <p>
+ * A set is computed once, the first time one of its nodes is requested, by a depth-first visit from that node. Its
+ * iteration order is the order of that visit, so that it matches a recursive visit of the adjacent nodes from the first
+ * requested node. All the nodes of a set share the same unmodifiable instance, which can therefore be used as a key to
+ * cache a value computed once per set.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class BusConnectivityIndex {
+
+    private final Predicate<Node> cutNodePredicate;
+
+    private final Map<Node, Set<Node>> connectedNodesByNode = new HashMap<>();
+
+    private final Map<Node, Boolean> cutNodes = new HashMap<>();
+
+    /**
+     * @param cutNodePredicate predicate telling if a node is a cut node, evaluated at most once per indexed node
+     */
+    public BusConnectivityIndex(Predicate<Node> cutNodePredicate) {
+        this.cutNodePredicate = Objects.requireNonNull(cutNodePredicate);
+    }
+
+    /**
+     * Create the index of all the nodes of the given graph
+     * @param graph the voltage level graph to index
+     * @param cutNodePredicate predicate telling if a node is a cut node
+     * @return the index
+     */
+    public static BusConnectivityIndex of(VoltageLevelGraph graph, Predicate<Node> cutNodePredicate) {
+        BusConnectivityIndex index = new BusConnectivityIndex(cutNodePredicate);
+        graph.getNodes().forEach(index::getConnectedNodes);
+        return index;
+    }
+
+    /**
+     * @param node the node whose connected nodes are requested
+     * @return the unmodifiable set of the nodes connected to the given node, including the node itself unless it is an open switch
+     */
+    public Set<Node> getConnectedNodes(Node node) {
+        Set<Node> connectedNodes = connectedNodesByNode.get(Objects.requireNonNull(node));
+        if (connectedNodes == null) {
+            if (isOpenSwitchNode(node)) {
+                connectedNodes = Collections.emptySet();
+            } else if (isCutNode(node)) {
+                connectedNodes = Collections.singleton(node);
+            } else {
+                Set<Node> visitedNodes = visit(node);
+                // the adjacent cut nodes belong to the set but have their own singleton set
+                visitedNodes.stream().filter(n -> !isCutNode(n)).forEach(n -> connectedNodesByNode.put(n, visitedNodes));
+                return visitedNodes;
+            }
+            connectedNodesByNode.put(node, connectedNodes);
+        }
+        return connectedNodes;
+    }
+
+    /**
+     * Forget all the connected sets computed so far
+     */
+    public void clear() {
+        connectedNodesByNode.clear();
+        cutNodes.clear();
+    }
+
+    /**
+     * Depth-first visit from the given node, neither crossing open switches nor going beyond cut nodes. The visit is
+     * iterative to support long chains of nodes, but adds the nodes in the order of a recursive visit.
+     */
+    private Set<Node> visit(Node seed) {
+        Set<Node> visitedNodes = new LinkedHashSet<>();
+        Deque<Iterator<Node>> adjacentNodesToVisit = new ArrayDeque<>();
+        visitedNodes.add(seed);
+        adjacentNodesToVisit.push(seed.getAdjacentNodes().iterator());
+        while (!adjacentNodesToVisit.isEmpty()) {
+            Iterator<Node> adjacentNodes = adjacentNodesToVisit.peek();
+            if (!adjacentNodes.hasNext()) {
+                adjacentNodesToVisit.pop();
+                continue;
+            }
+            Node node = adjacentNodes.next();
+            if (!visitedNodes.contains(node) && !isOpenSwitchNode(node)) {
+                visitedNodes.add(node);
+                if (!isCutNode(node)) {
+                    adjacentNodesToVisit.push(node.getAdjacentNodes().iterator());
+                }
+            }
+        }
+        return Collections.unmodifiableSet(visitedNodes);
+    }
+
+    private boolean isCutNode(Node node) {
+        return cutNodes.computeIfAbsent(node, cutNodePredicate::test);
+    }
+
+    private static boolean isOpenSwitchNode(Node node) {
+        return node.getType() == Node.NodeType.SWITCH && ((SwitchNode) node).isOpen();
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld;
+
+import com.powsybl.diagram.test.Networks;
+import com.powsybl.diagram.util.instrumentation.DiagramCounter;
+import com.powsybl.diagram.util.instrumentation.DiagramInstrumentation;
+import com.powsybl.diagram.util.instrumentation.DiagramStage;
+import com.powsybl.iidm.network.Network;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class InstrumentationTest {
+
+    private final List<DiagramStage> stages = new ArrayList<>();
+    private final Map<DiagramCounter, Long> counters = new EnumMap<>(DiagramCounter.class);
+    private SldParameters sldParameters;
+
+    @BeforeEach
+    void setUp() {
+        sldParameters = new SldParameters().setInstrumentation(new DiagramInstrumentation() {
+            @Override
+            public void stageFinished(DiagramStage stage, long durationNanos) {
+                assertTrue(durationNanos >= 0);
+                stages.add(stage);
+            }
+
+            @Override
+            public void count(DiagramCounter counter, long amount) {
+                counters.merge(counter, amount, Long::sum);
+            }
+        });
+    }
+
+    @Test
+    void testVoltageLevel() {
+        Network network = Networks.createNetworkWithManyFeeders(10);
+        StringWriter svgWriter = new StringWriter();
+        SingleLineDiagram.draw(network, "vl", svgWriter, new StringWriter(), sldParameters);
+
+        assertEquals(List.of(DiagramStage.GRAPH_BUILD, DiagramStage.LAYOUT, DiagramStage.SVG_WRITE, DiagramStage.METADATA_WRITE), stages);
+        assertTrue(counters.get(DiagramCounter.NODES) > 20);
+        assertTrue(counters.get(DiagramCounter.EDGES) > 20);
+        assertEquals(svgWriter.toString().getBytes(StandardCharsets.UTF_8).length, counters.get(DiagramCounter.BYTES_WRITTEN));
+    }
+
+    @Test
+    void testSubstation() {
+        Network network = Networks.createNetworkWithManyFeeders(10);
+        SingleLineDiagram.draw(network, "s", new StringWriter(), new StringWriter(), sldParameters);
+
+        assertEquals(List.of(DiagramStage.GRAPH_BUILD, DiagramStage.LAYOUT, DiagramStage.SVG_WRITE, DiagramStage.METADATA_WRITE), stages);
+        assertTrue(counters.get(DiagramCounter.NODES) > 20);
+    }
+}
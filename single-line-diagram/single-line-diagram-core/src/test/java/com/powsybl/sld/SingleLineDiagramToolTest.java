@@ -96,12 +96,14 @@ class SingleLineDiagramToolTest extends AbstractToolTest {
         assertEquals("generate substation diagram", tool.getCommand().getDescription());
         assertNull(tool.getCommand().getUsageFooter());
 
-        assertCommand(tool.getCommand(), COMMAND_NAME, 5, 2);
+        assertCommand(tool.getCommand(), COMMAND_NAME, 7, 2);
         assertOption(tool.getCommand().getOptions(), "input-file", true, true);
         assertOption(tool.getCommand().getOptions(), "output-dir", true, true);
         assertOption(tool.getCommand().getOptions(), "ids", false, true);
         assertOption(tool.getCommand().getOptions(), "all-voltage-levels", false, false);
         assertOption(tool.getCommand().getOptions(), "all-substations", false, false);
+        assertOption(tool.getCommand().getOptions(), "parallelism", false, true);
+        assertOption(tool.getCommand().getOptions(), "batch-size", false, true);
     }
 
     @Test
@@ -210,4 +212,63 @@ class SingleLineDiagramToolTest extends AbstractToolTest {
             assertEquals(2, stream.count());
         }
     }
+
+    @Test
+    void generateConcurrently() throws IOException, ParseException {
+        Options options = new Options();
+        options.addOption("input-file", true, "input file");
+        options.addOption("output-dir", true, "output-dir");
+        options.addOption("all-substations", true, "all-substations");
+        options.addOption("all-voltage-levels", true, "all-voltage-levels");
+        options.addOption("parallelism", true, "parallelism");
+        options.addOption("batch-size", true, "batch-size");
+
+        CommandLine commandLine = defaultParser.parse(
+            options,
+            new String[] {
+                "-input-file",
+                "/input-dir/sld-tool-test.xiidm",
+                "-output-dir",
+                "/tmp",
+                "-all-voltage-levels",
+                String.valueOf(true),
+                "-all-substations",
+                String.valueOf(true),
+                "-parallelism",
+                "2",
+                "-batch-size",
+                "1"
+            }
+        );
+
+        tool.run(commandLine, runningContext);
+
+        Path resultPath = fileSystem.getPath("/tmp");
+        try (Stream<Path> stream = Files.list(resultPath)) {
+            assertEquals(4, stream.count());
+        }
+    }
+
+    @Test
+    void invalidParallelism() throws ParseException {
+        Options options = new Options();
+        options.addOption("input-file", true, "input file");
+        options.addOption("output-dir", true, "output-dir");
+        options.addOption("parallelism", true, "parallelism");
+
+        CommandLine commandLine = defaultParser.parse(
+            options,
+            new String[] {
+                "-input-file",
+                "/input-dir/sld-tool-test.xiidm",
+                "-output-dir",
+                "/tmp",
+                "-parallelism",
+                "0"
+            }
+        );
+
+        PowsyblException e = assertThrows(PowsyblException.class, () -> tool.run(commandLine, runningContext));
+        assertTrue(e.getMessage().contains("parallelism option must be strictly positive"));
+    }
 }
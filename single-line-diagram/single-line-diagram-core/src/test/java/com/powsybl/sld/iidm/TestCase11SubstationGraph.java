@@ -84,6 +84,20 @@ class TestCase11SubstationGraph extends AbstractTestCaseIidm {
                 getDefaultDiagramLabelProvider(), getDefaultDiagramStyleProvider(), getDefaultSVGLegendWriter()));
     }
 
+    @Test
+    void testDrawingKeepsGraph() {
+        SubstationGraph g = graphBuilder.buildSubstationGraph(substation.getId());
+        substationGraphLayout(g);
+        String json = toJson(g, "/TestCase11SubstationGraphH.json");
+
+        // the snake lines are adapted to the anchor points of the transformers on a copy, drawing again gives the same result
+        String svg = toSVG(g, "/TestCase11SubstationGraphHDrawnTwice.svg", componentLibrary, layoutParameters, svgParameters,
+            getDefaultDiagramLabelProvider(), getDefaultDiagramStyleProvider(), getDefaultSVGLegendWriter());
+        assertEquals(json, toJson(g, "/TestCase11SubstationGraphH.json"));
+        assertEquals(svg, toSVG(g, "/TestCase11SubstationGraphHDrawnTwice.svg", componentLibrary, layoutParameters, svgParameters,
+            getDefaultDiagramLabelProvider(), getDefaultDiagramStyleProvider(), getDefaultSVGLegendWriter()));
+    }
+
     @Test
     void testVertical() {
         // build substation graph
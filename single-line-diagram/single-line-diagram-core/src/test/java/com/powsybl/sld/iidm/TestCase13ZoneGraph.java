@@ -14,13 +14,19 @@ import com.powsybl.sld.layout.*;
 import com.powsybl.sld.layout.pathfinding.*;
 import com.powsybl.sld.model.coordinate.Point;
 import com.powsybl.sld.model.graphs.ZoneGraph;
+import com.powsybl.sld.model.nodes.BranchEdge;
 import com.powsybl.sld.svg.SvgParameters;
 import org.jgrapht.alg.util.Pair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -254,4 +260,69 @@ class TestCase13ZoneGraph extends AbstractTestCaseIidm {
 
         assertEquals(toString("/TestCase13ZoneGraphPositionedTwoOverlaps.svg"), toSVG(g, "/TestCase13ZoneGraphPositionedTwoOverlaps.svg"));
     }
+
+    @Test
+    void testZoneGraphPositionedConcurrentRouting() {
+        network = Networks.createNetworkWithManySubstations();
+        List<Pair<String, Point>> positions = List.of(
+            Pair.of("A", new Point(100, 100)),
+            Pair.of("B", new Point(800, 100)),
+            Pair.of("C", new Point(100, 700))
+        );
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            // Without executor, the paths are searched in a single batch, as with a parallelism of 1
+            List<List<List<Point>>> snakeLines = new ArrayList<>();
+            snakeLines.add(layoutSnakeLines(positions, 2, null));
+            snakeLines.add(layoutSnakeLines(positions, 2, executor));
+            snakeLines.add(layoutSnakeLines(positions, 4, executor));
+            // Same snake lines whatever the parallelism
+            assertEquals(snakeLines.get(0).toString(), snakeLines.get(1).toString());
+            assertEquals(snakeLines.get(0).toString(), snakeLines.get(2).toString());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<List<Point>> layoutSnakeLines(List<Pair<String, Point>> positions, int parallelism, Executor executor) {
+        ZoneGraph g = new NetworkGraphBuilder(network).buildZoneGraph(positions.stream().map(Pair::getFirst).toList());
+        new ManuallyPositionedZoneLayoutFactory(positions)
+            .create(g,
+                AStarPathFinder::new,
+                new HorizontalSubstationLayoutFactory(),
+                new PositionVoltageLevelLayoutFactory())
+            .run(new LayoutParameters(layoutParameters).setZoneLayoutRoutingParallelism(parallelism).setLayoutExecutor(executor));
+        assertFalse(g.getLineEdges().isEmpty());
+        return g.getLineEdges().stream().map(BranchEdge::getSnakeLine).toList();
+    }
+
+    @Test
+    void testZoneGraphConcurrentLayouts() {
+        network = Networks.createNetworkWithManySubstations();
+        List<Pair<String, Point>> positions = List.of(
+            Pair.of("A", new Point(100, 100)),
+            Pair.of("B", new Point(800, 100)),
+            Pair.of("C", new Point(100, 700))
+        );
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<String> jsons = new ArrayList<>();
+            for (Executor layoutExecutor : new Executor[] {null, executor}) {
+                ZoneGraph g = new NetworkGraphBuilder(network).buildZoneGraph(positions.stream().map(Pair::getFirst).toList());
+                new ManuallyPositionedZoneLayoutFactory(positions)
+                    .create(g,
+                        DijkstraPathFinder::new,
+                        new HorizontalSubstationLayoutFactory(),
+                        new PositionVoltageLevelLayoutFactory())
+                    .run(new LayoutParameters(layoutParameters).setLayoutExecutor(layoutExecutor));
+                StringWriter writer = new StringWriter();
+                g.writeJson(writer);
+                jsons.add(writer.toString());
+            }
+            // Same layout, including the cell numbers, with sequential and concurrent layouts
+            assertEquals(jsons.get(0), jsons.get(1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -13,8 +13,11 @@ import org.junit.jupiter.api.*;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Thomas Adam {@literal <tadam at neverhack.com>}
@@ -75,4 +78,107 @@ class TestPathFinding extends AbstractTestCaseIidm {
             assertEquals(expectedSnakeline.get(i).toString(), snakeline.get(i).toString());
         }
     }
+
+    @Test
+    void testAStarNoSmoothPath() {
+        pathFinderGrid.setAvailability(0, 0, true);
+        for (int i = 0; i < 12 - 1; i++) {
+            pathFinderGrid.setAvailability(i + 1, i, true);
+            pathFinderGrid.setAvailability(i + 1, i + 1, true);
+        }
+        List<Point> snakeline = new AStarPathFinder().findShortestPath(pathFinderGrid,
+                new Point(0, 0),
+                new Point(11, 11));
+        assertEquals(23, snakeline.size());
+        assertEquals("{0.0,0.0}", snakeline.getFirst().toString());
+        assertEquals("{11.0,11.0}", snakeline.getLast().toString());
+    }
+
+    @Test
+    void testAStarSmoothPath() {
+        // Make available left & right borders
+        for (int y = 0; y < 12; y++) {
+            pathFinderGrid.setAvailability(0, y, true);
+            pathFinderGrid.setAvailability(11, y, true);
+        }
+        // Make available up & down borders
+        for (int x = 1; x < 12; x++) {
+            pathFinderGrid.setAvailability(x, 0, true);
+            pathFinderGrid.setAvailability(x, 11, true);
+        }
+        PathFinder aStar = new AStarPathFinder();
+        List<Point> snakeline = aStar.findShortestPath(pathFinderGrid,
+                new Point(0, 0),
+                new Point(11, 11));
+        // Both ways around the border have the same cost
+        assertEquals("[{0.0,0.0}, {11.0,0.0}, {11.0,11.0}]", snakeline.toString());
+        // The path points are not available anymore, the other way is taken
+        snakeline = aStar.findShortestPath(pathFinderGrid,
+                new Point(0, 1),
+                new Point(10, 11));
+        assertEquals("[{0.0,1.0}, {0.0,11.0}, {10.0,11.0}]", snakeline.toString());
+        assertFalse(pathFinderGrid.isAvailable(0, 11));
+        // No path anymore
+        assertTrue(aStar.findShortestPath(pathFinderGrid, new Point(1, 0), new Point(1, 11)).isEmpty());
+    }
+
+    @Test
+    void testGridAvailability() {
+        Grid grid = new Grid(70, 3);
+        grid.setAvailability(65, 2, true);
+        assertTrue(grid.isAvailable(65, 2));
+        assertTrue(grid.isAvailable(new Point(65, 2)));
+        assertFalse(grid.isAvailable(65, 1));
+        assertFalse(grid.isAvailable(new Point(70, 2)));
+        grid.setAvailability(new Point(65, 2), false);
+        assertFalse(grid.isAvailable(65, 2));
+        assertThrows(IllegalArgumentException.class, () -> new Grid(100000, 100000));
+    }
+
+    @Test
+    void testConcurrentSnakeLineRouter() {
+        List<ConcurrentSnakeLineRouter.Route> routes = List.of(
+                new ConcurrentSnakeLineRouter.Route(new Point(0, 0), new Point(11, 11)),
+                new ConcurrentSnakeLineRouter.Route(new Point(6, 0), new Point(11, 4)),
+                new ConcurrentSnakeLineRouter.Route(new Point(0, 5), new Point(11, 6)),
+                new ConcurrentSnakeLineRouter.Route(new Point(5, 0), new Point(6, 11)));
+
+        // Routed alone, the second path goes through the corner of the first one
+        assertEquals("[{6.0,0.0}, {11.0,0.0}, {11.0,4.0}]",
+                new AStarPathFinder().findShortestPath(createAvailableGrid(), new Point(6, 0), new Point(11, 4)).toString());
+
+        Grid sequentialGrid = createAvailableGrid();
+        PathFinder aStar = new AStarPathFinder();
+        List<List<Point>> sequentialPaths = routes.stream()
+                .map(route -> aStar.findShortestPath(sequentialGrid, route.start(), route.goal()))
+                .toList();
+        assertEquals("[{6.0,0.0}, {10.0,0.0}, {10.0,4.0}, {11.0,4.0}]", sequentialPaths.get(1).toString());
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int parallelism : new int[] {1, 2, 4}) {
+                for (Executor routingExecutor : new Executor[] {null, executor}) {
+                    Grid grid = createAvailableGrid();
+                    List<List<Point>> paths = new ConcurrentSnakeLineRouter(AStarPathFinder::new, parallelism, routingExecutor).route(grid, routes);
+                    assertEquals(sequentialPaths.toString(), paths.toString());
+                    assertFalse(grid.isAvailable(10, 4));
+                    assertTrue(grid.isAvailable(10, 3));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentSnakeLineRouter(AStarPathFinder::new, 0, null));
+    }
+
+    private static Grid createAvailableGrid() {
+        Grid grid = new Grid(12, 12);
+        for (int x = 0; x < 12; x++) {
+            for (int y = 0; y < 12; y++) {
+                grid.setAvailability(x, y, true);
+            }
+        }
+        return grid;
+    }
 }
@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld.iidm;
+
+import com.powsybl.diagram.test.Networks;
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.sld.builders.NetworkGraphBuilder;
+import com.powsybl.sld.layout.PositionVoltageLevelLayoutFactory;
+import com.powsybl.sld.layout.position.PositionFinder;
+import com.powsybl.sld.layout.position.clustering.PositionByClustering;
+import com.powsybl.sld.layout.position.clustering.PositionByLinkHeapClustering;
+import com.powsybl.sld.model.graphs.VoltageLevelGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class TestPositionByLinkHeapClustering extends AbstractTestCaseIidm {
+
+    @BeforeEach
+    public void setUp() {
+        // Networks set in each test
+    }
+
+    @Test
+    void testSameLayoutAsPositionByClustering() {
+        List<Network> networks = List.of(
+                Networks.createTestCase11Network(),
+                Networks.createComplexExternCellOnFourSections(),
+                Networks.createNetworkWithComplexInternCellDifferentSubsections(),
+                Networks.createNetworkWithFlatSections(),
+                Networks.createNetworkWithManyFeeders(40));
+        for (Network n : networks) {
+            network = n;
+            graphBuilder = new NetworkGraphBuilder(network);
+            for (String vlId : network.getVoltageLevelStream().map(Identifiable::getId).toList()) {
+                assertEquals(layoutToJson(vlId, new PositionByClustering()), layoutToJson(vlId, new PositionByLinkHeapClustering()),
+                        "Voltage level " + vlId + " of network " + network.getId());
+            }
+        }
+    }
+
+    private String layoutToJson(String vlId, PositionFinder positionFinder) {
+        VoltageLevelGraph g = graphBuilder.buildVoltageLevelGraph(vlId);
+        new PositionVoltageLevelLayoutFactory(positionFinder).create(g).run(layoutParameters);
+        return toJson(g, "/TestPositionByLinkHeapClustering.json");
+    }
+}
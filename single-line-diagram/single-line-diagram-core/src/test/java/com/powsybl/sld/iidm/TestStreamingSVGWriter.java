@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld.iidm;
+
+import com.powsybl.diagram.test.Networks;
+import com.powsybl.diagram.util.DomUtil;
+import com.powsybl.sld.SingleLineDiagram;
+import com.powsybl.sld.SldParameters;
+import com.powsybl.sld.builders.NetworkGraphBuilder;
+import com.powsybl.sld.layout.HorizontalSubstationLayoutFactory;
+import com.powsybl.sld.layout.HorizontalZoneLayoutFactory;
+import com.powsybl.sld.layout.PositionVoltageLevelLayoutFactory;
+import com.powsybl.sld.layout.pathfinding.DijkstraPathFinder;
+import com.powsybl.sld.model.graphs.Graph;
+import com.powsybl.sld.model.graphs.SubstationGraph;
+import com.powsybl.sld.model.graphs.VoltageLevelGraph;
+import com.powsybl.sld.model.graphs.ZoneGraph;
+import com.powsybl.sld.svg.DefaultSVGWriter;
+import com.powsybl.sld.svg.SVGWriter;
+import com.powsybl.sld.svg.StreamingSVGWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.w3c.dom.Text;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class TestStreamingSVGWriter extends AbstractTestCaseIidm {
+
+    @BeforeEach
+    public void setUp() {
+        network = Networks.createTestCase11Network();
+        graphBuilder = new NetworkGraphBuilder(network);
+    }
+
+    @Test
+    void testVoltageLevel() throws IOException, SAXException {
+        svgParameters.setBusesLegendAdded(true)
+                .setTooltipEnabled(true);
+        assertSameOutput(() -> {
+            VoltageLevelGraph g = graphBuilder.buildVoltageLevelGraph("vl1");
+            voltageLevelGraphLayout(g);
+            return g;
+        });
+    }
+
+    @Test
+    void testSubstationWithoutComponentsDuplication() throws IOException, SAXException {
+        svgParameters.setAvoidSVGComponentsDuplication(true)
+                .setShowGrid(true);
+        assertSameOutput(() -> {
+            SubstationGraph g = graphBuilder.buildSubstationGraph("subst");
+            substationGraphLayout(g);
+            return g;
+        });
+    }
+
+    @Test
+    void testZone() throws IOException, SAXException {
+        network = Networks.createNetworkWithManySubstations();
+        layoutParameters.setDiagrammPadding(1.0, 1.0, 1.0, 1.0);
+        assertSameOutput(() -> {
+            ZoneGraph g = new NetworkGraphBuilder(network).buildZoneGraph(List.of("A", "B", "C", "D", "E"));
+            new HorizontalZoneLayoutFactory().create(g, DijkstraPathFinder::new, new HorizontalSubstationLayoutFactory(), new PositionVoltageLevelLayoutFactory()).run(layoutParameters);
+            return g;
+        });
+    }
+
+    @Test
+    void testOutputStream() {
+        VoltageLevelGraph g = graphBuilder.buildVoltageLevelGraph("vl2");
+        voltageLevelGraphLayout(g);
+        StreamingSVGWriter svgWriter = new StreamingSVGWriter(componentLibrary, layoutParameters, svgParameters);
+
+        StringWriter writer = new StringWriter();
+        svgWriter.write(g, getDefaultDiagramLabelProvider(), getDefaultDiagramStyleProvider(), getDefaultSVGLegendWriter(), writer);
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        svgWriter.write(g, getDefaultDiagramLabelProvider(), getDefaultDiagramStyleProvider(), getDefaultSVGLegendWriter(), os);
+
+        assertEquals(writer.toString(), os.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testSldParameters() throws IOException, SAXException {
+        StringWriter domSvg = new StringWriter();
+        StringWriter domMetadata = new StringWriter();
+        SingleLineDiagram.drawVoltageLevel(network, "vl1", domSvg, domMetadata, new SldParameters());
+
+        StringWriter streamedSvg = new StringWriter();
+        StringWriter streamedMetadata = new StringWriter();
+        SingleLineDiagram.drawVoltageLevel(network, "vl1", streamedSvg, streamedMetadata, new SldParameters().setSvgWriterFactory(StreamingSVGWriter::new));
+
+        assertEquals(domMetadata.toString(), streamedMetadata.toString());
+        assertEquals(normalize(domSvg.toString()), normalize(streamedSvg.toString()));
+    }
+
+    /**
+     * Check that both writers give the same metadata, and the same SVG once the indentation and the attributes order are normalized.
+     * The graph is built and laid out for each writer, as writing a graph may adapt the points of its snake lines.
+     */
+    private void assertSameOutput(Supplier<Graph> graphSupplier) throws IOException, SAXException {
+        StringWriter domSvg = new StringWriter();
+        StringWriter domMetadata = new StringWriter();
+        draw(graphSupplier.get(), new DefaultSVGWriter(componentLibrary, layoutParameters, svgParameters), domSvg, domMetadata);
+
+        StringWriter streamedSvg = new StringWriter();
+        StringWriter streamedMetadata = new StringWriter();
+        draw(graphSupplier.get(), new StreamingSVGWriter(componentLibrary, layoutParameters, svgParameters), streamedSvg, streamedMetadata);
+
+        assertEquals(domMetadata.toString(), streamedMetadata.toString());
+        assertEquals(normalize(domSvg.toString()), normalize(streamedSvg.toString()));
+    }
+
+    private void draw(Graph graph, SVGWriter svgWriter, StringWriter svg, StringWriter metadata) {
+        SingleLineDiagram.draw(graph, svg, metadata, svgWriter, getDefaultDiagramLabelProvider(), getDefaultDiagramStyleProvider(), getDefaultSVGLegendWriter());
+    }
+
+    private static String normalize(String svg) throws IOException, SAXException {
+        Document document = DomUtil.getDocumentBuilder().parse(new InputSource(new StringReader(svg)));
+        removeWhitespaceTexts(document.getDocumentElement());
+        StringWriter writer = new StringWriter();
+        DomUtil.transformDocument(document, writer);
+        return normalizeLineSeparator(writer.toString());
+    }
+
+    private static void removeWhitespaceTexts(Node node) {
+        NodeList children = node.getChildNodes();
+        for (int i = children.getLength() - 1; i >= 0; i--) {
+            Node child = children.item(i);
+            if (child instanceof Text text && text.getNodeType() == Node.TEXT_NODE && text.getData().isBlank()) {
+                node.removeChild(child);
+            } else {
+                removeWhitespaceTexts(child);
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld.layout;
+
+import com.powsybl.commons.PowsyblException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class ConcurrentLayoutRunnerTest {
+
+    @Test
+    void testSequential() {
+        List<Integer> order = new ArrayList<>();
+        List<Runnable> tasks = IntStream.range(0, 5).<Runnable>mapToObj(i -> () -> order.add(i)).toList();
+        ConcurrentLayoutRunner.runAll(tasks, null);
+        assertEquals(List.of(0, 1, 2, 3, 4), order);
+    }
+
+    @Test
+    void testNestedRuns() {
+        // Single thread executor: the nested runs need the calling threads to run the tasks
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AtomicInteger counter = new AtomicInteger();
+            List<Runnable> innerTasks = IntStream.range(0, 10).<Runnable>mapToObj(i -> counter::incrementAndGet).toList();
+            List<Runnable> outerTasks = IntStream.range(0, 10).<Runnable>mapToObj(i -> () -> ConcurrentLayoutRunner.runAll(innerTasks, executor)).toList();
+            ConcurrentLayoutRunner.runAll(outerTasks, executor);
+            assertEquals(100, counter.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testFailure() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Integer> completed = Collections.synchronizedList(new ArrayList<>());
+            List<Runnable> tasks = IntStream.range(0, 8).<Runnable>mapToObj(i -> () -> {
+                if (i % 3 == 1) {
+                    throw new PowsyblException("Layout " + i + " failed");
+                }
+                completed.add(i);
+            }).toList();
+            PowsyblException e = assertThrows(PowsyblException.class, () -> ConcurrentLayoutRunner.runAll(tasks, executor));
+            // First failure in the tasks order, thrown once all the tasks are completed
+            assertEquals("Layout 1 failed", e.getMessage());
+            assertEquals(5, completed.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  * @author Giovanni Ferrari {@literal <giovanni.ferrari at techrain.eu>}
@@ -42,7 +43,9 @@ class LayoutParametersTest {
                 .setComponentsOnBusbars(List.of("COMPONENT_ON_BUS"))
                 .setRemoveFictitiousSwitchNodes(true)
                 .setZoneLayoutSnakeLinePadding(120)
-                .setDisplayTeePointsInVoltageLevels(true);
+                .setDisplayTeePointsInVoltageLevels(true)
+                .setZoneLayoutRoutingParallelism(4)
+                .setLayoutExecutor(Runnable::run);
 
         layoutParameters.setComponentsSize(null);
 
@@ -67,6 +70,8 @@ class LayoutParametersTest {
         assertEquals(layoutParameters.getComponentsSize(), layoutParameters2.getComponentsSize());
         assertEquals(layoutParameters.getZoneLayoutSnakeLinePadding(), layoutParameters2.getZoneLayoutSnakeLinePadding());
         assertEquals(layoutParameters.isDisplayTeePointsInVoltageLevels(), layoutParameters2.isDisplayTeePointsInVoltageLevels());
+        assertEquals(layoutParameters.getZoneLayoutRoutingParallelism(), layoutParameters2.getZoneLayoutRoutingParallelism());
+        assertSame(layoutParameters.getLayoutExecutor(), layoutParameters2.getLayoutExecutor());
     }
 
     @Test
@@ -48,6 +48,10 @@ class PositionVoltageLevelLayoutFactoryParametersTest {
         parameters.setHandleShunts(true);
         assertTrue(parameters.isHandleShunts());
 
+        assertFalse(parameters.isLinearCellDetection());
+        parameters.setLinearCellDetection(true);
+        assertTrue(parameters.isLinearCellDetection());
+
         assertTrue(parameters.getBusInfoMap().isEmpty());
         Map<String, Side> busInfoMap = new HashMap<>();
         busInfoMap.put("???", Side.LEFT);
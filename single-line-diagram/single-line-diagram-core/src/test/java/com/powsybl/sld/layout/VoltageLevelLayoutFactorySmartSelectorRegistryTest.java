@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld.layout;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.extensions.BusbarSectionPositionAdder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class VoltageLevelLayoutFactorySmartSelectorRegistryTest {
+
+    private Network network;
+    private VoltageLevelLayoutFactorySmartSelectorRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        network = Network.create("test", "code");
+        Substation s = network.newSubstation()
+                .setId("S")
+                .add();
+        VoltageLevel vl1 = s.newVoltageLevel()
+                .setId("vl1")
+                .setNominalV(380)
+                .setTopologyKind(TopologyKind.NODE_BREAKER)
+                .add();
+        vl1.getNodeBreakerView().newBusbarSection()
+                .setId("bbs1")
+                .setNode(0)
+                .add();
+        VoltageLevel vl2 = s.newVoltageLevel()
+                .setId("vl2")
+                .setNominalV(225)
+                .setTopologyKind(TopologyKind.NODE_BREAKER)
+                .add();
+        vl2.getNodeBreakerView().newBusbarSection()
+                .setId("bbs2")
+                .setNode(0)
+                .add()
+                .newExtension(BusbarSectionPositionAdder.class).withBusbarIndex(1).withSectionIndex(1).add();
+        VoltageLevel vl3 = s.newVoltageLevel()
+                .setId("vl3")
+                .setNominalV(63)
+                .setTopologyKind(TopologyKind.BUS_BREAKER)
+                .add();
+        vl3.getBusBreakerView().newBus()
+                .setId("b3")
+                .add();
+
+        registry = new VoltageLevelLayoutFactorySmartSelectorRegistry(List.of(
+                new PositionByClusterVoltageLevelLayoutFactorySmartSelector(),
+                new PositionFromExtensionVoltageLevelLayoutFactorySmartSelector()));
+    }
+
+    @Test
+    void testPrecomputedSelection() {
+        Map<String, VoltageLevelLayoutFactorySmartSelector> selection = registry.precomputeSelection(network);
+        assertEquals(3, selection.size());
+        network.getVoltageLevelStream().forEach(vl ->
+                assertSame(registry.findBest(vl).orElseThrow(), selection.get(vl.getId())));
+        assertThat(selection.get("vl1")).isInstanceOf(PositionByClusterVoltageLevelLayoutFactorySmartSelector.class);
+        assertThat(selection.get("vl2")).isInstanceOf(PositionFromExtensionVoltageLevelLayoutFactorySmartSelector.class);
+        assertThat(selection.get("vl3")).isInstanceOf(PositionFromExtensionVoltageLevelLayoutFactorySmartSelector.class);
+
+        VoltageLevelLayoutFactorySmartSelectorRegistry.Statistics statistics = registry.getStatistics();
+        assertEquals(6, statistics.selectionCount());
+        assertEquals(1, statistics.precomputedSelectionCount());
+        assertEquals(0, statistics.factoryCreationCount());
+        assertEquals(Map.of(PositionByClusterVoltageLevelLayoutFactorySmartSelector.class.getName(), 2L,
+                        PositionFromExtensionVoltageLevelLayoutFactorySmartSelector.class.getName(), 4L),
+                statistics.selectionCountBySelector());
+    }
+
+    @Test
+    void testFactoryCache() {
+        VoltageLevelLayoutFactorySmartSelector selector = registry.getSelectors().get(0);
+        VoltageLevelLayoutFactory factory = registry.getFactory(selector, network);
+        assertSame(factory, registry.getFactory(selector, network));
+        assertNotSame(factory, registry.getFactory(registry.getSelectors().get(1), network));
+        // Network independent factory: shared between the networks
+        assertSame(factory, registry.getFactory(selector, Network.create("other", "code")));
+        assertEquals(2, registry.getStatistics().factoryCreationCount());
+
+        // Network dependent factory: kept by network
+        VoltageLevelLayoutFactorySmartSelector networkDependentSelector = new PositionByClusterVoltageLevelLayoutFactorySmartSelector() {
+            @Override
+            public boolean isFactoryNetworkIndependent() {
+                return false;
+            }
+        };
+        VoltageLevelLayoutFactory networkFactory = registry.getFactory(networkDependentSelector, network);
+        assertSame(networkFactory, registry.getFactory(networkDependentSelector, network));
+        Network otherNetwork = Network.create("other", "code");
+        VoltageLevelLayoutFactory otherNetworkFactory = registry.getFactory(networkDependentSelector, otherNetwork);
+        assertNotSame(networkFactory, otherNetworkFactory);
+        assertEquals(4, registry.getStatistics().factoryCreationCount());
+
+        // Clearing a network only drops its factories
+        registry.clear(network);
+        assertNotSame(networkFactory, registry.getFactory(networkDependentSelector, network));
+        assertSame(otherNetworkFactory, registry.getFactory(networkDependentSelector, otherNetwork));
+        assertSame(factory, registry.getFactory(selector, network));
+        assertEquals(5, registry.getStatistics().factoryCreationCount());
+
+        registry.clear();
+        assertNotSame(otherNetworkFactory, registry.getFactory(networkDependentSelector, otherNetwork));
+        assertNotSame(factory, registry.getFactory(selector, network));
+        assertEquals(7, registry.getStatistics().factoryCreationCount());
+    }
+
+    @Test
+    void testDefaultRegistry() {
+        VoltageLevelLayoutFactorySmartSelectorRegistry defaultRegistry = VoltageLevelLayoutFactorySmartSelectorRegistry.getDefault();
+        assertSame(defaultRegistry, VoltageLevelLayoutFactorySmartSelectorRegistry.getDefault());
+        assertThat(defaultRegistry.getSelectors())
+                .hasAtLeastOneElementOfType(PositionByClusterVoltageLevelLayoutFactorySmartSelector.class)
+                .hasAtLeastOneElementOfType(PositionFromExtensionVoltageLevelLayoutFactorySmartSelector.class);
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld.layout.cache;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.diagram.test.Networks;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.sld.SingleLineDiagram;
+import com.powsybl.sld.SldParameters;
+import com.powsybl.sld.builders.NetworkGraphBuilder;
+import com.powsybl.sld.layout.LayoutParameters;
+import com.powsybl.sld.model.graphs.VoltageLevelGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class VoltageLevelLayoutCacheTest {
+
+    private Network network;
+    private LayoutParameters layoutParameters;
+
+    @BeforeEach
+    void setUp() {
+        network = Networks.createTestCase11Network();
+        layoutParameters = new LayoutParameters();
+    }
+
+    @Test
+    void testFingerprint() {
+        String fingerprint = VoltageLevelLayoutCache.computeFingerprint(network, "vl1", layoutParameters);
+        assertEquals(fingerprint, VoltageLevelLayoutCache.computeFingerprint(network, "vl1", layoutParameters));
+        assertNotEquals(fingerprint, VoltageLevelLayoutCache.computeFingerprint(network, "vl2", layoutParameters));
+
+        // measurements are not part of the topology
+        network.getLoad("load1").setP0(42).getTerminal().setP(42);
+        assertEquals(fingerprint, VoltageLevelLayoutCache.computeFingerprint(network, "vl1", layoutParameters));
+
+        network.getSwitch("dsect11").setOpen(true);
+        String openSwitchFingerprint = VoltageLevelLayoutCache.computeFingerprint(network, "vl1", layoutParameters);
+        assertNotEquals(fingerprint, openSwitchFingerprint);
+        network.getSwitch("dsect11").setOpen(false);
+        assertEquals(fingerprint, VoltageLevelLayoutCache.computeFingerprint(network, "vl1", layoutParameters));
+
+        layoutParameters.setCellWidth(layoutParameters.getCellWidth() + 10);
+        assertNotEquals(fingerprint, VoltageLevelLayoutCache.computeFingerprint(network, "vl1", layoutParameters));
+
+        PowsyblException e = assertThrows(PowsyblException.class, () -> VoltageLevelLayoutCache.computeFingerprint(network, "unknown", layoutParameters));
+        assertEquals("Voltage level 'unknown' not found", e.getMessage());
+    }
+
+    @Test
+    void testGetOrCreate() {
+        VoltageLevelLayoutCache cache = new VoltageLevelLayoutCache();
+        AtomicInteger layoutCount = new AtomicInteger();
+        Supplier<VoltageLevelGraph> layoutSupplier = () -> {
+            layoutCount.incrementAndGet();
+            return new NetworkGraphBuilder(network).buildVoltageLevelGraph("vl1");
+        };
+
+        VoltageLevelGraph graph = cache.getOrCreate(network, "vl1", layoutParameters, layoutSupplier);
+        assertSame(graph, cache.getOrCreate(network, "vl1", layoutParameters, layoutSupplier));
+        assertEquals(1, layoutCount.get());
+
+        network.getSwitch("dsect11").setOpen(true);
+        assertNotSame(graph, cache.getOrCreate(network, "vl1", layoutParameters, layoutSupplier));
+        assertEquals(2, layoutCount.get());
+        assertEquals(2, cache.getStorage().size());
+
+        network.getSwitch("dsect11").setOpen(false);
+        assertSame(graph, cache.getOrCreate(network, "vl1", layoutParameters, layoutSupplier));
+        assertEquals(2, layoutCount.get());
+    }
+
+    @Test
+    void testEviction() {
+        InMemoryLayoutCacheStorage storage = new InMemoryLayoutCacheStorage(1);
+        VoltageLevelLayoutCache cache = new VoltageLevelLayoutCache(storage);
+        AtomicInteger layoutCount = new AtomicInteger();
+        cache.getOrCreate(network, "vl1", layoutParameters, () -> {
+            layoutCount.incrementAndGet();
+            return new NetworkGraphBuilder(network).buildVoltageLevelGraph("vl1");
+        });
+        cache.getOrCreate(network, "vl2", layoutParameters, () -> {
+            layoutCount.incrementAndGet();
+            return new NetworkGraphBuilder(network).buildVoltageLevelGraph("vl2");
+        });
+        assertEquals(1, storage.size());
+        assertNull(storage.get(VoltageLevelLayoutCache.computeFingerprint(network, "vl1", layoutParameters)));
+        assertNotNull(storage.get(VoltageLevelLayoutCache.computeFingerprint(network, "vl2", layoutParameters)));
+        assertEquals(2, layoutCount.get());
+
+        storage.clear();
+        assertEquals(0, storage.size());
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> new InMemoryLayoutCacheStorage(0));
+        assertEquals("Maximum size of layout cache must be strictly positive: 0", e.getMessage());
+    }
+
+    @Test
+    void testDrawWithCache() {
+        StringWriter svg = new StringWriter();
+        StringWriter metadata = new StringWriter();
+        SingleLineDiagram.drawVoltageLevel(network, "vl1", svg, metadata, new SldParameters());
+
+        SldParameters sldParameters = new SldParameters().setVoltageLevelLayoutCache(new VoltageLevelLayoutCache(10));
+        for (int i = 0; i < 2; i++) {
+            StringWriter cachedSvg = new StringWriter();
+            StringWriter cachedMetadata = new StringWriter();
+            SingleLineDiagram.drawVoltageLevel(network, "vl1", cachedSvg, cachedMetadata, sldParameters);
+            assertEquals(svg.toString(), cachedSvg.toString());
+            assertEquals(metadata.toString(), cachedMetadata.toString());
+        }
+        assertEquals(1, sldParameters.getVoltageLevelLayoutCache().getStorage().size());
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld.model;
+
+import com.powsybl.diagram.test.Networks;
+import com.powsybl.sld.builders.NetworkGraphBuilder;
+import com.powsybl.sld.iidm.AbstractTestCaseIidm;
+import com.powsybl.sld.model.graphs.VoltageLevelGraph;
+import com.powsybl.sld.model.nodes.Edge;
+import com.powsybl.sld.model.nodes.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class VoltageLevelGraphTest extends AbstractTestCaseIidm {
+
+    @BeforeEach
+    public void setUp() {
+        network = Networks.createNetworkWithManyFeeders(4);
+        graphBuilder = new NetworkGraphBuilder(network);
+    }
+
+    @Test
+    void testRemoveNodeKeepsOrder() {
+        VoltageLevelGraph graph = graphBuilder.buildVoltageLevelGraph("vl");
+        List<Node> nodes = graph.getNodes();
+        List<Edge> edges = graph.getEdges();
+
+        Node removedNode = graph.getNode("b1");
+        graph.removeNode(removedNode);
+
+        List<Node> expectedNodes = new ArrayList<>(nodes);
+        expectedNodes.remove(removedNode);
+        assertEquals(expectedNodes, graph.getNodes());
+        assertNull(graph.getNode("b1"));
+
+        List<Edge> expectedEdges = new ArrayList<>(edges);
+        expectedEdges.removeIf(e -> e.getNodes().contains(removedNode));
+        assertEquals(expectedEdges, graph.getEdges());
+        assertEquals(4, graph.getFeederNodes().size());
+
+        Node existingNode = graph.getNode("b2");
+        assertThrows(AssertionError.class, () -> graph.addNode(existingNode));
+    }
+
+    @Test
+    void testSubstituteNode() {
+        VoltageLevelGraph graph = graphBuilder.buildVoltageLevelGraph("vl");
+        int nodeCount = graph.getNodes().size();
+        int edgeCount = graph.getEdges().size();
+
+        Node b0 = graph.getNode("b0");
+        Node b1 = graph.getNode("b1");
+        graph.substituteNode(b0, b1);
+
+        assertEquals(nodeCount - 1, graph.getNodes().size());
+        assertEquals(edgeCount, graph.getEdges().size());
+        assertTrue(graph.getEdges().stream().noneMatch(e -> e.getNodes().contains(b0)));
+        assertEquals(4, b1.getAdjacentEdges().size());
+    }
+
+    @Test
+    void testManyFeeders() {
+        network = Networks.createNetworkWithManyFeeders(200);
+        graphBuilder = new NetworkGraphBuilder(network);
+
+        VoltageLevelGraph g1 = graphBuilder.buildVoltageLevelGraph("vl");
+        voltageLevelGraphLayout(g1);
+        VoltageLevelGraph g2 = graphBuilder.buildVoltageLevelGraph("vl");
+        voltageLevelGraphLayout(g2);
+
+        assertEquals(200, g1.getFeederNodes().size());
+        assertEquals(toJson(g1, "/ManyFeeders.json", true), toJson(g2, "/ManyFeeders.json", true));
+    }
+}
@@ -188,4 +188,27 @@ class TestCaseShuntArrangement extends AbstractTestCaseRaw {
         assertEquals(toString("/TestCaseShuntArrangementYes.json"), toJson(g, "/TestCaseShuntArrangementYes.json"));
     }
 
+    @Test
+    void testLinearCellDetection() {
+        VoltageLevelGraph g = rawGraphBuilder.buildVoltageLevelGraph("vl");
+        new PositionVoltageLevelLayoutFactory(new PositionVoltageLevelLayoutFactoryParameters()
+                .setExceptionIfPatternNotHandled(true)
+                .setLinearCellDetection(true))
+                .create(g)
+                .run(layoutParameters);
+        assertEquals(toString("/TestCaseShuntArrangementNo.json"), toJson(g, "/TestCaseShuntArrangementNo.json"));
+    }
+
+    @Test
+    void testLinearCellDetectionWithShunts() {
+        VoltageLevelGraph g = rawGraphBuilder.buildVoltageLevelGraph("vl");
+        PositionVoltageLevelLayoutFactoryParameters positionVoltageLevelLayoutFactoryParameters = new PositionVoltageLevelLayoutFactoryParameters()
+                .setExceptionIfPatternNotHandled(true)
+                .setHandleShunts(true)
+                .setLinearCellDetection(true);
+        new PositionVoltageLevelLayoutFactory(positionVoltageLevelLayoutFactoryParameters)
+                .create(g)
+                .run(layoutParameters);
+        assertEquals(toString("/TestCaseShuntArrangementYes.json"), toJson(g, "/TestCaseShuntArrangementYes.json"));
+    }
 }
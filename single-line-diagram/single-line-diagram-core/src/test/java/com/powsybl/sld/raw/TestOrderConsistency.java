@@ -10,6 +10,7 @@ import com.powsybl.sld.builders.VoltageLevelRawBuilder;
 import com.powsybl.sld.layout.PositionVoltageLevelLayoutFactory;
 import com.powsybl.sld.layout.PositionVoltageLevelLayoutFactoryParameters;
 import com.powsybl.sld.layout.position.clustering.PositionByClustering;
+import com.powsybl.sld.layout.position.clustering.PositionByLinkHeapClustering;
 import com.powsybl.sld.model.graphs.VoltageLevelGraph;
 import com.powsybl.sld.model.nodes.BusNode;
 import com.powsybl.sld.model.nodes.ConnectivityNode;
@@ -102,6 +103,20 @@ class TestOrderConsistency extends AbstractTestCaseRaw {
         assertEquals(toString("/orderConsistencyClust2.json"), toJson(g, "/orderConsistencyClust2.json"));
     }
 
+    @Test
+    void testLinkHeapClustMiddleLeft() {
+        VoltageLevelGraph g = rawGraphBuilder.buildVoltageLevelGraph("vl1");
+        new PositionVoltageLevelLayoutFactory(new PositionByLinkHeapClustering()).create(g).run(layoutParameters);
+        assertEquals(toString("/orderConsistencyClust1.json"), toJson(g, "/orderConsistencyClust1.json"));
+    }
+
+    @Test
+    void testLinkHeapClustNoMiddleLeft() {
+        VoltageLevelGraph g = rawGraphBuilder.buildVoltageLevelGraph("vl2");
+        new PositionVoltageLevelLayoutFactory(new PositionByLinkHeapClustering()).create(g).run(layoutParameters);
+        assertEquals(toString("/orderConsistencyClust2.json"), toJson(g, "/orderConsistencyClust2.json"));
+    }
+
     @Test
     void testExtMiddleLeft() {
         VoltageLevelGraph g = rawGraphBuilder.buildVoltageLevelGraph("vl1");
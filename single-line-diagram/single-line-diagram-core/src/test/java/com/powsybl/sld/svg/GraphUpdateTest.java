@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld.svg;
+
+import com.powsybl.diagram.test.Networks;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.sld.SingleLineDiagram;
+import com.powsybl.sld.SldParameters;
+import com.powsybl.sld.layout.cache.VoltageLevelLayoutCache;
+import com.powsybl.sld.svg.styles.StyleClassConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.powsybl.sld.library.SldComponentTypeName.ARROW_ACTIVE;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class GraphUpdateTest {
+
+    private Network network;
+    private SldParameters sldParameters;
+    private GraphMetadata metadata;
+
+    @BeforeEach
+    void setUp() {
+        network = Networks.createNetworkWithSvcVscScDl();
+        sldParameters = new SldParameters();
+        StringWriter metadataWriter = new StringWriter();
+        SingleLineDiagram.drawVoltageLevel(network, "vl", new StringWriter(), metadataWriter, sldParameters);
+        metadata = GraphMetadata.parseJson(new StringReader(metadataWriter.toString()));
+    }
+
+    private GraphUpdate writeUpdate() {
+        StringWriter updateWriter = new StringWriter();
+        SingleLineDiagram.writeUpdate(network, "vl", metadata, updateWriter, sldParameters);
+        return GraphUpdate.parseJson(new StringReader(updateWriter.toString()));
+    }
+
+    private static GraphUpdate.FeederInfoUpdate getFeederInfoUpdate(GraphUpdate update, String id) {
+        return update.getFeederInfoUpdates().stream()
+                .filter(u -> u.id().equals(id))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    void testFeederInfos() {
+        String svcActiveId = metadata.getFeederInfoMetadata().stream()
+                .filter(fim -> fim.equipmentId().equals("svc") && fim.componentType().equals(ARROW_ACTIVE))
+                .map(GraphMetadata.FeederInfoMetadata::id)
+                .findFirst()
+                .orElseThrow();
+
+        GraphUpdate update = writeUpdate();
+        assertEquals(metadata.getFeederInfoMetadata().size(), update.getFeederInfoUpdates().size());
+        GraphUpdate.FeederInfoUpdate svcActive = getFeederInfoUpdate(update, svcActiveId);
+        assertTrue(svcActive.classes().contains(StyleClassConstants.OUT_CLASS));
+        String label = svcActive.rightLabel();
+        assertNotNull(label);
+
+        network.getStaticVarCompensator("svc").getTerminal().setP(-80);
+        GraphUpdate.FeederInfoUpdate svcActiveUpdated = getFeederInfoUpdate(writeUpdate(), svcActiveId);
+        assertTrue(svcActiveUpdated.classes().contains(StyleClassConstants.IN_CLASS));
+        assertNotEquals(label, svcActiveUpdated.rightLabel());
+    }
+
+    @Test
+    void testIdsFromMetadata() {
+        GraphUpdate update = writeUpdate();
+        assertFalse(update.getNodeUpdates().isEmpty());
+        assertFalse(update.getWireUpdates().isEmpty());
+        update.getNodeUpdates().forEach(u -> assertNotNull(metadata.getNodeMetadata(u.id())));
+        update.getWireUpdates().forEach(u -> assertNotNull(metadata.getWireMetadata(u.id())));
+        update.getFeederInfoUpdates().forEach(u -> assertNotNull(metadata.getFeederInfoMetadata(u.id())));
+        assertEquals(network.getId(), update.getNetworkId());
+        assertEquals("1.0", update.getMetadataVersion());
+    }
+
+    @Test
+    void testUpdateWithLayoutCache() {
+        sldParameters.setVoltageLevelLayoutCache(new VoltageLevelLayoutCache());
+        GraphUpdate update = writeUpdate();
+        // with the laid-out graph, all the nodes and wires of the SVG are found
+        Set<String> nodeIds = update.getNodeUpdates().stream().map(GraphUpdate.ElementUpdate::id).collect(Collectors.toSet());
+        Set<String> wireIds = update.getWireUpdates().stream().map(GraphUpdate.ElementUpdate::id).collect(Collectors.toSet());
+        metadata.getNodeMetadata().forEach(nm -> assertTrue(nodeIds.contains(nm.getId())));
+        metadata.getWireMetadata().forEach(wm -> assertTrue(wireIds.contains(wm.id())));
+    }
+}
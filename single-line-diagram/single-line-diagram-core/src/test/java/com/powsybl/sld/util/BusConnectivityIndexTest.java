@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sld.util;
+
+import com.powsybl.diagram.test.Networks;
+import com.powsybl.sld.builders.NetworkGraphBuilder;
+import com.powsybl.sld.model.graphs.NodeFactory;
+import com.powsybl.sld.model.graphs.VoltageLevelGraph;
+import com.powsybl.sld.model.graphs.VoltageLevelInfos;
+import com.powsybl.sld.model.nodes.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class BusConnectivityIndexTest {
+
+    @Test
+    void testOpenSwitches() {
+        VoltageLevelGraph graph = new NetworkGraphBuilder(Networks.createNetworkWithManyFeeders(2)).buildVoltageLevelGraph("vl");
+        BusConnectivityIndex index = BusConnectivityIndex.of(graph, n -> false);
+
+        Set<Node> connectedNodes = index.getConnectedNodes(graph.getNode("bbs1"));
+        assertTrue(connectedNodes.containsAll(Set.of(graph.getNode("l0"), graph.getNode("l1"), graph.getNode("bbs2"))));
+        assertFalse(connectedNodes.contains(graph.getNode("d0_2")));
+        assertSame(connectedNodes, index.getConnectedNodes(graph.getNode("l1")));
+        assertTrue(index.getConnectedNodes(graph.getNode("d0_2")).isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> connectedNodes.remove(graph.getNode("l0")));
+    }
+
+    @Test
+    void testCutNodes() {
+        VoltageLevelGraph graph = new NetworkGraphBuilder(Networks.createNetworkWithManyFeeders(2)).buildVoltageLevelGraph("vl");
+        Node bc = graph.getNode("bc");
+        Node b0 = graph.getNode("b0");
+        BusConnectivityIndex index = new BusConnectivityIndex(n -> n == bc || n == b0);
+
+        Set<Node> bbs1Nodes = index.getConnectedNodes(graph.getNode("bbs1"));
+        assertTrue(bbs1Nodes.contains(b0));
+        assertTrue(bbs1Nodes.contains(bc));
+        assertFalse(bbs1Nodes.contains(graph.getNode("l0")));
+        assertFalse(bbs1Nodes.contains(graph.getNode("bbs2")));
+        assertEquals(Set.of(graph.getNode("l0"), b0), index.getConnectedNodes(graph.getNode("l0")));
+        assertEquals(Set.of(bc), index.getConnectedNodes(bc));
+        assertTrue(index.getConnectedNodes(graph.getNode("bbs2")).contains(graph.getNode("l1")));
+    }
+
+    @Test
+    void testRecursiveVisitOrder() {
+        VoltageLevelGraph graph = new VoltageLevelGraph(new VoltageLevelInfos("vl", "vl", 400), null);
+        Node n0 = NodeFactory.createConnectivityNode(graph, "n0");
+        Node n1 = NodeFactory.createConnectivityNode(graph, "n1");
+        Node n2 = NodeFactory.createConnectivityNode(graph, "n2");
+        Node n3 = NodeFactory.createConnectivityNode(graph, "n3");
+        graph.addEdge(n0, n1);
+        graph.addEdge(n0, n2);
+        graph.addEdge(n1, n3);
+        BusConnectivityIndex index = new BusConnectivityIndex(n -> false);
+        assertEquals(List.of(n0, n1, n3, n2), new ArrayList<>(index.getConnectedNodes(n0)));
+        assertEquals(List.of(n0, n1, n3, n2), new ArrayList<>(index.getConnectedNodes(n2)));
+    }
+
+    @Test
+    void testLongChain() {
+        VoltageLevelGraph graph = new VoltageLevelGraph(new VoltageLevelInfos("vl", "vl", 400), null);
+        Node first = NodeFactory.createConnectivityNode(graph, "n0");
+        Node previous = first;
+        for (int i = 1; i < 100_000; i++) {
+            Node node = NodeFactory.createConnectivityNode(graph, "n" + i);
+            graph.addEdge(previous, node);
+            previous = node;
+        }
+        BusConnectivityIndex index = new BusConnectivityIndex(n -> false);
+        assertEquals(100_000, index.getConnectedNodes(previous).size());
+        assertSame(index.getConnectedNodes(previous), index.getConnectedNodes(first));
+    }
+}